@@ -0,0 +1,94 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.Main;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The class {@link BenchmarkRunner} have the main method that starts the benchmarking process. If
+ * no result format is given the results are written as json file to the path
+ * <code>build/reports/jmh/results-&lt;version&gt;.json</code> like the gradle task
+ * <code>jmh</code> does, so the results of both entry points can be compared
+ */
+public class BenchmarkRunner
+{
+
+	/**
+	 * The main method starts the benchmarking process
+	 *
+	 * @param args
+	 *            the arguments
+	 * @throws Exception
+	 *             the exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		List<String> arguments = ListFactory.newArrayList(Arrays.asList(args));
+		if (!arguments.contains("-rf"))
+		{
+			File resultFile = new File(
+				"build/reports/jmh/results-" + getProjectVersion() + ".json");
+			resultFile.getParentFile().mkdirs();
+			arguments.addAll(0,
+				Arrays.asList("-rf", "json", "-rff", resultFile.getAbsolutePath()));
+		}
+		Main.main(arguments.toArray(new String[0]));
+	}
+
+	/**
+	 * Gets the version of the project from the file <code>gradle.properties</code> in the working
+	 * directory
+	 *
+	 * @return the version of the project or <code>unspecified</code> like gradle if the file or the
+	 *         property does not exist
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static String getProjectVersion() throws IOException
+	{
+		Path gradleProperties = Paths.get("gradle.properties");
+		Properties properties = new Properties();
+		if (Files.isRegularFile(gradleProperties))
+		{
+			try (InputStream inputStream = Files.newInputStream(gradleProperties))
+			{
+				properties.load(inputStream);
+			}
+		}
+		return properties.getProperty("projectVersion", "unspecified");
+	}
+}
@@ -0,0 +1,208 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the class {@link ArrayExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayExtensionsBenchmark
+{
+
+	/** The size of the arrays for benchmark. */
+	@Param({ "100", "1000", "10000" })
+	private int size;
+
+	/** The array for benchmark. */
+	private Integer[] array;
+
+	/** The array that overlaps the first array to the half. */
+	private Integer[] other;
+
+	/** The primitive values of the array for benchmark. */
+	private int[] ints;
+
+	/** The primitive values of the other array. */
+	private int[] otherInts;
+
+	/** The indexes of every tenth element. */
+	private int[] indexes;
+
+	/** The bytes for split in chunks. */
+	private byte[] bytes;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the arrays for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		array = ArrayFactory.newRangeArray(0, size - 1);
+		other = ArrayFactory.newRangeArray(size / 2, size + size / 2 - 1);
+		ints = ArrayFactory.newIntRangeArray(0, size - 1);
+		otherInts = ArrayFactory.newIntRangeArray(size / 2, size + size / 2 - 1);
+		indexes = new int[size / 10];
+		for (int i = 0; i < indexes.length; i++)
+		{
+			indexes[i] = i * 10;
+		}
+		bytes = new byte[size * 1024];
+		new Random(size).nextBytes(bytes);
+	}
+
+	/**
+	 * Benchmark the method indexOf.
+	 *
+	 * @return the index of the element
+	 */
+	@Benchmark
+	public int benchmarkIndexOf()
+	{
+		return ArrayExtensions.indexOf(array, nextElement());
+	}
+
+	/**
+	 * Benchmark the method contains with an element that does not exist.
+	 *
+	 * @return the result of the contains method
+	 */
+	@Benchmark
+	public boolean benchmarkContainsMissing()
+	{
+		return ArrayExtensions.contains(array, -1);
+	}
+
+	/**
+	 * Benchmark the method intersection.
+	 *
+	 * @return the intersection
+	 */
+	@Benchmark
+	public Integer[] benchmarkIntersection()
+	{
+		return ArrayExtensions.intersection(array, other);
+	}
+
+	/**
+	 * Benchmark the method intersection with arrays of primitive values.
+	 *
+	 * @return the intersection
+	 */
+	@Benchmark
+	public int[] benchmarkIntersectionPrimitive()
+	{
+		return ArrayExtensions.intersection(ints, otherInts);
+	}
+
+	/**
+	 * Benchmark the method removeAll.
+	 *
+	 * @return the array without the removed elements
+	 */
+	@Benchmark
+	public Integer[] benchmarkRemoveAll()
+	{
+		return ArrayExtensions.removeAll(array, other);
+	}
+
+	/**
+	 * Benchmark the method removeAll with arrays of primitive values.
+	 *
+	 * @return the array without the removed elements
+	 */
+	@Benchmark
+	public int[] benchmarkRemoveAllPrimitive()
+	{
+		return ArrayExtensions.removeAll(ints, otherInts);
+	}
+
+	/**
+	 * Benchmark the method remove with the indexes of every tenth element.
+	 *
+	 * @return the array without the removed elements
+	 */
+	@Benchmark
+	public Integer[] benchmarkRemoveIndexes()
+	{
+		return ArrayExtensions.remove(array, indexes.clone());
+	}
+
+	/**
+	 * Benchmark the method concatenate.
+	 *
+	 * @return the concatenated array
+	 */
+	@Benchmark
+	public Integer[] benchmarkConcatenate()
+	{
+		return ArrayExtensions.concatenate(array, other);
+	}
+
+	/**
+	 * Benchmark the method splitInChunks.
+	 *
+	 * @return the chunks
+	 */
+	@Benchmark
+	public byte[][] benchmarkSplitInChunks()
+	{
+		return ArrayExtensions.splitInChunks(bytes, 1000);
+	}
+
+	/**
+	 * Gets the next element for a lookup, the elements are distributed over the whole array
+	 *
+	 * @return the next element
+	 */
+	private Integer nextElement()
+	{
+		position = (position + 7919) % size;
+		return array[position];
+	}
+
+}
@@ -0,0 +1,210 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the set algebra of the class {@link ArrayExtensions} over different
+ * ratios of the array lengths
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArraySetAlgebraBenchmark
+{
+
+	/** The length of the large array. */
+	@Param({ "10000", "1000000" })
+	private int size;
+
+	/** The ratio of the length of the large array to the length of the small array. */
+	@Param({ "1", "100" })
+	private int ratio;
+
+	/** The large array in random order. */
+	private Integer[] large;
+
+	/** The small array in random order that overlaps the large array to the half. */
+	private Integer[] small;
+
+	/** The large array in ascending order. */
+	private Integer[] sortedLarge;
+
+	/** The small array in ascending order. */
+	private Integer[] sortedSmall;
+
+	/**
+	 * Initialize the arrays for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		final Random random = new Random(size);
+		final int smallSize = size / ratio;
+		sortedLarge = ArrayFactory.newRangeArray(0, size - 1);
+		sortedSmall = new Integer[smallSize];
+		for (int i = 0; i < smallSize; i++)
+		{
+			sortedSmall[i] = size / 2 + i * ratio / 2 + (i % 2 == 0 ? 0 : size);
+		}
+		Arrays.sort(sortedSmall);
+		large = sortedLarge.clone();
+		Collections.shuffle(Arrays.asList(large), random);
+		small = sortedSmall.clone();
+		Collections.shuffle(Arrays.asList(small), random);
+	}
+
+	/**
+	 * Benchmark the method intersection with the large array as first array.
+	 *
+	 * @return the intersection
+	 */
+	@Benchmark
+	public Integer[] benchmarkIntersectionLargeFirst()
+	{
+		return ArrayExtensions.intersection(large, small);
+	}
+
+	/**
+	 * Benchmark the method intersection with the small array as first array.
+	 *
+	 * @return the intersection
+	 */
+	@Benchmark
+	public Integer[] benchmarkIntersectionSmallFirst()
+	{
+		return ArrayExtensions.intersection(small, large);
+	}
+
+	/**
+	 * Benchmark the method intersection with a comparator on sorted arrays.
+	 *
+	 * @return the intersection
+	 */
+	@Benchmark
+	public Integer[] benchmarkIntersectionSorted()
+	{
+		return ArrayExtensions.intersection(sortedLarge, sortedSmall, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Benchmark the method removeAll.
+	 *
+	 * @return the array without the removed elements
+	 */
+	@Benchmark
+	public Integer[] benchmarkRemoveAll()
+	{
+		return ArrayExtensions.removeAll(large, small);
+	}
+
+	/**
+	 * Benchmark the method removeAll with a comparator on sorted arrays.
+	 *
+	 * @return the array without the removed elements
+	 */
+	@Benchmark
+	public Integer[] benchmarkRemoveAllSorted()
+	{
+		return ArrayExtensions.removeAll(sortedLarge, sortedSmall, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Benchmark the method union.
+	 *
+	 * @return the union
+	 */
+	@Benchmark
+	public Integer[] benchmarkUnion()
+	{
+		return ArrayExtensions.union(large, small);
+	}
+
+	/**
+	 * Benchmark the method union with a comparator on sorted arrays.
+	 *
+	 * @return the union
+	 */
+	@Benchmark
+	public Integer[] benchmarkUnionSorted()
+	{
+		return ArrayExtensions.union(sortedLarge, sortedSmall, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Benchmark the method difference.
+	 *
+	 * @return the difference
+	 */
+	@Benchmark
+	public Integer[] benchmarkDifference()
+	{
+		return ArrayExtensions.difference(large, small);
+	}
+
+	/**
+	 * Benchmark the method symmetricDifference.
+	 *
+	 * @return the symmetric difference
+	 */
+	@Benchmark
+	public Integer[] benchmarkSymmetricDifference()
+	{
+		return ArrayExtensions.symmetricDifference(large, small);
+	}
+
+	/**
+	 * Benchmark the method symmetricDifference with a comparator on sorted arrays.
+	 *
+	 * @return the symmetric difference
+	 */
+	@Benchmark
+	public Integer[] benchmarkSymmetricDifferenceSorted()
+	{
+		return ArrayExtensions.symmetricDifference(sortedLarge, sortedSmall,
+			Comparator.naturalOrder());
+	}
+
+}
@@ -0,0 +1,282 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the scans over arrays of primitive values of the class
+ * {@link ArrayExtensions} compared with plain scalar loops. The searched values are contained
+ * only at the last position, so every search scans the whole array
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArrayScanBenchmark
+{
+
+	/** The length of the arrays for benchmark. */
+	@Param({ "1000", "1000000" })
+	private int size;
+
+	/** The int values. */
+	private int[] ints;
+
+	/** The copy of the int values with a different last value. */
+	private int[] otherInts;
+
+	/** The double values. */
+	private double[] doubles;
+
+	/** The byte values. */
+	private byte[] bytes;
+
+	/**
+	 * Initialize the arrays for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		final Random random = new Random(size);
+		ints = random.ints(size, 0, 1000).toArray();
+		ints[size - 1] = -1;
+		otherInts = ints.clone();
+		otherInts[size - 1] = -2;
+		doubles = random.doubles(size).toArray();
+		doubles[size - 1] = -1.0;
+		bytes = new byte[size];
+		random.nextBytes(bytes);
+		for (int i = 0; i < size; i++)
+		{
+			bytes[i] = (byte)(bytes[i] & 0x7F);
+		}
+		bytes[size - 1] = -1;
+	}
+
+	/**
+	 * Benchmark the method indexOf with an int array.
+	 *
+	 * @return the index
+	 */
+	@Benchmark
+	public int benchmarkIndexOfInt()
+	{
+		return ArrayExtensions.indexOf(ints, -1);
+	}
+
+	/**
+	 * Benchmark the method indexOf with a double array.
+	 *
+	 * @return the index
+	 */
+	@Benchmark
+	public int benchmarkIndexOfDouble()
+	{
+		return ArrayExtensions.indexOf(doubles, -1.0);
+	}
+
+	/**
+	 * Benchmark a scalar loop that searches in a double array like {@link Double#equals(Object)}.
+	 *
+	 * @return the index
+	 */
+	@Benchmark
+	public int benchmarkIndexOfDoubleScalar()
+	{
+		for (int i = 0; i < doubles.length; i++)
+		{
+			if (Double.compare(doubles[i], -1.0) == 0)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Benchmark the method indexOf with a byte array.
+	 *
+	 * @return the index
+	 */
+	@Benchmark
+	public int benchmarkIndexOfByte()
+	{
+		return ArrayExtensions.indexOf(bytes, (byte)-1);
+	}
+
+	/**
+	 * Benchmark a scalar loop that searches in a byte array.
+	 *
+	 * @return the index
+	 */
+	@Benchmark
+	public int benchmarkIndexOfByteScalar()
+	{
+		for (int i = 0; i < bytes.length; i++)
+		{
+			if (bytes[i] == -1)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Benchmark the method count with an int array.
+	 *
+	 * @return the count
+	 */
+	@Benchmark
+	public int benchmarkCountInt()
+	{
+		return ArrayExtensions.count(ints, 7);
+	}
+
+	/**
+	 * Benchmark a scalar loop that counts in an int array.
+	 *
+	 * @return the count
+	 */
+	@Benchmark
+	public int benchmarkCountIntScalar()
+	{
+		int count = 0;
+		for (final int value : ints)
+		{
+			if (value == 7)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Benchmark the method count with a byte array.
+	 *
+	 * @return the count
+	 */
+	@Benchmark
+	public int benchmarkCountByte()
+	{
+		return ArrayExtensions.count(bytes, (byte)7);
+	}
+
+	/**
+	 * Benchmark a scalar loop that counts in a byte array.
+	 *
+	 * @return the count
+	 */
+	@Benchmark
+	public int benchmarkCountByteScalar()
+	{
+		int count = 0;
+		for (final byte value : bytes)
+		{
+			if (value == 7)
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Benchmark the method max with an int array.
+	 *
+	 * @return the largest value
+	 */
+	@Benchmark
+	public int benchmarkMaxInt()
+	{
+		return ArrayExtensions.max(ints);
+	}
+
+	/**
+	 * Benchmark a scalar loop that finds the largest value of an int array.
+	 *
+	 * @return the largest value
+	 */
+	@Benchmark
+	public int benchmarkMaxIntScalar()
+	{
+		int max = ints[0];
+		for (final int value : ints)
+		{
+			if (max < value)
+			{
+				max = value;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Benchmark the method mismatch with int arrays.
+	 *
+	 * @return the index of the mismatch
+	 */
+	@Benchmark
+	public int benchmarkMismatchInt()
+	{
+		return ArrayExtensions.mismatch(ints, otherInts);
+	}
+
+	/**
+	 * Benchmark a scalar loop that finds the mismatch of int arrays.
+	 *
+	 * @return the index of the mismatch
+	 */
+	@Benchmark
+	public int benchmarkMismatchIntScalar()
+	{
+		for (int i = 0; i < ints.length; i++)
+		{
+			if (ints[i] != otherInts[i])
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.collection.array.ArrayFactory;
+
+/**
+ * The benchmark class for the parallel streams over the {@link ArraySpliterator} and over the
+ * spliterator of an int array compared with a parallel stream over a list of boxed values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArraySpliteratorBenchmark
+{
+
+	/** The length of the arrays for benchmark. */
+	@Param({ "1000", "1000000" })
+	private int size;
+
+	/** The int values. */
+	private int[] ints;
+
+	/** The boxed values. */
+	private Integer[] boxed;
+
+	/** The list of the boxed values. */
+	private List<Integer> list;
+
+	/**
+	 * Initialize the arrays for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		ints = ArrayFactory.newIntRangeArray(0, size - 1);
+		boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+		list = Arrays.asList(boxed);
+	}
+
+	/**
+	 * Benchmark a parallel sum over the spliterator of an int array without boxing.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	public long benchmarkSumIntArray()
+	{
+		return Arrays.stream(ints).parallel().asLongStream().sum();
+	}
+
+	/**
+	 * Benchmark a parallel sum over the {@link ArraySpliterator}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	public long benchmarkSumArraySpliterator()
+	{
+		return StreamSupport.stream(new ArraySpliterator<>(boxed), true)
+			.mapToLong(Integer::longValue).sum();
+	}
+
+	/**
+	 * Benchmark a parallel sum over a list of boxed values.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	public long benchmarkSumBoxedList()
+	{
+		return list.parallelStream().mapToLong(Integer::longValue).sum();
+	}
+
+}
@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class that compares the scoring of all combinations over the recursive method
+ * {@link ListExtensions#getAllCombinations(List, int)} with sequential and parallel streams over
+ * the {@link io.github.astrapi69.collection.iterator.CombinationSpliterator}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinationStreamBenchmark
+{
+
+	/** The count of the possible values. */
+	@Param({ "20", "30" })
+	private int size;
+
+	/** The size of the combinations. */
+	@Param({ "5" })
+	private int combinationSize;
+
+	/** The possible values. */
+	private List<Integer> possibleValues;
+
+	/**
+	 * Initialize the possible values for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		possibleValues = ListFactory.newRangeList(1, size);
+	}
+
+	/**
+	 * Benchmark the scoring of all combinations from the method getAllCombinations.
+	 *
+	 * @return the best score
+	 */
+	@Benchmark
+	public long benchmarkGetAllCombinations()
+	{
+		long best = Long.MIN_VALUE;
+		for (List<Integer> combination : ListExtensions.getAllCombinations(possibleValues,
+			combinationSize))
+		{
+			best = Math.max(best, score(combination));
+		}
+		return best;
+	}
+
+	/**
+	 * Benchmark the scoring of all combinations over a sequential stream.
+	 *
+	 * @return the best score
+	 */
+	@Benchmark
+	public long benchmarkSequentialStream()
+	{
+		return ListExtensions.streamCombinations(possibleValues, combinationSize, false)
+			.mapToLong(CombinationStreamBenchmark::score).max().orElse(Long.MIN_VALUE);
+	}
+
+	/**
+	 * Benchmark the scoring of all combinations over a parallel stream.
+	 *
+	 * @return the best score
+	 */
+	@Benchmark
+	public long benchmarkParallelStream()
+	{
+		return ListExtensions.streamCombinations(possibleValues, combinationSize, true)
+			.mapToLong(CombinationStreamBenchmark::score).max().orElse(Long.MIN_VALUE);
+	}
+
+	/**
+	 * Computes a cpu bound score of the given combination
+	 *
+	 * @param combination
+	 *            the combination
+	 * @return the score
+	 */
+	private static long score(List<Integer> combination)
+	{
+		long score = 17;
+		for (Integer value : combination)
+		{
+			score = score * 31 + value * value;
+			score ^= score >>> 13;
+		}
+		return score;
+	}
+
+}
@@ -0,0 +1,164 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The benchmark class for the combination methods of the class {@link ListExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinationsBenchmark
+{
+
+	/** The count of the possible values. */
+	@Param({ "10", "20", "25" })
+	private int size;
+
+	/** The size of the combinations. */
+	@Param({ "4" })
+	private int combinationSize;
+
+	/** The possible values. */
+	private List<Integer> possibleValues;
+
+	/**
+	 * Initialize the possible values for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		possibleValues = ListFactory.newRangeList(1, size);
+	}
+
+	/**
+	 * Benchmark the method getCombinations.
+	 *
+	 * @return the combinations
+	 */
+	@Benchmark
+	public List<List<Integer>> benchmarkGetCombinations()
+	{
+		return ListExtensions.getCombinations(possibleValues, combinationSize);
+	}
+
+	/**
+	 * Benchmark the method getAllCombinations.
+	 *
+	 * @return the combinations
+	 */
+	@Benchmark
+	public List<List<Integer>> benchmarkGetAllCombinations()
+	{
+		return ListExtensions.getAllCombinations(possibleValues, combinationSize);
+	}
+
+	/**
+	 * Benchmark the method forEachCombination that visits every combination over a reused view.
+	 *
+	 * @param blackhole
+	 *            the blackhole for consume the combinations
+	 */
+	@Benchmark
+	public void benchmarkForEachCombination(Blackhole blackhole)
+	{
+		ListExtensions.forEachCombination(possibleValues, combinationSize,
+			combination -> blackhole.consume(combination.get(0)));
+	}
+
+	/**
+	 * Benchmark the method streamCombinations.
+	 *
+	 * @return the count of the combinations
+	 */
+	@Benchmark
+	public long benchmarkStreamCombinations()
+	{
+		return ListExtensions.streamCombinations(possibleValues, combinationSize).count();
+	}
+
+	/**
+	 * Benchmark the filter of the combinations with a sum under a budget after the generation.
+	 *
+	 * @return the matching combinations
+	 */
+	@Benchmark
+	public List<List<Integer>> benchmarkFilterCombinations()
+	{
+		return ListExtensions.streamCombinations(possibleValues, combinationSize)
+			.filter(this::isUnderBudget).collect(Collectors.toList());
+	}
+
+	/**
+	 * Benchmark the method findAllCombinations that prunes the combinations with a sum over a
+	 * budget while the generation.
+	 *
+	 * @return the matching combinations
+	 */
+	@Benchmark
+	public List<List<Integer>> benchmarkFindAllCombinations()
+	{
+		return CombinationExtensions.findAllCombinations(possibleValues, combinationSize,
+			this::isUnderBudget);
+	}
+
+	/**
+	 * Checks if the sum of the given combination is under the budget of the benchmark
+	 *
+	 * @param combination
+	 *            the combination
+	 * @return true if the sum is not greater than the size of the possible values
+	 */
+	private boolean isUnderBudget(final List<Integer> combination)
+	{
+		int sum = 0;
+		for (final Integer value : combination)
+		{
+			sum += value;
+		}
+		return sum <= size;
+	}
+
+}
@@ -0,0 +1,229 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the list based methods of the class {@link ListExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListExtensionsBenchmark
+{
+
+	/** The size of the list for benchmark. */
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	/** The list for benchmark. */
+	private List<Integer> list;
+
+	/** The list with an index of the positions for benchmark. */
+	private List<Integer> positionIndexedList;
+
+	/** The list that is optimized for relocations for benchmark. */
+	private List<Integer> relocatableList;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the list with the elements for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		list = ListFactory.newArrayList(ListFactory.newRangeList(0, size - 1));
+		Collections.shuffle(list, new Random(size));
+		positionIndexedList = new PositionIndexedList<>(ListFactory.newArrayList(list));
+		relocatableList = new RelocatableList<>(list);
+	}
+
+	/**
+	 * Benchmark the method getNextElement.
+	 *
+	 * @return the next element
+	 */
+	@Benchmark
+	public Optional<Integer> benchmarkGetNextElement()
+	{
+		return ListExtensions.getNextElement(list, nextElement());
+	}
+
+	/**
+	 * Benchmark the method getNextElement with a {@link PositionIndexedList}.
+	 *
+	 * @return the next element
+	 */
+	@Benchmark
+	public Optional<Integer> benchmarkGetNextElementPositionIndexed()
+	{
+		return ListExtensions.getNextElement(positionIndexedList, nextElement());
+	}
+
+	/**
+	 * Benchmark the method getPreviousElement.
+	 *
+	 * @return the previous element
+	 */
+	@Benchmark
+	public Optional<Integer> benchmarkGetPreviousElement()
+	{
+		return ListExtensions.getPreviousElement(list, nextElement());
+	}
+
+	/**
+	 * Benchmark the method isBefore.
+	 *
+	 * @return the result of the isBefore method
+	 */
+	@Benchmark
+	public boolean benchmarkIsBefore()
+	{
+		return ListExtensions.isBefore(list, nextElement(), nextElement());
+	}
+
+	/**
+	 * Benchmark the method isBefore with a {@link PositionIndexedList}.
+	 *
+	 * @return the result of the isBefore method
+	 */
+	@Benchmark
+	public boolean benchmarkIsBeforePositionIndexed()
+	{
+		return ListExtensions.isBefore(positionIndexedList, nextElement(), nextElement());
+	}
+
+	/**
+	 * Benchmark the method relocate.
+	 *
+	 * @return the list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkRelocate()
+	{
+		ListExtensions.relocate(list, nextElement(), position);
+		return list;
+	}
+
+	/**
+	 * Benchmark the method relocate that moves an element to another position.
+	 *
+	 * @return the list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkRelocateToOtherPosition()
+	{
+		ListExtensions.relocate(list, nextElement(), size - 1 - position);
+		return list;
+	}
+
+	/**
+	 * Benchmark the method relocate with a {@link RelocatableList} that moves an element to another
+	 * position.
+	 *
+	 * @return the list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkRelocateRelocatableList()
+	{
+		ListExtensions.relocate(relocatableList, nextElement(), size - 1 - position);
+		return relocatableList;
+	}
+
+	/**
+	 * Benchmark the method rearrange.
+	 *
+	 * @return the rearranged list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkRearrange()
+	{
+		return ListExtensions.rearrange(list, nextElement(), position);
+	}
+
+	/**
+	 * Benchmark the method splitToParts.
+	 *
+	 * @return the parts
+	 */
+	@Benchmark
+	public List<List<Integer>> benchmarkSplitToParts()
+	{
+		return ListExtensions.splitToParts(list, 100);
+	}
+
+	/**
+	 * Benchmark the method shuffle that moves every tenth element to another list.
+	 *
+	 * @return the destination list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkShuffle()
+	{
+		List<Integer> source = ListFactory.newArrayList(list);
+		List<Integer> destination = ListFactory.newArrayList();
+		int[] selectedElements = new int[size / 10];
+		for (int i = 0; i < selectedElements.length; i++)
+		{
+			selectedElements[i] = i * 10;
+		}
+		ListExtensions.shuffle(source, destination, selectedElements);
+		return destination;
+	}
+
+	/**
+	 * Gets the next element for a lookup, the elements are distributed over the whole list
+	 *
+	 * @return the next element
+	 */
+	private Integer nextElement()
+	{
+		position = (position + 7919) % size;
+		return list.get(position);
+	}
+
+}
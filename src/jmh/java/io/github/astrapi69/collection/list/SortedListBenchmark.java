@@ -0,0 +1,145 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The benchmark class for the class {@link SortedList}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedListBenchmark
+{
+
+	/** The comparator for sort the list. */
+	private static final Comparator<Integer> COMPARATOR = Comparator.naturalOrder();
+
+	/** The size of the list for benchmark. */
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	/** The elements in random order. */
+	private List<Integer> source;
+
+	/** The list for benchmark. */
+	private SortedList<Integer> list;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the list with the elements for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		source = ListFactory.newRangeList(0, size - 1);
+		Collections.shuffle(source, new Random(size));
+		list = new SortedList<>(source, COMPARATOR);
+	}
+
+	/**
+	 * Benchmark the method addAll with elements in random order.
+	 *
+	 * @return the filled list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkAddAll()
+	{
+		List<Integer> sortedList = new SortedList<>(COMPARATOR);
+		sortedList.addAll(source);
+		return sortedList;
+	}
+
+	/**
+	 * Benchmark the method add with a single element and the removal of the same element
+	 *
+	 * @param blackhole
+	 *            the blackhole for consume the results
+	 */
+	@Benchmark
+	public void benchmarkAddAndRemove(Blackhole blackhole)
+	{
+		Integer element = nextElement();
+		blackhole.consume(list.remove(element));
+		blackhole.consume(list.add(element));
+	}
+
+	/**
+	 * Benchmark the method contains.
+	 *
+	 * @return the result of the contains method
+	 */
+	@Benchmark
+	public boolean benchmarkContains()
+	{
+		return list.contains(nextElement());
+	}
+
+	/**
+	 * Benchmark the method indexOf.
+	 *
+	 * @return the result of the indexOf method
+	 */
+	@Benchmark
+	public int benchmarkIndexOf()
+	{
+		return list.indexOf(nextElement());
+	}
+
+	/**
+	 * Gets the next element for a lookup, the elements are distributed over the whole list
+	 *
+	 * @return the next element
+	 */
+	private Integer nextElement()
+	{
+		position = (position + 7919) % size;
+		return source.get(position);
+	}
+
+}
@@ -0,0 +1,181 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the class {@link UniqueList} compared with the class
+ * {@link IndexedUniqueList}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueListBenchmark
+{
+
+	/** The size of the list for benchmark. */
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	/** The unique elements in random order. */
+	private List<Integer> source;
+
+	/** The list for benchmark. */
+	private UniqueList<Integer> list;
+
+	/** The indexed list for benchmark. */
+	private IndexedUniqueList<Integer> indexedList;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the list with the elements for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		source = ListFactory.newRangeList(0, size - 1);
+		Collections.shuffle(source, new Random(size));
+		list = new UniqueList<>(source);
+		indexedList = new IndexedUniqueList<>(source);
+	}
+
+	/**
+	 * Benchmark the method addAll with unique elements.
+	 *
+	 * @return the filled list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkAddAll()
+	{
+		List<Integer> uniqueList = new UniqueList<>();
+		uniqueList.addAll(source);
+		return uniqueList;
+	}
+
+	/**
+	 * Benchmark the method add with an element that already exists.
+	 *
+	 * @return the result of the add method
+	 */
+	@Benchmark
+	public boolean benchmarkAddDuplicate()
+	{
+		return list.add(nextElement());
+	}
+
+	/**
+	 * Benchmark the method add with an index and an element that already exists, so the element
+	 * is moved to the given index.
+	 *
+	 * @return the list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkAddDuplicateAtIndex()
+	{
+		list.add(size / 2, nextElement());
+		return list;
+	}
+
+	/**
+	 * Benchmark the method contains.
+	 *
+	 * @return the result of the contains method
+	 */
+	@Benchmark
+	public boolean benchmarkContains()
+	{
+		return list.contains(nextElement());
+	}
+
+	/**
+	 * Benchmark the method addAll of the {@link IndexedUniqueList} with unique elements.
+	 *
+	 * @return the filled list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkIndexedAddAll()
+	{
+		List<Integer> uniqueList = new IndexedUniqueList<>();
+		uniqueList.addAll(source);
+		return uniqueList;
+	}
+
+	/**
+	 * Benchmark the method contains of the {@link IndexedUniqueList}.
+	 *
+	 * @return the result of the contains method
+	 */
+	@Benchmark
+	public boolean benchmarkIndexedContains()
+	{
+		return indexedList.contains(nextElement());
+	}
+
+	/**
+	 * Benchmark the method add of the {@link IndexedUniqueList} with an index and an element that
+	 * already exists, so the element is moved to the given index.
+	 *
+	 * @return the list
+	 */
+	@Benchmark
+	public List<Integer> benchmarkIndexedAddDuplicateAtIndex()
+	{
+		indexedList.add(size / 2, nextElement());
+		return indexedList;
+	}
+
+	/**
+	 * Gets the next element for a lookup, the elements are distributed over the whole list
+	 *
+	 * @return the next element
+	 */
+	private Integer nextElement()
+	{
+		position = (position + 7919) % size;
+		return source.get(position);
+	}
+
+}
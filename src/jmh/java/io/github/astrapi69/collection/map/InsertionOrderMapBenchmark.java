@@ -0,0 +1,137 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.map;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The benchmark class for the class {@link InsertionOrderMap}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertionOrderMapBenchmark
+{
+
+	/** The size of the map for benchmark. */
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	/** The keys in random order. */
+	private List<Integer> source;
+
+	/** The map for benchmark. */
+	private Map<Integer, Integer> map;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the map with the entries for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		source = ListFactory.newRangeList(0, size - 1);
+		Collections.shuffle(source, new Random(size));
+		map = new InsertionOrderMap<>();
+		for (Integer key : source)
+		{
+			map.put(key, key);
+		}
+	}
+
+	/**
+	 * Benchmark the method put with new keys.
+	 *
+	 * @return the filled map
+	 */
+	@Benchmark
+	public Map<Integer, Integer> benchmarkPutAll()
+	{
+		Map<Integer, Integer> insertionOrderMap = new InsertionOrderMap<>();
+		for (Integer key : source)
+		{
+			insertionOrderMap.put(key, key);
+		}
+		return insertionOrderMap;
+	}
+
+	/**
+	 * Benchmark the method put with a key that already exists, so the entry is moved to the end.
+	 *
+	 * @return the previous value
+	 */
+	@Benchmark
+	public Integer benchmarkRePut()
+	{
+		Integer key = nextKey();
+		return map.put(key, key);
+	}
+
+	/**
+	 * Benchmark the method get.
+	 *
+	 * @return the value of the key
+	 */
+	@Benchmark
+	public Integer benchmarkGet()
+	{
+		return map.get(nextKey());
+	}
+
+	/**
+	 * Gets the next key for a lookup, the keys are distributed over the whole map
+	 *
+	 * @return the next key
+	 */
+	private Integer nextKey()
+	{
+		position = (position + 7919) % size;
+		return source.get(position);
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.map;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the class {@link MapExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapExtensionsBenchmark
+{
+
+	/** The size of the map for benchmark. */
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	/** The map for benchmark. */
+	private Map<Integer, Integer> map;
+
+	/** The counter map for merge. */
+	private Map<Integer, Integer> other;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the maps for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(size);
+		map = MapFactory.newHashMap();
+		other = MapFactory.newHashMap();
+		for (int i = 0; i < size; i++)
+		{
+			map.put(i, random.nextInt(size));
+			other.put(i + size / 2, random.nextInt(size));
+		}
+	}
+
+	/**
+	 * Benchmark the method getKeyFromValue.
+	 *
+	 * @return the key of the value
+	 */
+	@Benchmark
+	public Integer benchmarkGetKeyFromValue()
+	{
+		return MapExtensions.getKeyFromValue(map, map.get(nextKey()));
+	}
+
+	/**
+	 * Benchmark the method getKeysFromValue.
+	 *
+	 * @return the keys of the value
+	 */
+	@Benchmark
+	public Collection<Integer> benchmarkGetKeysFromValue()
+	{
+		return MapExtensions.getKeysFromValue(map, map.get(nextKey()));
+	}
+
+	/**
+	 * Benchmark the method sortByValue.
+	 *
+	 * @return the sorted map
+	 */
+	@Benchmark
+	public Map<Integer, Integer> benchmarkSortByValue()
+	{
+		return MapExtensions.sortByValue(map, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Benchmark the method swap.
+	 *
+	 * @return the swapped map
+	 */
+	@Benchmark
+	public Map<Integer, Integer> benchmarkSwap()
+	{
+		return MapExtensions.swap(map);
+	}
+
+	/**
+	 * Benchmark the method mergeAndSummarize with a full merge.
+	 *
+	 * @return the merged map
+	 */
+	@Benchmark
+	public Map<Integer, Integer> benchmarkMergeAndSummarize()
+	{
+		return MapExtensions.mergeAndSummarize(map, other, true);
+	}
+
+	/**
+	 * Gets the next key for a lookup, the keys are distributed over the whole map
+	 *
+	 * @return the next key
+	 */
+	private Integer nextKey()
+	{
+		position = (position + 7919) % size;
+		return position;
+	}
+
+}
@@ -0,0 +1,167 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The contention benchmark class for the class {@link ConcurrentSortedProperties} compared with
+ * the class {@link SortedProperties}. Every group runs reader threads that get properties or
+ * enumerate the sorted keys while one writer thread updates the properties
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSortedPropertiesBenchmark
+{
+
+	/** The count of the properties for benchmark. */
+	@Param({ "1000", "10000" })
+	private int size;
+
+	/** The type of the properties for benchmark. */
+	@Param({ "SortedProperties", "ConcurrentSortedProperties" })
+	private String type;
+
+	/** The properties for benchmark that are shared over all threads. */
+	private Properties properties;
+
+	/**
+	 * Initialize the properties with the entries for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		properties = "SortedProperties".equals(type)
+			? new SortedProperties()
+			: new ConcurrentSortedProperties();
+		for (int i = 0; i < size; i++)
+		{
+			properties.setProperty(key(i), "value." + i);
+		}
+	}
+
+	/**
+	 * Benchmark the method getProperty while another thread writes.
+	 *
+	 * @return the property
+	 */
+	@Benchmark
+	@Group("getProperty")
+	@GroupThreads(7)
+	public String benchmarkGetProperty()
+	{
+		return properties.getProperty(key(ThreadLocalRandom.current().nextInt(size)));
+	}
+
+	/**
+	 * Benchmark the method setProperty while other threads reads.
+	 *
+	 * @return the previous value
+	 */
+	@Benchmark
+	@Group("getProperty")
+	@GroupThreads(1)
+	public Object benchmarkGetPropertyWriter()
+	{
+		return write();
+	}
+
+	/**
+	 * Benchmark the enumeration of the sorted keys while another thread writes.
+	 *
+	 * @param blackhole
+	 *            the blackhole for consume the keys
+	 */
+	@Benchmark
+	@Group("keys")
+	@GroupThreads(3)
+	public void benchmarkKeys(Blackhole blackhole)
+	{
+		Enumeration<Object> enumeration = properties.keys();
+		while (enumeration.hasMoreElements())
+		{
+			blackhole.consume(enumeration.nextElement());
+		}
+	}
+
+	/**
+	 * Benchmark the method setProperty while other threads enumerate the keys.
+	 *
+	 * @return the previous value
+	 */
+	@Benchmark
+	@Group("keys")
+	@GroupThreads(1)
+	public Object benchmarkKeysWriter()
+	{
+		return write();
+	}
+
+	/**
+	 * Writes a property with a random existing key
+	 *
+	 * @return the previous value
+	 */
+	private Object write()
+	{
+		int index = ThreadLocalRandom.current().nextInt(size);
+		return properties.setProperty(key(index), "value." + index);
+	}
+
+	/**
+	 * Gets the key of the given index
+	 *
+	 * @param index
+	 *            the index
+	 * @return the key
+	 */
+	private static String key(int index)
+	{
+		return "key." + index;
+	}
+
+}
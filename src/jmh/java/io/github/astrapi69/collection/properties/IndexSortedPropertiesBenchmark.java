@@ -0,0 +1,175 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.astrapi69.collection.list.ListFactory;
+import io.github.astrapi69.collection.map.MapFactory;
+
+/**
+ * The benchmark class for the class {@link IndexSortedProperties}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexSortedPropertiesBenchmark
+{
+
+	/** The count of the properties for benchmark. */
+	@Param({ "100", "1000", "10000" })
+	private int size;
+
+	/** The keys in random order. */
+	private List<String> keys;
+
+	/** The entries as map. */
+	private Map<String, String> entries;
+
+	/** The properties for benchmark. */
+	private IndexSortedProperties properties;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the properties with the entries for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		keys = ListFactory.newArrayList();
+		entries = MapFactory.newLinkedHashMap();
+		for (int i = 0; i < size; i++)
+		{
+			String key = "key." + i;
+			keys.add(key);
+			entries.put(key, "value." + i);
+		}
+		Collections.shuffle(keys, new Random(size));
+		properties = new IndexSortedProperties();
+		properties.putAll(entries);
+	}
+
+	/**
+	 * Benchmark the method put with new keys.
+	 *
+	 * @return the filled properties
+	 */
+	@Benchmark
+	public IndexSortedProperties benchmarkPut()
+	{
+		IndexSortedProperties indexSortedProperties = new IndexSortedProperties();
+		for (String key : keys)
+		{
+			indexSortedProperties.put(key, entries.get(key));
+		}
+		return indexSortedProperties;
+	}
+
+	/**
+	 * Benchmark the method putAll.
+	 *
+	 * @return the filled properties
+	 */
+	@Benchmark
+	public IndexSortedProperties benchmarkPutAll()
+	{
+		IndexSortedProperties indexSortedProperties = new IndexSortedProperties();
+		indexSortedProperties.putAll(entries);
+		return indexSortedProperties;
+	}
+
+	/**
+	 * Benchmark the method getProperty with an index.
+	 *
+	 * @return the property of the index
+	 */
+	@Benchmark
+	public String benchmarkGetPropertyByIndex()
+	{
+		return properties.getProperty(nextPosition());
+	}
+
+	/**
+	 * Benchmark the method indexOf.
+	 *
+	 * @return the index of the value
+	 */
+	@Benchmark
+	public int benchmarkIndexOf()
+	{
+		return properties.indexOf(entries.get(keys.get(nextPosition())));
+	}
+
+	/**
+	 * Benchmark the enumeration of the sorted keys.
+	 *
+	 * @param blackhole
+	 *            the blackhole for consume the keys
+	 */
+	@Benchmark
+	public void benchmarkKeys(Blackhole blackhole)
+	{
+		Enumeration<Object> enumeration = properties.keys();
+		while (enumeration.hasMoreElements())
+		{
+			blackhole.consume(enumeration.nextElement());
+		}
+	}
+
+	/**
+	 * Gets the next position for a lookup, the positions are distributed over all properties
+	 *
+	 * @return the next position
+	 */
+	private int nextPosition()
+	{
+		position = (position + 7919) % size;
+		return position;
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the load methods of the class {@link PropertiesExtensions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesExtensionsBenchmark
+{
+
+	/** The count of the properties in the file for benchmark. */
+	@Param({ "1000", "100000" })
+	private int size;
+
+	/** The properties file for benchmark. */
+	private File propertiesFile;
+
+	/**
+	 * Writes the properties file for the benchmark
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		propertiesFile = File.createTempFile("benchmark", ".properties");
+		try (Writer writer = Files.newBufferedWriter(propertiesFile.toPath(),
+			StandardCharsets.ISO_8859_1))
+		{
+			for (int i = 0; i < size; i++)
+			{
+				if (i % 10 == 0)
+				{
+					writer.write("# comment for the next entries\n");
+				}
+				writer.write("bundle.key." + i + " = value with escaped \\u00e4 and \\\n");
+				writer.write("    a continuation " + i + "\n");
+			}
+		}
+	}
+
+	/**
+	 * Deletes the properties file for the benchmark
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		propertiesFile.delete();
+	}
+
+	/**
+	 * Benchmark the method loadProperties.
+	 *
+	 * @return the loaded properties
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public Properties benchmarkLoadProperties() throws IOException
+	{
+		return PropertiesExtensions.loadProperties(propertiesFile);
+	}
+
+	/**
+	 * Benchmark the method loadMappedProperties.
+	 *
+	 * @return the loaded properties
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public Properties benchmarkLoadMappedProperties() throws IOException
+	{
+		return PropertiesExtensions.loadMappedProperties(propertiesFile);
+	}
+
+}
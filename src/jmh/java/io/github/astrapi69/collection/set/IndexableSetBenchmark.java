@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.set;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark class for the class {@link IndexableSet}. The methods with the prefix
+ * <code>benchmarkIterate</code> measures the former positional access that walks the iterator of
+ * the set and shows the curve before the positional index was introduced
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexableSetBenchmark
+{
+
+	/** The size of the set for benchmark. */
+	@Param({ "1000", "100000", "1000000" })
+	private int size;
+
+	/** The set for benchmark. */
+	private IndexableSet<Integer> set;
+
+	/** The current position for the lookups. */
+	private int position;
+
+	/**
+	 * Initialize the set with the elements for the benchmark
+	 */
+	@Setup
+	public void setUp()
+	{
+		set = new IndexableSet<>(size);
+		while (this.set.size() < size)
+		{
+			this.set.add(this.set.size());
+		}
+	}
+
+	/**
+	 * Benchmark get index method.
+	 *
+	 * @return the index of the element
+	 */
+	@Benchmark
+	public int benchmarkGetIndexMethod()
+	{
+		return set.getIndex(nextPosition());
+	}
+
+	/**
+	 * Benchmark get method.
+	 *
+	 * @return the element of the index
+	 */
+	@Benchmark
+	public Integer benchmarkGetMethod()
+	{
+		return set.get(nextPosition());
+	}
+
+	/**
+	 * Benchmark get index over the iterator of the set as it was before the positional index.
+	 *
+	 * @return the index of the element
+	 */
+	@Benchmark
+	public int benchmarkIterateGetIndex()
+	{
+		Integer element = nextPosition();
+		int index = 0;
+		for (Integer entry : set)
+		{
+			if (entry.equals(element))
+			{
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Benchmark get over the iterator of the set as it was before the positional index.
+	 *
+	 * @return the element of the index
+	 */
+	@Benchmark
+	public Integer benchmarkIterateGet()
+	{
+		int index = nextPosition();
+		int count = 0;
+		for (Integer entry : set)
+		{
+			if (index == count)
+			{
+				return entry;
+			}
+			count++;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the next position for a lookup, the positions are distributed over the whole set
+	 *
+	 * @return the next position
+	 */
+	private int nextPosition()
+	{
+		position = (position + 7919) % size;
+		return position;
+	}
+
+}
@@ -0,0 +1,666 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import io.github.astrapi69.check.Argument;
+import io.github.astrapi69.collection.list.ListExtensions;
+
+/**
+ * The class {@link BatchPipeline} groups the elements of a source to batches and runs a batch
+ * handler for every batch on a bounded pool of threads. A batch is complete if it reaches the batch
+ * size or if the maximum batch delay is elapsed since its first element. The count of the batches
+ * that are submitted but not handled is limited, so the reading of the source blocks if the
+ * handler is slower than the source. Lists with random access are partitioned with the method
+ * {@link ListExtensions#splitToParts(Collection, int)}, so their batches are views without copying
+ *
+ * @param <T>
+ *            the generic type of the elements
+ * @param <R>
+ *            the generic type of the results of the batch handler
+ */
+public final class BatchPipeline<T, R>
+{
+
+	/** The marker for the end of the source in the queue of a {@link TimedBatchIterator}. */
+	private static final Object END = new Object();
+
+	/** The marker for a null element in the queue of a {@link TimedBatchIterator}. */
+	private static final Object NULL = new Object();
+
+	/** The batch handler. */
+	private final Function<? super List<T>, ? extends R> handler;
+
+	/** The maximum size of the batches. */
+	private int batchSize = 100;
+
+	/** The maximum delay of a batch after its first element or null for no limit. */
+	private Duration maxBatchDelay;
+
+	/** The count of the threads that runs the batch handler. */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/** The maximum count of the pending batches or 0 for two batches per thread. */
+	private int maxPendingBatches;
+
+	/** The flag if the results are collected in the order of the batches. */
+	private boolean ordered = true;
+
+	/**
+	 * Instantiates a new {@link BatchPipeline}
+	 *
+	 * @param handler
+	 *            the batch handler
+	 */
+	private BatchPipeline(final Function<? super List<T>, ? extends R> handler)
+	{
+		this.handler = handler;
+	}
+
+	/**
+	 * Factory method for create a new {@link BatchPipeline} with the given batch handler
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param <R>
+	 *            the generic type of the results of the batch handler
+	 * @param handler
+	 *            the batch handler
+	 * @return the new {@link BatchPipeline}
+	 */
+	public static <T, R> BatchPipeline<T, R> of(
+		final Function<? super List<T>, ? extends R> handler)
+	{
+		Argument.notNull(handler, "handler");
+		return new BatchPipeline<>(handler);
+	}
+
+	/**
+	 * Sets the maximum size of the batches, the default is 100
+	 *
+	 * @param batchSize
+	 *            the maximum size of the batches
+	 * @return this {@link BatchPipeline} object
+	 * @throws IllegalArgumentException
+	 *             if the given batch size is not positive
+	 */
+	public BatchPipeline<T, R> batchSize(final int batchSize)
+	{
+		if (batchSize < 1)
+		{
+			throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum delay of a batch after its first element was read. If a maximum delay is set
+	 * the source is read on a separate thread, so an incomplete batch is handed over when the delay
+	 * is elapsed even if the source blocks. The default is no limit
+	 *
+	 * @param maxBatchDelay
+	 *            the maximum delay of a batch or null for no limit
+	 * @return this {@link BatchPipeline} object
+	 */
+	public BatchPipeline<T, R> maxBatchDelay(final Duration maxBatchDelay)
+	{
+		this.maxBatchDelay = maxBatchDelay;
+		return this;
+	}
+
+	/**
+	 * Sets the count of the threads that runs the batch handler, the default is the count of the
+	 * available processors. Virtual threads are used if the runtime supports them
+	 *
+	 * @param parallelism
+	 *            the count of the threads
+	 * @return this {@link BatchPipeline} object
+	 * @throws IllegalArgumentException
+	 *             if the given parallelism is not positive
+	 */
+	public BatchPipeline<T, R> parallelism(final int parallelism)
+	{
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum count of the batches that are submitted but not handled. If the limit is
+	 * reached the reading of the source blocks until a batch is handled. The default is two
+	 * batches per thread
+	 *
+	 * @param maxPendingBatches
+	 *            the maximum count of the pending batches
+	 * @return this {@link BatchPipeline} object
+	 * @throws IllegalArgumentException
+	 *             if the given maximum count is not positive
+	 */
+	public BatchPipeline<T, R> maxPendingBatches(final int maxPendingBatches)
+	{
+		if (maxPendingBatches < 1)
+		{
+			throw new IllegalArgumentException(
+				"maxPendingBatches must be positive: " + maxPendingBatches);
+		}
+		this.maxPendingBatches = maxPendingBatches;
+		return this;
+	}
+
+	/**
+	 * Sets the flag if the results are collected in the order of the batches or in the order of
+	 * their completion, the default is ordered
+	 *
+	 * @param ordered
+	 *            the flag if the results are ordered
+	 * @return this {@link BatchPipeline} object
+	 */
+	public BatchPipeline<T, R> ordered(final boolean ordered)
+	{
+		this.ordered = ordered;
+		return this;
+	}
+
+	/**
+	 * Processes the elements of the given collection
+	 *
+	 * @param collection
+	 *            the source collection
+	 * @return the result with the results of the batch handler and the statistics
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchPipelineResult<R> process(final Collection<? extends T> collection)
+	{
+		Argument.notNull(collection, "collection");
+		if (maxBatchDelay == null && collection instanceof List
+			&& collection instanceof RandomAccess)
+		{
+			return run(ListExtensions.splitToParts((List<T>)collection, batchSize).iterator());
+		}
+		return process(collection.iterator());
+	}
+
+	/**
+	 * Processes the elements of the given stream
+	 *
+	 * @param stream
+	 *            the source stream
+	 * @return the result with the results of the batch handler and the statistics
+	 */
+	public BatchPipelineResult<R> process(final Stream<? extends T> stream)
+	{
+		Argument.notNull(stream, "stream");
+		return process(stream.iterator());
+	}
+
+	/**
+	 * Processes the elements of the given iterator
+	 *
+	 * @param iterator
+	 *            the source iterator
+	 * @return the result with the results of the batch handler and the statistics
+	 */
+	public BatchPipelineResult<R> process(final Iterator<? extends T> iterator)
+	{
+		Argument.notNull(iterator, "iterator");
+		if (maxBatchDelay == null)
+		{
+			return run(new BatchIterator(iterator));
+		}
+		final TimedBatchIterator batches = new TimedBatchIterator(iterator);
+		try
+		{
+			return run(batches);
+		}
+		finally
+		{
+			batches.close();
+		}
+	}
+
+	/**
+	 * Runs the batch handler for the given batches
+	 *
+	 * @param batches
+	 *            the iterator over the batches
+	 * @return the result with the results of the batch handler and the statistics
+	 */
+	private BatchPipelineResult<R> run(final Iterator<List<T>> batches)
+	{
+		final long start = System.nanoTime();
+		final StageCounter batching = new StageCounter("batching");
+		final StageCounter backpressure = new StageCounter("backpressure");
+		final StageCounter handling = new StageCounter("handling");
+		final Semaphore permits = new Semaphore(
+			maxPendingBatches == 0 ? 2 * parallelism : maxPendingBatches);
+		final AtomicBoolean failed = new AtomicBoolean();
+		final List<Future<R>> futures = new ArrayList<>();
+		final List<R> completed = Collections.synchronizedList(new ArrayList<>());
+		final ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+			ThreadFactoryExtensions.newWorkerThreadFactory("batch-worker-"));
+		try
+		{
+			while (!failed.get())
+			{
+				final long batchStart = System.nanoTime();
+				if (!batches.hasNext())
+				{
+					break;
+				}
+				final List<T> batch = batches.next();
+				batching.record(batch.size(), System.nanoTime() - batchStart);
+				final long waitStart = System.nanoTime();
+				permits.acquire();
+				backpressure.record(batch.size(), System.nanoTime() - waitStart);
+				futures.add(executorService.submit(() -> {
+					final long handleStart = System.nanoTime();
+					try
+					{
+						final R result = handler.apply(batch);
+						if (!ordered)
+						{
+							completed.add(result);
+						}
+						return result;
+					}
+					catch (final RuntimeException | Error e)
+					{
+						failed.set(true);
+						throw e;
+					}
+					finally
+					{
+						handling.record(batch.size(), System.nanoTime() - handleStart);
+						permits.release();
+					}
+				}));
+			}
+			final List<R> results = new ArrayList<>(futures.size());
+			for (final Future<R> future : futures)
+			{
+				results.add(getResult(future));
+			}
+			return new BatchPipelineResult<>(ordered ? results : new ArrayList<>(completed),
+				batching.toStatistics(), backpressure.toStatistics(), handling.toStatistics(),
+				Duration.ofNanos(System.nanoTime() - start));
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while processing the batches", e);
+		}
+		finally
+		{
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Waits for the given future and rethrows the exception of the batch handler if it fails
+	 *
+	 * @param <R>
+	 *            the generic type of the result
+	 * @param future
+	 *            the future of a batch
+	 * @return the result of the batch handler
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	private static <R> R getResult(final Future<R> future) throws InterruptedException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error)cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * The class {@link BatchIterator} groups the elements of an iterator to batches by the batch
+	 * size
+	 */
+	private final class BatchIterator implements Iterator<List<T>>
+	{
+
+		/** The source iterator. */
+		private final Iterator<? extends T> iterator;
+
+		/**
+		 * Instantiates a new {@link BatchIterator}
+		 *
+		 * @param iterator
+		 *            the source iterator
+		 */
+		BatchIterator(final Iterator<? extends T> iterator)
+		{
+			this.iterator = iterator;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext()
+		{
+			return iterator.hasNext();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<T> next()
+		{
+			if (!iterator.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			final List<T> batch = new ArrayList<>(Math.min(batchSize, 1024));
+			while (batch.size() < batchSize && iterator.hasNext())
+			{
+				batch.add(iterator.next());
+			}
+			return batch;
+		}
+	}
+
+	/**
+	 * The class {@link TimedBatchIterator} groups the elements of an iterator to batches by the
+	 * batch size and the maximum batch delay. The source is read on a separate thread into a
+	 * bounded queue, so the waiting for the next element can end when the delay is elapsed
+	 */
+	private final class TimedBatchIterator implements Iterator<List<T>>, AutoCloseable
+	{
+
+		/** The source iterator. */
+		private final Iterator<? extends T> iterator;
+
+		/** The queue with the elements that are read from the source. */
+		private final BlockingQueue<Object> queue;
+
+		/** The thread that reads the source. */
+		private final Thread reader;
+
+		/** The next item of the queue that is taken but not consumed or null. */
+		private Object pending;
+
+		/**
+		 * Instantiates a new {@link TimedBatchIterator} and starts the reading of the source
+		 *
+		 * @param iterator
+		 *            the source iterator
+		 */
+		TimedBatchIterator(final Iterator<? extends T> iterator)
+		{
+			this.iterator = iterator;
+			this.queue = new ArrayBlockingQueue<>(Math.min(batchSize, 1024));
+			this.reader = ThreadFactoryExtensions.newWorkerThreadFactory("batch-reader-")
+				.newThread(this::read);
+			this.reader.start();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext()
+		{
+			if (pending == null)
+			{
+				try
+				{
+					pending = queue.take();
+				}
+				catch (final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while reading the source", e);
+				}
+			}
+			if (pending instanceof SourceFailure)
+			{
+				final Throwable cause = ((SourceFailure)pending).cause;
+				if (cause instanceof Error)
+				{
+					throw (Error)cause;
+				}
+				throw (RuntimeException)cause;
+			}
+			return pending != END;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<T> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			final List<T> batch = new ArrayList<>(Math.min(batchSize, 1024));
+			batch.add(element(pending));
+			pending = null;
+			final long deadline = System.nanoTime() + maxBatchDelay.toNanos();
+			try
+			{
+				while (batch.size() < batchSize)
+				{
+					final long remaining = deadline - System.nanoTime();
+					final Object item = remaining <= 0
+						? null
+						: queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (item == null)
+					{
+						break;
+					}
+					if (item == END || item instanceof SourceFailure)
+					{
+						pending = item;
+						break;
+					}
+					batch.add(element(item));
+				}
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while reading the source", e);
+			}
+			return batch;
+		}
+
+		/**
+		 * Stops the reading of the source, if it is not read to the end
+		 */
+		@Override
+		public void close()
+		{
+			reader.interrupt();
+		}
+
+		/**
+		 * Reads the source into the queue, the end of the source or its exception is put as last
+		 * item into the queue
+		 */
+		private void read()
+		{
+			try
+			{
+				try
+				{
+					while (iterator.hasNext())
+					{
+						final T element = iterator.next();
+						queue.put(element == null ? NULL : element);
+					}
+					queue.put(END);
+				}
+				catch (final RuntimeException | Error e)
+				{
+					queue.put(new SourceFailure(e));
+				}
+			}
+			catch (final InterruptedException e)
+			{
+				// the pipeline is closed, so the rest of the source is not needed anymore
+			}
+		}
+
+		/**
+		 * Converts the given item of the queue to the element
+		 *
+		 * @param item
+		 *            the item of the queue
+		 * @return the element
+		 */
+		@SuppressWarnings("unchecked")
+		private T element(final Object item)
+		{
+			return item == NULL ? null : (T)item;
+		}
+	}
+
+	/**
+	 * The class {@link SourceFailure} transports an exception of the source through the queue of a
+	 * {@link TimedBatchIterator}
+	 */
+	private static final class SourceFailure
+	{
+
+		/** The exception of the source. */
+		private final Throwable cause;
+
+		/**
+		 * Instantiates a new {@link SourceFailure}
+		 *
+		 * @param cause
+		 *            the exception of the source
+		 */
+		SourceFailure(final Throwable cause)
+		{
+			this.cause = cause;
+		}
+	}
+
+	/**
+	 * The class {@link StageCounter} counts the batches, elements and the time of one stage
+	 */
+	private static final class StageCounter
+	{
+
+		/** The name of the stage. */
+		private final String name;
+
+		/** The count of the batches. */
+		private final LongAdder batches = new LongAdder();
+
+		/** The count of the elements. */
+		private final LongAdder elements = new LongAdder();
+
+		/** The sum of the time in nanoseconds. */
+		private final LongAdder nanos = new LongAdder();
+
+		/** The maximum time of one batch in nanoseconds. */
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		/**
+		 * Instantiates a new {@link StageCounter}
+		 *
+		 * @param name
+		 *            the name of the stage
+		 */
+		StageCounter(final String name)
+		{
+			this.name = name;
+		}
+
+		/**
+		 * Records one batch
+		 *
+		 * @param size
+		 *            the size of the batch
+		 * @param time
+		 *            the time of the batch in nanoseconds
+		 */
+		void record(final int size, final long time)
+		{
+			batches.increment();
+			elements.add(size);
+			nanos.add(time);
+			maxNanos.accumulateAndGet(time, Math::max);
+		}
+
+		/**
+		 * Creates the statistics with the current counters
+		 *
+		 * @return the statistics
+		 */
+		BatchStageStatistics toStatistics()
+		{
+			return new BatchStageStatistics(name, batches.sum(), elements.sum(), nanos.sum(),
+				maxNanos.get());
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class {@link BatchPipelineResult} is the return type of the process methods of the class
+ * {@link BatchPipeline}. It holds the results of the batch handler and the statistics of the
+ * stages of the pipeline
+ *
+ * @param <R>
+ *            the generic type of the results
+ */
+public final class BatchPipelineResult<R>
+{
+
+	/** The results of the batch handler. */
+	private final List<R> results;
+
+	/** The statistics of the batching stage. */
+	private final BatchStageStatistics batching;
+
+	/** The statistics of the backpressure stage. */
+	private final BatchStageStatistics backpressure;
+
+	/** The statistics of the handling stage. */
+	private final BatchStageStatistics handling;
+
+	/** The total time of the processing. */
+	private final Duration totalTime;
+
+	/**
+	 * Instantiates a new {@link BatchPipelineResult}
+	 *
+	 * @param results
+	 *            the results of the batch handler
+	 * @param batching
+	 *            the statistics of the batching stage
+	 * @param backpressure
+	 *            the statistics of the backpressure stage
+	 * @param handling
+	 *            the statistics of the handling stage
+	 * @param totalTime
+	 *            the total time of the processing
+	 */
+	BatchPipelineResult(final List<R> results, final BatchStageStatistics batching,
+		final BatchStageStatistics backpressure, final BatchStageStatistics handling,
+		final Duration totalTime)
+	{
+		this.results = Collections.unmodifiableList(results);
+		this.batching = batching;
+		this.backpressure = backpressure;
+		this.handling = handling;
+		this.totalTime = totalTime;
+	}
+
+	/**
+	 * Gets the results of the batch handler. If the pipeline is ordered the results are in the
+	 * order of the batches otherwise in the order of their completion
+	 *
+	 * @return the results of the batch handler
+	 */
+	public List<R> getResults()
+	{
+		return results;
+	}
+
+	/**
+	 * Gets the statistics of the batching stage, that is the time for reading the elements of each
+	 * batch from the source
+	 *
+	 * @return the statistics of the batching stage
+	 */
+	public BatchStageStatistics getBatching()
+	{
+		return batching;
+	}
+
+	/**
+	 * Gets the statistics of the backpressure stage, that is the time each batch waited for a free
+	 * slot because the maximum count of pending batches was reached
+	 *
+	 * @return the statistics of the backpressure stage
+	 */
+	public BatchStageStatistics getBackpressure()
+	{
+		return backpressure;
+	}
+
+	/**
+	 * Gets the statistics of the handling stage, that is the time of the batch handler for each
+	 * batch
+	 *
+	 * @return the statistics of the handling stage
+	 */
+	public BatchStageStatistics getHandling()
+	{
+		return handling;
+	}
+
+	/**
+	 * Gets the total time of the processing
+	 *
+	 * @return the total time
+	 */
+	public Duration getTotalTime()
+	{
+		return totalTime;
+	}
+
+}
@@ -0,0 +1,158 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import java.time.Duration;
+
+/**
+ * The class {@link BatchStageStatistics} holds the counters of one stage of a
+ * {@link BatchPipeline}, that is the count of the batches and elements that passed the stage and
+ * the time the stage has needed for them
+ */
+public final class BatchStageStatistics
+{
+
+	/** The name of the stage. */
+	private final String name;
+
+	/** The count of the batches. */
+	private final long batches;
+
+	/** The count of the elements. */
+	private final long elements;
+
+	/** The sum of the time of all batches in nanoseconds. */
+	private final long totalNanos;
+
+	/** The maximum time of one batch in nanoseconds. */
+	private final long maxNanos;
+
+	/**
+	 * Instantiates a new {@link BatchStageStatistics}
+	 *
+	 * @param name
+	 *            the name of the stage
+	 * @param batches
+	 *            the count of the batches
+	 * @param elements
+	 *            the count of the elements
+	 * @param totalNanos
+	 *            the sum of the time of all batches in nanoseconds
+	 * @param maxNanos
+	 *            the maximum time of one batch in nanoseconds
+	 */
+	BatchStageStatistics(final String name, final long batches, final long elements,
+		final long totalNanos, final long maxNanos)
+	{
+		this.name = name;
+		this.batches = batches;
+		this.elements = elements;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/**
+	 * Gets the name of the stage
+	 *
+	 * @return the name of the stage
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Gets the count of the batches that passed the stage
+	 *
+	 * @return the count of the batches
+	 */
+	public long getBatches()
+	{
+		return batches;
+	}
+
+	/**
+	 * Gets the count of the elements that passed the stage
+	 *
+	 * @return the count of the elements
+	 */
+	public long getElements()
+	{
+		return elements;
+	}
+
+	/**
+	 * Gets the sum of the time of all batches in this stage. If the stage runs in parallel the sum
+	 * can be greater than the elapsed time
+	 *
+	 * @return the sum of the time of all batches
+	 */
+	public Duration getTotalTime()
+	{
+		return Duration.ofNanos(totalNanos);
+	}
+
+	/**
+	 * Gets the maximum time of one batch in this stage
+	 *
+	 * @return the maximum latency
+	 */
+	public Duration getMaxLatency()
+	{
+		return Duration.ofNanos(maxNanos);
+	}
+
+	/**
+	 * Gets the average time of one batch in this stage
+	 *
+	 * @return the average latency
+	 */
+	public Duration getAverageLatency()
+	{
+		return batches == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / batches);
+	}
+
+	/**
+	 * Gets the count of the elements per second in relation to the sum of the time of all batches
+	 *
+	 * @return the throughput in elements per second
+	 */
+	public double getThroughput()
+	{
+		return totalNanos == 0 ? 0 : elements * 1_000_000_000d / totalNanos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return name + "[batches=" + batches + ", elements=" + elements + ", totalTime="
+			+ getTotalTime() + ", averageLatency=" + getAverageLatency() + ", maxLatency="
+			+ getMaxLatency() + "]";
+	}
+
+}
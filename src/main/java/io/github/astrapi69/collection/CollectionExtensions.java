@@ -29,11 +29,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import io.github.astrapi69.collection.list.ListExtensions;
+
 /**
  * The class {@link CollectionExtensions} is an extension class for use with {@link Collection}
  * objects.
@@ -188,7 +188,8 @@ public final class CollectionExtensions
 	}
 
 	/**
-	 * Groups the given {@link Collection} to parts from the specified size.
+	 * Groups the given {@link Collection} to parts from the specified size. If the given collection
+	 * is a list with random access the parts are views of the given list, so no element is copied
 	 *
 	 * @param <T>
 	 *            the generic type
@@ -197,13 +198,12 @@ public final class CollectionExtensions
 	 * @param size
 	 *            the size
 	 * @return the collection
+	 * @throws IllegalArgumentException
+	 *             if the given size is not positive
 	 */
 	public static <T> Collection<List<T>> partition(Collection<T> collection, int size)
 	{
-		final AtomicInteger counter = new AtomicInteger(0);
-
-		return collection.stream()
-			.collect(Collectors.groupingBy(it -> counter.getAndIncrement() / size)).values();
+		return ListExtensions.splitToParts(collection, size);
 	}
 
 	/**
@@ -0,0 +1,73 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@link ThreadFactoryExtensions} provides the {@link ThreadFactory} objects for the
+ * worker threads of this library
+ */
+public final class ThreadFactoryExtensions
+{
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ThreadFactoryExtensions()
+	{
+	}
+
+	/**
+	 * Factory method for create a {@link ThreadFactory} for worker threads. If the java runtime
+	 * supports virtual threads a factory for virtual threads is returned, otherwise a factory for
+	 * daemon threads that are named with the given prefix and a counter
+	 *
+	 * @param namePrefix
+	 *            the prefix of the names of the daemon threads
+	 * @return the new {@link ThreadFactory}
+	 */
+	public static ThreadFactory newWorkerThreadFactory(final String namePrefix)
+	{
+		try
+		{
+			final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			return (ThreadFactory)Class.forName("java.lang.Thread$Builder").getMethod("factory")
+				.invoke(builder);
+		}
+		catch (final ReflectiveOperationException | RuntimeException e)
+		{
+			final AtomicInteger count = new AtomicInteger();
+			return runnable -> {
+				final Thread thread = new Thread(runnable,
+					namePrefix + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+		}
+	}
+
+}
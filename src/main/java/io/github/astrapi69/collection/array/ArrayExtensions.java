@@ -24,17 +24,31 @@
  */
 package io.github.astrapi69.collection.array;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import io.github.astrapi69.check.Argument;
-import io.github.astrapi69.collection.list.ListFactory;
+import io.github.astrapi69.collection.iterator.ChannelChunkIterator;
 import io.github.astrapi69.collection.set.SetFactory;
 
 /**
@@ -147,6 +161,86 @@ public final class ArrayExtensions
 		return indexOf(array, element) >= 0;
 	}
 
+	/**
+	 * Returns <code>true</code> if and only if the given value is in the given array of primitive
+	 * int values
+	 *
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return <code>true</code> if and only if the given value is in the given array otherwise
+	 *         <code>false</code>
+	 */
+	public static boolean contains(final int[] array, final int element)
+	{
+		return indexOf(array, element) >= 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given value is in the given array of primitive
+	 * long values
+	 *
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return <code>true</code> if and only if the given value is in the given array otherwise
+	 *         <code>false</code>
+	 */
+	public static boolean contains(final long[] array, final long element)
+	{
+		return indexOf(array, element) >= 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given value is in the given array of primitive
+	 * double values
+	 *
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return <code>true</code> if and only if the given value is in the given array otherwise
+	 *         <code>false</code>
+	 */
+	public static boolean contains(final double[] array, final double element)
+	{
+		return indexOf(array, element) >= 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given value is in the given array of primitive
+	 * float values
+	 *
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return <code>true</code> if and only if the given value is in the given array otherwise
+	 *         <code>false</code>
+	 */
+	public static boolean contains(final float[] array, final float element)
+	{
+		return indexOf(array, element) >= 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if and only if the given value is in the given array of primitive
+	 * byte values
+	 *
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return <code>true</code> if and only if the given value is in the given array otherwise
+	 *         <code>false</code>
+	 */
+	public static boolean contains(final byte[] array, final byte element)
+	{
+		return indexOf(array, element) >= 0;
+	}
+
 	/**
 	 * Returns a concatenated array from given arrays
 	 *
@@ -179,6 +273,106 @@ public final class ArrayExtensions
 		return concatenatedArray;
 	}
 
+	/**
+	 * Returns a concatenated array from the given arrays of primitive int values
+	 *
+	 * @param existingArray
+	 *            the existing array
+	 * @param elements
+	 *            the values that will be concatenated
+	 * @return a new concatenated array from given arrays
+	 */
+	public static int[] concatenate(final int[] existingArray, final int[] elements)
+	{
+		if (elements == null || elements.length == 0)
+		{
+			return existingArray;
+		}
+		if (existingArray == null)
+		{
+			return elements;
+		}
+		final int[] concatenatedArray = Arrays.copyOf(existingArray,
+			existingArray.length + elements.length);
+		System.arraycopy(elements, 0, concatenatedArray, existingArray.length, elements.length);
+		return concatenatedArray;
+	}
+
+	/**
+	 * Returns a concatenated array from the given arrays of primitive long values
+	 *
+	 * @param existingArray
+	 *            the existing array
+	 * @param elements
+	 *            the values that will be concatenated
+	 * @return a new concatenated array from given arrays
+	 */
+	public static long[] concatenate(final long[] existingArray, final long[] elements)
+	{
+		if (elements == null || elements.length == 0)
+		{
+			return existingArray;
+		}
+		if (existingArray == null)
+		{
+			return elements;
+		}
+		final long[] concatenatedArray = Arrays.copyOf(existingArray,
+			existingArray.length + elements.length);
+		System.arraycopy(elements, 0, concatenatedArray, existingArray.length, elements.length);
+		return concatenatedArray;
+	}
+
+	/**
+	 * Returns a concatenated array from the given arrays of primitive double values
+	 *
+	 * @param existingArray
+	 *            the existing array
+	 * @param elements
+	 *            the values that will be concatenated
+	 * @return a new concatenated array from given arrays
+	 */
+	public static double[] concatenate(final double[] existingArray, final double[] elements)
+	{
+		if (elements == null || elements.length == 0)
+		{
+			return existingArray;
+		}
+		if (existingArray == null)
+		{
+			return elements;
+		}
+		final double[] concatenatedArray = Arrays.copyOf(existingArray,
+			existingArray.length + elements.length);
+		System.arraycopy(elements, 0, concatenatedArray, existingArray.length, elements.length);
+		return concatenatedArray;
+	}
+
+	/**
+	 * Returns a concatenated array from the given arrays of primitive byte values
+	 *
+	 * @param existingArray
+	 *            the existing array
+	 * @param elements
+	 *            the values that will be concatenated
+	 * @return a new concatenated array from given arrays
+	 */
+	public static byte[] concatenate(final byte[] existingArray, final byte[] elements)
+	{
+		if (elements == null || elements.length == 0)
+		{
+			return existingArray;
+		}
+		if (existingArray == null)
+		{
+			return elements;
+		}
+		final byte[] concatenatedArray = Arrays.copyOf(existingArray,
+			existingArray.length + elements.length);
+		System.arraycopy(elements, 0, concatenatedArray, existingArray.length, elements.length);
+		return concatenatedArray;
+	}
+
 	/**
 	 * Returns <code>true</code> if at least one of given elements is in the given array
 	 *
@@ -207,161 +401,354 @@ public final class ArrayExtensions
 	}
 
 	/**
-	 * Gets the first object from the given array
+	 * Counts the occurrences of the given value in the given array of primitive int values
 	 *
-	 * @param <T>
-	 *            the generic type of the elements in the array
 	 * @param array
 	 *            the array
-	 * @return Returns the first object from the given array or null if the array is empty or null
+	 * @param element
+	 *            the value
+	 * @return the count of the occurrences of the given value
 	 */
-	public static <T> T getFirst(final T[] array)
+	public static int count(final int[] array, final int element)
 	{
-		return getFirstElement(array).orElse(null);
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.count(array, element);
 	}
 
 	/**
-	 * Returns an {@link Optional} with the first object from the given array
+	 * Counts the occurrences of the given value in the given array of primitive long values
 	 *
-	 * @param <T>
-	 *            the generic type of the elements in the array
 	 * @param array
 	 *            the array
-	 * @return an {@link Optional} with the first object from the given array or an empty
-	 *         {@link Optional} if the array is null or empty
+	 * @param element
+	 *            the value
+	 * @return the count of the occurrences of the given value
 	 */
-	public static <T> Optional<T> getFirstElement(final T[] array)
+	public static int count(final long[] array, final long element)
 	{
-		if (array != null && array.length != 0)
-		{
-			return Optional.of(array[0]);
-		}
-		return Optional.empty();
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.count(array, element);
 	}
 
 	/**
-	 * Gets the index of the given element in the given array
+	 * Counts the occurrences of the given value in the given array of primitive float values, the
+	 * values are compared like {@link Float#equals(Object)}
 	 *
-	 * @param <T>
-	 *            the generic type
 	 * @param array
 	 *            the array
 	 * @param element
-	 *            the element
-	 * @return the int
+	 *            the value
+	 * @return the count of the occurrences of the given value
 	 */
-	public static <T> int getIndex(final T[] array, final T element)
+	public static int count(final float[] array, final float element)
 	{
-		return ArrayExtensions.indexOf(array, element);
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.count(array, element);
 	}
 
 	/**
-	 * Gets the last object from the given array
+	 * Counts the occurrences of the given value in the given array of primitive double values, the
+	 * values are compared like {@link Double#equals(Object)}
 	 *
-	 * @param <T>
-	 *            the generic type
 	 * @param array
 	 *            the array
-	 * @return Returns the last object from the given array or null if the array is empty or null
+	 * @param element
+	 *            the value
+	 * @return the count of the occurrences of the given value
 	 */
-	public static <T> T getLast(final T[] array)
+	public static int count(final double[] array, final double element)
 	{
-		return getLastElement(array).orElse(null);
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.count(array, element);
 	}
 
 	/**
-	 * Returns an {@link Optional} with the last object from the given array
+	 * Counts the occurrences of the given value in the given array of primitive byte values
 	 *
-	 * @param <T>
-	 *            the generic type of the elements in the array
 	 * @param array
 	 *            the array
-	 * @return an {@link Optional} with the last object from the given array or an empty
-	 *         {@link Optional} if the array is null or empty
+	 * @param element
+	 *            the value
+	 * @return the count of the occurrences of the given value
 	 */
-	public static <T> Optional<T> getLastElement(final T[] array)
+	public static int count(final byte[] array, final byte element)
 	{
-		if (array != null && array.length != 0)
-		{
-			return Optional.of(array[getLastIndex(array)]);
-		}
-		return Optional.empty();
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.count(array, element);
 	}
 
 	/**
-	 * Gets the last index from the given array.
+	 * Difference of the given two arrays. The elements of the smaller array are hashed, so the
+	 * costs are linear in the length of both arrays
 	 *
 	 * @param <T>
 	 *            the generic type
-	 * @param array
-	 *            the array
-	 * @return Returns the last index from the given array or -1 if the array is null
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements of the first array that are not contained in the other array in
+	 *         the order of their first occurrence
 	 */
-	public static <T> int getLastIndex(final T[] array)
+	public static <T> T[] difference(final T[] one, final T[] other)
 	{
-		if (array == null)
-		{
-			return -1;
-		}
-		return array.length - 1;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return ArraySetOperations.difference(one, other);
 	}
 
 	/**
-	 * Gets the last index from the given array
+	 * Difference of the given two arrays over a merge of the sorted arrays. Arrays that are already
+	 * sorted with the given comparator are not copied
 	 *
-	 * @param array
-	 *            the array
-	 * @return Returns the last index from the given array or -1 if the array is null
+	 * @param <T>
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @return the distinct elements of the first array that are not contained in the other array in
+	 *         sorted order
 	 */
-	public static int getLastIndex(final boolean[] array)
+	public static <T> T[] difference(final T[] one, final T[] other,
+		final Comparator<? super T> comparator)
 	{
-		if (array == null)
-		{
-			return -1;
-		}
-		return array.length - 1;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		Argument.notNull(comparator, "comparator");
+		return ArraySetOperations.merge(one, other, comparator, true, false, false);
 	}
 
 	/**
-	 * Gets the last index from the given array
+	 * Difference of the given two arrays of primitive int values without boxing the values
 	 *
-	 * @param array
-	 *            the array
-	 * @return Returns the last index from the given array or -1 if the array is null
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of the first array that are not contained in the other array in
+	 *         the order of their first occurrence
 	 */
-	public static int getLastIndex(final byte[] array)
+	public static int[] difference(final int[] one, final int[] other)
 	{
-		if (array == null)
-		{
-			return -1;
-		}
-		return array.length - 1;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.DIFFERENCE);
 	}
 
 	/**
-	 * Gets the last index from the given array
+	 * Difference of the given two arrays of primitive long values without boxing the values
 	 *
-	 * @param array
-	 *            the array
-	 * @return Returns the last index from the given array or -1 if the array is null
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of the first array that are not contained in the other array in
+	 *         the order of their first occurrence
 	 */
-	public static int getLastIndex(final char[] array)
+	public static long[] difference(final long[] one, final long[] other)
 	{
-		if (array == null)
-		{
-			return -1;
-		}
-		return array.length - 1;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.DIFFERENCE);
 	}
 
 	/**
-	 * Gets the last index from the given array
+	 * Difference of the given two arrays of primitive double values without boxing the values
 	 *
-	 * @param array
-	 *            the array
-	 * @return Returns the last index from the given array or -1 if the array is null
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of the first array that are not contained in the other array in
+	 *         the order of their first occurrence
 	 */
-	public static int getLastIndex(final float[] array)
+	public static double[] difference(final double[] one, final double[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.DIFFERENCE);
+	}
+
+	/**
+	 * Difference of the given two arrays of primitive byte values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of the first array that are not contained in the other array in
+	 *         the order of their first occurrence
+	 */
+	public static byte[] difference(final byte[] one, final byte[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.DIFFERENCE);
+	}
+
+	/**
+	 * Gets the first object from the given array
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the array
+	 * @param array
+	 *            the array
+	 * @return Returns the first object from the given array or null if the array is empty or null
+	 */
+	public static <T> T getFirst(final T[] array)
+	{
+		return getFirstElement(array).orElse(null);
+	}
+
+	/**
+	 * Returns an {@link Optional} with the first object from the given array
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the array
+	 * @param array
+	 *            the array
+	 * @return an {@link Optional} with the first object from the given array or an empty
+	 *         {@link Optional} if the array is null or empty
+	 */
+	public static <T> Optional<T> getFirstElement(final T[] array)
+	{
+		if (array != null && array.length != 0)
+		{
+			return Optional.of(array[0]);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the index of the given element in the given array
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the element
+	 * @return the int
+	 */
+	public static <T> int getIndex(final T[] array, final T element)
+	{
+		return ArrayExtensions.indexOf(array, element);
+	}
+
+	/**
+	 * Gets the last object from the given array
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param array
+	 *            the array
+	 * @return Returns the last object from the given array or null if the array is empty or null
+	 */
+	public static <T> T getLast(final T[] array)
+	{
+		return getLastElement(array).orElse(null);
+	}
+
+	/**
+	 * Returns an {@link Optional} with the last object from the given array
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the array
+	 * @param array
+	 *            the array
+	 * @return an {@link Optional} with the last object from the given array or an empty
+	 *         {@link Optional} if the array is null or empty
+	 */
+	public static <T> Optional<T> getLastElement(final T[] array)
+	{
+		if (array != null && array.length != 0)
+		{
+			return Optional.of(array[getLastIndex(array)]);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the last index from the given array.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param array
+	 *            the array
+	 * @return Returns the last index from the given array or -1 if the array is null
+	 */
+	public static <T> int getLastIndex(final T[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+		return array.length - 1;
+	}
+
+	/**
+	 * Gets the last index from the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @return Returns the last index from the given array or -1 if the array is null
+	 */
+	public static int getLastIndex(final boolean[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+		return array.length - 1;
+	}
+
+	/**
+	 * Gets the last index from the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @return Returns the last index from the given array or -1 if the array is null
+	 */
+	public static int getLastIndex(final byte[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+		return array.length - 1;
+	}
+
+	/**
+	 * Gets the last index from the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @return Returns the last index from the given array or -1 if the array is null
+	 */
+	public static int getLastIndex(final char[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+		return array.length - 1;
+	}
+
+	/**
+	 * Gets the last index from the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @return Returns the last index from the given array or -1 if the array is null
+	 */
+	public static int getLastIndex(final float[] array)
 	{
 		if (array == null)
 		{
@@ -658,279 +1045,1453 @@ public final class ArrayExtensions
 	}
 
 	/**
-	 * Intersection of the given two arrays
+	 * Gets the index of the given value in the given array of primitive int values
 	 *
-	 * @param <T>
-	 *            the generic type
-	 * @param one
-	 *            the first array
-	 * @param other
-	 *            the other array
-	 * @return the result of the intersection
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return the index of the first occurrence of the given value or -1 if the array does not
+	 *         contain the value
 	 */
-	public static <T> T[] intersection(final T[] one, final T[] other)
+	public static int indexOf(final int[] array, final int element)
 	{
-		Argument.notNull(one, "one");
-		Argument.notNull(other, "other");
-		T[] intersection = ArrayFactory.newEmptyArray(one);
-		int j = 0;
-		for (int i = 0; i < one.length; i++)
-		{
-			if (contains(other, one[i]))
-			{
-				intersection[j++] = one[i];
-			}
-		}
-		return ArrayFactory.newSubArray(intersection, 0, j);
+		return PrimitiveArrayScans.indexOf(array, element);
 	}
 
 	/**
-	 * Checks if the given element is the first in the given array
+	 * Gets the index of the given value in the given array of primitive long values
 	 *
-	 * @param <T>
-	 *            the generic type
 	 * @param array
 	 *            the array
 	 * @param element
-	 *            the element
-	 * @return true if the given element is the first otherwise false
+	 *            the value
+	 * @return the index of the first occurrence of the given value or -1 if the array does not
+	 *         contain the value
 	 */
-	public static <T> boolean isFirst(final T[] array, final T element)
+	public static int indexOf(final long[] array, final long element)
 	{
-		final int indexOfElement = Arrays.asList(array).indexOf(element);
-		return indexOfElement == 0;
+		return PrimitiveArrayScans.indexOf(array, element);
 	}
 
 	/**
-	 * Checks if the given element is the last in the given array
+	 * Gets the index of the given value in the given array of primitive double values, the values
+	 * are compared like {@link Double#equals(Object)}
 	 *
-	 * @param <T>
-	 *            the generic type
 	 * @param array
 	 *            the array
 	 * @param element
-	 *            the element
-	 * @return true if the given element is the last otherwise false
+	 *            the value
+	 * @return the index of the first occurrence of the given value or -1 if the array does not
+	 *         contain the value
 	 */
-	public static <T> boolean isLast(final T[] array, final T element)
+	public static int indexOf(final double[] array, final double element)
 	{
-		final int lastIndex = getLastIndex(array);
-		final int indexOfElement = Arrays.asList(array).indexOf(element);
-		return indexOfElement == lastIndex;
+		return PrimitiveArrayScans.indexOf(array, element);
 	}
 
 	/**
-	 * Joins two arrays of the same type into a single array.
-	 * <p>
-	 * This method combines the elements of the two input arrays {@code array1} and {@code array2}
-	 * into a new array. If either of the arrays is {@code null}, the other array is returned. If
-	 * both arrays are {@code null}, the result is {@code null}. The resulting array is of the same
-	 * component type as the first array, and it contains all elements from both input arrays.
-	 * </p>
+	 * Gets the index of the given value in the given array of primitive float values, the values
+	 * are compared like {@link Float#equals(Object)}
 	 *
-	 * @param <T>
-	 *            the component type of the arrays
-	 * @param array1
-	 *            the first array, may be {@code null}
-	 * @param array2
-	 *            the second array, may be {@code null}
-	 * @return a new array containing all elements of {@code array1} and {@code array2}, or one of
-	 *         the arrays if the other is {@code null}
-	 * @throws IllegalArgumentException
-	 *             if the component types of the two arrays are incompatible
-	 * @throws ArrayStoreException
-	 *             if an incompatible element is found when copying the arrays
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return the index of the first occurrence of the given value or -1 if the array does not
+	 *         contain the value
 	 */
-	@SafeVarargs
-	public static <T> T[] join(final T[] array1, final T... array2)
+	public static int indexOf(final float[] array, final float element)
 	{
-		if (array1 == null)
-		{
-			return array2;
-		}
-		if (array2 == null)
-		{
-			return array1;
-		}
-		final Class<?> type1 = array1.getClass().getComponentType();
-		final Class<?> type2 = array2.getClass().getComponentType();
-		if (!type1.isAssignableFrom(type2))
-		{
-			throw new IllegalArgumentException(
-				"Cannot store " + type2.getName() + " in an array of " + type1.getName());
-		}
-		@SuppressWarnings("unchecked") // OK, because array is of type T
-		final T[] joinedArray = (T[])Array.newInstance(type1, array1.length + array2.length);
-		System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-		System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-		return joinedArray;
+		return PrimitiveArrayScans.indexOf(array, element);
 	}
 
-
 	/**
-	 * Removes the first element of the array
+	 * Gets the index of the given value in the given array of primitive byte values
 	 *
-	 * @param <T>
-	 *            the generic type of the objects in the array
 	 * @param array
-	 *            the origin array
-	 * @param indexes
+	 *            the array
+	 * @param element
+	 *            the value
+	 * @return the index of the first occurrence of the given value or -1 if the array does not
+	 *         contain the value
+	 */
+	public static int indexOf(final byte[] array, final byte element)
+	{
+		return PrimitiveArrayScans.indexOf(array, element);
+	}
+
+	/**
+	 * Intersection of the given two arrays. The elements of the smaller array are hashed, so the
+	 * costs are linear in the length of both arrays
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the elements of the first array that are contained in the other array in the order
+	 *         of the first array
+	 */
+	public static <T> T[] intersection(final T[] one, final T[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return ArraySetOperations.intersection(one, other);
+	}
+
+	/**
+	 * Intersection of the given two arrays over a merge of the sorted arrays. Arrays that are
+	 * already sorted with the given comparator are not copied
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @return the elements of the first array that are contained in the other array in sorted
+	 *         order
+	 */
+	public static <T> T[] intersection(final T[] one, final T[] other,
+		final Comparator<? super T> comparator)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		Argument.notNull(comparator, "comparator");
+		return ArraySetOperations.mergeFilter(one, other, comparator, true);
+	}
+
+	/**
+	 * Intersection of the given two arrays of primitive int values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the values of the first array that are contained in the other array in the order of
+	 *         the first array
+	 */
+	public static int[] intersection(final int[] one, final int[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.filter(one, other, true);
+	}
+
+	/**
+	 * Intersection of the given two arrays of primitive long values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the values of the first array that are contained in the other array in the order of
+	 *         the first array
+	 */
+	public static long[] intersection(final long[] one, final long[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.filter(one, other, true);
+	}
+
+	/**
+	 * Intersection of the given two arrays of primitive double values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the values of the first array that are contained in the other array in the order of
+	 *         the first array
+	 */
+	public static double[] intersection(final double[] one, final double[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.filter(one, other, true);
+	}
+
+	/**
+	 * Intersection of the given two arrays of primitive byte values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the values of the first array that are contained in the other array in the order of
+	 *         the first array
+	 */
+	public static byte[] intersection(final byte[] one, final byte[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.filter(one, other, true);
+	}
+
+	/**
+	 * Checks if the given two arrays of primitive int values contain the same values in the same
+	 * order. The arrays are compared with {@link Arrays#equals(int[], int[])} that the just in time
+	 * compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return true if both arrays are null or contain the same values otherwise false
+	 */
+	public static boolean isEqual(final int[] one, final int[] other)
+	{
+		return Arrays.equals(one, other);
+	}
+
+	/**
+	 * Checks if the given two arrays of primitive long values contain the same values in the same
+	 * order. The arrays are compared with {@link Arrays#equals(long[], long[])} that the just in
+	 * time compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return true if both arrays are null or contain the same values otherwise false
+	 */
+	public static boolean isEqual(final long[] one, final long[] other)
+	{
+		return Arrays.equals(one, other);
+	}
+
+	/**
+	 * Checks if the given two arrays of primitive float values contain the same values in the same
+	 * order. The arrays are compared with {@link Arrays#equals(float[], float[])} that the just in
+	 * time compiler replaces with a vectorized comparison. Floating point values are compared like
+	 * their wrapper objects
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return true if both arrays are null or contain the same values otherwise false
+	 */
+	public static boolean isEqual(final float[] one, final float[] other)
+	{
+		return Arrays.equals(one, other);
+	}
+
+	/**
+	 * Checks if the given two arrays of primitive double values contain the same values in the same
+	 * order. The arrays are compared with {@link Arrays#equals(double[], double[])} that the just
+	 * in time compiler replaces with a vectorized comparison. Floating point values are compared
+	 * like their wrapper objects
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return true if both arrays are null or contain the same values otherwise false
+	 */
+	public static boolean isEqual(final double[] one, final double[] other)
+	{
+		return Arrays.equals(one, other);
+	}
+
+	/**
+	 * Checks if the given two arrays of primitive byte values contain the same values in the same
+	 * order. The arrays are compared with {@link Arrays#equals(byte[], byte[])} that the just in
+	 * time compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return true if both arrays are null or contain the same values otherwise false
+	 */
+	public static boolean isEqual(final byte[] one, final byte[] other)
+	{
+		return Arrays.equals(one, other);
+	}
+
+	/**
+	 * Checks if the given element is the first in the given array
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the element
+	 * @return true if the given element is the first otherwise false
+	 */
+	public static <T> boolean isFirst(final T[] array, final T element)
+	{
+		final int indexOfElement = Arrays.asList(array).indexOf(element);
+		return indexOfElement == 0;
+	}
+
+	/**
+	 * Checks if the given element is the last in the given array
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param array
+	 *            the array
+	 * @param element
+	 *            the element
+	 * @return true if the given element is the last otherwise false
+	 */
+	public static <T> boolean isLast(final T[] array, final T element)
+	{
+		final int lastIndex = getLastIndex(array);
+		final int indexOfElement = Arrays.asList(array).indexOf(element);
+		return indexOfElement == lastIndex;
+	}
+
+	/**
+	 * Joins two arrays of the same type into a single array.
+	 * <p>
+	 * This method combines the elements of the two input arrays {@code array1} and {@code array2}
+	 * into a new array. If either of the arrays is {@code null}, the other array is returned. If
+	 * both arrays are {@code null}, the result is {@code null}. The resulting array is of the same
+	 * component type as the first array, and it contains all elements from both input arrays.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the component type of the arrays
+	 * @param array1
+	 *            the first array, may be {@code null}
+	 * @param array2
+	 *            the second array, may be {@code null}
+	 * @return a new array containing all elements of {@code array1} and {@code array2}, or one of
+	 *         the arrays if the other is {@code null}
+	 * @throws IllegalArgumentException
+	 *             if the component types of the two arrays are incompatible
+	 * @throws ArrayStoreException
+	 *             if an incompatible element is found when copying the arrays
+	 */
+	@SafeVarargs
+	public static <T> T[] join(final T[] array1, final T... array2)
+	{
+		if (array1 == null)
+		{
+			return array2;
+		}
+		if (array2 == null)
+		{
+			return array1;
+		}
+		final Class<?> type1 = array1.getClass().getComponentType();
+		final Class<?> type2 = array2.getClass().getComponentType();
+		if (!type1.isAssignableFrom(type2))
+		{
+			throw new IllegalArgumentException(
+				"Cannot store " + type2.getName() + " in an array of " + type1.getName());
+		}
+		@SuppressWarnings("unchecked") // OK, because array is of type T
+		final T[] joinedArray = (T[])Array.newInstance(type1, array1.length + array2.length);
+		System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+		System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+		return joinedArray;
+	}
+
+	/**
+	 * Gets the largest value of the given array of primitive int values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static int max(final int[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.max(array);
+	}
+
+	/**
+	 * Gets the smallest value of the given array of primitive int values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static int min(final int[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.min(array);
+	}
+
+	/**
+	 * Gets the largest value of the given array of primitive long values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static long max(final long[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.max(array);
+	}
+
+	/**
+	 * Gets the smallest value of the given array of primitive long values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static long min(final long[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.min(array);
+	}
+
+	/**
+	 * Gets the largest value of the given array of primitive float values. If the array contains
+	 * NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static float max(final float[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.max(array);
+	}
+
+	/**
+	 * Gets the smallest value of the given array of primitive float values. If the array contains
+	 * NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static float min(final float[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.min(array);
+	}
+
+	/**
+	 * Gets the largest value of the given array of primitive double values. If the array contains
+	 * NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static double max(final double[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.max(array);
+	}
+
+	/**
+	 * Gets the smallest value of the given array of primitive double values. If the array contains
+	 * NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static double min(final double[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.min(array);
+	}
+
+	/**
+	 * Gets the largest value of the given array of primitive byte values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static byte max(final byte[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.max(array);
+	}
+
+	/**
+	 * Gets the smallest value of the given array of primitive byte values.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	public static byte min(final byte[] array)
+	{
+		Argument.notNull(array, "array");
+		return PrimitiveArrayScans.min(array);
+	}
+
+	/**
+	 * Finds the index of the first mismatch of the given two arrays of primitive int values. The
+	 * arrays are compared with {@link Arrays#mismatch(int[], int[])} that the just in time
+	 * compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the index of the first mismatch, the length of the shorter array if it is a prefix of
+	 *         the other array, or -1 if there is no mismatch
+	 */
+	public static int mismatch(final int[] one, final int[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return Arrays.mismatch(one, other);
+	}
+
+	/**
+	 * Finds the index of the first mismatch of the given two arrays of primitive long values. The
+	 * arrays are compared with {@link Arrays#mismatch(long[], long[])} that the just in time
+	 * compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the index of the first mismatch, the length of the shorter array if it is a prefix of
+	 *         the other array, or -1 if there is no mismatch
+	 */
+	public static int mismatch(final long[] one, final long[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return Arrays.mismatch(one, other);
+	}
+
+	/**
+	 * Finds the index of the first mismatch of the given two arrays of primitive float values. The
+	 * arrays are compared with {@link Arrays#mismatch(float[], float[])} that the just in time
+	 * compiler replaces with a vectorized comparison. Floating point
+	 * values are compared like their wrapper objects
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the index of the first mismatch, the length of the shorter array if it is a prefix of
+	 *         the other array, or -1 if there is no mismatch
+	 */
+	public static int mismatch(final float[] one, final float[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return Arrays.mismatch(one, other);
+	}
+
+	/**
+	 * Finds the index of the first mismatch of the given two arrays of primitive double values. The
+	 * arrays are compared with {@link Arrays#mismatch(double[], double[])} that the just in time
+	 * compiler replaces with a vectorized comparison. Floating point
+	 * values are compared like their wrapper objects
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the index of the first mismatch, the length of the shorter array if it is a prefix of
+	 *         the other array, or -1 if there is no mismatch
+	 */
+	public static int mismatch(final double[] one, final double[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return Arrays.mismatch(one, other);
+	}
+
+	/**
+	 * Finds the index of the first mismatch of the given two arrays of primitive byte values. The
+	 * arrays are compared with {@link Arrays#mismatch(byte[], byte[])} that the just in time
+	 * compiler replaces with a vectorized comparison.
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the index of the first mismatch, the length of the shorter array if it is a prefix of
+	 *         the other array, or -1 if there is no mismatch
+	 */
+	public static int mismatch(final byte[] one, final byte[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return Arrays.mismatch(one, other);
+	}
+
+
+	/**
+	 * Removes the elements at the given indexes of the array
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param array
+	 *            the origin array
+	 * @param indexes
+	 *            the indexes to remove, duplicates are removed only once
+	 * @return the new created array without the elements from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static <T> T[] remove(final T[] array, int... indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		return remove(array, toBitSet(indexes, array.length));
+	}
+
+	/**
+	 * Removes the elements at the indexes of the set bits of the given {@link BitSet} of the array.
+	 * The remaining elements are copied in blocks to the new array in one pass
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param array
+	 *            the origin array
+	 * @param indexes
 	 *            the indexes to remove
-	 * @return the new created array with the elements from the given indexes
+	 * @return the new created array without the elements from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static <T> T[] remove(final T[] array, final BitSet indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		@SuppressWarnings("unchecked") // OK, because array is of type T
+		final T[] remaining = (T[])removeIndexes(array, array.length, indexes);
+		return remaining;
+	}
+
+	/**
+	 * Removes the values at the given indexes of the given array of primitive int values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param indexes
+	 *            the indexes to remove, duplicates are removed only once
+	 * @return the new created array without the values from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static int[] remove(final int[] array, final int... indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		return (int[])removeIndexes(array, array.length, toBitSet(indexes, array.length));
+	}
+
+	/**
+	 * Removes the values at the given indexes of the given array of primitive long values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param indexes
+	 *            the indexes to remove, duplicates are removed only once
+	 * @return the new created array without the values from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static long[] remove(final long[] array, final int... indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		return (long[])removeIndexes(array, array.length, toBitSet(indexes, array.length));
+	}
+
+	/**
+	 * Removes the values at the given indexes of the given array of primitive double values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param indexes
+	 *            the indexes to remove, duplicates are removed only once
+	 * @return the new created array without the values from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static double[] remove(final double[] array, final int... indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		return (double[])removeIndexes(array, array.length, toBitSet(indexes, array.length));
+	}
+
+	/**
+	 * Removes the values at the given indexes of the given array of primitive byte values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param indexes
+	 *            the indexes to remove, duplicates are removed only once
+	 * @return the new created array without the values from the given indexes
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	public static byte[] remove(final byte[] array, final int... indexes)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(indexes, "indexes");
+		return (byte[])removeIndexes(array, array.length, toBitSet(indexes, array.length));
+	}
+
+	/**
+	 * Creates a {@link BitSet} with the given indexes
+	 *
+	 * @param indexes
+	 *            the indexes
+	 * @param length
+	 *            the length of the array
+	 * @return the new {@link BitSet}
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	private static BitSet toBitSet(final int[] indexes, final int length)
+	{
+		final BitSet bitSet = new BitSet(length);
+		for (final int index : indexes)
+		{
+			if (index < 0 || length <= index)
+			{
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+			}
+			bitSet.set(index);
+		}
+		return bitSet;
+	}
+
+	/**
+	 * Removes the elements at the indexes of the set bits of the given {@link BitSet} of the given
+	 * array of objects or primitive values. The remaining elements are copied in blocks to the new
+	 * array in one pass
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param length
+	 *            the length of the origin array
+	 * @param indexes
+	 *            the indexes to remove
+	 * @return the new created array with the same component type
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the array
+	 */
+	private static Object removeIndexes(final Object array, final int length,
+		final BitSet indexes)
+	{
+		if (length < indexes.length())
+		{
+			throw new IndexOutOfBoundsException(
+				"Index: " + (indexes.length() - 1) + ", Size: " + length);
+		}
+		final Object remaining = Array.newInstance(array.getClass().getComponentType(),
+			length - indexes.cardinality());
+		int from = 0;
+		int to = 0;
+		for (int index = indexes.nextSetBit(0); 0 <= index; index = indexes.nextSetBit(index + 1))
+		{
+			System.arraycopy(array, from, remaining, to, index - from);
+			to += index - from;
+			from = index + 1;
+		}
+		System.arraycopy(array, from, remaining, to, length - from);
+		return remaining;
+	}
+
+	/**
+	 * Removes all elements of the given array to remove from the given array. The elements of the
+	 * smaller array are hashed, so the costs are linear in the length of both arrays
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @return the new created array with the elements
+	 */
+	public static <T> T[] removeAll(final T[] array, final T[] arrayToRemove)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		return ArraySetOperations.removeAll(array, arrayToRemove);
+	}
+
+	/**
+	 * Removes all elements of the given array to remove from the given array over a merge of the
+	 * sorted arrays. Arrays that are already sorted with the given comparator are not copied
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @return the new created array with the remaining elements in sorted order
+	 */
+	public static <T> T[] removeAll(final T[] array, final T[] arrayToRemove,
+		final Comparator<? super T> comparator)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		Argument.notNull(comparator, "comparator");
+		return ArraySetOperations.mergeFilter(array, arrayToRemove, comparator, false);
+	}
+
+	/**
+	 * Removes all values of the given array to remove from the given array of primitive int
+	 * values without boxing the values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @return the new created array with the remaining values in the order of the origin array
+	 */
+	public static int[] removeAll(final int[] array, final int[] arrayToRemove)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		return PrimitiveArraySetOperations.filter(array, arrayToRemove, false);
+	}
+
+	/**
+	 * Removes all values of the given array to remove from the given array of primitive long
+	 * values without boxing the values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @return the new created array with the remaining values in the order of the origin array
+	 */
+	public static long[] removeAll(final long[] array, final long[] arrayToRemove)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		return PrimitiveArraySetOperations.filter(array, arrayToRemove, false);
+	}
+
+	/**
+	 * Removes all values of the given array to remove from the given array of primitive double
+	 * values without boxing the values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @return the new created array with the remaining values in the order of the origin array
+	 */
+	public static double[] removeAll(final double[] array, final double[] arrayToRemove)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		return PrimitiveArraySetOperations.filter(array, arrayToRemove, false);
+	}
+
+	/**
+	 * Removes all values of the given array to remove from the given array of primitive byte
+	 * values without boxing the values
+	 *
+	 * @param array
+	 *            the origin array
+	 * @param arrayToRemove
+	 *            the array to remove
+	 * @return the new created array with the remaining values in the order of the origin array
+	 */
+	public static byte[] removeAll(final byte[] array, final byte[] arrayToRemove)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(arrayToRemove, "arrayToRemove");
+		return PrimitiveArraySetOperations.filter(array, arrayToRemove, false);
+	}
+
+	/**
+	 * Creates a new array cloned from the given array with the difference that the first element is
+	 * removed
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param original
+	 *            the origin array
+	 * @return the new created array without the first element
+	 */
+	public static <T> T[] removeFirst(final T[] original)
+	{
+		Argument.notNull(original, "original");
+		return remove(original, 0);
+	}
+
+	/**
+	 * Removes the given suffix array from the first given array
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the arrays
+	 *
+	 * @param array
+	 *            the array
+	 * @param suffix
+	 *            the suffix
+	 * @return the resulted array
+	 */
+	public static <T> T[] removeFromEnd(final T[] array, T[] suffix)
+	{
+		return Arrays.copyOf(array, array.length - suffix.length);
+	}
+
+	/**
+	 * Removes the given prefix array from the first given array
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the arrays
+	 *
+	 * @param array
+	 *            the array
+	 * @param prefix
+	 *            the prefix
+	 * @return the resulted array
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T[] removeFromStart(final T[] array, final T[] prefix)
+	{
+		Argument.notNull(array, "array");
+		Argument.notNull(prefix, "prefix");
+		if (0 < array.length)
+		{
+			T[] result = (T[])ArrayFactory.newArray(array[0].getClass(),
+				array.length - prefix.length);
+			System.arraycopy(array, prefix.length, result, 0, result.length);
+			return result;
+		}
+		return array;
+	}
+
+	/**
+	 * Removes the first element of the array
+	 *
+	 * @param <T>
+	 *            the generic type of the objects in the array
+	 * @param original
+	 *            the origin array
+	 * @return the new created array without the first element
+	 */
+	public static <T> T[] removeLast(final T[] original)
+	{
+		Argument.notNull(original, "original");
+		return Arrays.copyOf(original, original.length - 1);
+	}
+
+	/**
+	 * Split the given byte array in to new arrays with the chunk size
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param chunkSize
+	 *            the chunk size
+	 * @return the byte[][]
+	 */
+	public static byte[][] splitInChunks(final byte[] bytes, final int chunkSize)
+	{
+		final int size = ((bytes.length - 1) / chunkSize) + 1;
+		final byte[][] dataChunks = new byte[size][];
+		int to = bytes.length;
+		int count = size - 1;
+		int from = count * chunkSize;
+		while (-1 < count)
+		{
+			dataChunks[count] = Arrays.copyOfRange(bytes, from, to);
+			to = from;
+			from = to - chunkSize;
+			count--;
+		}
+		return dataChunks;
+	}
+
+	/**
+	 * Slices the given byte array in read only buffers with the chunk size, only the last chunk can
+	 * be smaller. In difference to the method {@link #splitInChunks(byte[], int)} no byte is
+	 * copied, every chunk is a view of the given array
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param chunkSize
+	 *            the chunk size
+	 * @return the read only chunks, an empty array if the given array is empty
+	 * @throws IllegalArgumentException
+	 *             if the given chunk size is not positive
+	 */
+	public static ByteBuffer[] sliceInChunks(final byte[] bytes, final int chunkSize)
+	{
+		Argument.notNull(bytes, "bytes");
+		return sliceInChunks(ByteBuffer.wrap(bytes), chunkSize);
+	}
+
+	/**
+	 * Slices the remaining bytes of the given buffer in read only buffers with the chunk size, only
+	 * the last chunk can be smaller. No byte is copied, every chunk is a view of the given buffer,
+	 * so a memory mapped buffer can be split without loading it on the heap. The position of the
+	 * given buffer is not changed
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param chunkSize
+	 *            the chunk size
+	 * @return the read only chunks, an empty array if the given buffer has no remaining bytes
+	 * @throws IllegalArgumentException
+	 *             if the given chunk size is not positive
+	 */
+	public static ByteBuffer[] sliceInChunks(final ByteBuffer buffer, final int chunkSize)
+	{
+		Argument.notNull(buffer, "buffer");
+		if (chunkSize < 1)
+		{
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		final int remaining = buffer.remaining();
+		final int count = (int)(((long)remaining + chunkSize - 1) / chunkSize);
+		final ByteBuffer[] chunks = new ByteBuffer[count];
+		final ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+		for (int i = 0; i < chunks.length; i++)
+		{
+			final int offset = i * chunkSize;
+			chunks[i] = readOnly.slice(buffer.position() + offset,
+				Math.min(chunkSize, remaining - offset));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Reads the bytes of the given channel in chunks with the capacity of the buffers of the given
+	 * pool and passes every chunk to the given action, only the last chunk can be smaller. Every
+	 * chunk is released to the pool after the action returned, so all chunks are read into the same
+	 * buffer and the action must not keep a reference to a chunk. The channel is not closed
+	 *
+	 * @param channel
+	 *            the channel to read from
+	 * @param pool
+	 *            the pool of the buffers for the chunks
+	 * @param action
+	 *            the action for every chunk
+	 * @throws UncheckedIOException
+	 *             if the channel can not be read
+	 * @see ChannelChunkIterator
+	 */
+	public static void forEachChunk(final ReadableByteChannel channel, final ByteBufferPool pool,
+		final Consumer<? super ByteBuffer> action)
+	{
+		Argument.notNull(channel, "channel");
+		Argument.notNull(pool, "pool");
+		Argument.notNull(action, "action");
+		try (ChannelChunkIterator iterator = new ChannelChunkIterator(channel, pool))
+		{
+			iterator.forEachRemaining(action);
+		}
+	}
+
+	/**
+	 * Streams the bytes of the given channel in chunks with the capacity of the buffers of the
+	 * given pool, only the last chunk can be smaller. The chunks are read on demand and every chunk
+	 * is a buffer of its own that the consumer must release to the pool with the method
+	 * {@link ByteBufferPool#release(ByteBuffer)} after it is processed. So the chunks can be
+	 * collected or processed in parallel, but a bounded pool blocks the stream until enough chunks
+	 * are released. For sequential processing in one buffer use the method
+	 * {@link #forEachChunk(ReadableByteChannel, ByteBufferPool, Consumer)}. Closing the stream
+	 * releases the chunk that is read ahead, the channel is not closed
+	 *
+	 * @param channel
+	 *            the channel to read from
+	 * @param pool
+	 *            the pool of the buffers for the chunks
+	 * @return the stream of the chunks
+	 * @see ChannelChunkIterator
+	 */
+	public static Stream<ByteBuffer> streamChunks(final ReadableByteChannel channel,
+		final ByteBufferPool pool)
+	{
+		Argument.notNull(channel, "channel");
+		Argument.notNull(pool, "pool");
+		final ChannelChunkIterator iterator = new ChannelChunkIterator(channel, pool, false);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::close);
+	}
+
+	/**
+	 * Streams the bytes of the given file channel in memory mapped read only chunks with the chunk
+	 * size, only the last chunk can be smaller. Every chunk is mapped on demand, so files of any
+	 * size are streamed without loading them on the heap. The chunks cover the size of the channel
+	 * at the time of this call
+	 *
+	 * @param channel
+	 *            the file channel to map
+	 * @param chunkSize
+	 *            the chunk size
+	 * @return the stream of the mapped chunks
+	 * @throws IOException
+	 *             if the size of the channel can not be read
+	 * @throws IllegalArgumentException
+	 *             if the given chunk size is not positive
+	 */
+	public static Stream<ByteBuffer> streamMappedChunks(final FileChannel channel,
+		final int chunkSize) throws IOException
+	{
+		Argument.notNull(channel, "channel");
+		if (chunkSize < 1)
+		{
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		final long size = channel.size();
+		return LongStream.range(0, (size + chunkSize - 1) / chunkSize).mapToObj(index -> {
+			final long position = index * chunkSize;
+			try
+			{
+				return channel.map(FileChannel.MapMode.READ_ONLY, position,
+					Math.min(chunkSize, size - position));
+			}
+			catch (final IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfInt} over all values of the given
+	 * array that returns the values without boxing them
+	 *
+	 * @param array
+	 *            the array
+	 * @return the new iterator
+	 */
+	public static PrimitiveIterator.OfInt iterator(final int[] array)
+	{
+		return iterator(array, 0, array.length);
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfInt} over the given range of the
+	 * given array that returns the values without boxing them. A parallel stream over a range is
+	 * created with the method {@link Arrays#stream(int[], int, int)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param fromIndex
+	 *            the index of the first value, inclusive
+	 * @param toIndex
+	 *            the index after the last value, exclusive
+	 * @return the new iterator
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is out of the bounds of the given array
+	 */
+	public static PrimitiveIterator.OfInt iterator(final int[] array, final int fromIndex,
+		final int toIndex)
+	{
+		return Spliterators.iterator(Arrays.spliterator(array, fromIndex, toIndex));
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfLong} over all values of the given
+	 * array that returns the values without boxing them
+	 *
+	 * @param array
+	 *            the array
+	 * @return the new iterator
+	 */
+	public static PrimitiveIterator.OfLong iterator(final long[] array)
+	{
+		return iterator(array, 0, array.length);
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfLong} over the given range of the
+	 * given array that returns the values without boxing them. A parallel stream over a range is
+	 * created with the method {@link Arrays#stream(long[], int, int)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param fromIndex
+	 *            the index of the first value, inclusive
+	 * @param toIndex
+	 *            the index after the last value, exclusive
+	 * @return the new iterator
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is out of the bounds of the given array
+	 */
+	public static PrimitiveIterator.OfLong iterator(final long[] array, final int fromIndex,
+		final int toIndex)
+	{
+		return Spliterators.iterator(Arrays.spliterator(array, fromIndex, toIndex));
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfDouble} over all values of the given
+	 * array that returns the values without boxing them
+	 *
+	 * @param array
+	 *            the array
+	 * @return the new iterator
+	 */
+	public static PrimitiveIterator.OfDouble iterator(final double[] array)
+	{
+		return iterator(array, 0, array.length);
+	}
+
+	/**
+	 * Factory method for create a {@link PrimitiveIterator.OfDouble} over the given range of the
+	 * given array that returns the values without boxing them. A parallel stream over a range is
+	 * created with the method {@link Arrays#stream(double[], int, int)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param fromIndex
+	 *            the index of the first value, inclusive
+	 * @param toIndex
+	 *            the index after the last value, exclusive
+	 * @return the new iterator
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is out of the bounds of the given array
+	 */
+	public static PrimitiveIterator.OfDouble iterator(final double[] array, final int fromIndex,
+		final int toIndex)
+	{
+		return Spliterators.iterator(Arrays.spliterator(array, fromIndex, toIndex));
+	}
+
+	/**
+	 * Decorates the <code>Arrays#copyOfRange</code> method.
+	 * 
+	 * @see Arrays#copyOfRange(Object[], int, int)
+	 * @param <T>
+	 *            the type of elements in the array
+	 * @param original
+	 *            the original array
+	 * @param start
+	 *            the start index
+	 * @param end
+	 *            the end index
+	 * @return a new array from the specified start and end point
 	 */
-	public static <T> T[] remove(final T[] array, int... indexes)
+	public static <T> T[] subArray(T[] original, int start, int end)
 	{
-		Argument.notNull(array, "array");
-		List<T> list = ListFactory.newArrayList(array);
-		final int lastIndex = indexes.length - 1;
-		Arrays.sort(indexes);
-		for (int i = lastIndex; -1 < i; i--)
-		{
-			int index = indexes[i];
-			list.remove(index);
-		}
-		return list.toArray(Arrays.copyOf(array, list.size()));
+		return Arrays.copyOfRange(original, start, end);
 	}
 
 	/**
-	 * Removes the first element of the array
+	 * Creates a new array of primitive int values from the specified start and end point of the
+	 * given array
 	 *
-	 * @param <T>
-	 *            the generic type of the objects in the array
-	 * @param array
-	 *            the origin array
-	 * @param arrayToRemove
-	 *            the array to remove
-	 * @return the new created array with the elements
+	 * @param original
+	 *            the original array
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return a new array from the specified start and end point
 	 */
-	public static <T> T[] removeAll(final T[] array, final T[] arrayToRemove)
+	public static int[] subArray(final int[] original, final int start, final int end)
 	{
-		Argument.notNull(array, "array");
-		Argument.notNull(arrayToRemove, "arrayToRemove");
-		List<T> list = ListFactory.newArrayList(array);
-		List<T> listToRemove = ListFactory.newArrayList(arrayToRemove);
-		list.removeAll(listToRemove);
-		return list.toArray(Arrays.copyOf(array, list.size()));
+		return Arrays.copyOfRange(original, start, end);
 	}
 
 	/**
-	 * Creates a new array cloned from the given array with the difference that the first element is
-	 * removed
+	 * Creates a new array of primitive long values from the specified start and end point of the
+	 * given array
 	 *
-	 * @param <T>
-	 *            the generic type of the objects in the array
 	 * @param original
-	 *            the origin array
-	 * @return the new created array without the first element
+	 *            the original array
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return a new array from the specified start and end point
 	 */
-	public static <T> T[] removeFirst(final T[] original)
+	public static long[] subArray(final long[] original, final int start, final int end)
 	{
-		Argument.notNull(original, "original");
-		return remove(original, 0);
+		return Arrays.copyOfRange(original, start, end);
 	}
 
 	/**
-	 * Removes the given suffix array from the first given array
+	 * Creates a new array of primitive double values from the specified start and end point of the
+	 * given array
 	 *
-	 * @param <T>
-	 *            the generic type of the objects in the arrays
+	 * @param original
+	 *            the original array
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return a new array from the specified start and end point
+	 */
+	public static double[] subArray(final double[] original, final int start, final int end)
+	{
+		return Arrays.copyOfRange(original, start, end);
+	}
+
+	/**
+	 * Creates a new array of primitive byte values from the specified start and end point of the
+	 * given array
 	 *
-	 * @param array
-	 *            the array
-	 * @param suffix
-	 *            the suffix
-	 * @return the resulted array
+	 * @param original
+	 *            the original array
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return a new array from the specified start and end point
 	 */
-	public static <T> T[] removeFromEnd(final T[] array, T[] suffix)
+	public static byte[] subArray(final byte[] original, final int start, final int end)
 	{
-		return Arrays.copyOf(array, array.length - suffix.length);
+		return Arrays.copyOfRange(original, start, end);
 	}
 
 	/**
-	 * Removes the given prefix array from the first given array
+	 * Symmetric difference of the given two arrays. The elements of both arrays are hashed, so the
+	 * costs are linear in the length of both arrays
 	 *
 	 * @param <T>
-	 *            the generic type of the objects in the arrays
-	 *
-	 * @param array
-	 *            the array
-	 * @param prefix
-	 *            the prefix
-	 * @return the resulted array
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements that are contained in only one of the arrays, first the
+	 *         elements of the first array and then the elements of the other array
 	 */
-	@SuppressWarnings("unchecked")
-	public static <T> T[] removeFromStart(final T[] array, final T[] prefix)
+	public static <T> T[] symmetricDifference(final T[] one, final T[] other)
 	{
-		Argument.notNull(array, "array");
-		Argument.notNull(prefix, "prefix");
-		if (0 < array.length)
-		{
-			T[] result = (T[])ArrayFactory.newArray(array[0].getClass(),
-				array.length - prefix.length);
-			System.arraycopy(array, prefix.length, result, 0, result.length);
-			return result;
-		}
-		return array;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return ArraySetOperations.symmetricDifference(one, other);
 	}
 
 	/**
-	 * Removes the first element of the array
+	 * Symmetric difference of the given two arrays over a merge of the sorted arrays. Arrays that
+	 * are already sorted with the given comparator are not copied
 	 *
 	 * @param <T>
-	 *            the generic type of the objects in the array
-	 * @param original
-	 *            the origin array
-	 * @return the new created array without the first element
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @return the distinct elements that are contained in only one of the arrays in sorted order
 	 */
-	public static <T> T[] removeLast(final T[] original)
+	public static <T> T[] symmetricDifference(final T[] one, final T[] other,
+		final Comparator<? super T> comparator)
 	{
-		Argument.notNull(original, "original");
-		return Arrays.copyOf(original, original.length - 1);
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		Argument.notNull(comparator, "comparator");
+		return ArraySetOperations.merge(one, other, comparator, true, false, true);
 	}
 
 	/**
-	 * Split the given byte array in to new arrays with the chunk size
+	 * Symmetric difference of the given two arrays of primitive int values without boxing the
+	 * values
 	 *
-	 * @param bytes
-	 *            the bytes
-	 * @param chunkSize
-	 *            the chunk size
-	 * @return the byte[][]
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values that are contained in only one of the arrays, first the values
+	 *         of the first array and then the values of the other array
 	 */
-	public static byte[][] splitInChunks(final byte[] bytes, final int chunkSize)
+	public static int[] symmetricDifference(final int[] one, final int[] other)
 	{
-		final int size = ((bytes.length - 1) / chunkSize) + 1;
-		final byte[][] dataChunks = new byte[size][];
-		int to = bytes.length;
-		int count = size - 1;
-		int from = count * chunkSize;
-		while (-1 < count)
-		{
-			dataChunks[count] = Arrays.copyOfRange(bytes, from, to);
-			to = from;
-			from = to - chunkSize;
-			count--;
-		}
-		return dataChunks;
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.SYMMETRIC_DIFFERENCE);
 	}
 
 	/**
-	 * Decorates the <code>Arrays#copyOfRange</code> method.
-	 * 
-	 * @see Arrays#copyOfRange(Object[], int, int)
-	 * @param <T>
-	 *            the type of elements in the array
-	 * @param original
-	 *            the original array
-	 * @param start
-	 *            the start index
-	 * @param end
-	 *            the end index
-	 * @return a new array from the specified start and end point
+	 * Symmetric difference of the given two arrays of primitive long values without boxing the
+	 * values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values that are contained in only one of the arrays, first the values
+	 *         of the first array and then the values of the other array
 	 */
-	public static <T> T[] subArray(T[] original, int start, int end)
+	public static long[] symmetricDifference(final long[] one, final long[] other)
 	{
-		return Arrays.copyOfRange(original, start, end);
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.SYMMETRIC_DIFFERENCE);
+	}
+
+	/**
+	 * Symmetric difference of the given two arrays of primitive double values without boxing the
+	 * values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values that are contained in only one of the arrays, first the values
+	 *         of the first array and then the values of the other array
+	 */
+	public static double[] symmetricDifference(final double[] one, final double[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.SYMMETRIC_DIFFERENCE);
+	}
+
+	/**
+	 * Symmetric difference of the given two arrays of primitive byte values without boxing the
+	 * values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values that are contained in only one of the arrays, first the values
+	 *         of the first array and then the values of the other array
+	 */
+	public static byte[] symmetricDifference(final byte[] one, final byte[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other,
+			PrimitiveArraySetOperations.SYMMETRIC_DIFFERENCE);
 	}
 
 	/**
@@ -1006,4 +2567,111 @@ public final class ArrayExtensions
 			.toArray(Object[][]::new);
 	}
 
+
+	/**
+	 * Union of the given two arrays. The elements of both arrays are hashed, so the costs are
+	 * linear in the length of both arrays
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements of both arrays in the order of their first occurrence
+	 */
+	public static <T> T[] union(final T[] one, final T[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return ArraySetOperations.union(one, other);
+	}
+
+	/**
+	 * Union of the given two arrays over a merge of the sorted arrays. Arrays that are already
+	 * sorted with the given comparator are not copied
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @return the distinct elements of both arrays in sorted order
+	 */
+	public static <T> T[] union(final T[] one, final T[] other,
+		final Comparator<? super T> comparator)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		Argument.notNull(comparator, "comparator");
+		return ArraySetOperations.merge(one, other, comparator, true, true, true);
+	}
+
+	/**
+	 * Union of the given two arrays of primitive int values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of both arrays in the order of their first occurrence
+	 */
+	public static int[] union(final int[] one, final int[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other, PrimitiveArraySetOperations.UNION);
+	}
+
+	/**
+	 * Union of the given two arrays of primitive long values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of both arrays in the order of their first occurrence
+	 */
+	public static long[] union(final long[] one, final long[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other, PrimitiveArraySetOperations.UNION);
+	}
+
+	/**
+	 * Union of the given two arrays of primitive double values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of both arrays in the order of their first occurrence
+	 */
+	public static double[] union(final double[] one, final double[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other, PrimitiveArraySetOperations.UNION);
+	}
+
+	/**
+	 * Union of the given two arrays of primitive byte values without boxing the values
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct values of both arrays in the order of their first occurrence
+	 */
+	public static byte[] union(final byte[] one, final byte[] other)
+	{
+		Argument.notNull(one, "one");
+		Argument.notNull(other, "other");
+		return PrimitiveArraySetOperations.select(one, other, PrimitiveArraySetOperations.UNION);
+	}
+
 }
@@ -238,6 +238,32 @@ public final class ArrayFactory
 		return elements;
 	}
 
+	/**
+	 * Creates a new array of primitive int values with the given range that is defined through
+	 * start and end without boxing the values. For instance if the start is 5 and the end is 9 the
+	 * resulted array will be [5,6,7,8,9]
+	 *
+	 * @param start
+	 *            The number to start
+	 * @param end
+	 *            The number to end, inclusive
+	 * @return the generated array of primitive int values
+	 */
+	public static int[] newIntRangeArray(final int start, final int end)
+	{
+		if (end < start)
+		{
+			throw new IllegalArgumentException(
+				"Parameter end should be greater than parameter start.");
+		}
+		final int[] array = new int[Math.toIntExact((long)end - start + 1)];
+		for (int i = 0; i < array.length; i++)
+		{
+			array[i] = start + i;
+		}
+		return array;
+	}
+
 	/**
 	 * Factory method for create new array of primitive long values from the given optional
 	 * elements.
@@ -253,6 +279,32 @@ public final class ArrayFactory
 		return elements;
 	}
 
+	/**
+	 * Creates a new array of primitive long values with the given range that is defined through
+	 * start and end without boxing the values. For instance if the start is 5 and the end is 9 the
+	 * resulted array will be [5,6,7,8,9]
+	 *
+	 * @param start
+	 *            The number to start
+	 * @param end
+	 *            The number to end, inclusive
+	 * @return the generated array of primitive long values
+	 */
+	public static long[] newLongRangeArray(final long start, final long end)
+	{
+		if (end < start)
+		{
+			throw new IllegalArgumentException(
+				"Parameter end should be greater than parameter start.");
+		}
+		final long[] array = new long[Math.toIntExact(Math.subtractExact(end, start) + 1)];
+		for (int i = 0; i < array.length; i++)
+		{
+			array[i] = start + i;
+		}
+		return array;
+	}
+
 	/**
 	 * Creates a new {@link Integer} array with the given range that is defined through start and
 	 * end. For instance if the start is 5 and the end is 9 the resulted array will be [5,6,7,8,9]
@@ -0,0 +1,437 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The class {@link ArraySetOperations} provides the set algebra for the class
+ * {@link ArrayExtensions}. Without a comparator the membership is resolved over a hash probe of
+ * the smaller array, or over a linear scan if the probed array is very small. With a comparator
+ * both arrays are merged in one pass, arrays that are already sorted are not copied
+ */
+final class ArraySetOperations
+{
+
+	/**
+	 * The maximum length of an array that is scanned linear instead of building a hash set
+	 */
+	static final int LINEAR_SCAN_THRESHOLD = 8;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ArraySetOperations()
+	{
+	}
+
+	/**
+	 * Creates a membership view for the elements of the given array that are contained in the
+	 * given other array. For every element of the given array the returned collection contains the
+	 * element if and only if the given other array contains the element. A very small other array
+	 * is scanned linear
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the array with the elements to probe
+	 * @param other
+	 *            the other array
+	 * @return the membership view
+	 */
+	static <T> Collection<T> members(final T[] array, final T[] other)
+	{
+		if (other.length <= LINEAR_SCAN_THRESHOLD)
+		{
+			return Arrays.asList(other);
+		}
+		return memberSet(array, other);
+	}
+
+	/**
+	 * Creates a new modifiable set for the elements of the given array that are contained in the
+	 * given other array. For every element of the given array the returned set contains the element
+	 * if and only if the given other array contains the element. If the given array is the smaller
+	 * one only its elements are hashed and the other array is only iterated
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the array with the elements to probe
+	 * @param other
+	 *            the other array
+	 * @return the new set
+	 */
+	static <T> Set<T> memberSet(final T[] array, final T[] other)
+	{
+		if (array.length < other.length)
+		{
+			final Set<T> candidates = new HashSet<>(Arrays.asList(array));
+			final Set<T> found = new HashSet<>();
+			for (final T element : other)
+			{
+				if (candidates.contains(element) && found.add(element)
+					&& found.size() == candidates.size())
+				{
+					break;
+				}
+			}
+			return found;
+		}
+		return new HashSet<>(Arrays.asList(other));
+	}
+
+	/**
+	 * Filters the given array over the given membership view
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the array to filter
+	 * @param members
+	 *            the membership view
+	 * @param contained
+	 *            the flag if the contained or the not contained elements are kept
+	 * @return the new array with the kept elements in the order of the given array
+	 */
+	static <T> T[] filter(final T[] array, final Collection<T> members, final boolean contained)
+	{
+		final T[] result = ArrayFactory.newEmptyArray(array);
+		int size = 0;
+		for (final T element : array)
+		{
+			if (members.contains(element) == contained)
+			{
+				result[size++] = element;
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Intersection of the given two arrays
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the elements of the first array that are contained in the other array
+	 */
+	static <T> T[] intersection(final T[] one, final T[] other)
+	{
+		return filter(one, members(one, other), true);
+	}
+
+	/**
+	 * Removes all elements of the other array from the first array
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the elements of the first array that are not contained in the other array
+	 */
+	static <T> T[] removeAll(final T[] one, final T[] other)
+	{
+		return filter(one, members(one, other), false);
+	}
+
+	/**
+	 * Union of the given two arrays
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements of both arrays in the order of their first occurrence
+	 */
+	static <T> T[] union(final T[] one, final T[] other)
+	{
+		final T[] result = Arrays.copyOf(one, one.length + other.length);
+		final Set<T> seen = new HashSet<>((int)(result.length / 0.75f) + 1);
+		int size = 0;
+		for (final T element : one)
+		{
+			if (seen.add(element))
+			{
+				result[size++] = element;
+			}
+		}
+		for (final T element : other)
+		{
+			if (seen.add(element))
+			{
+				result[size++] = element;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Difference of the given two arrays
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements of the first array that are not contained in the other array
+	 */
+	static <T> T[] difference(final T[] one, final T[] other)
+	{
+		// the excluded elements grows with every added element, so duplicates are added only once
+		final Set<T> excluded = memberSet(one, other);
+		final T[] result = ArrayFactory.newEmptyArray(one);
+		int size = 0;
+		for (final T element : one)
+		{
+			if (excluded.add(element))
+			{
+				result[size++] = element;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Symmetric difference of the given two arrays
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @return the distinct elements that are contained in only one of the arrays, first the
+	 *         elements of the first array and then the elements of the other array
+	 */
+	static <T> T[] symmetricDifference(final T[] one, final T[] other)
+	{
+		final Set<T> oneSet = new HashSet<>(Arrays.asList(one));
+		final Set<T> otherSet = new HashSet<>(Arrays.asList(other));
+		final T[] result = Arrays.copyOf(one, one.length + other.length);
+		int size = 0;
+		// an added element is removed from its own set, so duplicates are added only once and the
+		// set keeps all elements that are contained in the other array
+		for (final T element : one)
+		{
+			if (!otherSet.contains(element) && oneSet.remove(element))
+			{
+				result[size++] = element;
+			}
+		}
+		for (final T element : other)
+		{
+			if (!oneSet.contains(element) && otherSet.remove(element))
+			{
+				result[size++] = element;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Checks if the given array is sorted in ascending order of the given comparator
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the array
+	 * @param comparator
+	 *            the comparator
+	 * @return true if the given array is sorted otherwise false
+	 */
+	static <T> boolean isSorted(final T[] array, final Comparator<? super T> comparator)
+	{
+		for (int i = 1; i < array.length; i++)
+		{
+			if (comparator.compare(array[i - 1], array[i]) > 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the given array if it is already sorted, otherwise a sorted copy of it
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the array
+	 * @param comparator
+	 *            the comparator
+	 * @return the sorted array
+	 */
+	static <T> T[] sorted(final T[] array, final Comparator<? super T> comparator)
+	{
+		if (isSorted(array, comparator))
+		{
+			return array;
+		}
+		final T[] sorted = array.clone();
+		Arrays.sort(sorted, comparator);
+		return sorted;
+	}
+
+	/**
+	 * Merges the given two arrays and filters the elements of the first array
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @param contained
+	 *            the flag if the contained or the not contained elements of the first array are
+	 *            kept
+	 * @return the kept elements of the first array in sorted order
+	 */
+	static <T> T[] mergeFilter(final T[] one, final T[] other,
+		final Comparator<? super T> comparator, final boolean contained)
+	{
+		final T[] first = sorted(one, comparator);
+		final T[] second = sorted(other, comparator);
+		final T[] result = ArrayFactory.newEmptyArray(first);
+		int size = 0;
+		int j = 0;
+		for (final T element : first)
+		{
+			int compared = 1;
+			while (j < second.length && (compared = comparator.compare(second[j], element)) < 0)
+			{
+				j++;
+			}
+			final boolean found = j < second.length && compared == 0;
+			if (found == contained)
+			{
+				result[size++] = element;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Merges the given two arrays to the distinct elements that are selected by the given flags
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param comparator
+	 *            the comparator that defines the order and the equality of the elements
+	 * @param onlyInOne
+	 *            the flag if the elements that are only in the first array are kept
+	 * @param inBoth
+	 *            the flag if the elements that are in both arrays are kept
+	 * @param onlyInOther
+	 *            the flag if the elements that are only in the other array are kept
+	 * @return the distinct kept elements in sorted order
+	 */
+	static <T> T[] merge(final T[] one, final T[] other, final Comparator<? super T> comparator,
+		final boolean onlyInOne, final boolean inBoth, final boolean onlyInOther)
+	{
+		final T[] first = sorted(one, comparator);
+		final T[] second = sorted(other, comparator);
+		final T[] result = Arrays.copyOf(first, first.length + second.length);
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length || j < second.length)
+		{
+			final int compared;
+			if (i == first.length)
+			{
+				compared = 1;
+			}
+			else if (j == second.length)
+			{
+				compared = -1;
+			}
+			else
+			{
+				compared = comparator.compare(first[i], second[j]);
+			}
+			final T element = compared <= 0 ? first[i] : second[j];
+			final boolean keep = compared < 0 ? onlyInOne : compared == 0 ? inBoth : onlyInOther;
+			if (compared <= 0)
+			{
+				i = skip(first, i, element, comparator);
+			}
+			if (0 <= compared)
+			{
+				j = skip(second, j, element, comparator);
+			}
+			if (keep)
+			{
+				result[size++] = element;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Skips all elements of the given sorted array that are equal to the given element
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param array
+	 *            the sorted array
+	 * @param index
+	 *            the index to start
+	 * @param element
+	 *            the element to skip
+	 * @param comparator
+	 *            the comparator
+	 * @return the index of the first element that is greater than the given element
+	 */
+	private static <T> int skip(final T[] array, int index, final T element,
+		final Comparator<? super T> comparator)
+	{
+		while (index < array.length && comparator.compare(array[index], element) == 0)
+		{
+			index++;
+		}
+		return index;
+	}
+
+}
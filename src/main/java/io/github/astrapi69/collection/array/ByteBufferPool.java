@@ -0,0 +1,208 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The class {@link ByteBufferPool} is a thread safe pool of byte buffers with the same capacity.
+ * Released buffers are reused by the next acquire, so a loop that reads chunks of a large payload
+ * allocates only as many buffers as chunks are in use at the same time. The count of buffers is
+ * bounded, if all buffers are in use the method {@link #acquire()} waits until a buffer is
+ * released
+ */
+public class ByteBufferPool
+{
+
+	/** The capacity of every buffer. */
+	private final int bufferCapacity;
+
+	/** The maximum count of buffers. */
+	private final int maxBuffers;
+
+	/** The flag if direct buffers are allocated. */
+	private final boolean direct;
+
+	/** The released buffers that can be reused. */
+	private final Deque<ByteBuffer> idleBuffers = new ArrayDeque<>();
+
+	/** The count of allocated buffers. */
+	private int createdBuffers;
+
+	/**
+	 * Instantiates a new {@link ByteBufferPool} with heap buffers and without a limit of the count
+	 * of buffers
+	 *
+	 * @param bufferCapacity
+	 *            the capacity of every buffer
+	 * @throws IllegalArgumentException
+	 *             if the given capacity is not positive
+	 */
+	public ByteBufferPool(final int bufferCapacity)
+	{
+		this(bufferCapacity, Integer.MAX_VALUE, false);
+	}
+
+	/**
+	 * Instantiates a new {@link ByteBufferPool}
+	 *
+	 * @param bufferCapacity
+	 *            the capacity of every buffer
+	 * @param maxBuffers
+	 *            the maximum count of buffers
+	 * @param direct
+	 *            the flag if direct buffers outside of the heap are allocated
+	 * @throws IllegalArgumentException
+	 *             if the given capacity or the given maximum count is not positive
+	 */
+	public ByteBufferPool(final int bufferCapacity, final int maxBuffers, final boolean direct)
+	{
+		if (bufferCapacity < 1)
+		{
+			throw new IllegalArgumentException(
+				"bufferCapacity must be positive: " + bufferCapacity);
+		}
+		if (maxBuffers < 1)
+		{
+			throw new IllegalArgumentException("maxBuffers must be positive: " + maxBuffers);
+		}
+		this.bufferCapacity = bufferCapacity;
+		this.maxBuffers = maxBuffers;
+		this.direct = direct;
+	}
+
+	/**
+	 * Acquires a cleared buffer from this pool. A released buffer is reused, otherwise a new buffer
+	 * is allocated as long as the maximum count of buffers is not reached. If all buffers are in
+	 * use this method waits until a buffer is released
+	 *
+	 * @return the cleared buffer
+	 * @throws IllegalStateException
+	 *             if the current thread is interrupted while waiting for a buffer
+	 */
+	public synchronized ByteBuffer acquire()
+	{
+		while (idleBuffers.isEmpty() && maxBuffers <= createdBuffers)
+		{
+			try
+			{
+				wait();
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for a buffer", e);
+			}
+		}
+		final ByteBuffer buffer = idleBuffers.pollFirst();
+		if (buffer != null)
+		{
+			return buffer.clear();
+		}
+		createdBuffers++;
+		return direct
+			? ByteBuffer.allocateDirect(bufferCapacity)
+			: ByteBuffer.allocate(bufferCapacity);
+	}
+
+	/**
+	 * Releases the given buffer to this pool, so it can be reused by the next acquire. The given
+	 * buffer must not be used after the release
+	 *
+	 * @param buffer
+	 *            the buffer that was acquired from this pool
+	 * @throws IllegalArgumentException
+	 *             if the given buffer does not fit to this pool
+	 * @throws IllegalStateException
+	 *             if more buffers are released than acquired
+	 */
+	public synchronized void release(final ByteBuffer buffer)
+	{
+		if (buffer.capacity() != bufferCapacity || buffer.isDirect() != direct
+			|| buffer.isReadOnly())
+		{
+			throw new IllegalArgumentException("The buffer was not acquired from this pool");
+		}
+		if (createdBuffers <= idleBuffers.size())
+		{
+			throw new IllegalStateException("More buffers released than acquired");
+		}
+		idleBuffers.addFirst(buffer);
+		notify();
+	}
+
+	/**
+	 * Gets the capacity of every buffer
+	 *
+	 * @return the capacity of every buffer
+	 */
+	public int getBufferCapacity()
+	{
+		return bufferCapacity;
+	}
+
+	/**
+	 * Gets the maximum count of buffers
+	 *
+	 * @return the maximum count of buffers
+	 */
+	public int getMaxBuffers()
+	{
+		return maxBuffers;
+	}
+
+	/**
+	 * Checks if this pool allocates direct buffers
+	 *
+	 * @return true if this pool allocates direct buffers otherwise false
+	 */
+	public boolean isDirect()
+	{
+		return direct;
+	}
+
+	/**
+	 * Gets the count of the allocated buffers
+	 *
+	 * @return the count of the allocated buffers
+	 */
+	public synchronized int getCreatedBuffers()
+	{
+		return createdBuffers;
+	}
+
+	/**
+	 * Gets the count of the released buffers that can be reused
+	 *
+	 * @return the count of the released buffers
+	 */
+	public synchronized int getIdleBuffers()
+	{
+		return idleBuffers.size();
+	}
+
+}
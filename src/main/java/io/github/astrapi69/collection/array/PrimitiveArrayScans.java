@@ -0,0 +1,705 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+/**
+ * The class {@link PrimitiveArrayScans} provides the scan kernels for the arrays of primitive
+ * values of the class {@link ArrayExtensions}. The scans are written as plain counted loops that
+ * the just in time compiler can optimize, only byte arrays are scanned eight bytes at a time in
+ * one long value. Floating point values are compared like their wrapper objects, but the kind of
+ * comparison is chosen once per scan and not for every value
+ */
+final class PrimitiveArrayScans
+{
+
+	/** The view of a byte array as little endian long values. */
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+		ByteOrder.LITTLE_ENDIAN);
+
+	/** The long value with the low seven bits of every byte set. */
+	private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+	/** The long value with the lowest bit of every byte set. */
+	private static final long LOWEST_BITS = 0x0101010101010101L;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private PrimitiveArrayScans()
+	{
+	}
+
+	/**
+	 * Marks the zero bytes of the given long value, the highest bit of every byte that is zero is
+	 * set and all other bits are cleared
+	 *
+	 * @param value
+	 *            the eight bytes as long value
+	 * @return the marks of the zero bytes
+	 */
+	static long zeroBytes(final long value)
+	{
+		return ~((value & LOW_SEVEN_BITS) + LOW_SEVEN_BITS | value | LOW_SEVEN_BITS);
+	}
+
+	/**
+	 * Gets the index of the given value in the given byte array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOf(final byte[] array, final byte value)
+	{
+		final long pattern = (value & 0xFFL) * LOWEST_BITS;
+		int i = 0;
+		for (; i <= array.length - Long.BYTES; i += Long.BYTES)
+		{
+			final long marks = zeroBytes((long)LONGS.get(array, i) ^ pattern);
+			if (marks != 0)
+			{
+				return i + (Long.numberOfTrailingZeros(marks) >>> 3);
+			}
+		}
+		for (; i < array.length; i++)
+		{
+			if (array[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of the given value in the given byte array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the count of the occurrences
+	 */
+	static int count(final byte[] array, final byte value)
+	{
+		final long pattern = (value & 0xFFL) * LOWEST_BITS;
+		int count = 0;
+		int i = 0;
+		for (; i <= array.length - Long.BYTES; i += Long.BYTES)
+		{
+			count += Long.bitCount(zeroBytes((long)LONGS.get(array, i) ^ pattern));
+		}
+		for (; i < array.length; i++)
+		{
+			count += array[i] == value ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the index of the given value in the given int array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOf(final int[] array, final int value)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the given value in the given long array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOf(final long[] array, final long value)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of the given value in the given int array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the count of the occurrences
+	 */
+	static int count(final int[] array, final int value)
+	{
+		int count = 0;
+		for (int i = 0; i < array.length; i++)
+		{
+			count += array[i] == value ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Counts the occurrences of the given value in the given long array
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the count of the occurrences
+	 */
+	static int count(final long[] array, final long value)
+	{
+		int count = 0;
+		for (int i = 0; i < array.length; i++)
+		{
+			count += array[i] == value ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the index of the given value in the given float array, the values are compared like
+	 * {@link Float#equals(Object)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOf(final float[] array, final float value)
+	{
+		if (value != value)
+		{
+			return indexOfNaN(array);
+		}
+		if (value == 0)
+		{
+			return indexOfBits(array, Float.floatToRawIntBits(value));
+		}
+		// the numerical equality of a value that is neither NaN nor zero is the equality
+		return indexOfNumber(array, value);
+	}
+
+	/**
+	 * Gets the index of the given value in the given float array with the numerical
+	 * equality
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfNumber(final float[] array, final float value)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the first NaN value in the given float array
+	 *
+	 * @param array
+	 *            the array
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfNaN(final float[] array)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] != array[i])
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the first value with the given raw bits in the given float array
+	 *
+	 * @param array
+	 *            the array
+	 * @param bits
+	 *            the raw bits
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfBits(final float[] array, final int bits)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (Float.floatToRawIntBits(array[i]) == bits)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of the given value in the given float array, the values are compared
+	 * like {@link Float#equals(Object)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the count of the occurrences
+	 */
+	static int count(final float[] array, final float value)
+	{
+		int count = 0;
+		if (value != value)
+		{
+			for (int i = 0; i < array.length; i++)
+			{
+				count += array[i] != array[i] ? 1 : 0;
+			}
+		}
+		else if (value == 0)
+		{
+			final int bits = Float.floatToRawIntBits(value);
+			for (int i = 0; i < array.length; i++)
+			{
+				count += Float.floatToRawIntBits(array[i]) == bits ? 1 : 0;
+			}
+		}
+		else
+		{
+			for (int i = 0; i < array.length; i++)
+			{
+				count += array[i] == value ? 1 : 0;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the index of the given value in the given double array, the values are compared like
+	 * {@link Double#equals(Object)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOf(final double[] array, final double value)
+	{
+		if (value != value)
+		{
+			return indexOfNaN(array);
+		}
+		if (value == 0)
+		{
+			return indexOfBits(array, Double.doubleToRawLongBits(value));
+		}
+		// the numerical equality of a value that is neither NaN nor zero is the equality
+		return indexOfNumber(array, value);
+	}
+
+	/**
+	 * Gets the index of the given value in the given double array with the numerical
+	 * equality
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfNumber(final double[] array, final double value)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the first NaN value in the given double array
+	 *
+	 * @param array
+	 *            the array
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfNaN(final double[] array)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (array[i] != array[i])
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the first value with the given raw bits in the given double array
+	 *
+	 * @param array
+	 *            the array
+	 * @param bits
+	 *            the raw bits
+	 * @return the index of the first occurrence or -1 if the value is not contained
+	 */
+	static int indexOfBits(final double[] array, final long bits)
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			if (Double.doubleToRawLongBits(array[i]) == bits)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of the given value in the given double array, the values are compared
+	 * like {@link Double#equals(Object)}
+	 *
+	 * @param array
+	 *            the array
+	 * @param value
+	 *            the value
+	 * @return the count of the occurrences
+	 */
+	static int count(final double[] array, final double value)
+	{
+		int count = 0;
+		if (value != value)
+		{
+			for (int i = 0; i < array.length; i++)
+			{
+				count += array[i] != array[i] ? 1 : 0;
+			}
+		}
+		else if (value == 0)
+		{
+			final long bits = Double.doubleToRawLongBits(value);
+			for (int i = 0; i < array.length; i++)
+			{
+				count += Double.doubleToRawLongBits(array[i]) == bits ? 1 : 0;
+			}
+		}
+		else
+		{
+			for (int i = 0; i < array.length; i++)
+			{
+				count += array[i] == value ? 1 : 0;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the smallest value of the given int array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static int min(final int[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		int result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result > array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the largest value of the given int array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static int max(final int[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		int result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result < array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the smallest value of the given long array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static long min(final long[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		long result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result > array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the largest value of the given long array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static long max(final long[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		long result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result < array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the smallest value of the given float array. If the array contains NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static float min(final float[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		float result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			result = Math.min(result, array[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the largest value of the given float array. If the array contains NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static float max(final float[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		float result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			result = Math.max(result, array[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the smallest value of the given double array. If the array contains NaN the result is
+	 * NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static double min(final double[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		double result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			result = Math.min(result, array[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the largest value of the given double array. If the array contains NaN the result is NaN
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static double max(final double[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		double result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			result = Math.max(result, array[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the smallest value of the given byte array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the smallest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static byte min(final byte[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		byte result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result > array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the largest value of the given byte array.
+	 *
+	 * @param array
+	 *            the array
+	 * @return the largest value
+	 * @throws NoSuchElementException
+	 *             if the given array is empty
+	 */
+	static byte max(final byte[] array)
+	{
+		if (array.length == 0)
+		{
+			throw new NoSuchElementException("The array is empty");
+		}
+		byte result = array[0];
+		for (int i = 1; i < array.length; i++)
+		{
+			if (result < array[i])
+			{
+				result = array[i];
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,680 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import java.util.Arrays;
+
+/**
+ * The class {@link PrimitiveArraySetOperations} provides the set algebra for the arrays of
+ * primitive values of the class {@link ArrayExtensions}. The values are never boxed, they are
+ * hashed as primitive long keys in a {@link KeyIndex}. Values are compared like their wrapper
+ * objects, for instance <code>Double.NaN</code> is equal to itself and <code>0.0</code> is not
+ * equal to <code>-0.0</code>
+ */
+final class PrimitiveArraySetOperations
+{
+
+	/**
+	 * The flag of a value that is contained only in the first array
+	 */
+	static final byte ONLY_IN_ONE = 1;
+
+	/**
+	 * The flag of a value that is contained only in the other array
+	 */
+	static final byte ONLY_IN_OTHER = 2;
+
+	/**
+	 * The flag of a value that is contained in both arrays
+	 */
+	static final byte IN_BOTH = ONLY_IN_ONE | ONLY_IN_OTHER;
+
+	/**
+	 * The flag of a value that is already added to the result
+	 */
+	static final byte EMITTED = 4;
+
+	/**
+	 * The selection of the union
+	 */
+	static final int UNION = 1 << ONLY_IN_ONE | 1 << ONLY_IN_OTHER | 1 << IN_BOTH;
+
+	/**
+	 * The selection of the difference
+	 */
+	static final int DIFFERENCE = 1 << ONLY_IN_ONE;
+
+	/**
+	 * The selection of the symmetric difference
+	 */
+	static final int SYMMETRIC_DIFFERENCE = 1 << ONLY_IN_ONE | 1 << ONLY_IN_OTHER;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private PrimitiveArraySetOperations()
+	{
+	}
+
+	/**
+	 * Filters the given array over the membership in the given other array
+	 *
+	 * @param one
+	 *            the array to filter
+	 * @param other
+	 *            the other array
+	 * @param contained
+	 *            the flag if the contained or the not contained values are kept
+	 * @return the new array with the kept values in the order of the given array
+	 */
+	static int[] filter(final int[] one, final int[] other, final boolean contained)
+	{
+		final int[] result = new int[one.length];
+		int size = 0;
+		if (other.length <= one.length)
+		{
+			final KeyIndex probe = new KeyIndex(other.length);
+			for (final int value : other)
+			{
+				probe.add(value);
+			}
+			for (final int value : one)
+			{
+				if (0 <= probe.get(value) == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		else
+		{
+			final KeyIndex candidates = new KeyIndex(one.length);
+			for (final int value : one)
+			{
+				candidates.add(value);
+			}
+			final boolean[] found = new boolean[candidates.size()];
+			for (final int value : other)
+			{
+				final int id = candidates.get(value);
+				if (0 <= id)
+				{
+					found[id] = true;
+				}
+			}
+			for (final int value : one)
+			{
+				if (found[candidates.get(value)] == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Selects the distinct values of the given two arrays in the order of their first occurrence
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param selection
+	 *            the selection of the values, one of {@link #UNION}, {@link #DIFFERENCE} and
+	 *            {@link #SYMMETRIC_DIFFERENCE}
+	 * @return the new array with the selected values
+	 */
+	static int[] select(final int[] one, final int[] other, final int selection)
+	{
+		final KeyIndex index = new KeyIndex(one.length + other.length);
+		final byte[] flags = new byte[one.length + other.length];
+		for (final int value : one)
+		{
+			flags[index.add(value)] |= ONLY_IN_ONE;
+		}
+		for (final int value : other)
+		{
+			flags[index.add(value)] |= ONLY_IN_OTHER;
+		}
+		final int[] result = Arrays.copyOf(one, index.size());
+		int size = 0;
+		for (final int value : one)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		for (final int value : other)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Adds the given value to the given result if it is selected and not already added
+	 *
+	 * @param result
+	 *            the result
+	 * @param size
+	 *            the current size of the result
+	 * @param value
+	 *            the value
+	 * @param flags
+	 *            the flags of the values
+	 * @param id
+	 *            the id of the value
+	 * @param selection
+	 *            the selection
+	 * @return the new size of the result
+	 */
+	private static int select(final int[] result, final int size, final int value,
+		final byte[] flags, final int id, final int selection)
+	{
+		if (flags[id] != EMITTED && (selection & 1 << flags[id]) != 0)
+		{
+			flags[id] = EMITTED;
+			result[size] = value;
+			return size + 1;
+		}
+		return size;
+	}
+
+	/**
+	 * Filters the given array over the membership in the given other array
+	 *
+	 * @param one
+	 *            the array to filter
+	 * @param other
+	 *            the other array
+	 * @param contained
+	 *            the flag if the contained or the not contained values are kept
+	 * @return the new array with the kept values in the order of the given array
+	 */
+	static long[] filter(final long[] one, final long[] other, final boolean contained)
+	{
+		final long[] result = new long[one.length];
+		int size = 0;
+		if (other.length <= one.length)
+		{
+			final KeyIndex probe = new KeyIndex(other.length);
+			for (final long value : other)
+			{
+				probe.add(value);
+			}
+			for (final long value : one)
+			{
+				if (0 <= probe.get(value) == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		else
+		{
+			final KeyIndex candidates = new KeyIndex(one.length);
+			for (final long value : one)
+			{
+				candidates.add(value);
+			}
+			final boolean[] found = new boolean[candidates.size()];
+			for (final long value : other)
+			{
+				final int id = candidates.get(value);
+				if (0 <= id)
+				{
+					found[id] = true;
+				}
+			}
+			for (final long value : one)
+			{
+				if (found[candidates.get(value)] == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Selects the distinct values of the given two arrays in the order of their first occurrence
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param selection
+	 *            the selection of the values, one of {@link #UNION}, {@link #DIFFERENCE} and
+	 *            {@link #SYMMETRIC_DIFFERENCE}
+	 * @return the new array with the selected values
+	 */
+	static long[] select(final long[] one, final long[] other, final int selection)
+	{
+		final KeyIndex index = new KeyIndex(one.length + other.length);
+		final byte[] flags = new byte[one.length + other.length];
+		for (final long value : one)
+		{
+			flags[index.add(value)] |= ONLY_IN_ONE;
+		}
+		for (final long value : other)
+		{
+			flags[index.add(value)] |= ONLY_IN_OTHER;
+		}
+		final long[] result = Arrays.copyOf(one, index.size());
+		int size = 0;
+		for (final long value : one)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		for (final long value : other)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Adds the given value to the given result if it is selected and not already added
+	 *
+	 * @param result
+	 *            the result
+	 * @param size
+	 *            the current size of the result
+	 * @param value
+	 *            the value
+	 * @param flags
+	 *            the flags of the values
+	 * @param id
+	 *            the id of the value
+	 * @param selection
+	 *            the selection
+	 * @return the new size of the result
+	 */
+	private static int select(final long[] result, final int size, final long value,
+		final byte[] flags, final int id, final int selection)
+	{
+		if (flags[id] != EMITTED && (selection & 1 << flags[id]) != 0)
+		{
+			flags[id] = EMITTED;
+			result[size] = value;
+			return size + 1;
+		}
+		return size;
+	}
+
+	/**
+	 * Filters the given array over the membership in the given other array
+	 *
+	 * @param one
+	 *            the array to filter
+	 * @param other
+	 *            the other array
+	 * @param contained
+	 *            the flag if the contained or the not contained values are kept
+	 * @return the new array with the kept values in the order of the given array
+	 */
+	static double[] filter(final double[] one, final double[] other, final boolean contained)
+	{
+		final double[] result = new double[one.length];
+		int size = 0;
+		if (other.length <= one.length)
+		{
+			final KeyIndex probe = new KeyIndex(other.length);
+			for (final double value : other)
+			{
+				probe.add(Double.doubleToLongBits(value));
+			}
+			for (final double value : one)
+			{
+				if (0 <= probe.get(Double.doubleToLongBits(value)) == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		else
+		{
+			final KeyIndex candidates = new KeyIndex(one.length);
+			for (final double value : one)
+			{
+				candidates.add(Double.doubleToLongBits(value));
+			}
+			final boolean[] found = new boolean[candidates.size()];
+			for (final double value : other)
+			{
+				final int id = candidates.get(Double.doubleToLongBits(value));
+				if (0 <= id)
+				{
+					found[id] = true;
+				}
+			}
+			for (final double value : one)
+			{
+				if (found[candidates.get(Double.doubleToLongBits(value))] == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Selects the distinct values of the given two arrays in the order of their first occurrence
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param selection
+	 *            the selection of the values, one of {@link #UNION}, {@link #DIFFERENCE} and
+	 *            {@link #SYMMETRIC_DIFFERENCE}
+	 * @return the new array with the selected values
+	 */
+	static double[] select(final double[] one, final double[] other, final int selection)
+	{
+		final KeyIndex index = new KeyIndex(one.length + other.length);
+		final byte[] flags = new byte[one.length + other.length];
+		for (final double value : one)
+		{
+			flags[index.add(Double.doubleToLongBits(value))] |= ONLY_IN_ONE;
+		}
+		for (final double value : other)
+		{
+			flags[index.add(Double.doubleToLongBits(value))] |= ONLY_IN_OTHER;
+		}
+		final double[] result = Arrays.copyOf(one, index.size());
+		int size = 0;
+		for (final double value : one)
+		{
+			size = select(result, size, value, flags, index.get(Double.doubleToLongBits(value)),
+				selection);
+		}
+		for (final double value : other)
+		{
+			size = select(result, size, value, flags, index.get(Double.doubleToLongBits(value)),
+				selection);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Adds the given value to the given result if it is selected and not already added
+	 *
+	 * @param result
+	 *            the result
+	 * @param size
+	 *            the current size of the result
+	 * @param value
+	 *            the value
+	 * @param flags
+	 *            the flags of the values
+	 * @param id
+	 *            the id of the value
+	 * @param selection
+	 *            the selection
+	 * @return the new size of the result
+	 */
+	private static int select(final double[] result, final int size, final double value,
+		final byte[] flags, final int id, final int selection)
+	{
+		if (flags[id] != EMITTED && (selection & 1 << flags[id]) != 0)
+		{
+			flags[id] = EMITTED;
+			result[size] = value;
+			return size + 1;
+		}
+		return size;
+	}
+
+	/**
+	 * Filters the given array over the membership in the given other array
+	 *
+	 * @param one
+	 *            the array to filter
+	 * @param other
+	 *            the other array
+	 * @param contained
+	 *            the flag if the contained or the not contained values are kept
+	 * @return the new array with the kept values in the order of the given array
+	 */
+	static byte[] filter(final byte[] one, final byte[] other, final boolean contained)
+	{
+		final byte[] result = new byte[one.length];
+		int size = 0;
+		if (other.length <= one.length)
+		{
+			final KeyIndex probe = new KeyIndex(other.length);
+			for (final byte value : other)
+			{
+				probe.add(value);
+			}
+			for (final byte value : one)
+			{
+				if (0 <= probe.get(value) == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		else
+		{
+			final KeyIndex candidates = new KeyIndex(one.length);
+			for (final byte value : one)
+			{
+				candidates.add(value);
+			}
+			final boolean[] found = new boolean[candidates.size()];
+			for (final byte value : other)
+			{
+				final int id = candidates.get(value);
+				if (0 <= id)
+				{
+					found[id] = true;
+				}
+			}
+			for (final byte value : one)
+			{
+				if (found[candidates.get(value)] == contained)
+				{
+					result[size++] = value;
+				}
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Selects the distinct values of the given two arrays in the order of their first occurrence
+	 *
+	 * @param one
+	 *            the first array
+	 * @param other
+	 *            the other array
+	 * @param selection
+	 *            the selection of the values, one of {@link #UNION}, {@link #DIFFERENCE} and
+	 *            {@link #SYMMETRIC_DIFFERENCE}
+	 * @return the new array with the selected values
+	 */
+	static byte[] select(final byte[] one, final byte[] other, final int selection)
+	{
+		final KeyIndex index = new KeyIndex(one.length + other.length);
+		final byte[] flags = new byte[one.length + other.length];
+		for (final byte value : one)
+		{
+			flags[index.add(value)] |= ONLY_IN_ONE;
+		}
+		for (final byte value : other)
+		{
+			flags[index.add(value)] |= ONLY_IN_OTHER;
+		}
+		final byte[] result = Arrays.copyOf(one, index.size());
+		int size = 0;
+		for (final byte value : one)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		for (final byte value : other)
+		{
+			size = select(result, size, value, flags, index.get(value), selection);
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Adds the given value to the given result if it is selected and not already added
+	 *
+	 * @param result
+	 *            the result
+	 * @param size
+	 *            the current size of the result
+	 * @param value
+	 *            the value
+	 * @param flags
+	 *            the flags of the values
+	 * @param id
+	 *            the id of the value
+	 * @param selection
+	 *            the selection
+	 * @return the new size of the result
+	 */
+	private static int select(final byte[] result, final int size, final byte value,
+		final byte[] flags, final int id, final int selection)
+	{
+		if (flags[id] != EMITTED && (selection & 1 << flags[id]) != 0)
+		{
+			flags[id] = EMITTED;
+			result[size] = value;
+			return size + 1;
+		}
+		return size;
+	}
+
+	/**
+	 * The class {@link KeyIndex} is an open addressing hash index that assigns every distinct
+	 * primitive long key a dense id in the order of insertion
+	 */
+	static final class KeyIndex
+	{
+
+		/** The keys of the occupied slots. */
+		private final long[] keys;
+
+		/** The ids plus one of the slots, zero marks an empty slot. */
+		private final int[] ids;
+
+		/** The mask of the slot positions. */
+		private final int mask;
+
+		/** The shift of the hash to the bits of the slot positions. */
+		private final int shift;
+
+		/** The count of the distinct keys. */
+		private int size;
+
+		/**
+		 * Instantiates a new {@link KeyIndex} for the given maximum count of keys
+		 *
+		 * @param capacity
+		 *            the maximum count of keys
+		 */
+		KeyIndex(final int capacity)
+		{
+			final int slots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+			keys = new long[slots];
+			ids = new int[slots];
+			mask = slots - 1;
+			shift = Long.numberOfLeadingZeros(mask);
+		}
+
+		/**
+		 * Adds the given key if it is not already contained
+		 *
+		 * @param key
+		 *            the key
+		 * @return the id of the key
+		 */
+		int add(final long key)
+		{
+			int slot = slot(key);
+			while (ids[slot] != 0)
+			{
+				if (keys[slot] == key)
+				{
+					return ids[slot] - 1;
+				}
+				slot = slot + 1 & mask;
+			}
+			keys[slot] = key;
+			ids[slot] = ++size;
+			return size - 1;
+		}
+
+		/**
+		 * Gets the id of the given key
+		 *
+		 * @param key
+		 *            the key
+		 * @return the id of the key or -1 if the key is not contained
+		 */
+		int get(final long key)
+		{
+			int slot = slot(key);
+			while (ids[slot] != 0)
+			{
+				if (keys[slot] == key)
+				{
+					return ids[slot] - 1;
+				}
+				slot = slot + 1 & mask;
+			}
+			return -1;
+		}
+
+		/**
+		 * Gets the count of the distinct keys
+		 *
+		 * @return the count of the distinct keys
+		 */
+		int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Gets the first slot of the given key
+		 *
+		 * @param key
+		 *            the key
+		 * @return the first slot
+		 */
+		private int slot(final long key)
+		{
+			return (int)(key * 0x9E3779B97F4A7C15L >>> shift);
+		}
+
+	}
+
+}
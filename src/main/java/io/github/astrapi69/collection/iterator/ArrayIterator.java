@@ -47,6 +47,11 @@ public class ArrayIterator<E> implements Iterator<E>
 	 */
 	private int pos = 0;
 
+	/**
+	 * The flag if the method next() was invoked after the last remove.
+	 */
+	private boolean lastReturned;
+
 	/**
 	 * Default constructor.
 	 * 
@@ -83,17 +88,12 @@ public class ArrayIterator<E> implements Iterator<E>
 	@Override
 	public E next() throws NoSuchElementException
 	{
-		E next;
-		try
-		{
-			next = this.array[this.pos];
-		}
-		catch (final RuntimeException e)
+		if (this.array.length <= this.pos)
 		{
 			throw new NoSuchElementException("");
 		}
-		this.pos = this.pos + 1;
-		return next;
+		this.lastReturned = true;
+		return this.array[this.pos++];
 	}
 
 	/**
@@ -102,17 +102,35 @@ public class ArrayIterator<E> implements Iterator<E>
 	@Override
 	public void remove()
 	{
-		if (this.pos <= 0)
+		if (!this.lastReturned)
 		{
 			throw new IllegalStateException("The method next() was not invoked.");
 		}
-		if (this.array[this.pos - 1] != null)
+		System.arraycopy(this.array, this.pos, this.array, this.pos - 1,
+			this.array.length - this.pos);
+		this.array[this.array.length - 1] = null;
+		// the following element moved to the position of the removed one
+		this.pos--;
+		this.lastReturned = false;
+	}
+
+	/**
+	 * Gets an {@link ArraySpliterator} over the remaining elements of this iterator, that are the
+	 * elements before the next null element. The elements returned by the spliterator are not
+	 * returned by this iterator anymore
+	 *
+	 * @return the spliterator over the remaining elements
+	 */
+	public ArraySpliterator<E> spliterator()
+	{
+		int end = this.pos;
+		while (end < this.array.length && this.array[end] != null)
 		{
-			for (int i = this.pos - 1; i < this.array.length - 1; i++)
-			{
-				this.array[i] = this.array[i + 1];
-			}
-			this.array[this.array.length - 1] = null;
+			end++;
 		}
+		final ArraySpliterator<E> spliterator = new ArraySpliterator<>(this.array, this.pos, end);
+		this.pos = end;
+		this.lastReturned = false;
+		return spliterator;
 	}
 }
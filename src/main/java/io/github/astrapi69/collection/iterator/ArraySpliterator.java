@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link ArraySpliterator} is a {@link Spliterator} over a range of an array. Other than
+ * the {@link ArrayIterator} it does not stop at the first null element, and a split divides the
+ * remaining range in two halves, so an array can feed a parallel stream without being wrapped in
+ * a list
+ *
+ * @param <E>
+ *            the generic type of the elements
+ */
+public class ArraySpliterator<E> implements Spliterator<E>
+{
+
+	/** The array. */
+	private final E[] array;
+
+	/** The index of the current element. */
+	private int position;
+
+	/** The index after the last element of this spliterator. */
+	private final int end;
+
+	/**
+	 * Instantiates a new {@link ArraySpliterator} over all elements of the given array
+	 *
+	 * @param array
+	 *            the array
+	 */
+	public ArraySpliterator(final E[] array)
+	{
+		this(array, 0, array.length);
+	}
+
+	/**
+	 * Instantiates a new {@link ArraySpliterator} over the given range of the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @param fromIndex
+	 *            the index of the first element, inclusive
+	 * @param toIndex
+	 *            the index after the last element, exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is out of the bounds of the given array
+	 */
+	public ArraySpliterator(final E[] array, final int fromIndex, final int toIndex)
+	{
+		Objects.checkFromToIndex(fromIndex, toIndex, array.length);
+		this.array = array;
+		this.position = fromIndex;
+		this.end = toIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super E> action)
+	{
+		Objects.requireNonNull(action);
+		if (end <= position)
+		{
+			return false;
+		}
+		action.accept(array[position++]);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super E> action)
+	{
+		Objects.requireNonNull(action);
+		final E[] elements = array;
+		final int to = end;
+		int index = position;
+		position = to;
+		for (; index < to; index++)
+		{
+			action.accept(elements[index]);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<E> trySplit()
+	{
+		final int middle = (position + end) >>> 1;
+		if (middle <= position)
+		{
+			return null;
+		}
+		final ArraySpliterator<E> prefix = new ArraySpliterator<>(array, position, middle);
+		position = middle;
+		return prefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SIZED | SUBSIZED;
+	}
+
+}
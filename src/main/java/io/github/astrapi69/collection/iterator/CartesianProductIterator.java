@@ -0,0 +1,282 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link CartesianProductIterator} iterates lazily over the cartesian product of the
+ * given lists, that is all tuples with one value of each list. The tuples are iterated in
+ * lexicographic order of their indexes, so the last list changes the fastest. The current tuple
+ * is held in one reusable index array, so the memory of the iteration is independent of the count
+ * of the tuples
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class CartesianProductIterator<T> implements Iterator<List<T>>
+{
+
+	/** The lists of the product. */
+	private final List<List<? extends T>> lists;
+
+	/** The indexes of the values of the current tuple. */
+	private final int[] indexes;
+
+	/** The read only view of the current tuple. */
+	private final List<T> view;
+
+	/** The flag if the next tuple is the first one. */
+	private boolean first;
+
+	/**
+	 * Instantiates a new {@link CartesianProductIterator}
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 */
+	public CartesianProductIterator(final List<? extends List<? extends T>> lists)
+	{
+		this.lists = copy(lists);
+		this.indexes = new int[lists.size()];
+		this.view = new TupleView();
+		this.first = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		if (first)
+		{
+			return !hasEmptyList(lists);
+		}
+		return !isLast(lists, indexes);
+	}
+
+	/**
+	 * Returns the next tuple as a new list
+	 *
+	 * @return the next tuple
+	 */
+	@Override
+	public List<T> next()
+	{
+		return new ArrayList<>(nextView());
+	}
+
+	/**
+	 * Returns the next tuple as read only view. The view is reused and its content changes with the
+	 * next call of this iterator, so it must be copied if it is needed after the next call
+	 *
+	 * @return the read only view of the next tuple
+	 */
+	public List<T> nextView()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		if (first)
+		{
+			first = false;
+		}
+		else
+		{
+			advance(lists, indexes);
+		}
+		return view;
+	}
+
+	/**
+	 * Performs the given action with a read only view of each remaining tuple. The view is reused
+	 * for every tuple, so no list is created while the iteration
+	 *
+	 * @param action
+	 *            the action for each tuple
+	 */
+	public void forEachRemainingView(final Consumer<? super List<T>> action)
+	{
+		while (hasNext())
+		{
+			action.accept(nextView());
+		}
+	}
+
+	/**
+	 * Copies the given lists in lists with random access
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param lists
+	 *            the lists of the product
+	 * @return the copied lists
+	 */
+	static <T> List<List<? extends T>> copy(final List<? extends List<? extends T>> lists)
+	{
+		final List<List<? extends T>> copy = new ArrayList<>(lists.size());
+		for (final List<? extends T> list : lists)
+		{
+			copy.add(list instanceof RandomAccess ? list : new ArrayList<>(list));
+		}
+		return copy;
+	}
+
+	/**
+	 * Computes the count of the tuples of the cartesian product of the given lists
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @return the count of the tuples
+	 * @throws ArithmeticException
+	 *             if the result overflows a long value
+	 */
+	static long count(final List<? extends List<?>> lists)
+	{
+		if (hasEmptyList(lists))
+		{
+			return 0;
+		}
+		long result = 1;
+		for (final List<?> list : lists)
+		{
+			result = Math.multiplyExact(result, list.size());
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if one of the given lists is empty, so the cartesian product is empty
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @return true if one of the given lists is empty
+	 */
+	static boolean hasEmptyList(final List<? extends List<?>> lists)
+	{
+		for (final List<?> list : lists)
+		{
+			if (list.isEmpty())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the given indexes are the last tuple
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @param indexes
+	 *            the indexes of the current tuple
+	 * @return true if the given indexes are the last tuple
+	 */
+	static boolean isLast(final List<? extends List<?>> lists, final int[] indexes)
+	{
+		for (int i = 0; i < indexes.length; i++)
+		{
+			if (indexes[i] != lists.get(i).size() - 1)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves the index array to the next tuple like an odometer
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @param indexes
+	 *            the indexes of the current tuple
+	 */
+	static void advance(final List<? extends List<?>> lists, final int[] indexes)
+	{
+		int i = indexes.length - 1;
+		while (indexes[i] == lists.get(i).size() - 1)
+		{
+			indexes[i--] = 0;
+		}
+		indexes[i]++;
+	}
+
+	/**
+	 * Computes the indexes of the tuple with the given rank
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @param rank
+	 *            the rank of the tuple
+	 * @return the indexes of the tuple
+	 */
+	static int[] unrank(final List<? extends List<?>> lists, long rank)
+	{
+		final int[] indexes = new int[lists.size()];
+		for (int i = indexes.length - 1; 0 <= i; i--)
+		{
+			final int size = lists.get(i).size();
+			indexes[i] = (int)(rank % size);
+			rank /= size;
+		}
+		return indexes;
+	}
+
+	/**
+	 * The class {@link TupleView} is the read only view of the current tuple
+	 */
+	private final class TupleView extends AbstractList<T> implements RandomAccess
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T get(final int index)
+		{
+			return lists.get(index).get(indexes[index]);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return indexes.length;
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link CartesianProductSpliterator} is a {@link Spliterator} over the cartesian
+ * product of the given lists in the same order as the {@link CartesianProductIterator}. A split
+ * divides the remaining range of ranks in two halves and the start tuple of a range is computed
+ * directly from its rank, so the splits are balanced for parallel streams
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class CartesianProductSpliterator<T> implements Spliterator<List<T>>
+{
+
+	/** The minimum count of tuples for a split. */
+	private static final long MIN_SPLIT_SIZE = 2;
+
+	/** The lists of the product. */
+	private final List<List<? extends T>> lists;
+
+	/** The indexes of the values of the current tuple. */
+	private int[] indexes;
+
+	/** The rank of the current tuple. */
+	private long position;
+
+	/** The rank after the last tuple of this spliterator. */
+	private final long end;
+
+	/**
+	 * Instantiates a new {@link CartesianProductSpliterator} over all tuples
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @throws ArithmeticException
+	 *             if the count of the tuples overflows a long value
+	 */
+	public CartesianProductSpliterator(final List<? extends List<? extends T>> lists)
+	{
+		this.lists = CartesianProductIterator.copy(lists);
+		this.end = CartesianProductIterator.count(this.lists);
+		this.position = 0;
+		this.indexes = new int[lists.size()];
+	}
+
+	/**
+	 * Instantiates a new {@link CartesianProductSpliterator} over the given range of ranks
+	 *
+	 * @param lists
+	 *            the lists of the product
+	 * @param indexes
+	 *            the indexes of the first tuple
+	 * @param position
+	 *            the rank of the first tuple
+	 * @param end
+	 *            the rank after the last tuple
+	 */
+	private CartesianProductSpliterator(final List<List<? extends T>> lists, final int[] indexes,
+		final long position, final long end)
+	{
+		this.lists = lists;
+		this.indexes = indexes;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super List<T>> action)
+	{
+		if (end <= position)
+		{
+			return false;
+		}
+		action.accept(current());
+		position++;
+		if (position < end)
+		{
+			CartesianProductIterator.advance(lists, indexes);
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super List<T>> action)
+	{
+		while (position < end)
+		{
+			action.accept(current());
+			position++;
+			if (position < end)
+			{
+				CartesianProductIterator.advance(lists, indexes);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<List<T>> trySplit()
+	{
+		final long remaining = end - position;
+		if (remaining < MIN_SPLIT_SIZE)
+		{
+			return null;
+		}
+		final long middle = position + remaining / 2;
+		final CartesianProductSpliterator<T> prefix = new CartesianProductSpliterator<>(lists,
+			indexes, position, middle);
+		indexes = CartesianProductIterator.unrank(lists, middle);
+		position = middle;
+		return prefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * Creates a new list with the values of the current tuple
+	 *
+	 * @return the current tuple
+	 */
+	private List<T> current()
+	{
+		final List<T> tuple = new ArrayList<>(indexes.length);
+		for (int i = 0; i < indexes.length; i++)
+		{
+			tuple.add(lists.get(i).get(indexes[i]));
+		}
+		return tuple;
+	}
+
+}
@@ -0,0 +1,201 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.github.astrapi69.collection.array.ByteBufferPool;
+
+/**
+ * The class {@link ChannelChunkIterator} reads the bytes of a channel in chunks with the capacity
+ * of the buffers of a {@link ByteBufferPool}. Every chunk is read on demand into a buffer of the
+ * pool and returned flipped for reading, only the last chunk can be smaller. So a payload of any
+ * size is never held on the heap, only the chunks in use are.<br>
+ * <br>
+ * With auto release the chunk that was returned before is released to the pool on the next call
+ * of {@link #hasNext()} or {@link #next()} and on {@link #close()}, so a chunk is valid until the
+ * next chunk is requested. Without auto release the consumer releases every chunk to the pool
+ * after use, for instance after an asynchronous upload; a pool with a limited count of buffers
+ * then stops the reading until a chunk is released. The channel is not closed by this iterator
+ */
+public class ChannelChunkIterator implements Iterator<ByteBuffer>, AutoCloseable
+{
+
+	/** The channel to read from. */
+	private final ReadableByteChannel channel;
+
+	/** The pool of the buffers for the chunks. */
+	private final ByteBufferPool pool;
+
+	/** The flag if the chunks are released to the pool on the next request. */
+	private final boolean autoRelease;
+
+	/** The chunk that is read ahead, or null if no chunk is read ahead. */
+	private ByteBuffer nextChunk;
+
+	/** The chunk that was returned before with auto release, or null. */
+	private ByteBuffer returnedChunk;
+
+	/** The flag if the end of the channel is reached. */
+	private boolean endOfChannel;
+
+	/**
+	 * Instantiates a new {@link ChannelChunkIterator} that releases every chunk on the next request
+	 *
+	 * @param channel
+	 *            the channel to read from
+	 * @param pool
+	 *            the pool of the buffers for the chunks
+	 */
+	public ChannelChunkIterator(final ReadableByteChannel channel, final ByteBufferPool pool)
+	{
+		this(channel, pool, true);
+	}
+
+	/**
+	 * Instantiates a new {@link ChannelChunkIterator}
+	 *
+	 * @param channel
+	 *            the channel to read from
+	 * @param pool
+	 *            the pool of the buffers for the chunks
+	 * @param autoRelease
+	 *            the flag if a chunk is released to the pool on the next request, otherwise the
+	 *            consumer releases every chunk
+	 */
+	public ChannelChunkIterator(final ReadableByteChannel channel, final ByteBufferPool pool,
+		final boolean autoRelease)
+	{
+		this.channel = channel;
+		this.pool = pool;
+		this.autoRelease = autoRelease;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws UncheckedIOException
+	 *             if the channel can not be read
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		releaseReturnedChunk();
+		if (nextChunk == null && !endOfChannel)
+		{
+			nextChunk = readChunk();
+		}
+		return nextChunk != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws UncheckedIOException
+	 *             if the channel can not be read
+	 */
+	@Override
+	public ByteBuffer next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		final ByteBuffer chunk = nextChunk;
+		nextChunk = null;
+		if (autoRelease)
+		{
+			returnedChunk = chunk;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Releases the chunk that is read ahead and with auto release the chunk that was returned
+	 * before to the pool. The channel is not closed
+	 */
+	@Override
+	public void close()
+	{
+		releaseReturnedChunk();
+		if (nextChunk != null)
+		{
+			pool.release(nextChunk);
+			nextChunk = null;
+		}
+		endOfChannel = true;
+	}
+
+	/**
+	 * Reads the next chunk from the channel until the buffer is full or the end of the channel is
+	 * reached
+	 *
+	 * @return the flipped chunk or null if the end of the channel is reached
+	 */
+	private ByteBuffer readChunk()
+	{
+		final ByteBuffer buffer = pool.acquire();
+		try
+		{
+			while (buffer.hasRemaining())
+			{
+				if (channel.read(buffer) < 0)
+				{
+					endOfChannel = true;
+					break;
+				}
+			}
+		}
+		catch (final IOException e)
+		{
+			pool.release(buffer);
+			throw new UncheckedIOException(e);
+		}
+		if (buffer.position() == 0)
+		{
+			pool.release(buffer);
+			return null;
+		}
+		return buffer.flip();
+	}
+
+	/**
+	 * Releases the chunk that was returned before with auto release to the pool
+	 */
+	private void releaseReturnedChunk()
+	{
+		if (returnedChunk != null)
+		{
+			pool.release(returnedChunk);
+			returnedChunk = null;
+		}
+	}
+
+}
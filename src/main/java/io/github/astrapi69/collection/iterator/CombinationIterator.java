@@ -0,0 +1,252 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import io.github.astrapi69.collection.list.CombinationExtensions;
+
+/**
+ * The class {@link CombinationIterator} iterates lazily over all combinations of a given size from
+ * the given values in lexicographic order of their indexes, that is the same order as the method
+ * {@link io.github.astrapi69.collection.list.ListExtensions#getAllCombinations(List, int)} returns
+ * them. The current combination is held in one reusable index array, so the memory of the
+ * iteration is independent of the count of the combinations
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class CombinationIterator<T> implements Iterator<List<T>>
+{
+
+	/** The possible values. */
+	private final List<T> values;
+
+	/** The indexes of the values of the current combination. */
+	private final int[] indexes;
+
+	/** The read only view of the current combination. */
+	private final List<T> view;
+
+	/** The flag if the next combination is the first one. */
+	private boolean first;
+
+	/** The count of the remaining combinations of a range or -1 if the iteration is unbounded. */
+	private long remaining;
+
+	/**
+	 * Instantiates a new {@link CombinationIterator}
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @throws IllegalArgumentException
+	 *             if the given combination size is negative
+	 */
+	public CombinationIterator(final List<T> values, final int combinationSize)
+	{
+		if (combinationSize < 0)
+		{
+			throw new IllegalArgumentException(
+				"combinationSize must not be negative: " + combinationSize);
+		}
+		this.values = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		this.indexes = new int[combinationSize];
+		for (int i = 0; i < combinationSize; i++)
+		{
+			this.indexes[i] = i;
+		}
+		this.view = new CombinationView();
+		this.first = true;
+		this.remaining = -1;
+	}
+
+	/**
+	 * Instantiates a new {@link CombinationIterator} over the combinations with the ranks from the
+	 * given start rank inclusive to the given end rank exclusive. The first combination is computed
+	 * directly from its rank, so the combinations before the range are not generated
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param fromRank
+	 *            the rank of the first combination inclusive
+	 * @param toRank
+	 *            the rank of the last combination exclusive
+	 * @throws IllegalArgumentException
+	 *             if the given combination size is negative
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is not in the count of the combinations
+	 * @throws ArithmeticException
+	 *             if the count of the combinations overflows a long value
+	 */
+	public CombinationIterator(final List<T> values, final int combinationSize,
+		final long fromRank, final long toRank)
+	{
+		this(values, combinationSize);
+		final int n = this.values.size();
+		checkRange(fromRank, toRank, CombinationExtensions.binomial(n, combinationSize));
+		if (fromRank < toRank)
+		{
+			System.arraycopy(CombinationExtensions.unrank(fromRank, n, combinationSize), 0,
+				this.indexes, 0, combinationSize);
+		}
+		this.remaining = toRank - fromRank;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		final int n = values.size();
+		final int k = indexes.length;
+		if (0 <= remaining)
+		{
+			return 0 < remaining;
+		}
+		if (first || n < k)
+		{
+			return k <= n;
+		}
+		for (int i = k - 1; 0 <= i; i--)
+		{
+			if (indexes[i] != n - k + i)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the next combination as a new list
+	 *
+	 * @return the next combination
+	 */
+	@Override
+	public List<T> next()
+	{
+		return new ArrayList<>(nextView());
+	}
+
+	/**
+	 * Returns the next combination as read only view. The view is reused and its content changes
+	 * with the next call of this iterator, so it must be copied if it is needed after the next call
+	 *
+	 * @return the read only view of the next combination
+	 */
+	public List<T> nextView()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		if (first)
+		{
+			first = false;
+		}
+		else
+		{
+			CombinationExtensions.next(indexes, values.size());
+		}
+		if (0 < remaining)
+		{
+			remaining--;
+		}
+		return view;
+	}
+
+	/**
+	 * Performs the given action with a read only view of each remaining combination. The view is
+	 * reused for every combination, so no list is created while the iteration
+	 *
+	 * @param action
+	 *            the action for each combination
+	 */
+	public void forEachRemainingView(final Consumer<? super List<T>> action)
+	{
+		while (hasNext())
+		{
+			action.accept(nextView());
+		}
+	}
+
+	/**
+	 * Checks the given range of ranks
+	 *
+	 * @param fromRank
+	 *            the rank of the first combination inclusive
+	 * @param toRank
+	 *            the rank of the last combination exclusive
+	 * @param count
+	 *            the count of the combinations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not in the count of the combinations
+	 */
+	static void checkRange(final long fromRank, final long toRank, final long count)
+	{
+		if (fromRank < 0 || toRank < fromRank || count < toRank)
+		{
+			throw new IndexOutOfBoundsException(
+				"fromRank: " + fromRank + ", toRank: " + toRank + ", Count: " + count);
+		}
+	}
+
+	/**
+	 * The class {@link CombinationView} is the read only view of the current combination
+	 */
+	private final class CombinationView extends AbstractList<T> implements RandomAccess
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T get(final int index)
+		{
+			return values.get(indexes[index]);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return indexes.length;
+		}
+	}
+
+}
@@ -0,0 +1,234 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import io.github.astrapi69.collection.list.CombinationExtensions;
+
+/**
+ * The class {@link CombinationSpliterator} is a {@link Spliterator} over all combinations of a
+ * given size from the given values in the same order as the {@link CombinationIterator}. Every
+ * combination has a rank that is its position in this order, and a split divides the remaining
+ * range of ranks in two halves. The start combination of a range is computed directly from its
+ * rank, so the splits are balanced and a parallel stream scales over all available cores
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class CombinationSpliterator<T> implements Spliterator<List<T>>
+{
+
+	/** The minimum count of combinations for a split. */
+	private static final long MIN_SPLIT_SIZE = 2;
+
+	/** The possible values. */
+	private final List<T> values;
+
+	/** The indexes of the values of the current combination. */
+	private int[] indexes;
+
+	/** The rank of the current combination. */
+	private long position;
+
+	/** The rank after the last combination of this spliterator. */
+	private long end;
+
+	/**
+	 * Instantiates a new {@link CombinationSpliterator} over all combinations
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @throws IllegalArgumentException
+	 *             if the given combination size is negative
+	 * @throws ArithmeticException
+	 *             if the count of the combinations overflows a long value
+	 */
+	public CombinationSpliterator(final List<T> values, final int combinationSize)
+	{
+		if (combinationSize < 0)
+		{
+			throw new IllegalArgumentException(
+				"combinationSize must not be negative: " + combinationSize);
+		}
+		this.values = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		this.end = CombinationExtensions.binomial(values.size(), combinationSize);
+		this.position = 0;
+		this.indexes = new int[combinationSize];
+		for (int i = 0; i < combinationSize; i++)
+		{
+			this.indexes[i] = i;
+		}
+	}
+
+	/**
+	 * Instantiates a new {@link CombinationSpliterator} over the combinations with the ranks from
+	 * the given start rank inclusive to the given end rank exclusive
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param fromRank
+	 *            the rank of the first combination inclusive
+	 * @param toRank
+	 *            the rank of the last combination exclusive
+	 * @throws IllegalArgumentException
+	 *             if the given combination size is negative
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is not in the count of the combinations
+	 * @throws ArithmeticException
+	 *             if the count of the combinations overflows a long value
+	 */
+	public CombinationSpliterator(final List<T> values, final int combinationSize,
+		final long fromRank, final long toRank)
+	{
+		this(values, combinationSize);
+		CombinationIterator.checkRange(fromRank, toRank, end);
+		if (fromRank < toRank)
+		{
+			this.indexes = CombinationExtensions.unrank(fromRank, this.values.size(),
+				combinationSize);
+		}
+		this.position = fromRank;
+		this.end = toRank;
+	}
+
+	/**
+	 * Instantiates a new {@link CombinationSpliterator} over the given range of ranks
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param indexes
+	 *            the indexes of the first combination
+	 * @param position
+	 *            the rank of the first combination
+	 * @param end
+	 *            the rank after the last combination
+	 */
+	private CombinationSpliterator(final List<T> values, final int[] indexes, final long position,
+		final long end)
+	{
+		this.values = values;
+		this.indexes = indexes;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super List<T>> action)
+	{
+		if (end <= position)
+		{
+			return false;
+		}
+		action.accept(current());
+		position++;
+		if (position < end)
+		{
+			CombinationExtensions.next(indexes, values.size());
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super List<T>> action)
+	{
+		while (position < end)
+		{
+			action.accept(current());
+			position++;
+			if (position < end)
+			{
+				CombinationExtensions.next(indexes, values.size());
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<List<T>> trySplit()
+	{
+		final long remaining = end - position;
+		if (remaining < MIN_SPLIT_SIZE)
+		{
+			return null;
+		}
+		final long middle = position + remaining / 2;
+		final CombinationSpliterator<T> prefix = new CombinationSpliterator<>(values, indexes,
+			position, middle);
+		indexes = CombinationExtensions.unrank(middle, values.size(), indexes.length);
+		position = middle;
+		return prefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * Creates a new list with the values of the current combination
+	 *
+	 * @return the current combination
+	 */
+	private List<T> current()
+	{
+		final List<T> combination = new ArrayList<>(indexes.length);
+		for (final int index : indexes)
+		{
+			combination.add(values.get(index));
+		}
+		return combination;
+	}
+
+}
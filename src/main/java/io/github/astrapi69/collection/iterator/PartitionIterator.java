@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The class {@link PartitionIterator} iterates lazily over the consecutive parts of the same size
+ * from the elements of the given iterator, only the last part can be smaller. Every part is a new
+ * list that is filled on demand, so the elements are read only as far as the parts are consumed
+ *
+ * @param <T>
+ *            the generic type of the elements
+ */
+public class PartitionIterator<T> implements Iterator<List<T>>
+{
+
+	/** The iterator over the elements. */
+	private final Iterator<? extends T> iterator;
+
+	/** The size of the parts. */
+	private final int partSize;
+
+	/**
+	 * Instantiates a new {@link PartitionIterator}
+	 *
+	 * @param iterator
+	 *            the iterator over the elements
+	 * @param partSize
+	 *            the size of the parts
+	 * @throws IllegalArgumentException
+	 *             if the given size of the parts is not positive
+	 */
+	public PartitionIterator(final Iterator<? extends T> iterator, final int partSize)
+	{
+		if (partSize < 1)
+		{
+			throw new IllegalArgumentException("partSize must be positive: " + partSize);
+		}
+		this.iterator = iterator;
+		this.partSize = partSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		return iterator.hasNext();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<T> next()
+	{
+		if (!iterator.hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		final List<T> part = new ArrayList<>(Math.min(partSize, 1024));
+		while (part.size() < partSize && iterator.hasNext())
+		{
+			part.add(iterator.next());
+		}
+		return part;
+	}
+
+}
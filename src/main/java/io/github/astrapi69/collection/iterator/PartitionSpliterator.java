@@ -0,0 +1,179 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link PartitionSpliterator} is a {@link Spliterator} over the consecutive parts of
+ * the same size of a list with random access, only the last part can be smaller. The parts are
+ * views of the given list, so no element is copied, and a split divides the remaining parts in
+ * two halves on a part boundary, so every part is processed as a whole in a parallel stream
+ *
+ * @param <T>
+ *            the generic type of the elements
+ */
+public class PartitionSpliterator<T> implements Spliterator<List<T>>
+{
+
+	/** The partitioned list. */
+	private final List<T> list;
+
+	/** The size of the parts. */
+	private final int partSize;
+
+	/** The index of the current part. */
+	private int position;
+
+	/** The index after the last part of this spliterator. */
+	private final int end;
+
+	/**
+	 * Instantiates a new {@link PartitionSpliterator} over all parts of the given list
+	 *
+	 * @param list
+	 *            the list to partition, should have random access
+	 * @param partSize
+	 *            the size of the parts
+	 * @throws IllegalArgumentException
+	 *             if the given size of the parts is not positive or the given list has no random
+	 *             access
+	 */
+	public PartitionSpliterator(final List<T> list, final int partSize)
+	{
+		if (partSize < 1)
+		{
+			throw new IllegalArgumentException("partSize must be positive: " + partSize);
+		}
+		if (!(list instanceof RandomAccess))
+		{
+			throw new IllegalArgumentException("The list must have random access");
+		}
+		this.list = list;
+		this.partSize = partSize;
+		this.position = 0;
+		this.end = (int)((list.size() + (long)partSize - 1) / partSize);
+	}
+
+	/**
+	 * Instantiates a new {@link PartitionSpliterator} over the given range of parts
+	 *
+	 * @param list
+	 *            the list to partition
+	 * @param partSize
+	 *            the size of the parts
+	 * @param position
+	 *            the index of the first part
+	 * @param end
+	 *            the index after the last part
+	 */
+	private PartitionSpliterator(final List<T> list, final int partSize, final int position,
+		final int end)
+	{
+		this.list = list;
+		this.partSize = partSize;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super List<T>> action)
+	{
+		if (end <= position)
+		{
+			return false;
+		}
+		action.accept(part(position++));
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super List<T>> action)
+	{
+		while (position < end)
+		{
+			action.accept(part(position++));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<List<T>> trySplit()
+	{
+		final int remaining = end - position;
+		if (remaining < 2)
+		{
+			return null;
+		}
+		final int middle = position + remaining / 2;
+		final PartitionSpliterator<T> prefix = new PartitionSpliterator<>(list, partSize,
+			position, middle);
+		position = middle;
+		return prefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SIZED | SUBSIZED | NONNULL;
+	}
+
+	/**
+	 * Gets the view of the part with the given index
+	 *
+	 * @param index
+	 *            the index of the part
+	 * @return the view of the part
+	 */
+	private List<T> part(final int index)
+	{
+		final int from = index * partSize;
+		return list.subList(from, from + Math.min(partSize, list.size() - from));
+	}
+
+}
@@ -0,0 +1,377 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link PermutationIterator} iterates lazily over all permutations of a given size from
+ * the given values in lexicographic order of their indexes. If the size is equal to the count of
+ * the values all permutations are iterated, otherwise the ordered selections of the given size
+ * that are also known as k-permutations. The current permutation is held in one reusable index
+ * array, so the memory of the iteration is independent of the count of the permutations
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class PermutationIterator<T> implements Iterator<List<T>>
+{
+
+	/** The possible values. */
+	private final List<T> values;
+
+	/**
+	 * The indexes of all values, the first ones are the current permutation and the rest is sorted
+	 * ascending.
+	 */
+	private final int[] indexes;
+
+	/** The size of the permutations. */
+	private final int permutationSize;
+
+	/** The read only view of the current permutation. */
+	private final List<T> view;
+
+	/** The flag if the next permutation is the first one. */
+	private boolean first;
+
+	/** The count of the remaining permutations of a range or -1 if the iteration is unbounded. */
+	private long remaining;
+
+	/**
+	 * Instantiates a new {@link PermutationIterator} over all permutations of the given values
+	 *
+	 * @param values
+	 *            the values to permute
+	 */
+	public PermutationIterator(final List<T> values)
+	{
+		this(values, values.size());
+	}
+
+	/**
+	 * Instantiates a new {@link PermutationIterator} over all permutations of the given size
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param permutationSize
+	 *            the size of the permutations
+	 * @throws IllegalArgumentException
+	 *             if the given permutation size is negative
+	 */
+	public PermutationIterator(final List<T> values, final int permutationSize)
+	{
+		if (permutationSize < 0)
+		{
+			throw new IllegalArgumentException(
+				"permutationSize must not be negative: " + permutationSize);
+		}
+		this.values = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		this.permutationSize = permutationSize;
+		this.indexes = new int[this.values.size()];
+		for (int i = 0; i < indexes.length; i++)
+		{
+			this.indexes[i] = i;
+		}
+		this.view = new PermutationView();
+		this.first = true;
+		this.remaining = -1;
+	}
+
+	/**
+	 * Instantiates a new {@link PermutationIterator} over the permutations with the ranks from the
+	 * given start rank inclusive to the given end rank exclusive. The first permutation is
+	 * computed directly from its rank, so the permutations before the range are not generated
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param permutationSize
+	 *            the size of the permutations
+	 * @param fromRank
+	 *            the rank of the first permutation inclusive
+	 * @param toRank
+	 *            the rank of the last permutation exclusive
+	 * @throws IllegalArgumentException
+	 *             if the given permutation size is negative
+	 * @throws IndexOutOfBoundsException
+	 *             if the given range is not in the count of the permutations
+	 * @throws ArithmeticException
+	 *             if the count of the permutations overflows a long value
+	 */
+	public PermutationIterator(final List<T> values, final int permutationSize,
+		final long fromRank, final long toRank)
+	{
+		this(values, permutationSize);
+		final long count = count(indexes.length, permutationSize);
+		if (fromRank < 0 || toRank < fromRank || count < toRank)
+		{
+			throw new IndexOutOfBoundsException(
+				"fromRank: " + fromRank + ", toRank: " + toRank + ", Count: " + count);
+		}
+		if (fromRank < toRank)
+		{
+			System.arraycopy(unrank(fromRank, indexes.length, permutationSize), 0, indexes, 0,
+				indexes.length);
+		}
+		this.remaining = toRank - fromRank;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		if (0 <= remaining)
+		{
+			return 0 < remaining;
+		}
+		if (first || indexes.length < permutationSize)
+		{
+			return permutationSize <= indexes.length;
+		}
+		return !isLast(indexes, permutationSize);
+	}
+
+	/**
+	 * Returns the next permutation as a new list
+	 *
+	 * @return the next permutation
+	 */
+	@Override
+	public List<T> next()
+	{
+		return new ArrayList<>(nextView());
+	}
+
+	/**
+	 * Returns the next permutation as read only view. The view is reused and its content changes
+	 * with the next call of this iterator, so it must be copied if it is needed after the next call
+	 *
+	 * @return the read only view of the next permutation
+	 */
+	public List<T> nextView()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		if (first)
+		{
+			first = false;
+		}
+		else
+		{
+			advance(indexes, permutationSize);
+		}
+		if (0 < remaining)
+		{
+			remaining--;
+		}
+		return view;
+	}
+
+	/**
+	 * Performs the given action with a read only view of each remaining permutation. The view is
+	 * reused for every permutation, so no list is created while the iteration
+	 *
+	 * @param action
+	 *            the action for each permutation
+	 */
+	public void forEachRemainingView(final Consumer<? super List<T>> action)
+	{
+		while (hasNext())
+		{
+			action.accept(nextView());
+		}
+	}
+
+	/**
+	 * Computes the count of the permutations of the given size from the given count of values
+	 *
+	 * @param n
+	 *            the count of the values
+	 * @param k
+	 *            the size of the permutations
+	 * @return the count of the permutations or 0 if k is negative or greater than n
+	 * @throws ArithmeticException
+	 *             if the result overflows a long value
+	 */
+	public static long count(final int n, final int k)
+	{
+		if (k < 0 || n < k)
+		{
+			return 0;
+		}
+		long result = 1;
+		for (int i = n - k + 1; i <= n; i++)
+		{
+			result = Math.multiplyExact(result, i);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if the given indexes are the last permutation of the given size, that is the first
+	 * indexes are the greatest ones in descending order
+	 *
+	 * @param indexes
+	 *            the indexes of all values
+	 * @param k
+	 *            the size of the permutations
+	 * @return true if the given indexes are the last permutation
+	 */
+	static boolean isLast(final int[] indexes, final int k)
+	{
+		for (int i = 0; i < k; i++)
+		{
+			if (indexes[i] != indexes.length - 1 - i)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves the index array to the next permutation of the given size in lexicographic order. The
+	 * indexes after the permutation are sorted ascending, so they are reversed and the whole array
+	 * moves to its next permutation, that leaves the indexes after the permutation sorted again
+	 *
+	 * @param indexes
+	 *            the indexes of all values
+	 * @param k
+	 *            the size of the permutations
+	 */
+	static void advance(final int[] indexes, final int k)
+	{
+		final int n = indexes.length;
+		reverse(indexes, k, n);
+		int i = n - 2;
+		while (indexes[i] >= indexes[i + 1])
+		{
+			i--;
+		}
+		int j = n - 1;
+		while (indexes[j] <= indexes[i])
+		{
+			j--;
+		}
+		final int swap = indexes[i];
+		indexes[i] = indexes[j];
+		indexes[j] = swap;
+		reverse(indexes, i + 1, n);
+	}
+
+	/**
+	 * Computes the indexes of the permutation with the given rank in lexicographic order
+	 *
+	 * @param rank
+	 *            the rank of the permutation
+	 * @param n
+	 *            the count of the values
+	 * @param k
+	 *            the size of the permutation
+	 * @return the indexes of all values, the first ones are the permutation and the rest is sorted
+	 *         ascending
+	 */
+	static int[] unrank(long rank, final int n, final int k)
+	{
+		final List<Integer> available = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+		{
+			available.add(i);
+		}
+		final int[] indexes = new int[n];
+		for (int i = 0; i < k; i++)
+		{
+			final long radix = count(n - 1 - i, k - 1 - i);
+			indexes[i] = available.remove((int)(rank / radix));
+			rank %= radix;
+		}
+		for (int i = k; i < n; i++)
+		{
+			indexes[i] = available.get(i - k);
+		}
+		return indexes;
+	}
+
+	/**
+	 * Reverses the given range of the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @param from
+	 *            the start index inclusive
+	 * @param to
+	 *            the end index exclusive
+	 */
+	private static void reverse(final int[] array, int from, int to)
+	{
+		for (to--; from < to; from++, to--)
+		{
+			final int swap = array[from];
+			array[from] = array[to];
+			array[to] = swap;
+		}
+	}
+
+	/**
+	 * The class {@link PermutationView} is the read only view of the current permutation
+	 */
+	private final class PermutationView extends AbstractList<T> implements RandomAccess
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T get(final int index)
+		{
+			if (index < 0 || permutationSize <= index)
+			{
+				throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + permutationSize);
+			}
+			return values.get(indexes[index]);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return permutationSize;
+		}
+	}
+
+}
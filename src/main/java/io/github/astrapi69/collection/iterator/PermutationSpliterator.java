@@ -0,0 +1,205 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The class {@link PermutationSpliterator} is a {@link Spliterator} over all permutations of a
+ * given size from the given values in the same order as the {@link PermutationIterator}. A split
+ * divides the remaining range of ranks in two halves and the start permutation of a range is
+ * computed directly from its rank, so the splits are balanced for parallel streams
+ *
+ * @param <T>
+ *            the generic type of the values
+ */
+public class PermutationSpliterator<T> implements Spliterator<List<T>>
+{
+
+	/** The minimum count of permutations for a split. */
+	private static final long MIN_SPLIT_SIZE = 2;
+
+	/** The possible values. */
+	private final List<T> values;
+
+	/** The size of the permutations. */
+	private final int permutationSize;
+
+	/** The indexes of all values, the first ones are the current permutation. */
+	private int[] indexes;
+
+	/** The rank of the current permutation. */
+	private long position;
+
+	/** The rank after the last permutation of this spliterator. */
+	private final long end;
+
+	/**
+	 * Instantiates a new {@link PermutationSpliterator} over all permutations of the given size
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param permutationSize
+	 *            the size of the permutations
+	 * @throws IllegalArgumentException
+	 *             if the given permutation size is negative
+	 * @throws ArithmeticException
+	 *             if the count of the permutations overflows a long value
+	 */
+	public PermutationSpliterator(final List<T> values, final int permutationSize)
+	{
+		if (permutationSize < 0)
+		{
+			throw new IllegalArgumentException(
+				"permutationSize must not be negative: " + permutationSize);
+		}
+		this.values = values instanceof RandomAccess ? values : new ArrayList<>(values);
+		this.permutationSize = permutationSize;
+		this.end = PermutationIterator.count(this.values.size(), permutationSize);
+		this.position = 0;
+		this.indexes = new int[this.values.size()];
+		for (int i = 0; i < indexes.length; i++)
+		{
+			this.indexes[i] = i;
+		}
+	}
+
+	/**
+	 * Instantiates a new {@link PermutationSpliterator} over the given range of ranks
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param permutationSize
+	 *            the size of the permutations
+	 * @param indexes
+	 *            the indexes of the first permutation
+	 * @param position
+	 *            the rank of the first permutation
+	 * @param end
+	 *            the rank after the last permutation
+	 */
+	private PermutationSpliterator(final List<T> values, final int permutationSize,
+		final int[] indexes, final long position, final long end)
+	{
+		this.values = values;
+		this.permutationSize = permutationSize;
+		this.indexes = indexes;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(final Consumer<? super List<T>> action)
+	{
+		if (end <= position)
+		{
+			return false;
+		}
+		action.accept(current());
+		position++;
+		if (position < end)
+		{
+			PermutationIterator.advance(indexes, permutationSize);
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(final Consumer<? super List<T>> action)
+	{
+		while (position < end)
+		{
+			action.accept(current());
+			position++;
+			if (position < end)
+			{
+				PermutationIterator.advance(indexes, permutationSize);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<List<T>> trySplit()
+	{
+		final long remaining = end - position;
+		if (remaining < MIN_SPLIT_SIZE)
+		{
+			return null;
+		}
+		final long middle = position + remaining / 2;
+		final PermutationSpliterator<T> prefix = new PermutationSpliterator<>(values,
+			permutationSize, indexes, position, middle);
+		indexes = PermutationIterator.unrank(middle, values.size(), permutationSize);
+		position = middle;
+		return prefix;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * Creates a new list with the values of the current permutation
+	 *
+	 * @return the current permutation
+	 */
+	private List<T> current()
+	{
+		final List<T> permutation = new ArrayList<>(permutationSize);
+		for (int i = 0; i < permutationSize; i++)
+		{
+			permutation.add(values.get(indexes[i]));
+		}
+		return permutation;
+	}
+
+}
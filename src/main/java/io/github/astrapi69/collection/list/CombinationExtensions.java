@@ -0,0 +1,498 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+import io.github.astrapi69.check.Argument;
+import io.github.astrapi69.collection.iterator.CombinationIterator;
+import io.github.astrapi69.collection.iterator.CombinationSpliterator;
+
+/**
+ * The class {@link CombinationExtensions} provides the combinatorial number system for the
+ * combinations of the method {@link ListExtensions#getAllCombinations(List, int)}. Every
+ * combination of size k from n values has a rank between 0 and the binomial coefficient of n and
+ * k, that is its position in lexicographic order of the indexes of its values. So a combination
+ * can be addressed directly over its rank, for instance for distribute the combinations over
+ * several workers or for random sampling
+ */
+public final class CombinationExtensions
+{
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private CombinationExtensions()
+	{
+	}
+
+	/**
+	 * Computes the binomial coefficient of the given arguments, that is the count of the
+	 * combinations of size k from n values
+	 *
+	 * @param n
+	 *            the count of the values
+	 * @param k
+	 *            the size of the combinations
+	 * @return the binomial coefficient or 0 if k is negative or greater than n
+	 * @throws ArithmeticException
+	 *             if the result overflows a long value
+	 */
+	public static long binomial(final int n, final int k)
+	{
+		if (k < 0 || n < k)
+		{
+			return 0;
+		}
+		final int r = Math.min(k, n - k);
+		long result = 1;
+		for (int i = 1; i <= r; i++)
+		{
+			// result * (n - r + i) is divisible by i, so divide first to avoid a false overflow
+			final long divisor = gcd(result, i);
+			result = Math.multiplyExact(result / divisor, (n - r + i) / (i / divisor));
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the greatest common divisor of the given arguments
+	 *
+	 * @param a
+	 *            the first argument
+	 * @param b
+	 *            the second argument
+	 * @return the greatest common divisor
+	 */
+	private static long gcd(long a, long b)
+	{
+		while (b != 0)
+		{
+			final long t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+	/**
+	 * Computes the product of the given value and the given factor divided by the given divisor,
+	 * where the product is known to be divisible by the divisor and the result fits a long value
+	 *
+	 * @param value
+	 *            the value
+	 * @param factor
+	 *            the factor
+	 * @param divisor
+	 *            the divisor
+	 * @return the value multiplied with the factor and divided by the divisor
+	 */
+	private static long multiplyDivide(final long value, final long factor, final long divisor)
+	{
+		if (factor == 0 || value <= Long.MAX_VALUE / factor)
+		{
+			return value * factor / divisor;
+		}
+		final long g = gcd(value, divisor);
+		return value / g * (factor / (divisor / g));
+	}
+
+	/**
+	 * Computes the rank of the given combination of indexes
+	 *
+	 * @param combination
+	 *            the strictly ascending indexes of the combination
+	 * @param n
+	 *            the count of the values
+	 * @return the rank of the given combination
+	 * @throws IllegalArgumentException
+	 *             if the given indexes are not strictly ascending between 0 and n
+	 */
+	public static long rank(final int[] combination, final int n)
+	{
+		Argument.notNull(combination, "combination");
+		final int k = combination.length;
+		long rank = 0;
+		int previous = -1;
+		for (int i = 0; i < k; i++)
+		{
+			final int index = combination[i];
+			if (index <= previous || n <= index)
+			{
+				throw new IllegalArgumentException("The indexes of the combination must be "
+					+ "strictly ascending and less than " + n);
+			}
+			rank += binomial(n - previous - 1, k - i) - binomial(n - index, k - i);
+			previous = index;
+		}
+		return rank;
+	}
+
+	/**
+	 * Computes the rank of the given combination of values from the given possible values
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combination
+	 *            the combination with values in the same order as in the possible values
+	 * @return the rank of the given combination
+	 * @throws IllegalArgumentException
+	 *             if the given combination is not a combination of the possible values
+	 */
+	public static <T> long rank(final List<T> possibleValues, final List<T> combination)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Argument.notNull(combination, "combination");
+		final int[] indexes = new int[combination.size()];
+		for (int i = 0; i < indexes.length; i++)
+		{
+			indexes[i] = possibleValues.indexOf(combination.get(i));
+			if (indexes[i] < 0)
+			{
+				throw new IllegalArgumentException(
+					"The value " + combination.get(i) + " is not a possible value");
+			}
+		}
+		return rank(indexes, possibleValues.size());
+	}
+
+	/**
+	 * Computes the indexes of the combination with the given rank. The indexes are found with a
+	 * walk over the combinatorial number system, where every step skips the combinations with the
+	 * current candidate index and updates their count incrementally. So the costs are linear in n
+	 * and only one binomial coefficient is computed
+	 *
+	 * @param rank
+	 *            the rank of the combination
+	 * @param n
+	 *            the count of the values
+	 * @param k
+	 *            the size of the combination
+	 * @return the strictly ascending indexes of the combination
+	 * @throws IndexOutOfBoundsException
+	 *             if the rank is negative or not less than the count of the combinations
+	 */
+	public static int[] unrank(long rank, final int n, final int k)
+	{
+		final long count = binomial(n, k);
+		if (rank < 0 || count <= rank)
+		{
+			throw new IndexOutOfBoundsException("Rank: " + rank + ", Count: " + count);
+		}
+		final int[] combination = new int[k];
+		// skipped holds C(n - c - 1, r - 1), the count of the combinations with the first index c
+		long skipped = binomial(n - 1, k - 1);
+		int c = 0;
+		for (int i = 0; i < k; i++)
+		{
+			final int r = k - i;
+			while (skipped <= rank)
+			{
+				rank -= skipped;
+				skipped = multiplyDivide(skipped, n - c - r, n - c - 1);
+				c++;
+			}
+			combination[i] = c;
+			if (1 < r)
+			{
+				skipped = multiplyDivide(skipped, r - 1, n - c - 1);
+			}
+			c++;
+		}
+		return combination;
+	}
+
+	/**
+	 * Moves the given indexes to the next combination in lexicographic order
+	 *
+	 * @param combination
+	 *            the strictly ascending indexes of the combination
+	 * @param n
+	 *            the count of the values
+	 * @return true if the indexes are moved or false if the given combination is the last one
+	 */
+	public static boolean next(final int[] combination, final int n)
+	{
+		final int k = combination.length;
+		int i = k - 1;
+		while (0 <= i && combination[i] == n - k + i)
+		{
+			i--;
+		}
+		if (i < 0)
+		{
+			return false;
+		}
+		combination[i]++;
+		for (int j = i + 1; j < k; j++)
+		{
+			combination[j] = combination[j - 1] + 1;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the combination with the given rank from the given possible values
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combination
+	 * @param rank
+	 *            the rank of the combination
+	 * @return the combination with the given rank
+	 */
+	public static <T> List<T> unrank(final List<T> possibleValues, final int combinationSize,
+		final long rank)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		final int[] indexes = unrank(rank, possibleValues.size(), combinationSize);
+		final List<T> combination = new ArrayList<>(indexes.length);
+		for (final int index : indexes)
+		{
+			combination.add(possibleValues.get(index));
+		}
+		return combination;
+	}
+
+	/**
+	 * Gets a random combination from the given possible values, every combination has the same
+	 * probability
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combination
+	 * @param random
+	 *            the random generator
+	 * @return the random combination
+	 */
+	public static <T> List<T> random(final List<T> possibleValues, final int combinationSize,
+		final Random random)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Argument.notNull(random, "random");
+		final long count = binomial(possibleValues.size(), combinationSize);
+		return unrank(possibleValues, combinationSize, random.nextLong(count));
+	}
+
+	/**
+	 * Gets an iterator over the combinations with the ranks from the given start rank inclusive to
+	 * the given end rank exclusive. The iteration starts directly at the given start rank, the
+	 * combinations before are not generated
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param fromRank
+	 *            the rank of the first combination inclusive
+	 * @param toRank
+	 *            the rank of the last combination exclusive
+	 * @return the iterator over the combinations of the given range
+	 */
+	public static <T> CombinationIterator<T> range(final List<T> possibleValues,
+		final int combinationSize, final long fromRank, final long toRank)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		return new CombinationIterator<>(possibleValues, combinationSize, fromRank, toRank);
+	}
+
+	/**
+	 * Gets a spliterator over the combinations with the ranks from the given start rank inclusive
+	 * to the given end rank exclusive
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param fromRank
+	 *            the rank of the first combination inclusive
+	 * @param toRank
+	 *            the rank of the last combination exclusive
+	 * @return the spliterator over the combinations of the given range
+	 */
+	public static <T> CombinationSpliterator<T> rangeSpliterator(final List<T> possibleValues,
+		final int combinationSize, final long fromRank, final long toRank)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		return new CombinationSpliterator<>(possibleValues, combinationSize, fromRank, toRank);
+	}
+
+	/**
+	 * Finds all combinations of the given size from the given possible values that matches the
+	 * given predicate. The predicate is tested with every partial combination while the
+	 * combination is build, and if it does not match the whole subtree of the partial combination
+	 * is skipped. So the predicate must be monotone, that is if a partial combination does not
+	 * match no extension of it can match, for instance a sum of positive values under a budget
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param predicate
+	 *            the predicate for the read only view of the partial combinations
+	 * @return the matching combinations in the order of the method
+	 *         {@link ListExtensions#getAllCombinations(List, int)}
+	 */
+	public static <T> List<List<T>> findAllCombinations(final List<T> possibleValues,
+		final int combinationSize, final Predicate<? super List<T>> predicate)
+	{
+		return findCombinations(possibleValues, combinationSize, predicate, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds the first combination of the given size from the given possible values that matches
+	 * the given predicate. The search stops with the first match, see the method
+	 * {@link #findAllCombinations(List, int, Predicate)} for the pruning of the predicate
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combination
+	 * @param predicate
+	 *            the predicate for the read only view of the partial combinations
+	 * @return the first matching combination or an empty {@link Optional} if no one matches
+	 */
+	public static <T> Optional<List<T>> findFirstCombination(final List<T> possibleValues,
+		final int combinationSize, final Predicate<? super List<T>> predicate)
+	{
+		final List<List<T>> combinations = findCombinations(possibleValues, combinationSize,
+			predicate, 1);
+		return combinations.isEmpty() ? Optional.empty() : Optional.of(combinations.get(0));
+	}
+
+	/**
+	 * Finds the first combinations of the given size from the given possible values that matches
+	 * the given predicate. The search stops when the given maximum count of combinations is found,
+	 * see the method {@link #findAllCombinations(List, int, Predicate)} for the pruning of the
+	 * predicate
+	 *
+	 * @param <T>
+	 *            the generic type of the values
+	 * @param possibleValues
+	 *            the possible values
+	 * @param combinationSize
+	 *            the size of the combinations
+	 * @param predicate
+	 *            the predicate for the read only view of the partial combinations
+	 * @param maxResults
+	 *            the maximum count of the combinations to find
+	 * @return the matching combinations in the order of the method
+	 *         {@link ListExtensions#getAllCombinations(List, int)}
+	 * @throws IllegalArgumentException
+	 *             if the combination size or the maximum count of the combinations is negative
+	 */
+	public static <T> List<List<T>> findCombinations(final List<T> possibleValues,
+		final int combinationSize, final Predicate<? super List<T>> predicate,
+		final int maxResults)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Argument.notNull(predicate, "predicate");
+		if (combinationSize < 0 || maxResults < 0)
+		{
+			throw new IllegalArgumentException("combinationSize and maxResults must not be "
+				+ "negative: " + combinationSize + ", " + maxResults);
+		}
+		final List<List<T>> results = new ArrayList<>();
+		final List<T> values = possibleValues instanceof RandomAccess
+			? possibleValues
+			: new ArrayList<>(possibleValues);
+		final int n = values.size();
+		if (maxResults == 0 || n < combinationSize)
+		{
+			return results;
+		}
+		final List<T> partial = new ArrayList<>(combinationSize);
+		final List<T> view = Collections.unmodifiableList(partial);
+		if (combinationSize == 0)
+		{
+			if (predicate.test(view))
+			{
+				results.add(new ArrayList<>(partial));
+			}
+			return results;
+		}
+		final int[] indexes = new int[combinationSize];
+		int depth = 0;
+		int next = 0;
+		while (true)
+		{
+			if (next <= n - combinationSize + depth)
+			{
+				partial.add(values.get(next));
+				indexes[depth] = next++;
+				if (!predicate.test(view))
+				{
+					partial.remove(depth);
+				}
+				else if (depth + 1 < combinationSize)
+				{
+					depth++;
+				}
+				else
+				{
+					results.add(new ArrayList<>(partial));
+					if (results.size() == maxResults)
+					{
+						return results;
+					}
+					partial.remove(depth);
+				}
+			}
+			else
+			{
+				if (depth == 0)
+				{
+					return results;
+				}
+				depth--;
+				next = indexes[depth] + 1;
+				partial.remove(depth);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,383 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * The class {@link IndexedUniqueList} has the same behavior as the {@link UniqueList} but holds
+ * additionally a hash index of its elements. So the duplicate detection in the add-methods and
+ * the method {@link #contains(Object)} runs in constant time and adding n elements over
+ * {@link #addAll(Collection)} runs in linear time. <br>
+ * <br>
+ * Note: as in the {@link UniqueList} the method {@link #set(int, Object)} does not check for
+ * duplicates, so the index counts the occurrences of each element
+ *
+ * @param <E>
+ *            the generic type of values
+ * @see UniqueList
+ */
+public class IndexedUniqueList<E> extends AbstractList<E> implements RandomAccess, Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The elements of this list
+	 */
+	private final ArrayList<E> elements;
+
+	/**
+	 * The count of the occurrences of each element in this list
+	 */
+	private final HashMap<E, Integer> index;
+
+	/**
+	 * Constructs an empty {@link IndexedUniqueList} instance with the specified initial capacity
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity
+	 */
+	public IndexedUniqueList(int initialCapacity)
+	{
+		elements = new ArrayList<>(initialCapacity);
+		index = new HashMap<>(Math.max(16, (int)(initialCapacity / .75f) + 1));
+	}
+
+	/**
+	 * Constructs an empty {@link IndexedUniqueList} instance with an initial capacity of ten
+	 */
+	public IndexedUniqueList()
+	{
+		this(10);
+	}
+
+	/**
+	 * Constructs a {@link IndexedUniqueList} instance containing the elements of the given
+	 * collection
+	 *
+	 * @param collection
+	 *            the collection
+	 */
+	public IndexedUniqueList(Collection<? extends E> collection)
+	{
+		this(collection.size());
+		addAll(collection);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(int index)
+	{
+		return elements.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return elements.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(Object o)
+	{
+		return index.containsKey(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(Object o)
+	{
+		return contains(o) ? elements.indexOf(o) : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastIndexOf(Object o)
+	{
+		return contains(o) ? elements.lastIndexOf(o) : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean add(E element)
+	{
+		if (contains(element))
+		{
+			return false;
+		}
+		modCount++;
+		elements.add(element);
+		increment(element);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, E element)
+	{
+		if (index < 0 || size() < index)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		int previous = indexOf(element);
+		if (previous < 0)
+		{
+			insert(index, element);
+		}
+		else
+		{
+			remove(previous);
+			// the list is one element shorter now, so the end of the list moves one to the front
+			insert(Math.min(index, size()), element);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> collection)
+	{
+		elements.ensureCapacity(elements.size() + collection.size());
+		boolean modified = false;
+		for (E element : collection)
+		{
+			modified |= add(element);
+		}
+		return modified;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean addAll(int index, Collection<? extends E> collection)
+	{
+		if (collection.size() == 0)
+		{
+			return false;
+		}
+		int currentIndex = index;
+		for (E element : collection)
+		{
+			if (currentIndex >= size())
+			{
+				this.add(element);
+			}
+			else
+			{
+				this.add(currentIndex, element);
+			}
+			currentIndex++;
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E set(int index, E element)
+	{
+		E previous = elements.set(index, element);
+		decrement(previous);
+		increment(element);
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E remove(int index)
+	{
+		modCount++;
+		E removed = elements.remove(index);
+		decrement(removed);
+		return removed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean remove(Object o)
+	{
+		int index = indexOf(o);
+		if (index < 0)
+		{
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean removeAll(Collection<?> collection)
+	{
+		Objects.requireNonNull(collection);
+		return removeIf(collection::contains);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean retainAll(Collection<?> collection)
+	{
+		Objects.requireNonNull(collection);
+		return removeIf(element -> !collection.contains(element));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter)
+	{
+		Objects.requireNonNull(filter);
+		List<E> removedElements = new ArrayList<>();
+		// the index is updated after the removal, so a failing filter leaves list and index as is
+		boolean removed = elements.removeIf(element -> {
+			if (filter.test(element))
+			{
+				removedElements.add(element);
+				return true;
+			}
+			return false;
+		});
+		if (removed)
+		{
+			modCount++;
+			removedElements.forEach(this::decrement);
+		}
+		return removed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sort(Comparator<? super E> comparator)
+	{
+		modCount++;
+		elements.sort(comparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		modCount++;
+		elements.clear();
+		index.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex)
+	{
+		modCount++;
+		for (int i = fromIndex; i < toIndex; i++)
+		{
+			decrement(elements.get(i));
+		}
+		elements.subList(fromIndex, toIndex).clear();
+	}
+
+	/**
+	 * Inserts the given element at the given index in the list of elements and in the index
+	 *
+	 * @param index
+	 *            the index
+	 * @param element
+	 *            the element
+	 */
+	private void insert(int index, E element)
+	{
+		modCount++;
+		elements.add(index, element);
+		increment(element);
+	}
+
+	/**
+	 * Increments the occurrences of the given element in the index
+	 *
+	 * @param element
+	 *            the element
+	 */
+	private void increment(E element)
+	{
+		index.merge(element, 1, Integer::sum);
+	}
+
+	/**
+	 * Decrements the occurrences of the given element in the index and removes it from the index
+	 * if it does not occur anymore
+	 *
+	 * @param element
+	 *            the element
+	 */
+	private void decrement(E element)
+	{
+		index.computeIfPresent(element, (key, count) -> count == 1 ? null : count - 1);
+	}
+}
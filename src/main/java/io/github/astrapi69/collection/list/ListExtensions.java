@@ -24,23 +24,40 @@
  */
 package io.github.astrapi69.collection.list;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import io.github.astrapi69.check.Argument;
 import io.github.astrapi69.check.Check;
 import io.github.astrapi69.collection.CollectionExtensions;
 import io.github.astrapi69.collection.array.ArrayFactory;
+import io.github.astrapi69.collection.iterator.CartesianProductIterator;
+import io.github.astrapi69.collection.iterator.CartesianProductSpliterator;
+import io.github.astrapi69.collection.iterator.CombinationIterator;
+import io.github.astrapi69.collection.iterator.CombinationSpliterator;
+import io.github.astrapi69.collection.iterator.PartitionIterator;
+import io.github.astrapi69.collection.iterator.PartitionSpliterator;
+import io.github.astrapi69.collection.iterator.PermutationIterator;
+import io.github.astrapi69.collection.iterator.PermutationSpliterator;
 import io.github.astrapi69.collection.map.MapFactory;
 import io.github.astrapi69.collection.modification.ModifiedCollections;
 import io.github.astrapi69.comparator.factory.ComparatorFactory;
@@ -222,6 +239,243 @@ public final class ListExtensions
 		return combinations;
 	}
 
+	/**
+	 * Gets an {@link Iterable} over all possible combinations from the given list. In difference to
+	 * the method {@link #getAllCombinations(List, int)} the combinations are computed lazily while
+	 * the iteration in the same order
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param combinationSize
+	 *            the size of the elements of the combinations to generate
+	 * @return the {@link Iterable} over all possible combinations from the given list
+	 */
+	public static <T> Iterable<List<T>> iterateCombinations(final List<T> possibleValues,
+		final int combinationSize)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		return () -> new CombinationIterator<>(possibleValues, combinationSize);
+	}
+
+	/**
+	 * Gets a lazy {@link Stream} over all possible combinations from the given list in the same
+	 * order as the method {@link #getAllCombinations(List, int)}
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param combinationSize
+	 *            the size of the elements of the combinations to generate
+	 * @return the {@link Stream} over all possible combinations from the given list
+	 */
+	public static <T> Stream<List<T>> streamCombinations(final List<T> possibleValues,
+		final int combinationSize)
+	{
+		return streamCombinations(possibleValues, combinationSize, false);
+	}
+
+	/**
+	 * Gets a lazy {@link Stream} over all possible combinations from the given list in the same
+	 * order as the method {@link #getAllCombinations(List, int)}. A parallel stream splits the
+	 * combinations in balanced ranges over a {@link CombinationSpliterator}
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param combinationSize
+	 *            the size of the elements of the combinations to generate
+	 * @param parallel
+	 *            the flag if the returned stream is a parallel stream
+	 * @return the {@link Stream} over all possible combinations from the given list
+	 */
+	public static <T> Stream<List<T>> streamCombinations(final List<T> possibleValues,
+		final int combinationSize, final boolean parallel)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Spliterator<List<T>> spliterator;
+		try
+		{
+			spliterator = new CombinationSpliterator<>(possibleValues, combinationSize);
+		}
+		catch (final ArithmeticException e)
+		{
+			spliterator = Spliterators.spliteratorUnknownSize(
+				new CombinationIterator<>(possibleValues, combinationSize),
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		}
+		return StreamSupport.stream(spliterator, parallel);
+	}
+
+	/**
+	 * Performs the given action for all possible combinations from the given list in the same order
+	 * as the method {@link #getAllCombinations(List, int)}. The action gets a read only view of
+	 * each combination that is reused for the next combination, so it must be copied if it is
+	 * needed after the action
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param combinationSize
+	 *            the size of the elements of the combinations to generate
+	 * @param action
+	 *            the action for each combination
+	 */
+	public static <T> void forEachCombination(final List<T> possibleValues,
+		final int combinationSize, final Consumer<? super List<T>> action)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Argument.notNull(action, "action");
+		new CombinationIterator<>(possibleValues, combinationSize).forEachRemainingView(action);
+	}
+
+	/**
+	 * Gets an {@link Iterable} over all permutations of the given size from the given list in
+	 * lexicographic order of the indexes. If the size is less than the size of the list the ordered
+	 * selections of this size are iterated
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param permutationSize
+	 *            the size of the permutations to generate
+	 * @return the {@link Iterable} over all permutations from the given list
+	 */
+	public static <T> Iterable<List<T>> iteratePermutations(final List<T> possibleValues,
+		final int permutationSize)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		return () -> new PermutationIterator<>(possibleValues, permutationSize);
+	}
+
+	/**
+	 * Gets a lazy {@link Stream} over all permutations of the given size from the given list in
+	 * lexicographic order of the indexes. A parallel stream splits the permutations in balanced
+	 * ranges over a {@link PermutationSpliterator}
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param permutationSize
+	 *            the size of the permutations to generate
+	 * @param parallel
+	 *            the flag if the returned stream is a parallel stream
+	 * @return the {@link Stream} over all permutations from the given list
+	 */
+	public static <T> Stream<List<T>> streamPermutations(final List<T> possibleValues,
+		final int permutationSize, final boolean parallel)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Spliterator<List<T>> spliterator;
+		try
+		{
+			spliterator = new PermutationSpliterator<>(possibleValues, permutationSize);
+		}
+		catch (final ArithmeticException e)
+		{
+			spliterator = Spliterators.spliteratorUnknownSize(
+				new PermutationIterator<>(possibleValues, permutationSize),
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		}
+		return StreamSupport.stream(spliterator, parallel);
+	}
+
+	/**
+	 * Performs the given action for all permutations of the given size from the given list in
+	 * lexicographic order of the indexes. The action gets a read only view of each permutation that
+	 * is reused for the next permutation, so it must be copied if it is needed after the action
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the list
+	 * @param possibleValues
+	 *            the list with the element values
+	 * @param permutationSize
+	 *            the size of the permutations to generate
+	 * @param action
+	 *            the action for each permutation
+	 */
+	public static <T> void forEachPermutation(final List<T> possibleValues,
+		final int permutationSize, final Consumer<? super List<T>> action)
+	{
+		Argument.notNull(possibleValues, "possibleValues");
+		Argument.notNull(action, "action");
+		new PermutationIterator<>(possibleValues, permutationSize).forEachRemainingView(action);
+	}
+
+	/**
+	 * Gets an {@link Iterable} over the cartesian product of the given lists, that is all tuples
+	 * with one element of each list where the last list changes the fastest
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the lists
+	 * @param lists
+	 *            the lists of the product
+	 * @return the {@link Iterable} over the cartesian product of the given lists
+	 */
+	public static <T> Iterable<List<T>> iterateCartesianProduct(
+		final List<? extends List<? extends T>> lists)
+	{
+		Argument.notNull(lists, "lists");
+		return () -> new CartesianProductIterator<>(lists);
+	}
+
+	/**
+	 * Gets a lazy {@link Stream} over the cartesian product of the given lists in the same order as
+	 * the method {@link #iterateCartesianProduct(List)}. A parallel stream splits the tuples in
+	 * balanced ranges over a {@link CartesianProductSpliterator}
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the lists
+	 * @param lists
+	 *            the lists of the product
+	 * @param parallel
+	 *            the flag if the returned stream is a parallel stream
+	 * @return the {@link Stream} over the cartesian product of the given lists
+	 */
+	public static <T> Stream<List<T>> streamCartesianProduct(
+		final List<? extends List<? extends T>> lists, final boolean parallel)
+	{
+		Argument.notNull(lists, "lists");
+		Spliterator<List<T>> spliterator;
+		try
+		{
+			spliterator = new CartesianProductSpliterator<>(lists);
+		}
+		catch (final ArithmeticException e)
+		{
+			spliterator = Spliterators.spliteratorUnknownSize(
+				new CartesianProductIterator<>(lists), Spliterator.ORDERED | Spliterator.NONNULL);
+		}
+		return StreamSupport.stream(spliterator, parallel);
+	}
+
+	/**
+	 * Performs the given action for all tuples of the cartesian product of the given lists in the
+	 * same order as the method {@link #iterateCartesianProduct(List)}. The action gets a read only
+	 * view of each tuple that is reused for the next tuple, so it must be copied if it is needed
+	 * after the action
+	 *
+	 * @param <T>
+	 *            the generic type of the elements in the lists
+	 * @param lists
+	 *            the lists of the product
+	 * @param action
+	 *            the action for each tuple
+	 */
+	public static <T> void forEachCartesianProduct(final List<? extends List<? extends T>> lists,
+		final Consumer<? super List<T>> action)
+	{
+		Argument.notNull(lists, "lists");
+		Argument.notNull(action, "action");
+		new CartesianProductIterator<T>(lists).forEachRemainingView(action);
+	}
+
 	/**
 	 * Returns an {@link Optional} with the first object from the given {@link List}
 	 *
@@ -296,12 +550,12 @@ public final class ListExtensions
 	public static <T> Optional<T> getNextElement(final List<T> list, final T element)
 	{
 		Argument.notNull(list, "list");
-		if (ListExtensions.hasNext(list, element))
+		final int indexOfElement = list.indexOf(element);
+		if (indexOfElement == -1 || indexOfElement == list.size() - 1)
 		{
-			int nextIndex = list.indexOf(element) + 1;
-			return Optional.of(list.get(nextIndex));
+			return Optional.empty();
 		}
-		return Optional.empty();
+		return Optional.of(list.get(indexOfElement + 1));
 	}
 
 	/**
@@ -514,6 +768,11 @@ public final class ListExtensions
 	{
 		Argument.notNull(element, "element");
 		Argument.notNull(list, "list");
+		if (list instanceof RelocatableList)
+		{
+			((RelocatableList<T>)list).relocate(element, newIndex);
+			return;
+		}
 		int index = list.indexOf(element);
 		if (index < 0 || index == newIndex)
 		{
@@ -530,6 +789,94 @@ public final class ListExtensions
 		}
 	}
 
+	/**
+	 * Relocates all given elements in the given {@link List} to their given positions in one pass.
+	 * The other elements keeps their order and fills the remaining positions
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list that contains the elements that have to be relocated
+	 * @param targets
+	 *            the new position of each element to relocate
+	 * @throws IllegalArgumentException
+	 *             if a position is out of range or given twice or an element is not in the list
+	 */
+	public static <T> void relocateAll(final List<T> list, final Map<? extends T, Integer> targets)
+	{
+		Argument.notNull(list, "list");
+		Argument.notNull(targets, "targets");
+		if (list instanceof RelocatableList)
+		{
+			((RelocatableList<T>)list).relocateAll(targets);
+			return;
+		}
+		final List<T> reordered = reorder(list, targets);
+		final ListIterator<T> iterator = list.listIterator();
+		for (final T element : reordered)
+		{
+			iterator.next();
+			iterator.set(element);
+		}
+	}
+
+	/**
+	 * Creates a new list with the elements of the given list where the given elements are at their
+	 * given positions and the other elements keeps their order
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param list
+	 *            the list with the elements
+	 * @param targets
+	 *            the new position of each element to relocate
+	 * @return the new list with the reordered elements
+	 * @throws IllegalArgumentException
+	 *             if a position is out of range or given twice or an element is not in the list
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> reorder(final List<T> list, final Map<? extends T, Integer> targets)
+	{
+		final int size = list.size();
+		final Object[] reordered = new Object[size];
+		final boolean[] occupied = new boolean[size];
+		for (final Map.Entry<? extends T, Integer> entry : targets.entrySet())
+		{
+			final int target = entry.getValue();
+			if (target < 0 || size <= target || occupied[target])
+			{
+				throw new IllegalArgumentException(
+					"The position " + target + " is out of range or given twice");
+			}
+			occupied[target] = true;
+			reordered[target] = entry.getKey();
+		}
+		final Set<Object> pending = new HashSet<>(targets.keySet());
+		int slot = 0;
+		for (final T element : list)
+		{
+			if (!pending.isEmpty() && pending.remove(element))
+			{
+				continue;
+			}
+			while (slot < size && occupied[slot])
+			{
+				slot++;
+			}
+			if (slot == size)
+			{
+				throw new IllegalArgumentException(
+					"The targets contains elements that are not in the list");
+			}
+			reordered[slot++] = element;
+		}
+		if (!pending.isEmpty())
+		{
+			throw new IllegalArgumentException("The elements " + pending + " are not in the list");
+		}
+		return Arrays.asList((T[])reordered);
+	}
+
 	/**
 	 * Removes the first object from the given List.
 	 *
@@ -649,7 +996,8 @@ public final class ListExtensions
 
 	/**
 	 * Shuffle selected elements in the source list to the destination list from the given indexes
-	 * in the array selectedElements.
+	 * in the array selectedElements. If the indexes are sorted ascending the elements are moved in
+	 * one pass over the method {@link #transfer(List, List, BitSet)}
 	 *
 	 * @param <T>
 	 *            the generic type
@@ -663,6 +1011,15 @@ public final class ListExtensions
 	public static <T> void shuffle(final List<T> source, final List<T> destination,
 		final int[] selectedElements)
 	{
+		if (isStrictlyAscending(selectedElements))
+		{
+			// the selected elements are added in descending order of their indexes
+			final List<T> transferred = new ArrayList<>(selectedElements.length);
+			transfer(source, transferred, toBitSet(selectedElements, source.size()));
+			Collections.reverse(transferred);
+			destination.addAll(transferred);
+			return;
+		}
 		final int lastIndex = selectedElements.length - 1;
 		for (int i = lastIndex; -1 < i; i--)
 		{
@@ -672,6 +1029,145 @@ public final class ListExtensions
 		}
 	}
 
+	/**
+	 * Moves the elements at the given indexes from the source list to the end of the destination
+	 * list in the order of their indexes. The source list is compacted in one pass, so the costs
+	 * are linear in the size of the source list independent of the count of the moved elements
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param source
+	 *            the source list
+	 * @param destination
+	 *            the destination list
+	 * @param indexes
+	 *            the indexes of the elements to move, duplicates are moved only once
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the source list
+	 */
+	public static <T> void transfer(final List<T> source, final List<T> destination,
+		final int... indexes)
+	{
+		Argument.notNull(source, "source");
+		Argument.notNull(indexes, "indexes");
+		transfer(source, destination, toBitSet(indexes, source.size()));
+	}
+
+	/**
+	 * Moves the elements at the indexes of the set bits of the given {@link BitSet} from the source
+	 * list to the end of the destination list in the order of their indexes. The source list is
+	 * compacted in one pass, so the costs are linear in the size of the source list independent of
+	 * the count of the moved elements
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param source
+	 *            the source list
+	 * @param destination
+	 *            the destination list
+	 * @param indexes
+	 *            the indexes of the elements to move
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the range of the source list
+	 */
+	public static <T> void transfer(final List<T> source, final List<T> destination,
+		final BitSet indexes)
+	{
+		Argument.notNull(source, "source");
+		Argument.notNull(destination, "destination");
+		Argument.notNull(indexes, "indexes");
+		final int size = source.size();
+		if (size < indexes.length())
+		{
+			throw new IndexOutOfBoundsException(
+				"Index: " + (indexes.length() - 1) + ", Size: " + size);
+		}
+		if (destination instanceof ArrayList)
+		{
+			((ArrayList<T>)destination).ensureCapacity(destination.size() + indexes.cardinality());
+		}
+		if (source instanceof RandomAccess)
+		{
+			int target = indexes.nextSetBit(0);
+			if (target < 0)
+			{
+				return;
+			}
+			for (int i = target; i < size; i++)
+			{
+				final T element = source.get(i);
+				if (indexes.get(i))
+				{
+					destination.add(element);
+				}
+				else
+				{
+					source.set(target++, element);
+				}
+			}
+			source.subList(target, size).clear();
+		}
+		else
+		{
+			final ListIterator<T> iterator = source.listIterator();
+			int next = indexes.nextSetBit(0);
+			for (int i = 0; 0 <= next; i++)
+			{
+				final T element = iterator.next();
+				if (i == next)
+				{
+					destination.add(element);
+					iterator.remove();
+					next = indexes.nextSetBit(next + 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks if the given indexes are sorted strictly ascending
+	 *
+	 * @param indexes
+	 *            the indexes
+	 * @return true if the given indexes are sorted strictly ascending otherwise false
+	 */
+	private static boolean isStrictlyAscending(final int[] indexes)
+	{
+		for (int i = 1; i < indexes.length; i++)
+		{
+			if (indexes[i] <= indexes[i - 1])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a {@link BitSet} with the given indexes as set bits
+	 *
+	 * @param indexes
+	 *            the indexes
+	 * @param size
+	 *            the size of the range of the indexes
+	 * @return the new {@link BitSet}
+	 * @throws IndexOutOfBoundsException
+	 *             if an index is out of the given range
+	 */
+	private static BitSet toBitSet(final int[] indexes, final int size)
+	{
+		final BitSet bitSet = new BitSet(size);
+		for (final int index : indexes)
+		{
+			if (index < 0 || size <= index)
+			{
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			bitSet.set(index);
+		}
+		return bitSet;
+	}
+
 	/**
 	 * Extracts a portion of a list between the specified {@code fromIndex}, inclusive, and
 	 * {@code toIndex}, exclusive. This method provides a safe way to get a sublist, ensuring that
@@ -736,7 +1232,8 @@ public final class ListExtensions
 
 	/**
 	 * Splits the given {@link Collection} to parts to the specified size and returns a list with
-	 * the parts.
+	 * the parts. If the given collection is a list with random access the returned list is a read
+	 * only view and the parts are views of the given list, so no element is copied
 	 *
 	 * @param <T>
 	 *            the generic type
@@ -745,33 +1242,55 @@ public final class ListExtensions
 	 * @param size
 	 *            How to split
 	 * @return a List with the split Parts
+	 * @throws IllegalArgumentException
+	 *             if the given size is not positive
 	 */
 	public static <T> List<List<T>> splitToParts(final Collection<T> collection, final int size)
 	{
+		Argument.notNull(collection, "collection");
+		if (collection instanceof List && collection instanceof RandomAccess)
+		{
+			return new PartitionList<>((List<T>)collection, size);
+		}
 		final List<List<T>> returnList = ListFactory.newArrayList();
-		List<T> tmp = ListFactory.newArrayList();
-		final Iterator<T> it = collection.iterator();
-		int count = 0;
-		while (it.hasNext())
+		new PartitionIterator<T>(collection.iterator(), size).forEachRemaining(returnList::add);
+		return returnList;
+	}
+
+	/**
+	 * Gets a lazy {@link Stream} over the parts of the specified size from the given
+	 * {@link Iterable}. If the given iterable is a list with random access the parts are views of
+	 * the given list and a parallel stream splits on the boundaries of the parts over a
+	 * {@link PartitionSpliterator}, otherwise the parts are filled while the stream is consumed
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param iterable
+	 *            The iterable to split
+	 * @param size
+	 *            the size of the parts
+	 * @param parallel
+	 *            the flag if the returned stream is a parallel stream
+	 * @return the {@link Stream} over the parts
+	 * @throws IllegalArgumentException
+	 *             if the given size is not positive
+	 */
+	public static <T> Stream<List<T>> streamParts(final Iterable<T> iterable, final int size,
+		final boolean parallel)
+	{
+		Argument.notNull(iterable, "iterable");
+		final Spliterator<List<T>> spliterator;
+		if (iterable instanceof List && iterable instanceof RandomAccess)
 		{
-			if (count == size)
-			{
-				returnList.add(tmp);
-				tmp = ListFactory.newArrayList();
-				tmp.add(it.next());
-				count = 1;
-			}
-			else
-			{
-				tmp.add(it.next());
-				count++;
-			}
+			spliterator = new PartitionSpliterator<>((List<T>)iterable, size);
 		}
-		if (!tmp.isEmpty())
+		else
 		{
-			returnList.add(tmp);
+			spliterator = Spliterators.spliteratorUnknownSize(
+				new PartitionIterator<T>(iterable.iterator(), size),
+				Spliterator.ORDERED | Spliterator.NONNULL);
 		}
-		return returnList;
+		return StreamSupport.stream(spliterator, parallel);
 	}
 
 	/**
@@ -921,7 +1440,7 @@ public final class ListExtensions
 		Comparator<? super T> comparator)
 	{
 		int indexToInsert = Collections.binarySearch(list, element, comparator);
-		if (!list.contains(element))
+		if (indexToInsert < 0)
 		{
 			indexToInsert = -indexToInsert - 1;
 		}
@@ -945,13 +1464,8 @@ public final class ListExtensions
 	public static <T> boolean isBefore(final List<T> list, final T element, final T elementToCheck)
 	{
 		nullChecks(list, element, elementToCheck);
-		if (list.contains(element) && list.contains(elementToCheck))
-		{
-			int indexOfElement = list.indexOf(element);
-			int indexOfElementToCheck = list.indexOf(elementToCheck);
-			return indexOfElementToCheck < indexOfElement;
-		}
-		return false;
+		final int indexOfElementToCheck = list.indexOf(elementToCheck);
+		return indexOfElementToCheck != -1 && indexOfElementToCheck < list.indexOf(element);
 	}
 
 	private static <T> void nullChecks(List<T> list, T element, T elementToCheck)
@@ -977,16 +1491,9 @@ public final class ListExtensions
 	 */
 	public static <T> boolean isAfter(final List<T> list, final T element, final T elementToCheck)
 	{
-		Objects.requireNonNull(list);
-		Objects.requireNonNull(element);
-		Objects.requireNonNull(elementToCheck);
-		if (list.contains(element) && list.contains(elementToCheck))
-		{
-			int indexOfElement = list.indexOf(element);
-			int indexOfElementToCheck = list.indexOf(elementToCheck);
-			return indexOfElement < indexOfElementToCheck;
-		}
-		return false;
+		nullChecks(list, element, elementToCheck);
+		final int indexOfElement = list.indexOf(element);
+		return indexOfElement != -1 && indexOfElement < list.indexOf(elementToCheck);
 	}
 
 }
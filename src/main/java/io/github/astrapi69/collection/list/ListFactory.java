@@ -101,16 +101,17 @@ public final class ListFactory
 	}
 
 	/**
-	 * Factory method for create new {@link UniqueList} from the given optional collection and the
-	 * given optional elements.
+	 * Factory method for create new {@link IndexedUniqueList} from the given optional collection
+	 * and the given optional elements. The returned list has the behavior of a {@link UniqueList}
+	 * but detects duplicates over a hash index.
 	 *
 	 * @param <T>
 	 *            the generic type of the elements
 	 * @param collection
 	 *            the optional collection that will be added to the new list
 	 * @param elements
-	 *            the optional elements to be added in the new {@link UniqueList}.
-	 * @return the new {@link UniqueList} as {@link List}.
+	 *            the optional elements to be added in the new {@link IndexedUniqueList}.
+	 * @return the new {@link IndexedUniqueList} as {@link List}.
 	 */
 	@SafeVarargs
 	public static <T> List<T> newUniqueList(final Collection<T> collection, final T... elements)
@@ -118,26 +119,27 @@ public final class ListFactory
 		final List<T> list;
 		if (CollectionExtensions.isNotEmpty(collection))
 		{
-			list = new SortedUniqueList<>(collection);
+			list = new IndexedUniqueList<>(collection);
 			Collections.addAll(list, elements);
 		}
 		else
 		{
-			list = new SortedUniqueList<>();
+			list = new IndexedUniqueList<>(elements.length);
 			Collections.addAll(list, elements);
 		}
 		return list;
 	}
 
 	/**
-	 * Factory method for create new {@link UniqueList} from the given optional collection and the
-	 * given optional elements.
+	 * Factory method for create new {@link IndexedUniqueList} from the given optional elements.
+	 * The returned list has the behavior of a {@link UniqueList} but detects duplicates over a
+	 * hash index.
 	 *
 	 * @param <T>
 	 *            the generic type of the elements
 	 * @param elements
-	 *            the optional elements to be added in the new {@link UniqueList}.
-	 * @return the new {@link UniqueList} as {@link List}.
+	 *            the optional elements to be added in the new {@link IndexedUniqueList}.
+	 * @return the new {@link IndexedUniqueList} as {@link List}.
 	 */
 	@SafeVarargs
 	public static <T> List<T> newUniqueList(final T... elements)
@@ -226,6 +228,50 @@ public final class ListFactory
 		return newSortedUniqueList(null, elements);
 	}
 
+	/**
+	 * Factory method for create new {@link TreeSortedUniqueList} from the given optional collection
+	 * and the given optional elements. In difference to the {@link SortedUniqueList} the returned
+	 * list adds, removes and finds elements in logarithmic time
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param collection
+	 *            the optional collection that will be added to the new list
+	 * @param comparator
+	 *            the comparator, if null the natural ordering of the elements is used
+	 * @param elements
+	 *            the optional elements to be added in the new {@link TreeSortedUniqueList}.
+	 * @return the new {@link TreeSortedUniqueList} as {@link List}.
+	 */
+	@SafeVarargs
+	public static <T> List<T> newTreeSortedUniqueList(final Collection<T> collection,
+		Comparator<? super T> comparator, final T... elements)
+	{
+		final List<T> list = new TreeSortedUniqueList<>(comparator);
+		if (CollectionExtensions.isNotEmpty(collection))
+		{
+			list.addAll(collection);
+		}
+		Collections.addAll(list, elements);
+		return list;
+	}
+
+	/**
+	 * Factory method for create new {@link TreeSortedUniqueList} from the given optional elements
+	 * sorted in their natural ordering
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 * @param elements
+	 *            the optional elements to be added in the new {@link TreeSortedUniqueList}.
+	 * @return the new {@link TreeSortedUniqueList} as {@link List}.
+	 */
+	@SafeVarargs
+	public static <T> List<T> newTreeSortedUniqueList(final T... elements)
+	{
+		return newTreeSortedUniqueList(null, null, elements);
+	}
+
 	/**
 	 * Factory method for create new {@link SortedList} from the given optional collection and the
 	 * given optional elements.
@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import io.github.astrapi69.collection.iterator.PartitionSpliterator;
+
+/**
+ * The class {@link PartitionList} is a read only view of a list with random access as list of
+ * consecutive parts of the same size, only the last part can be smaller. The parts are views of
+ * the given list that are created on access, so no element is copied. Like with the method
+ * {@link List#subList(int, int)} the parts are undefined if the size of the given list changes
+ *
+ * @param <T>
+ *            the generic type of the elements
+ */
+final class PartitionList<T> extends AbstractList<List<T>> implements RandomAccess
+{
+
+	/** The partitioned list. */
+	private final List<T> list;
+
+	/** The size of the parts. */
+	private final int partSize;
+
+	/**
+	 * Instantiates a new {@link PartitionList}
+	 *
+	 * @param list
+	 *            the list to partition
+	 * @param partSize
+	 *            the size of the parts
+	 * @throws IllegalArgumentException
+	 *             if the given size of the parts is not positive
+	 */
+	PartitionList(final List<T> list, final int partSize)
+	{
+		if (partSize < 1)
+		{
+			throw new IllegalArgumentException("partSize must be positive: " + partSize);
+		}
+		this.list = list;
+		this.partSize = partSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<T> get(final int index)
+	{
+		final int size = size();
+		if (index < 0 || size <= index)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		final int from = index * partSize;
+		return list.subList(from, from + Math.min(partSize, list.size() - from));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return (int)((list.size() + (long)partSize - 1) / partSize);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<List<T>> spliterator()
+	{
+		return new PartitionSpliterator<>(list, partSize);
+	}
+
+}
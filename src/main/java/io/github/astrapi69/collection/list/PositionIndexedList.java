@@ -0,0 +1,247 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import io.github.astrapi69.check.Argument;
+
+/**
+ * The class {@link PositionIndexedList} decorates a list with random access and holds an index of
+ * the position of the first occurrence of each element. So the methods {@link #indexOf(Object)}
+ * and {@link #contains(Object)} runs in constant time, and with them the navigation methods of
+ * {@link ListExtensions} like {@link ListExtensions#getNextElement(List, Object)} or
+ * {@link ListExtensions#isBefore(List, Object, Object)}. <br>
+ * <br>
+ * Appending and removing the last element updates the index, other modifications that shifts the
+ * positions discards it and the next query rebuilds it once. Modifications of the decorated list
+ * that are not made over this list are not detected
+ *
+ * @param <E>
+ *            the generic type of the elements
+ */
+public class PositionIndexedList<E> extends AbstractList<E> implements RandomAccess, Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The decorated list
+	 */
+	private final List<E> list;
+
+	/**
+	 * The position of the first occurrence of each element or null if the index must be rebuild
+	 */
+	private transient Map<Object, Integer> positions;
+
+	/**
+	 * Constructs an empty {@link PositionIndexedList} instance
+	 */
+	public PositionIndexedList()
+	{
+		this(new ArrayList<>());
+	}
+
+	/**
+	 * Constructs a {@link PositionIndexedList} instance that decorates the given list. If the given
+	 * list has no random access its elements are copied to a new list
+	 *
+	 * @param list
+	 *            the list to decorate
+	 */
+	public PositionIndexedList(final List<E> list)
+	{
+		Argument.notNull(list, "list");
+		this.list = list instanceof RandomAccess ? list : new ArrayList<>(list);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(final int index)
+	{
+		return list.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return list.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(final Object o)
+	{
+		return getPositions().containsKey(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(final Object o)
+	{
+		final Integer position = getPositions().get(o);
+		return position == null ? -1 : position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastIndexOf(final Object o)
+	{
+		return contains(o) ? list.lastIndexOf(o) : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E set(final int index, final E element)
+	{
+		final E previous = list.set(index, element);
+		if (positions != null && !Objects.equals(previous, element))
+		{
+			final Integer previousPosition = positions.get(previous);
+			if (previousPosition != null && previousPosition == index)
+			{
+				// the next occurrence of the previous element is unknown
+				positions = null;
+			}
+			else
+			{
+				positions.merge(element, index, Math::min);
+			}
+		}
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(final int index, final E element)
+	{
+		final int size = list.size();
+		list.add(index, element);
+		modCount++;
+		if (positions != null)
+		{
+			if (index == size)
+			{
+				positions.putIfAbsent(element, index);
+			}
+			else
+			{
+				positions = null;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E remove(final int index)
+	{
+		final E removed = list.remove(index);
+		modCount++;
+		if (positions != null)
+		{
+			if (index == list.size())
+			{
+				positions.remove(removed, index);
+			}
+			else
+			{
+				positions = null;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		list.clear();
+		modCount++;
+		positions = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void removeRange(final int fromIndex, final int toIndex)
+	{
+		list.subList(fromIndex, toIndex).clear();
+		modCount++;
+		positions = null;
+	}
+
+	/**
+	 * Gets the index of the positions and rebuilds it if it was discarded
+	 *
+	 * @return the index of the positions
+	 */
+	private Map<Object, Integer> getPositions()
+	{
+		if (positions == null)
+		{
+			final int size = list.size();
+			final Map<Object, Integer> rebuild = new HashMap<>(
+				Math.max(16, (int)(size / .75f) + 1));
+			for (int i = 0; i < size; i++)
+			{
+				rebuild.putIfAbsent(list.get(i), i);
+			}
+			positions = rebuild;
+		}
+		return positions;
+	}
+
+}
@@ -0,0 +1,630 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The class {@link RelocatableList} is a list with unique elements that is optimized for moving
+ * elements to other positions. It is backed by an implicit treap, that is a tree ordered by the
+ * positions where every node holds the size of its subtree and a reference to its parent, and a
+ * hash index from the elements to their nodes. So the methods {@link #relocate(Object, int)},
+ * {@link #get(int)}, {@link #indexOf(Object)}, {@link #add(int, Object)} and {@link #remove(int)}
+ * runs in logarithmic time and {@link #contains(Object)} in constant time. The method
+ * {@link #relocateAll(Map)} applies many moves in one pass. <br>
+ * <br>
+ * Note: as in the {@link IndexedUniqueList} adding an element that is already in the list to a
+ * position moves it to this position
+ *
+ * @param <E>
+ *            the generic type of values
+ */
+public class RelocatableList<E> extends AbstractList<E> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The root node of the tree
+	 */
+	private transient Node<E> root;
+
+	/**
+	 * The node of each element of this list
+	 */
+	private transient Map<E, Node<E>> nodes = new HashMap<>();
+
+	/**
+	 * Constructs an empty {@link RelocatableList} instance
+	 */
+	public RelocatableList()
+	{
+	}
+
+	/**
+	 * Constructs a {@link RelocatableList} instance containing the elements of the given
+	 * collection, duplicates are ignored
+	 *
+	 * @param collection
+	 *            the collection
+	 */
+	public RelocatableList(final Collection<? extends E> collection)
+	{
+		addAll(collection);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return size(root);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(final int index)
+	{
+		checkIndex(index);
+		return nodeAt(index).element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(final Object o)
+	{
+		return nodes.containsKey(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(final Object o)
+	{
+		Node<E> node = nodes.get(o);
+		return node == null ? -1 : rank(node);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastIndexOf(final Object o)
+	{
+		return indexOf(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean add(final E element)
+	{
+		if (contains(element))
+		{
+			return false;
+		}
+		insert(size(), element);
+		return true;
+	}
+
+	/**
+	 * Adds the given element at the given position. If the element is already in this list it is
+	 * moved to the given position
+	 *
+	 * @param index
+	 *            the index
+	 * @param element
+	 *            the element
+	 */
+	@Override
+	public void add(final int index, final E element)
+	{
+		if (index < 0 || index > size())
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		if (contains(element))
+		{
+			relocate(element, index);
+		}
+		else
+		{
+			insert(index, element);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the given element is already at another position in this list
+	 */
+	@Override
+	public E set(final int index, final E element)
+	{
+		checkIndex(index);
+		Node<E> node = nodeAt(index);
+		E previous = node.element;
+		if (!Objects.equals(previous, element))
+		{
+			if (contains(element))
+			{
+				throw new IllegalArgumentException(
+					"The element " + element + " is already at another position");
+			}
+			nodes.remove(previous);
+			nodes.put(element, node);
+			node.element = element;
+		}
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E remove(final int index)
+	{
+		checkIndex(index);
+		Node<E> removed = detach(index);
+		nodes.remove(removed.element);
+		modCount++;
+		return removed.element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean remove(final Object o)
+	{
+		int index = indexOf(o);
+		if (index < 0)
+		{
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		root = null;
+		nodes.clear();
+		modCount++;
+	}
+
+	/**
+	 * Moves the given element to the given position. If the given position is not less than the
+	 * size of this list the element is moved to the end
+	 *
+	 * @param element
+	 *            the element to move
+	 * @param newIndex
+	 *            the new position of the element
+	 * @return true if the element was moved otherwise false
+	 */
+	public boolean relocate(final E element, final int newIndex)
+	{
+		Node<E> node = nodes.get(element);
+		if (node == null)
+		{
+			return false;
+		}
+		int index = rank(node);
+		if (index == newIndex)
+		{
+			return false;
+		}
+		Node<E> detached = detach(index);
+		attach(Math.min(Math.max(newIndex, 0), size()), detached);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Moves all given elements to their given positions in one pass. The other elements keeps
+	 * their order and fills the remaining positions
+	 *
+	 * @param targets
+	 *            the new position of each element to move
+	 * @throws IllegalArgumentException
+	 *             if a position is out of range or given twice or an element is not in this list
+	 */
+	public void relocateAll(final Map<? extends E, Integer> targets)
+	{
+		List<E> reordered = ListExtensions.reorder(toArrayList(), targets);
+		root = null;
+		for (E element : reordered)
+		{
+			Node<E> node = nodes.get(element);
+			node.reset();
+			root = merge(root, node);
+		}
+		if (root != null)
+		{
+			root.parent = null;
+		}
+		modCount++;
+	}
+
+	/**
+	 * Inserts a new node with the given element at the given position
+	 *
+	 * @param index
+	 *            the index
+	 * @param element
+	 *            the element
+	 */
+	private void insert(final int index, final E element)
+	{
+		Node<E> node = new Node<>(element);
+		nodes.put(element, node);
+		attach(index, node);
+		modCount++;
+	}
+
+	/**
+	 * Attaches the given single node at the given position to the tree
+	 *
+	 * @param index
+	 *            the index
+	 * @param node
+	 *            the node
+	 */
+	private void attach(final int index, final Node<E> node)
+	{
+		Node<E>[] parts = split(root, index);
+		root = merge(merge(parts[0], node), parts[1]);
+		root.parent = null;
+	}
+
+	/**
+	 * Detaches the node at the given position from the tree
+	 *
+	 * @param index
+	 *            the index
+	 * @return the detached node
+	 */
+	private Node<E> detach(final int index)
+	{
+		Node<E>[] parts = split(root, index);
+		Node<E> left = parts[0];
+		parts = split(parts[1], 1);
+		root = merge(left, parts[1]);
+		if (root != null)
+		{
+			root.parent = null;
+		}
+		Node<E> detached = parts[0];
+		detached.reset();
+		return detached;
+	}
+
+	/**
+	 * Gets the node at the given position
+	 *
+	 * @param index
+	 *            the index
+	 * @return the node at the given position
+	 */
+	private Node<E> nodeAt(final int index)
+	{
+		Node<E> node = root;
+		int remaining = index;
+		while (true)
+		{
+			int leftSize = size(node.left);
+			if (remaining < leftSize)
+			{
+				node = node.left;
+			}
+			else if (remaining == leftSize)
+			{
+				return node;
+			}
+			else
+			{
+				remaining -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * Computes the position of the given node over the path to the root
+	 *
+	 * @param node
+	 *            the node
+	 * @return the position of the given node
+	 */
+	private static int rank(final Node<?> node)
+	{
+		int rank = size(node.left);
+		Node<?> current = node;
+		while (current.parent != null)
+		{
+			if (current.parent.right == current)
+			{
+				rank += size(current.parent.left) + 1;
+			}
+			current = current.parent;
+		}
+		return rank;
+	}
+
+	/**
+	 * Splits the given subtree in the first nodes of the given count and the rest
+	 *
+	 * @param node
+	 *            the root of the subtree
+	 * @param count
+	 *            the count of the nodes of the first part
+	 * @return an array with the roots of the first part and of the rest
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <E> Node<E>[] split(final Node<E> node, final int count)
+	{
+		if (node == null)
+		{
+			return new Node[2];
+		}
+		Node<E>[] parts;
+		if (count <= size(node.left))
+		{
+			parts = split(node.left, count);
+			node.left = parts[1];
+			node.update();
+			parts[1] = node;
+		}
+		else
+		{
+			parts = split(node.right, count - size(node.left) - 1);
+			node.right = parts[0];
+			node.update();
+			parts[0] = node;
+		}
+		return parts;
+	}
+
+	/**
+	 * Merges the given subtrees, all nodes of the left subtree are before the nodes of the right
+	 * subtree
+	 *
+	 * @param left
+	 *            the left subtree
+	 * @param right
+	 *            the right subtree
+	 * @return the root of the merged subtree
+	 */
+	private static <E> Node<E> merge(final Node<E> left, final Node<E> right)
+	{
+		if (left == null)
+		{
+			return right;
+		}
+		if (right == null)
+		{
+			return left;
+		}
+		if (left.priority > right.priority)
+		{
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	/**
+	 * Collects the elements of this list in their order over one traversal of the tree
+	 *
+	 * @return the new list with the elements of this list
+	 */
+	private List<E> toArrayList()
+	{
+		List<E> elements = new ArrayList<>(size());
+		List<Node<E>> stack = new ArrayList<>();
+		Node<E> node = root;
+		while (node != null || !stack.isEmpty())
+		{
+			while (node != null)
+			{
+				stack.add(node);
+				node = node.left;
+			}
+			node = stack.remove(stack.size() - 1);
+			elements.add(node.element);
+			node = node.right;
+		}
+		return elements;
+	}
+
+	/**
+	 * Checks if the given index is in the range of this list
+	 *
+	 * @param index
+	 *            the index
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range (<code>index &lt; 0 || index &gt;= size()</code>)
+	 */
+	private void checkIndex(final int index)
+	{
+		if (index < 0 || index >= size())
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+	}
+
+	/**
+	 * Gets the size of the given subtree
+	 *
+	 * @param node
+	 *            the root of the subtree
+	 * @return the size of the given subtree
+	 */
+	private static int size(final Node<?> node)
+	{
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Writes the elements of this list in their order to the given stream
+	 *
+	 * @param out
+	 *            the object output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		List<E> elements = toArrayList();
+		out.writeInt(elements.size());
+		for (E element : elements)
+		{
+			out.writeObject(element);
+		}
+	}
+
+	/**
+	 * Reads the elements of this list from the given stream and rebuilds the tree
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             is thrown if a class was not found
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		nodes = new HashMap<>();
+		int size = in.readInt();
+		for (int i = 0; i < size; i++)
+		{
+			add((E)in.readObject());
+		}
+	}
+
+	/**
+	 * The class {@link Node} is a node of the tree that holds the size of its subtree and a
+	 * reference to its parent
+	 *
+	 * @param <E>
+	 *            the generic type of values
+	 */
+	private static final class Node<E>
+	{
+
+		/** The element of this node. */
+		E element;
+
+		/** The random priority of this node that keeps the tree balanced. */
+		final int priority;
+
+		/** The count of the nodes in the subtree of this node. */
+		int size;
+
+		/** The parent of this node. */
+		Node<E> parent;
+
+		/** The left child of this node. */
+		Node<E> left;
+
+		/** The right child of this node. */
+		Node<E> right;
+
+		/**
+		 * Instantiates a new {@link Node} with the given element
+		 *
+		 * @param element
+		 *            the element
+		 */
+		Node(final E element)
+		{
+			this.element = element;
+			this.priority = ThreadLocalRandom.current().nextInt();
+			this.size = 1;
+		}
+
+		/**
+		 * Updates the size of this node from the sizes of its children and sets this node as
+		 * parent of its children
+		 */
+		void update()
+		{
+			size = RelocatableList.size(left) + RelocatableList.size(right) + 1;
+			if (left != null)
+			{
+				left.parent = this;
+			}
+			if (right != null)
+			{
+				right.parent = this;
+			}
+		}
+
+		/**
+		 * Resets this node to a single node without parent and children
+		 */
+		void reset()
+		{
+			parent = null;
+			left = null;
+			right = null;
+			size = 1;
+		}
+	}
+}
@@ -25,13 +25,20 @@
 package io.github.astrapi69.collection.list;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 
 /**
  * The class {@link SortedList} extends the {@link ArrayList} and overwrites all add-methods that
- * sorts the elements with the given comparator.
+ * sorts the elements with the given comparator. If a comparator is set, single elements are
+ * inserted over a binary search, a collection of elements is sorted and merged in one pass with the
+ * existing elements and the methods {@link #contains(Object)} and {@link #indexOf(Object)} runs
+ * over a binary search. <br>
+ * <br>
+ * Note: the method {@link #set(int, Object)} does not sort, the caller is responsible to keep the
+ * order
  *
  * @param <E>
  *            the generic type of values
@@ -106,15 +113,12 @@ public class SortedList<E> extends ArrayList<E>
 	@Override
 	public boolean add(E element)
 	{
-		int currentSize = this.size();
 		if (comparator == null)
 		{
 			return super.add(element);
 		}
-		ListExtensions.getIndexToInsert(this, element, comparator);
-		int insertIndex = ListExtensions.getIndexToInsert(this, element, comparator);
-		super.add(insertIndex, element);
-		return this.size() != currentSize;
+		super.add(upperBound(element), element);
+		return true;
 	}
 
 	/**
@@ -130,14 +134,37 @@ public class SortedList<E> extends ArrayList<E>
 	 * {@inheritDoc}
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public boolean addAll(Collection<? extends E> collection)
 	{
-		boolean result = false;
-		for (E element : collection)
+		if (comparator == null)
+		{
+			return super.addAll(collection);
+		}
+		E[] elements = (E[])collection.toArray();
+		if (elements.length == 0)
+		{
+			return false;
+		}
+		Arrays.sort(elements, comparator);
+		int existing = size();
+		super.addAll(Arrays.asList(elements));
+		// merge from the end, so no element have to be moved more than once
+		int i = existing - 1;
+		int j = elements.length - 1;
+		int k = size() - 1;
+		while (0 <= j)
 		{
-			result |= add(element);
+			if (0 <= i && 0 < comparator.compare(get(i), elements[j]))
+			{
+				set(k--, get(i--));
+			}
+			else
+			{
+				set(k--, elements[j--]);
+			}
 		}
-		return result;
+		return true;
 	}
 
 	/**
@@ -149,6 +176,162 @@ public class SortedList<E> extends ArrayList<E>
 		return addAll(collection);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(Object o)
+	{
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int indexOf(Object o)
+	{
+		if (comparator == null || o == null)
+		{
+			return super.indexOf(o);
+		}
+		try
+		{
+			E element = (E)o;
+			for (int i = lowerBound(element); i < size()
+				&& comparator.compare(get(i), element) == 0; i++)
+			{
+				if (o.equals(get(i)))
+				{
+					return i;
+				}
+			}
+			return -1;
+		}
+		catch (ClassCastException e)
+		{
+			return super.indexOf(o);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int lastIndexOf(Object o)
+	{
+		if (comparator == null || o == null)
+		{
+			return super.lastIndexOf(o);
+		}
+		try
+		{
+			E element = (E)o;
+			for (int i = upperBound(element) - 1; 0 <= i
+				&& comparator.compare(get(i), element) == 0; i--)
+			{
+				if (o.equals(get(i)))
+				{
+					return i;
+				}
+			}
+			return -1;
+		}
+		catch (ClassCastException e)
+		{
+			return super.lastIndexOf(o);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean remove(Object o)
+	{
+		int index = indexOf(o);
+		if (index < 0)
+		{
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * Sorts this list with the given comparator that will be the new comparator of this list. If
+	 * the given comparator is null, for instance from <code>Collections#sort(List)</code>, the
+	 * current comparator of this list is kept
+	 *
+	 * @param comparator
+	 *            the new comparator of this list or null to keep the current comparator
+	 */
+	@Override
+	public void sort(Comparator<? super E> comparator)
+	{
+		if (comparator != null)
+		{
+			this.comparator = comparator;
+		}
+		super.sort(this.comparator);
+	}
+
+	/**
+	 * Gets the first index of an element that is not less than the given element with the binary
+	 * search
+	 *
+	 * @param element
+	 *            the element
+	 * @return the first index of an element that is not less than the given element
+	 */
+	private int lowerBound(E element)
+	{
+		int low = 0;
+		int high = size();
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(get(middle), element) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the first index of an element that is greater than the given element with the binary
+	 * search, this is the index where the given element is inserted after all equal elements
+	 *
+	 * @param element
+	 *            the element
+	 * @return the first index of an element that is greater than the given element
+	 */
+	private int upperBound(E element)
+	{
+		int low = 0;
+		int high = size();
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(get(middle), element) <= 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
 	/**
 	 * Gets the comparator of this list
 	 * 
@@ -0,0 +1,598 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The class {@link TreeSortedUniqueList} is a sorted list with unique elements like the
+ * {@link SortedUniqueList}, but it is backed by an order statistic tree (a treap where every node
+ * holds the size of its subtree). So the methods {@link #add(Object)}, {@link #remove(Object)},
+ * {@link #remove(int)}, {@link #contains(Object)}, {@link #get(int)} and {@link #indexOf(Object)}
+ * runs in logarithmic time. <br>
+ * <br>
+ * Note: as in a {@link java.util.TreeSet} two elements are equal if the comparator returns zero.
+ * If no comparator is given the natural ordering of the elements is used
+ *
+ * @param <E>
+ *            the generic type of values
+ * @see SortedUniqueList
+ */
+public class TreeSortedUniqueList<E> extends AbstractList<E> implements Serializable
+{
+
+	/**
+	 * The serialVersionUID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The comparator for sorting this list object
+	 */
+	private Comparator<? super E> comparator;
+
+	/**
+	 * The root node of the tree
+	 */
+	private transient Node<E> root;
+
+	/**
+	 * Constructs an empty {@link TreeSortedUniqueList} instance that sorts the elements in their
+	 * natural ordering
+	 */
+	public TreeSortedUniqueList()
+	{
+		this((Comparator<? super E>)null);
+	}
+
+	/**
+	 * Constructs an empty {@link TreeSortedUniqueList} instance and sets the given comparator
+	 *
+	 * @param comparator
+	 *            the comparator, if null the natural ordering of the elements is used
+	 */
+	public TreeSortedUniqueList(Comparator<? super E> comparator)
+	{
+		this.comparator = comparator != null ? comparator : naturalOrder();
+	}
+
+	/**
+	 * Constructs a {@link TreeSortedUniqueList} instance containing the elements of the given
+	 * collection sorted in their natural ordering
+	 *
+	 * @param collection
+	 *            the collection
+	 */
+	public TreeSortedUniqueList(Collection<? extends E> collection)
+	{
+		this(collection, null);
+	}
+
+	/**
+	 * Constructs a {@link TreeSortedUniqueList} instance containing the elements of the given
+	 * collection and sets the given comparator
+	 *
+	 * @param collection
+	 *            the collection
+	 * @param comparator
+	 *            the comparator, if null the natural ordering of the elements is used
+	 */
+	public TreeSortedUniqueList(Collection<? extends E> collection,
+		Comparator<? super E> comparator)
+	{
+		this(comparator);
+		addAll(collection);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return size(root);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(int index)
+	{
+		checkIndex(index);
+		Node<E> node = root;
+		while (true)
+		{
+			int leftSize = size(node.left);
+			if (index < leftSize)
+			{
+				node = node.left;
+			}
+			else if (index == leftSize)
+			{
+				return node.element;
+			}
+			else
+			{
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean add(E element)
+	{
+		if (contains(element))
+		{
+			return false;
+		}
+		root = insert(root, new Node<>(element));
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Adds the given element at its sorted position, the given index is ignored
+	 *
+	 * @param index
+	 *            the index is ignored
+	 * @param element
+	 *            the element
+	 */
+	@Override
+	public void add(int index, E element)
+	{
+		add(element);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> collection)
+	{
+		boolean result = false;
+		for (E element : collection)
+		{
+			result |= add(element);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the given elements at their sorted positions, the given index is ignored
+	 *
+	 * @param index
+	 *            the index is ignored
+	 * @param collection
+	 *            the collection with the elements to add
+	 * @return true if this list changed as a result of the call
+	 */
+	@Override
+	public boolean addAll(int index, Collection<? extends E> collection)
+	{
+		return addAll(collection);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(Object o)
+	{
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int indexOf(Object o)
+	{
+		E element;
+		try
+		{
+			element = (E)o;
+			int rank = 0;
+			Node<E> node = root;
+			while (node != null)
+			{
+				int result = comparator.compare(element, node.element);
+				if (result < 0)
+				{
+					node = node.left;
+				}
+				else if (0 < result)
+				{
+					rank += size(node.left) + 1;
+					node = node.right;
+				}
+				else
+				{
+					return rank + size(node.left);
+				}
+			}
+		}
+		catch (ClassCastException e)
+		{
+			return -1;
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int lastIndexOf(Object o)
+	{
+		return indexOf(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E remove(int index)
+	{
+		E element = get(index);
+		root = delete(root, element);
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean remove(Object o)
+	{
+		if (!contains(o))
+		{
+			return false;
+		}
+		root = delete(root, (E)o);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		root = null;
+		modCount++;
+	}
+
+	/**
+	 * Sorts this list with the given comparator that will be the new comparator of this list
+	 *
+	 * @param comparator
+	 *            the new comparator of this list
+	 */
+	@Override
+	public void sort(Comparator<? super E> comparator)
+	{
+		setComparator(comparator);
+	}
+
+	/**
+	 * Gets the comparator of this list
+	 *
+	 * @return the comparator of this list
+	 */
+	public Comparator<? super E> getComparator()
+	{
+		return comparator;
+	}
+
+	/**
+	 * Sets the comparator of this list and sorts the elements with it. Note that elements that are
+	 * equal with the new comparator are removed
+	 *
+	 * @param comparator
+	 *            the new comparator of this list, if null the natural ordering of the elements is
+	 *            used
+	 */
+	public void setComparator(Comparator<? super E> comparator)
+	{
+		Object[] elements = toArray();
+		this.comparator = comparator != null ? comparator : naturalOrder();
+		clear();
+		for (Object element : elements)
+		{
+			@SuppressWarnings("unchecked")
+			E e = (E)element;
+			add(e);
+		}
+	}
+
+	/**
+	 * Inserts the given node in the given subtree
+	 *
+	 * @param node
+	 *            the root of the subtree
+	 * @param newNode
+	 *            the node to insert
+	 * @return the new root of the subtree
+	 */
+	private Node<E> insert(Node<E> node, Node<E> newNode)
+	{
+		if (node == null)
+		{
+			return newNode;
+		}
+		if (comparator.compare(newNode.element, node.element) < 0)
+		{
+			node.left = insert(node.left, newNode);
+			if (node.left.priority > node.priority)
+			{
+				node = rotateRight(node);
+			}
+		}
+		else
+		{
+			node.right = insert(node.right, newNode);
+			if (node.right.priority > node.priority)
+			{
+				node = rotateLeft(node);
+			}
+		}
+		node.update();
+		return node;
+	}
+
+	/**
+	 * Deletes the node with the given element from the given subtree
+	 *
+	 * @param node
+	 *            the root of the subtree
+	 * @param element
+	 *            the element to delete
+	 * @return the new root of the subtree
+	 */
+	private Node<E> delete(Node<E> node, E element)
+	{
+		int result = comparator.compare(element, node.element);
+		if (result < 0)
+		{
+			node.left = delete(node.left, element);
+		}
+		else if (0 < result)
+		{
+			node.right = delete(node.right, element);
+		}
+		else
+		{
+			return merge(node.left, node.right);
+		}
+		node.update();
+		return node;
+	}
+
+	/**
+	 * Merges the two given subtrees, all elements of the left subtree are less than the elements of
+	 * the right subtree
+	 *
+	 * @param left
+	 *            the left subtree
+	 * @param right
+	 *            the right subtree
+	 * @return the root of the merged subtree
+	 */
+	private Node<E> merge(Node<E> left, Node<E> right)
+	{
+		if (left == null)
+		{
+			return right;
+		}
+		if (right == null)
+		{
+			return left;
+		}
+		if (left.priority > right.priority)
+		{
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	/**
+	 * Rotates the given node to the right
+	 *
+	 * @param node
+	 *            the node
+	 * @return the new root of the subtree
+	 */
+	private Node<E> rotateRight(Node<E> node)
+	{
+		Node<E> left = node.left;
+		node.left = left.right;
+		left.right = node;
+		node.update();
+		return left;
+	}
+
+	/**
+	 * Rotates the given node to the left
+	 *
+	 * @param node
+	 *            the node
+	 * @return the new root of the subtree
+	 */
+	private Node<E> rotateLeft(Node<E> node)
+	{
+		Node<E> right = node.right;
+		node.right = right.left;
+		right.left = node;
+		node.update();
+		return right;
+	}
+
+	/**
+	 * Checks if the given index is in the range of this list
+	 *
+	 * @param index
+	 *            the index
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range (<code>index &lt; 0 || index &gt;= size()</code>)
+	 */
+	private void checkIndex(int index)
+	{
+		if (index < 0 || index >= size())
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+	}
+
+	/**
+	 * Gets the size of the given subtree
+	 *
+	 * @param node
+	 *            the root of the subtree
+	 * @return the size of the given subtree
+	 */
+	private static int size(Node<?> node)
+	{
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Gets the comparator for the natural ordering of the elements
+	 *
+	 * @param <E>
+	 *            the generic type of values
+	 * @return the comparator for the natural ordering
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <E> Comparator<? super E> naturalOrder()
+	{
+		return (Comparator)Comparator.naturalOrder();
+	}
+
+	/**
+	 * Writes the elements of this list in their order to the given stream
+	 *
+	 * @param out
+	 *            the object output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		out.writeInt(size());
+		for (E element : this)
+		{
+			out.writeObject(element);
+		}
+	}
+
+	/**
+	 * Reads the elements of this list from the given stream and rebuilds the tree
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             is thrown if a class was not found
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		int size = in.readInt();
+		for (int i = 0; i < size; i++)
+		{
+			add((E)in.readObject());
+		}
+	}
+
+	/**
+	 * The class {@link Node} is a node of the tree that holds the size of its subtree
+	 *
+	 * @param <E>
+	 *            the generic type of values
+	 */
+	private static final class Node<E>
+	{
+
+		/** The element of this node. */
+		final E element;
+
+		/** The random priority of this node that keeps the tree balanced. */
+		final int priority;
+
+		/** The count of the nodes in the subtree of this node. */
+		int size;
+
+		/** The left child of this node. */
+		Node<E> left;
+
+		/** The right child of this node. */
+		Node<E> right;
+
+		/**
+		 * Instantiates a new {@link Node} with the given element
+		 *
+		 * @param element
+		 *            the element
+		 */
+		Node(E element)
+		{
+			this.element = element;
+			this.priority = ThreadLocalRandom.current().nextInt();
+			this.size = 1;
+		}
+
+		/**
+		 * Updates the size of this node from the sizes of its children
+		 */
+		void update()
+		{
+			size = TreeSortedUniqueList.size(left) + TreeSortedUniqueList.size(right) + 1;
+		}
+	}
+}
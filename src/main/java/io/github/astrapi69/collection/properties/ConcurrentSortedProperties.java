@@ -0,0 +1,881 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.github.astrapi69.comparator.NullCheckComparator;
+
+/**
+ * The class {@link ConcurrentSortedProperties} extends Properties and holds the entries in a
+ * {@link ConcurrentHashMap} and the sorted keys in a {@link ConcurrentSkipListSet}. In difference
+ * to the {@link SortedProperties} no method locks the monitor of this object, reads are lock free
+ * and a write only locks the bin of its key in the {@link ConcurrentHashMap}. The key set, the
+ * entry set, the values and the enumerations of this object are sorted over the keys and weakly
+ * consistent, so they are not throwing a {@link java.util.ConcurrentModificationException} <br>
+ * <br>
+ * Note: the sorted keys are compared with the comparator, so keys where the comparator returns zero
+ * should also be equal
+ */
+public class ConcurrentSortedProperties extends Properties
+{
+
+	/** The Constant serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** The {@link Comparator} object. */
+	private transient Comparator<Object> comparator;
+
+	/** The entries. */
+	private transient ConcurrentHashMap<Object, Object> entries;
+
+	/** The sorted keys. */
+	private transient ConcurrentSkipListSet<Object> sortedKeys;
+
+	/**
+	 * Instantiates a new {@link ConcurrentSortedProperties}.
+	 */
+	public ConcurrentSortedProperties()
+	{
+		this(null);
+	}
+
+	/**
+	 * Instantiates a new {@link ConcurrentSortedProperties}.
+	 *
+	 * @param defaults
+	 *            the defaults
+	 */
+	public ConcurrentSortedProperties(final Properties defaults)
+	{
+		super(defaults);
+		this.entries = new ConcurrentHashMap<>();
+		this.sortedKeys = new ConcurrentSkipListSet<>(getComparator());
+	}
+
+	/**
+	 * Factory method to create a new {@link ConcurrentSortedProperties} object.
+	 *
+	 * @return the new {@link ConcurrentSortedProperties} object
+	 */
+	public static ConcurrentSortedProperties of()
+	{
+		return new ConcurrentSortedProperties();
+	}
+
+	/**
+	 * Factory method to create a new {@link ConcurrentSortedProperties} object.
+	 *
+	 * @param defaults
+	 *            the defaults
+	 * @return the new {@link ConcurrentSortedProperties} object
+	 */
+	public static ConcurrentSortedProperties of(final Properties defaults)
+	{
+		return new ConcurrentSortedProperties(defaults);
+	}
+
+	/**
+	 * Factory method to create a new {@link ConcurrentSortedProperties} object.
+	 *
+	 * @param defaults
+	 *            the defaults
+	 * @param comparator
+	 *            the comparator
+	 * @return the new {@link ConcurrentSortedProperties} object
+	 */
+	public static ConcurrentSortedProperties of(final Properties defaults,
+		final Comparator<Object> comparator)
+	{
+		return new ConcurrentSortedProperties(defaults)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected Comparator<Object> newComparator()
+			{
+				return NullCheckComparator.of(comparator, false);
+			}
+		};
+	}
+
+	/**
+	 * Gets the {@link Comparator} for sort this {@link ConcurrentSortedProperties}.
+	 *
+	 * @return The {@link Comparator}.
+	 */
+	public Comparator<Object> getComparator()
+	{
+		if (this.comparator == null)
+		{
+			this.comparator = newComparator();
+		}
+		return this.comparator;
+	}
+
+	/**
+	 * Factory method for creating a new {@link Comparator} for sort this
+	 * {@link ConcurrentSortedProperties}. This method is invoked on creation and can be overridden
+	 * so users can provide their own version of a {@link Comparator}.
+	 *
+	 * @return the new {@link Comparator}.
+	 */
+	protected Comparator<Object> newComparator()
+	{
+		return NullCheckComparator.of(
+			(final Object o1, final Object o2) -> o1.toString().compareTo(o2.toString()), false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object setProperty(final String key, final String value)
+	{
+		return put(key, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getProperty(final String key)
+	{
+		final Object value = entries.get(key);
+		final String property = value instanceof String ? (String)value : null;
+		return property == null && defaults != null ? defaults.getProperty(key) : property;
+	}
+
+	/**
+	 * Returns the sorted names of the properties of this object and the defaults
+	 *
+	 * @return the sorted names of the properties
+	 */
+	@Override
+	public Enumeration<?> propertyNames()
+	{
+		if (defaults == null)
+		{
+			return keys();
+		}
+		final Set<Object> names = new TreeSet<>(getComparator());
+		names.addAll(Collections.list(defaults.propertyNames()));
+		names.addAll(sortedKeys);
+		return Collections.enumeration(names);
+	}
+
+	/**
+	 * Returns the sorted names of the properties of this object and the defaults where the key and
+	 * the value are strings
+	 *
+	 * @return the sorted names of the string properties
+	 */
+	@Override
+	public Set<String> stringPropertyNames()
+	{
+		final Set<String> names = new TreeSet<>(getComparator());
+		if (defaults != null)
+		{
+			names.addAll(defaults.stringPropertyNames());
+		}
+		entries.forEach((key, value) -> {
+			if (key instanceof String && value instanceof String)
+			{
+				names.add((String)key);
+			}
+		});
+		return Collections.unmodifiableSet(names);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return entries.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Enumeration<Object> keys()
+	{
+		return Collections.enumeration(sortedKeys);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Enumeration<Object> elements()
+	{
+		return Collections.enumeration(values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(final Object value)
+	{
+		return entries.containsValue(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsValue(final Object value)
+	{
+		return entries.containsValue(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(final Object key)
+	{
+		return entries.containsKey(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object get(final Object key)
+	{
+		return entries.get(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object put(final Object key, final Object value)
+	{
+		Objects.requireNonNull(value);
+		final Object[] previous = new Object[1];
+		update(key, (k, oldValue) -> {
+			previous[0] = oldValue;
+			return value;
+		});
+		return previous[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object remove(final Object key)
+	{
+		final Object[] previous = new Object[1];
+		update(key, (k, oldValue) -> {
+			previous[0] = oldValue;
+			return null;
+		});
+		return previous[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putAll(final Map<?, ?> t)
+	{
+		for (final Map.Entry<?, ?> entry : t.entrySet())
+		{
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		for (final Object key : sortedKeys)
+		{
+			remove(key);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder sb = new StringBuilder("{");
+		for (final Map.Entry<Object, Object> entry : entrySet())
+		{
+			if (sb.length() > 1)
+			{
+				sb.append(", ");
+			}
+			sb.append(entry.getKey()).append('=').append(entry.getValue());
+		}
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Object> keySet()
+	{
+		return new KeySet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<Object> values()
+	{
+		return new Values();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Map.Entry<Object, Object>> entrySet()
+	{
+		return new EntrySet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		return entries.equals(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return entries.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getOrDefault(final Object key, final Object defaultValue)
+	{
+		return entries.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(final BiConsumer<? super Object, ? super Object> action)
+	{
+		for (final Map.Entry<Object, Object> entry : entrySet())
+		{
+			action.accept(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void replaceAll(final BiFunction<? super Object, ? super Object, ?> function)
+	{
+		entries.replaceAll(function);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object putIfAbsent(final Object key, final Object value)
+	{
+		Objects.requireNonNull(value);
+		final Object[] previous = new Object[1];
+		update(key, (k, oldValue) -> {
+			previous[0] = oldValue;
+			return oldValue != null ? oldValue : value;
+		});
+		return previous[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean remove(final Object key, final Object value)
+	{
+		final boolean[] removed = new boolean[1];
+		update(key, (k, oldValue) -> {
+			removed[0] = oldValue != null && oldValue.equals(value);
+			return removed[0] ? null : oldValue;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean replace(final Object key, final Object oldValue, final Object newValue)
+	{
+		return entries.replace(key, oldValue, newValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object replace(final Object key, final Object value)
+	{
+		return entries.replace(key, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object computeIfAbsent(final Object key,
+		final Function<? super Object, ?> mappingFunction)
+	{
+		final Object value = entries.get(key);
+		if (value != null)
+		{
+			return value;
+		}
+		return update(key,
+			(k, oldValue) -> oldValue != null ? oldValue : mappingFunction.apply(k));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object computeIfPresent(final Object key,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		return update(key,
+			(k, oldValue) -> oldValue != null ? remappingFunction.apply(k, oldValue) : null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object compute(final Object key,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		return update(key, remappingFunction);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object merge(final Object key, final Object value,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		Objects.requireNonNull(value);
+		return update(key, (k, oldValue) -> oldValue != null
+			? remappingFunction.apply(oldValue, value)
+			: value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object clone()
+	{
+		final ConcurrentSortedProperties clone = (ConcurrentSortedProperties)super.clone();
+		clone.entries = new ConcurrentHashMap<>(entries);
+		clone.sortedKeys = sortedKeys.clone();
+		return clone;
+	}
+
+	/**
+	 * Updates the value of the given key with the given function and the sorted keys in the same
+	 * atomic operation, only the bin of the given key is locked while the update
+	 *
+	 * @param key
+	 *            the key
+	 * @param function
+	 *            the function that gets the key with the old value and returns the new value or
+	 *            null if the key should be removed
+	 * @return the new value or null if the key was removed
+	 */
+	private Object update(final Object key,
+		final BiFunction<? super Object, ? super Object, ?> function)
+	{
+		return entries.compute(key, (k, oldValue) -> {
+			final Object value = function.apply(k, oldValue);
+			if (oldValue == null && value != null)
+			{
+				sortedKeys.add(k);
+			}
+			else if (oldValue != null && value == null)
+			{
+				sortedKeys.remove(k);
+			}
+			return value;
+		});
+	}
+
+	/**
+	 * Writes the entries of this object to the given stream
+	 *
+	 * @param out
+	 *            the object output stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		final Map<Object, Object> snapshot = new ConcurrentHashMap<>(entries);
+		out.writeInt(snapshot.size());
+		for (final Map.Entry<Object, Object> entry : snapshot.entrySet())
+		{
+			out.writeObject(entry.getKey());
+			out.writeObject(entry.getValue());
+		}
+	}
+
+	/**
+	 * Reads the entries of this object from the given stream
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             is thrown if a class was not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		entries = new ConcurrentHashMap<>();
+		sortedKeys = new ConcurrentSkipListSet<>(getComparator());
+		final int size = in.readInt();
+		for (int i = 0; i < size; i++)
+		{
+			put(in.readObject(), in.readObject());
+		}
+	}
+
+	/**
+	 * The class {@link SortedIterator} iterates over the sorted keys and removes the entries over
+	 * this {@link ConcurrentSortedProperties}
+	 *
+	 * @param <T>
+	 *            the generic type of the elements
+	 */
+	private abstract class SortedIterator<T> implements Iterator<T>
+	{
+
+		/** The iterator of the sorted keys. */
+		private final Iterator<Object> keyIterator = sortedKeys.iterator();
+
+		/** The next entry or null if not computed yet. */
+		private Map.Entry<Object, Object> next;
+
+		/** The last returned key. */
+		private Object lastKey;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext()
+		{
+			while (next == null && keyIterator.hasNext())
+			{
+				final Object key = keyIterator.next();
+				final Object value = entries.get(key);
+				if (value != null)
+				{
+					next = new AbstractMap.SimpleImmutableEntry<>(key, value);
+				}
+			}
+			return next != null;
+		}
+
+		/**
+		 * Gets the next entry
+		 *
+		 * @return the next entry
+		 */
+		Map.Entry<Object, Object> nextEntry()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			final Map.Entry<Object, Object> entry = next;
+			next = null;
+			lastKey = entry.getKey();
+			return entry;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove()
+		{
+			if (lastKey == null)
+			{
+				throw new IllegalStateException();
+			}
+			ConcurrentSortedProperties.this.remove(lastKey);
+			lastKey = null;
+		}
+	}
+
+	/**
+	 * The class {@link KeySet} is the sorted key set view of this
+	 * {@link ConcurrentSortedProperties}
+	 */
+	private final class KeySet extends AbstractSet<Object>
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<Object> iterator()
+		{
+			return new SortedIterator<Object>()
+			{
+				@Override
+				public Object next()
+				{
+					return nextEntry().getKey();
+				}
+			};
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return entries.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean contains(final Object o)
+		{
+			return entries.containsKey(o);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean remove(final Object o)
+		{
+			return ConcurrentSortedProperties.this.remove(o) != null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear()
+		{
+			ConcurrentSortedProperties.this.clear();
+		}
+	}
+
+	/**
+	 * The class {@link Values} is the values view sorted over the keys of this
+	 * {@link ConcurrentSortedProperties}
+	 */
+	private final class Values extends AbstractCollection<Object>
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<Object> iterator()
+		{
+			return new SortedIterator<Object>()
+			{
+				@Override
+				public Object next()
+				{
+					return nextEntry().getValue();
+				}
+			};
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return entries.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean contains(final Object o)
+		{
+			return entries.containsValue(o);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear()
+		{
+			ConcurrentSortedProperties.this.clear();
+		}
+	}
+
+	/**
+	 * The class {@link EntrySet} is the entry set view sorted over the keys of this
+	 * {@link ConcurrentSortedProperties}
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<Object, Object>>
+	{
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<Map.Entry<Object, Object>> iterator()
+		{
+			return new SortedIterator<Map.Entry<Object, Object>>()
+			{
+				@Override
+				public Map.Entry<Object, Object> next()
+				{
+					return nextEntry();
+				}
+			};
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return entries.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean contains(final Object o)
+		{
+			if (!(o instanceof Map.Entry))
+			{
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+			final Object value = entries.get(entry.getKey());
+			return value != null && value.equals(entry.getValue());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean remove(final Object o)
+		{
+			if (!(o instanceof Map.Entry))
+			{
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+			return ConcurrentSortedProperties.this.remove(entry.getKey(), entry.getValue());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear()
+		{
+			ConcurrentSortedProperties.this.clear();
+		}
+	}
+
+}
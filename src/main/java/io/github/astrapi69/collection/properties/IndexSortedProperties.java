@@ -24,20 +24,27 @@
  */
 package io.github.astrapi69.collection.properties;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 
-import io.github.astrapi69.collection.CollectionExtensions;
 import io.github.astrapi69.collection.list.ListFactory;
 import io.github.astrapi69.comparator.NullCheckComparator;
 
 /**
  * The class {@link IndexSortedProperties} extends SortedProperties and holds an intern list with
- * the keys for get values over an index.
+ * the keys for get values over an index. New keys are inserted over a binary search in the sorted
+ * key list and the method {@link #indexOf(Object)} finds the index over a reverse index from the
+ * values to their keys. The methods putAll and load sorts the key list only once at the end.
  *
  * @author Asterios Raptis
  */
@@ -48,6 +55,10 @@ public class IndexSortedProperties extends SortedProperties
 	private static final long serialVersionUID = 1L;
 	/** The keys. */
 	private List<Object> keys;
+	/** The reverse index from the values to their keys, created on demand. */
+	private transient Map<Object, TreeSet<Object>> valueIndex;
+	/** The flag if properties are loaded at the moment, then the keys are sorted at the end. */
+	private transient boolean bulkLoading;
 
 	/**
 	 * Instantiates a new {@link IndexSortedProperties}.
@@ -66,7 +77,8 @@ public class IndexSortedProperties extends SortedProperties
 	public IndexSortedProperties(final Properties defaults)
 	{
 		super(defaults);
-		sortKeyList(defaults.keySet());
+		keys = ListFactory.newArrayList(defaults.keySet());
+		keys.sort(getComparator());
 	}
 
 	/**
@@ -142,15 +154,18 @@ public class IndexSortedProperties extends SortedProperties
 	}
 
 	/**
-	 * Adds the key.
+	 * Adds the given key at its sorted position if it is not already in the key list.
 	 *
 	 * @param key
 	 *            the key
 	 */
 	private void addKey(final Object key)
 	{
-		keys.add(key);
-		resortKeyList();
+		final int index = search(key);
+		if (index < 0)
+		{
+			keys.add(-index - 1, key);
+		}
 	}
 
 	/**
@@ -159,11 +174,24 @@ public class IndexSortedProperties extends SortedProperties
 	@Override
 	public synchronized void clear()
 	{
-		if (CollectionExtensions.isNotEmpty(keys))
+		super.clear();
+		if (keys != null)
 		{
 			keys.clear();
 		}
-		super.clear();
+		valueIndex = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object clone()
+	{
+		final IndexSortedProperties clone = (IndexSortedProperties)super.clone();
+		clone.keys = new ArrayList<>(keys);
+		clone.valueIndex = null;
+		return clone;
 	}
 
 	/**
@@ -203,15 +231,66 @@ public class IndexSortedProperties extends SortedProperties
 	 */
 	public synchronized int indexOf(final Object object)
 	{
-		for (final Object key : keys)
+		final TreeSet<Object> keysOfValue = getValueIndex().get(object);
+		if (keysOfValue == null)
 		{
-			final Object value = getProperty((String)key);
-			if (object.equals(value))
-			{
-				return keys.indexOf(key);
-			}
+			return -1;
+		}
+		return search(keysOfValue.first());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void load(final Reader reader) throws IOException
+	{
+		bulkLoading = true;
+		try
+		{
+			super.load(reader);
+		}
+		finally
+		{
+			bulkLoading = false;
+			mergeKeys(keySet());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void load(final InputStream inStream) throws IOException
+	{
+		bulkLoading = true;
+		try
+		{
+			super.load(inStream);
+		}
+		finally
+		{
+			bulkLoading = false;
+			mergeKeys(keySet());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void loadFromXML(final InputStream in) throws IOException
+	{
+		bulkLoading = true;
+		try
+		{
+			super.loadFromXML(in);
+		}
+		finally
+		{
+			bulkLoading = false;
+			mergeKeys(keySet());
 		}
-		return -1;
 	}
 
 	/**
@@ -220,11 +299,18 @@ public class IndexSortedProperties extends SortedProperties
 	@Override
 	public synchronized Object put(final Object key, final Object value)
 	{
+		if (bulkLoading || keys == null)
+		{
+			return super.put(key, value);
+		}
+		final Object oldValue = valueOf(key);
+		final Object previous = super.put(key, value);
 		addKey(key);
-		return super.put(key, value);
+		unindexValue(oldValue, key);
+		indexValue(valueOf(key), key);
+		return previous;
 	}
 
-
 	/**
 	 * {@inheritDoc}
 	 */
@@ -232,7 +318,7 @@ public class IndexSortedProperties extends SortedProperties
 	public synchronized void putAll(final Map<? extends Object, ? extends Object> t)
 	{
 		super.putAll(t);
-		sortKeyList(keySet());
+		mergeKeys(t.keySet());
 	}
 
 	/**
@@ -255,8 +341,10 @@ public class IndexSortedProperties extends SortedProperties
 	@Override
 	public synchronized Object remove(final Object key)
 	{
-		removeKey(key);
-		return super.remove(key);
+		final Object oldValue = valueOf(key);
+		final Object previous = super.remove(key);
+		removeKey(key, oldValue);
+		return previous;
 	}
 
 	/**
@@ -265,42 +353,155 @@ public class IndexSortedProperties extends SortedProperties
 	@Override
 	public synchronized boolean remove(final Object key, final Object value)
 	{
+		final Object oldValue = valueOf(key);
 		final boolean removed = super.remove(key, value);
 		if (removed)
-			removeKey(key);
+			removeKey(key, oldValue);
 		return removed;
 	}
 
 	/**
-	 * Removes the key.
+	 * Removes the given key from the key list and from the reverse index.
+	 *
+	 * @param key
+	 *            the key
+	 * @param oldValue
+	 *            the value of the key before the removal
+	 */
+	private void removeKey(final Object key, final Object oldValue)
+	{
+		final int index = search(key);
+		if (0 <= index)
+		{
+			keys.remove(index);
+			unindexValue(oldValue, key);
+		}
+	}
+
+	/**
+	 * Adds the given keys that are not already in the key list and sorts the key list once.
+	 *
+	 * @param newKeys
+	 *            the keys to add
+	 */
+	private void mergeKeys(final Set<? extends Object> newKeys)
+	{
+		final Set<Object> present = new HashSet<>(keys);
+		for (final Object key : newKeys)
+		{
+			if (present.add(key))
+			{
+				keys.add(key);
+			}
+		}
+		keys.sort(getComparator());
+		valueIndex = null;
+	}
+
+	/**
+	 * Searches the given key in the sorted key list.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index of the key if it is in the key list, otherwise
+	 *         <code>(-(insertion point) - 1)</code>
+	 */
+	private int search(final Object key)
+	{
+		final Comparator<Object> comparator = getComparator();
+		int low = 0;
+		int high = keys.size();
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+			if (comparator.compare(keys.get(middle), key) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		while (low < keys.size() && comparator.compare(keys.get(low), key) == 0)
+		{
+			if (keys.get(low).equals(key))
+			{
+				return low;
+			}
+			low++;
+		}
+		return -low - 1;
+	}
+
+	/**
+	 * Gets the value of the given key as it is returned from the index based methods.
 	 *
 	 * @param key
 	 *            the key
+	 * @return the value of the given key or null if no value exists
 	 */
-	private void removeKey(final Object key)
+	private Object valueOf(final Object key)
 	{
-		keys.remove(key);
-		resortKeyList();
+		return key instanceof String ? getProperty((String)key) : null;
 	}
 
 	/**
-	 * Resort the intern key list.
+	 * Gets the reverse index from the values to their keys and creates it if it does not exist.
+	 *
+	 * @return the reverse index
 	 */
-	private void resortKeyList()
+	private Map<Object, TreeSet<Object>> getValueIndex()
 	{
-		Collections.sort(keys, getComparator());
+		if (valueIndex == null)
+		{
+			valueIndex = new HashMap<>();
+			for (final Object key : keys)
+			{
+				indexValue(valueOf(key), key);
+			}
+		}
+		return valueIndex;
 	}
 
 	/**
-	 * Sort intern key list.
+	 * Adds the given key to the reverse index of the given value.
 	 *
-	 * @param keySet
-	 *            the key set
+	 * @param value
+	 *            the value
+	 * @param key
+	 *            the key
 	 */
-	private void sortKeyList(final Set<Object> keySet)
+	private void indexValue(final Object value, final Object key)
 	{
-		keys = ListFactory.newArrayList(keySet);
-		resortKeyList();
+		if (valueIndex != null && value != null)
+		{
+			valueIndex.computeIfAbsent(value, v -> new TreeSet<>(getComparator())).add(key);
+		}
+	}
+
+	/**
+	 * Removes the given key from the reverse index of the given value.
+	 *
+	 * @param value
+	 *            the value
+	 * @param key
+	 *            the key
+	 */
+	private void unindexValue(final Object value, final Object key)
+	{
+		if (valueIndex != null && value != null)
+		{
+			final TreeSet<Object> keysOfValue = valueIndex.get(value);
+			if (keysOfValue != null)
+			{
+				keysOfValue.remove(key);
+				if (keysOfValue.isEmpty())
+				{
+					valueIndex.remove(value);
+				}
+			}
+		}
 	}
 
 }
@@ -30,16 +30,34 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.github.astrapi69.collection.ThreadFactoryExtensions;
 import io.github.astrapi69.collection.list.ListFactory;
 
 /**
@@ -371,6 +389,650 @@ public final class PropertiesExtensions
 		return properties;
 	}
 
+	/**
+	 * Loads the given properties file over a memory mapped buffer into a new {@link Properties}
+	 * object. The file is read in the encoding ISO 8859-1 like in the method
+	 * {@link Properties#load(InputStream)}
+	 *
+	 * @param propertiesFile
+	 *            the properties file
+	 * @return the properties
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static Properties loadMappedProperties(final File propertiesFile) throws IOException
+	{
+		return loadMappedProperties(propertiesFile, new Properties());
+	}
+
+	/**
+	 * Loads the given properties file over a memory mapped buffer into the given target. The file
+	 * is read in the encoding ISO 8859-1 like in the method {@link Properties#load(InputStream)}
+	 *
+	 * @param <M>
+	 *            the generic type of the target
+	 * @param propertiesFile
+	 *            the properties file
+	 * @param target
+	 *            the target {@link Properties} or {@link Map} that will be populated
+	 * @return the given target
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static <M extends Map<? super String, ? super String>> M loadMappedProperties(
+		final File propertiesFile, final M target) throws IOException
+	{
+		return loadMappedProperties(propertiesFile, StandardCharsets.ISO_8859_1, target);
+	}
+
+	/**
+	 * Loads the given properties file over a memory mapped buffer into the given target. The
+	 * properties syntax is parsed directly from the mapped buffer in one pass, so the target
+	 * receives every entry with the method {@link Map#put(Object, Object)}. Comment lines are the
+	 * lines that matches the pattern {@link #PROPERTIES_COMMENT_PATTERN}, lines that ends with a
+	 * backslash are continued on the next line and escape sequences are converted like in the
+	 * method {@link Properties#load(Reader)}. Files that are greater than 2 GB can not be mapped
+	 * and are loaded over the method {@link Properties#load(Reader)}
+	 *
+	 * @param <M>
+	 *            the generic type of the target
+	 * @param propertiesFile
+	 *            the properties file
+	 * @param charset
+	 *            the charset of the properties file, it has to be a charset that encodes the ascii
+	 *            characters in single bytes like ISO 8859-1 or UTF-8
+	 * @param target
+	 *            the target {@link Properties} or {@link Map} that will be populated
+	 * @return the given target
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static <M extends Map<? super String, ? super String>> M loadMappedProperties(
+		final File propertiesFile, final Charset charset, final M target) throws IOException
+	{
+		if (!propertiesFile.exists())
+		{
+			throw new FileNotFoundException(propertiesFile.getName() + " not found.");
+		}
+		try (FileChannel channel = FileChannel.open(propertiesFile.toPath(),
+			StandardOpenOption.READ))
+		{
+			final long size = channel.size();
+			if (Integer.MAX_VALUE < size)
+			{
+				final Properties properties = new Properties();
+				try (Reader reader = Files.newBufferedReader(propertiesFile.toPath(), charset))
+				{
+					properties.load(reader);
+				}
+				for (final String name : properties.stringPropertyNames())
+				{
+					target.put(name, properties.getProperty(name));
+				}
+				return target;
+			}
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			parseProperties(buffer, charset, target);
+		}
+		return target;
+	}
+
+	/**
+	 * Loads all properties files with the file extension <code>.properties</code> from the given
+	 * directory in parallel and merges them in the order of their file names, so the values of a
+	 * file override the values of the files with a lower file name
+	 *
+	 * @param directory
+	 *            the directory with the properties files
+	 * @return the result with the merged properties and the load time of each file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static PropertiesLoadResult loadAllProperties(final File directory) throws IOException
+	{
+		final File[] files = directory
+			.listFiles(file -> file.isFile() && file.getName().endsWith(".properties"));
+		if (files == null)
+		{
+			throw new FileNotFoundException(directory.getName() + " is not a directory.");
+		}
+		Arrays.sort(files, Comparator.comparing(File::getName));
+		return loadAllProperties(Arrays.asList(files));
+	}
+
+	/**
+	 * Loads the given properties files in parallel with as many threads as processors are available
+	 * and merges them in the order of the given list, so the values of a file override the values
+	 * of the files before in the list
+	 *
+	 * @param propertiesFiles
+	 *            the properties files
+	 * @return the result with the merged properties and the load time of each file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static PropertiesLoadResult loadAllProperties(final List<File> propertiesFiles)
+		throws IOException
+	{
+		return loadAllProperties(propertiesFiles, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Loads the given properties files in parallel and merges them in the order of the given list,
+	 * so the values of a file override the values of the files before in the list. The files are
+	 * parsed with the method {@link #loadMappedProperties(File)} on a bounded thread pool, that
+	 * uses virtual threads if the java runtime supports them
+	 *
+	 * @param propertiesFiles
+	 *            the properties files
+	 * @param parallelism
+	 *            the maximum count of files that are loaded at the same time
+	 * @return the result with the merged properties and the load time of each file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public static PropertiesLoadResult loadAllProperties(final List<File> propertiesFiles,
+		final int parallelism) throws IOException
+	{
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		final long start = System.nanoTime();
+		final Properties properties = new Properties();
+		final Map<File, Duration> loadTimes = new LinkedHashMap<>();
+		if (propertiesFiles.isEmpty())
+		{
+			return new PropertiesLoadResult(properties, loadTimes, Duration.ZERO);
+		}
+		final int size = propertiesFiles.size();
+		final long[] nanos = new long[size];
+		final ExecutorService executorService = Executors.newFixedThreadPool(
+			Math.min(parallelism, size),
+			ThreadFactoryExtensions.newWorkerThreadFactory("properties-loader-"));
+		try
+		{
+			final List<Future<Properties>> futures = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+			{
+				final int index = i;
+				final File file = propertiesFiles.get(i);
+				futures.add(executorService.submit(() -> {
+					final long fileStart = System.nanoTime();
+					final Properties loaded = loadMappedProperties(file);
+					nanos[index] = System.nanoTime() - fileStart;
+					return loaded;
+				}));
+			}
+			for (int i = 0; i < size; i++)
+			{
+				properties.putAll(getLoaded(futures.get(i)));
+				loadTimes.put(propertiesFiles.get(i), Duration.ofNanos(nanos[i]));
+			}
+		}
+		finally
+		{
+			executorService.shutdownNow();
+		}
+		return new PropertiesLoadResult(properties, loadTimes,
+			Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Waits for the given future and unwraps the cause if the load failed
+	 *
+	 * @param future
+	 *            the future of a loaded properties file
+	 * @return the loaded properties
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static Properties getLoaded(final Future<Properties> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Loading of properties files was interrupted.");
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException)cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error)cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Parses the properties syntax from the given buffer and puts the entries to the given target
+	 *
+	 * @param buffer
+	 *            the buffer with the content of a properties file
+	 * @param charset
+	 *            the charset of the content
+	 * @param target
+	 *            the target that will be populated
+	 */
+	private static void parseProperties(final ByteBuffer buffer, final Charset charset,
+		final Map<? super String, ? super String> target)
+	{
+		final int limit = buffer.limit();
+		final Segment segment = new Segment(charset);
+		int position = 0;
+		while (position < limit)
+		{
+			// like the LineReader of Properties a continuation before the first character of
+			// a logical line is skipped, so the continued line can still be a comment
+			final int start = position;
+			position = skipWhitespace(buffer, position, limit);
+			if (limit <= position)
+			{
+				// the LineReader returns an empty line, if the content ends directly after the
+				// line terminator of a continuation
+				if (start + 2 <= limit && buffer.get(limit - 2) == '\\')
+				{
+					target.put("", "");
+				}
+				break;
+			}
+			byte current = buffer.get(position);
+			if (current == '\r' || current == '\n')
+			{
+				position++;
+				continue;
+			}
+			if (current == '#' || current == '!')
+			{
+				while (position < limit && (current = buffer.get(position)) != '\n'
+					&& current != '\r')
+				{
+					position++;
+				}
+				continue;
+			}
+			position = segment.read(buffer, position, limit, true);
+			final String key = segment.toString();
+			position = skipWhitespace(buffer, position, limit);
+			if (position < limit
+				&& ((current = buffer.get(position)) == '=' || current == ':'))
+			{
+				position = skipWhitespace(buffer, position + 1, limit);
+			}
+			position = segment.read(buffer, position, limit, false);
+			target.put(key, segment.toString());
+		}
+	}
+
+	/**
+	 * Skips the whitespace and the line continuations from the given position in the given buffer
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param position
+	 *            the position to start
+	 * @param limit
+	 *            the limit of the buffer
+	 * @return the position after the whitespace
+	 */
+	private static int skipWhitespace(final ByteBuffer buffer, int position, final int limit)
+	{
+		while (position < limit)
+		{
+			if (isWhitespace(buffer.get(position)))
+			{
+				position++;
+			}
+			else if (isContinuation(buffer, position, limit))
+			{
+				position = skipContinuation(buffer, position, limit);
+			}
+			else
+			{
+				break;
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Checks if a line continuation, a backslash followed by a line terminator, starts at the given
+	 * position
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param position
+	 *            the position
+	 * @param limit
+	 *            the limit of the buffer
+	 * @return true if a line continuation starts at the given position
+	 */
+	private static boolean isContinuation(final ByteBuffer buffer, final int position,
+		final int limit)
+	{
+		if (buffer.get(position) != '\\' || limit <= position + 1)
+		{
+			return false;
+		}
+		final byte next = buffer.get(position + 1);
+		return next == '\r' || next == '\n';
+	}
+
+	/**
+	 * Skips the line continuation at the given position and the leading whitespace of the
+	 * continued line
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param position
+	 *            the position of the backslash
+	 * @param limit
+	 *            the limit of the buffer
+	 * @return the position of the first character of the continued line
+	 */
+	private static int skipContinuation(final ByteBuffer buffer, int position, final int limit)
+	{
+		position++;
+		if (buffer.get(position++) == '\r' && position < limit && buffer.get(position) == '\n')
+		{
+			position++;
+		}
+		while (position < limit && isWhitespace(buffer.get(position)))
+		{
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * Checks if the given byte is a whitespace in the properties syntax
+	 *
+	 * @param value
+	 *            the byte
+	 * @return true if the given byte is a space, a tab or a form feed
+	 */
+	private static boolean isWhitespace(final byte value)
+	{
+		return value == ' ' || value == '\t' || value == '\f';
+	}
+
+	/**
+	 * Converts the escape sequences in the given string like the method
+	 * {@link Properties#load(Reader)}
+	 *
+	 * @param value
+	 *            the string with escape sequences
+	 * @return the converted string
+	 */
+	private static String unescape(final String value)
+	{
+		final int length = value.length();
+		final StringBuilder sb = new StringBuilder(length);
+		int index = 0;
+		while (index < length)
+		{
+			char current = value.charAt(index++);
+			if (current == '\\' && index < length)
+			{
+				current = value.charAt(index++);
+				if (current == 'u')
+				{
+					if (length < index + 4)
+					{
+						throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+					}
+					int unicode = 0;
+					for (int i = 0; i < 4; i++)
+					{
+						final int digit = Character.digit(value.charAt(index++), 16);
+						if (digit < 0)
+						{
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+						unicode = (unicode << 4) + digit;
+					}
+					current = (char)unicode;
+				}
+				else if (current == 't')
+				{
+					current = '\t';
+				}
+				else if (current == 'r')
+				{
+					current = '\r';
+				}
+				else if (current == 'n')
+				{
+					current = '\n';
+				}
+				else if (current == 'f')
+				{
+					current = '\f';
+				}
+			}
+			sb.append(current);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The class {@link Segment} collects a key or a value without the line continuations. In the
+	 * encoding ISO 8859-1 every byte is one character and the escape sequences are converted while
+	 * reading, in other encodings the collected bytes are decoded and unescaped in the method
+	 * {@link #toString()}
+	 */
+	private static final class Segment
+	{
+
+		/** The charset of the content. */
+		private final Charset charset;
+
+		/** The flag if every byte is one character. */
+		private final boolean singleByte;
+
+		/** The collected bytes if the charset is not a single byte charset. */
+		private byte[] bytes = new byte[256];
+
+		/** The collected characters if the charset is a single byte charset. */
+		private char[] chars = new char[256];
+
+		/** The count of the collected bytes or characters. */
+		private int length;
+
+		/** The flag if the collected bytes contains escape sequences. */
+		private boolean escaped;
+
+		/**
+		 * Instantiates a new {@link Segment} for the given charset
+		 *
+		 * @param charset
+		 *            the charset of the content
+		 */
+		Segment(final Charset charset)
+		{
+			this.charset = charset;
+			this.singleByte = StandardCharsets.ISO_8859_1.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset);
+		}
+
+		/**
+		 * Reads a key or a value from the given position in the given buffer
+		 *
+		 * @param buffer
+		 *            the buffer
+		 * @param position
+		 *            the position to start
+		 * @param limit
+		 *            the limit of the buffer
+		 * @param key
+		 *            the flag if a key is read, a key ends on a separator or whitespace
+		 * @return the position after the key or the value
+		 */
+		int read(final ByteBuffer buffer, int position, final int limit, final boolean key)
+		{
+			length = 0;
+			escaped = false;
+			while (position < limit)
+			{
+				final byte current = buffer.get(position);
+				if (current == '\n' || current == '\r')
+				{
+					break;
+				}
+				if (key && (current == '=' || current == ':' || isWhitespace(current)))
+				{
+					break;
+				}
+				if (current == '\\')
+				{
+					if (limit <= position + 1)
+					{
+						position++;
+						break;
+					}
+					if (isContinuation(buffer, position, limit))
+					{
+						position = skipContinuation(buffer, position, limit);
+						continue;
+					}
+					if (singleByte)
+					{
+						position = readEscape(buffer, position + 1, limit);
+						continue;
+					}
+					escaped = true;
+					append(current);
+					position++;
+				}
+				if (singleByte)
+				{
+					append((char)(buffer.get(position++) & 0xFF));
+				}
+				else
+				{
+					append(buffer.get(position++));
+				}
+			}
+			return position;
+		}
+
+		/**
+		 * Reads the escaped character at the given position and appends the converted character
+		 *
+		 * @param buffer
+		 *            the buffer
+		 * @param position
+		 *            the position of the character after the backslash
+		 * @param limit
+		 *            the limit of the buffer
+		 * @return the position after the escape sequence
+		 */
+		private int readEscape(final ByteBuffer buffer, int position, final int limit)
+		{
+			final char current = (char)(buffer.get(position++) & 0xFF);
+			switch (current)
+			{
+				case 'u' :
+					int unicode = 0;
+					for (int i = 0; i < 4; i++)
+					{
+						// the digits can be divided by a continuation, because the lines are
+						// joined before the escape sequences are converted
+						while (position < limit && isContinuation(buffer, position, limit))
+						{
+							position = skipContinuation(buffer, position, limit);
+						}
+						if (limit <= position)
+						{
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+						final int digit = Character.digit(buffer.get(position++), 16);
+						if (digit < 0)
+						{
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+						unicode = (unicode << 4) + digit;
+					}
+					append((char)unicode);
+					break;
+				case 't' :
+					append('\t');
+					break;
+				case 'r' :
+					append('\r');
+					break;
+				case 'n' :
+					append('\n');
+					break;
+				case 'f' :
+					append('\f');
+					break;
+				default :
+					append(current);
+			}
+			return position;
+		}
+
+		/**
+		 * Appends the given byte
+		 *
+		 * @param value
+		 *            the byte
+		 */
+		private void append(final byte value)
+		{
+			if (length == bytes.length)
+			{
+				bytes = Arrays.copyOf(bytes, length << 1);
+			}
+			bytes[length++] = value;
+		}
+
+		/**
+		 * Appends the given character
+		 *
+		 * @param value
+		 *            the character
+		 */
+		private void append(final char value)
+		{
+			if (length == chars.length)
+			{
+				chars = Arrays.copyOf(chars, length << 1);
+			}
+			chars[length++] = value;
+		}
+
+		/**
+		 * Gets the collected key or value as string
+		 *
+		 * @return the collected key or value
+		 */
+		@Override
+		public String toString()
+		{
+			if (singleByte)
+			{
+				return new String(chars, 0, length);
+			}
+			final String value = new String(bytes, 0, length, charset);
+			return escaped ? unescape(value) : value;
+		}
+	}
+
 	/**
 	 * Converts the given xml file to the given properties file.
 	 *
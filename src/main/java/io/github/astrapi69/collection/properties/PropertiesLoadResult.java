@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The class {@link PropertiesLoadResult} is the return type of the bulk load methods of the class
+ * {@link PropertiesExtensions}. It holds the merged properties of all loaded files and the time
+ * that was needed for loading each file
+ */
+public final class PropertiesLoadResult
+{
+
+	/** The merged properties. */
+	private final Properties properties;
+
+	/** The load time of each file in the order of the precedence. */
+	private final Map<File, Duration> loadTimes;
+
+	/** The total time of the bulk load. */
+	private final Duration totalTime;
+
+	/**
+	 * Instantiates a new {@link PropertiesLoadResult}
+	 *
+	 * @param properties
+	 *            the merged properties
+	 * @param loadTimes
+	 *            the load time of each file in the order of the precedence
+	 * @param totalTime
+	 *            the total time of the bulk load
+	 */
+	PropertiesLoadResult(final Properties properties, final Map<File, Duration> loadTimes,
+		final Duration totalTime)
+	{
+		this.properties = properties;
+		this.loadTimes = Collections.unmodifiableMap(loadTimes);
+		this.totalTime = totalTime;
+	}
+
+	/**
+	 * Gets the merged properties of all loaded files
+	 *
+	 * @return the merged properties
+	 */
+	public Properties getProperties()
+	{
+		return properties;
+	}
+
+	/**
+	 * Gets the time that was needed for loading each file in the order of the precedence, so the
+	 * values of the last file have overridden the values of the files before
+	 *
+	 * @return the load time of each file
+	 */
+	public Map<File, Duration> getLoadTimes()
+	{
+		return loadTimes;
+	}
+
+	/**
+	 * Gets the total time of the bulk load
+	 *
+	 * @return the total time
+	 */
+	public Duration getTotalTime()
+	{
+		return totalTime;
+	}
+
+}
@@ -24,19 +24,24 @@
  */
 package io.github.astrapi69.collection.properties;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.Vector;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-import io.github.astrapi69.collection.list.VectorExtensions;
 import io.github.astrapi69.comparator.NullCheckComparator;
 
 /**
  * The class {@link SortedProperties} extends Properties and adds sort functionality for the keys.
+ * The sorted keys are held in an intern index that is maintained on every modification, so the
+ * methods {@link #keys()}, {@link #keySet()} and {@link #propertyNames()} returns copies of this
+ * index without sorting the keys again.
  */
 public class SortedProperties extends Properties
 {
@@ -45,6 +50,8 @@ public class SortedProperties extends Properties
 	private static final long serialVersionUID = 1L;
 	/** The {@link Comparator} object. */
 	private Comparator<Object> comparator;
+	/** The sorted index of the keys. */
+	private transient TreeSet<Object> sortedKeys;
 
 	/**
 	 * Instantiates a new {@link SortedProperties}.
@@ -131,20 +138,16 @@ public class SortedProperties extends Properties
 	@Override
 	public synchronized Enumeration<Object> keys()
 	{
-		final Vector<Object> keys = VectorExtensions.toVector(super.keys());
-		Collections.sort(keys, getComparator());
-		return keys.elements();
+		return Collections.enumeration(new ArrayList<>(getSortedKeys()));
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Set<Object> keySet()
+	public synchronized Set<Object> keySet()
 	{
-		final Set<Object> set = new TreeSet<>(getComparator());
-		set.addAll(super.keySet());
-		return set;
+		return new TreeSet<>(getSortedKeys());
 	}
 
 	/**
@@ -164,11 +167,186 @@ public class SortedProperties extends Properties
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Enumeration<?> propertyNames()
+	public synchronized Enumeration<?> propertyNames()
 	{
-		final Set<Object> set = new TreeSet<>(getComparator());
-		set.addAll(super.keySet());
-		return Collections.enumeration(set);
+		return Collections.enumeration(new ArrayList<>(getSortedKeys()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object put(final Object key, final Object value)
+	{
+		final Object previous = super.put(key, value);
+		if (previous == null && sortedKeys != null)
+		{
+			sortedKeys.add(key);
+		}
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void putAll(final Map<? extends Object, ? extends Object> t)
+	{
+		super.putAll(t);
+		if (sortedKeys != null)
+		{
+			sortedKeys.addAll(t.keySet());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object remove(final Object key)
+	{
+		final Object previous = super.remove(key);
+		if (previous != null && sortedKeys != null)
+		{
+			sortedKeys.remove(key);
+		}
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized boolean remove(final Object key, final Object value)
+	{
+		final boolean removed = super.remove(key, value);
+		if (removed && sortedKeys != null)
+		{
+			sortedKeys.remove(key);
+		}
+		return removed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void clear()
+	{
+		super.clear();
+		if (sortedKeys != null)
+		{
+			sortedKeys.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object putIfAbsent(final Object key, final Object value)
+	{
+		final Object previous = super.putIfAbsent(key, value);
+		updateSortedKey(key);
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object computeIfAbsent(final Object key,
+		final Function<? super Object, ?> mappingFunction)
+	{
+		final Object value = super.computeIfAbsent(key, mappingFunction);
+		updateSortedKey(key);
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object computeIfPresent(final Object key,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		final Object value = super.computeIfPresent(key, remappingFunction);
+		updateSortedKey(key);
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object compute(final Object key,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		final Object value = super.compute(key, remappingFunction);
+		updateSortedKey(key);
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object merge(final Object key, final Object value,
+		final BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		final Object result = super.merge(key, value, remappingFunction);
+		updateSortedKey(key);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized Object clone()
+	{
+		final SortedProperties clone = (SortedProperties)super.clone();
+		clone.sortedKeys = null;
+		return clone;
+	}
+
+	/**
+	 * Gets the index of the sorted keys. The index is created on the first call and rebuild if it
+	 * is out of sync, for instance after a removal over the entry set. As all insertions update the
+	 * index, it can only hold keys that are not in the map anymore, so a different size detects
+	 * this. The caller has to hold the lock of this {@link SortedProperties}
+	 *
+	 * @return the index of the sorted keys
+	 */
+	private TreeSet<Object> getSortedKeys()
+	{
+		if (sortedKeys == null || sortedKeys.size() != size())
+		{
+			sortedKeys = new TreeSet<>(getComparator());
+			sortedKeys.addAll(super.keySet());
+		}
+		return sortedKeys;
+	}
+
+	/**
+	 * Updates the index of the sorted keys for the given key after a modification
+	 *
+	 * @param key
+	 *            the key
+	 */
+	private void updateSortedKey(final Object key)
+	{
+		if (sortedKeys != null)
+		{
+			if (super.containsKey(key))
+			{
+				sortedKeys.add(key);
+			}
+			else
+			{
+				sortedKeys.remove(key);
+			}
+		}
 	}
 
 }
@@ -24,8 +24,22 @@
  */
 package io.github.astrapi69.collection.set;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
 /**
- * The class {@link IndexableSet}
+ * The class {@link IndexableSet} is an {@link InsertionOrderSet} that provides positional access
+ * to its elements. Beside the hash set it holds a dense array of the elements in insertion order
+ * and a map from each element to its slot in that array, so {@link #get(int)} and
+ * {@link #getIndex(Object)} run in constant time. <br>
+ * <br>
+ * Removing an element leaves a hole in the array that is compacted lazily on the next positional
+ * access behind that hole, so a sequence of removals costs only one linear compaction.
  *
  * @param <E>
  *            the element type
@@ -38,10 +52,76 @@ public class IndexableSet<E> extends InsertionOrderSet<E>
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The marker for a slot of a removed element
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * The elements in insertion order, may contain {@link #REMOVED} markers at slots greater or
+	 * equal than {@link #compactedSize}
+	 */
+	private transient Object[] elements;
+
+	/**
+	 * The slot of each element in the array {@link #elements}
+	 */
+	private transient Map<E, Integer> positions;
+
+	/**
+	 * The number of used slots in the array {@link #elements}
+	 */
+	private transient int slots;
+
+	/**
+	 * The number of leading slots that contains no removed marker, in this range the slot is equal
+	 * to the index of the element
+	 */
+	private transient int compactedSize;
+
+	/**
+	 * Constructs an empty {@link IndexableSet} instance with a default capacity (16) and load
+	 * factor (0.75).
+	 */
+	public IndexableSet()
+	{
+		this(16);
+	}
+
+	/**
+	 * Constructs an empty {@link IndexableSet} instance with the specified initial capacity and a
+	 * default load factor (0.75).
+	 *
+	 * @param initialCapacity
+	 *            the initial capacity.
+	 * @throws IllegalArgumentException
+	 *             if the initial capacity is negative.
+	 */
+	public IndexableSet(final int initialCapacity)
+	{
+		super(initialCapacity);
+		initIndex(initialCapacity);
+	}
+
+	/**
+	 * Constructs a new {@link IndexableSet} instance with the same elements as the specified
+	 * collection.
+	 *
+	 * @param collection
+	 *            the collection whose elements are to be placed into this set.
+	 * @throws NullPointerException
+	 *             if the specified collection is null.
+	 */
+	public IndexableSet(final Collection<? extends E> collection)
+	{
+		this(Math.max(16, collection.size()));
+		addAll(collection);
+	}
+
 	/**
 	 * Gets the element of the given index <br>
 	 * <br>
-	 * Note: use with caution
+	 * Note: if elements was removed before the given index a compaction of the index is triggered
 	 *
 	 * @param index
 	 *            the index
@@ -49,23 +129,19 @@ public class IndexableSet<E> extends InsertionOrderSet<E>
 	 * @throws IndexOutOfBoundsException
 	 *             if the index is out of range (<code>index &lt; 0 || index &gt;= size()</code>)
 	 */
+	@SuppressWarnings("unchecked")
 	public E get(int index)
 	{
 		int size = this.size();
-		int count = 0;
-		for (E entry : this)
+		if (index >= size || index < 0)
 		{
-			if (index >= size || index < 0)
-			{
-				break;
-			}
-			if (index == count)
-			{
-				return entry;
-			}
-			count++;
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (compactedSize <= index)
+		{
+			compact();
 		}
-		throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		return (E)elements[index];
 	}
 
 	/**
@@ -77,16 +153,210 @@ public class IndexableSet<E> extends InsertionOrderSet<E>
 	 */
 	public int getIndex(E element)
 	{
-		int index = 0;
-		for (E entry : this)
+		Integer slot = positions.get(element);
+		if (slot == null)
+		{
+			return -1;
+		}
+		if (slot < compactedSize)
+		{
+			return slot;
+		}
+		compact();
+		return positions.get(element);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean add(final E o)
+	{
+		boolean added = super.add(o);
+		unindex(o);
+		if (slots == elements.length)
 		{
-			if (entry.equals(element))
+			compact();
+			if (slots == elements.length)
 			{
-				return index;
+				elements = Arrays.copyOf(elements, Math.max(16, slots + (slots >> 1)));
 			}
-			index++;
 		}
-		return -1;
+		if (compactedSize == slots)
+		{
+			compactedSize++;
+		}
+		positions.put(o, slots);
+		elements[slots++] = o;
+		return added;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean remove(final Object o)
+	{
+		if (super.remove(o))
+		{
+			unindex(o);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		super.clear();
+		Arrays.fill(elements, 0, slots, null);
+		positions.clear();
+		slots = 0;
+		compactedSize = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<E> iterator()
+	{
+		final Iterator<E> iterator = super.iterator();
+		return new Iterator<>()
+		{
+			E current;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next()
+			{
+				current = iterator.next();
+				return current;
+			}
+
+			@Override
+			public void remove()
+			{
+				iterator.remove();
+				unindex(current);
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object clone()
+	{
+		IndexableSet<E> clone = (IndexableSet<E>)super.clone();
+		clone.elements = elements.clone();
+		clone.positions = new HashMap<>(positions);
+		return clone;
+	}
+
+	/**
+	 * Initialize the positional index with the given capacity
+	 *
+	 * @param capacity
+	 *            the initial capacity of the index
+	 */
+	private void initIndex(final int capacity)
+	{
+		elements = new Object[Math.max(16, capacity)];
+		positions = new HashMap<>(Math.max(16, (int)(capacity / .75f) + 1));
+		slots = 0;
+		compactedSize = 0;
+	}
+
+	/**
+	 * Removes the given element from the positional index if it is indexed. If the element is in
+	 * the last slot the slot is released immediately, otherwise it is marked as removed
+	 *
+	 * @param o
+	 *            the element to remove from the index
+	 */
+	private void unindex(final Object o)
+	{
+		Integer slot = positions.remove(o);
+		if (slot == null)
+		{
+			return;
+		}
+		if (slot == slots - 1)
+		{
+			elements[--slots] = null;
+			if (compactedSize > slots)
+			{
+				compactedSize = slots;
+			}
+			while (0 < slots && elements[slots - 1] == REMOVED)
+			{
+				elements[--slots] = null;
+			}
+			return;
+		}
+		elements[slot] = REMOVED;
+		if (slot < compactedSize)
+		{
+			compactedSize = slot;
+		}
+	}
+
+	/**
+	 * Removes all removed markers from the array {@link #elements} and updates the slots of the
+	 * moved elements
+	 */
+	@SuppressWarnings("unchecked")
+	private void compact()
+	{
+		int target = compactedSize;
+		for (int source = compactedSize; source < slots; source++)
+		{
+			Object element = elements[source];
+			if (element != REMOVED)
+			{
+				elements[target] = element;
+				positions.put((E)element, target);
+				target++;
+			}
+		}
+		Arrays.fill(elements, target, slots, null);
+		slots = target;
+		compactedSize = target;
+	}
+
+	/**
+	 * Reconstitutes the positional index after the deserialization of the hash set
+	 *
+	 * @param in
+	 *            the object input stream
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             is thrown if a class was not found
+	 */
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		initIndex(size());
+		Iterator<E> iterator = super.iterator();
+		while (iterator.hasNext())
+		{
+			E element = iterator.next();
+			positions.put(element, slots);
+			elements[slots++] = element;
+		}
+		compactedSize = slots;
 	}
 
 }
@@ -0,0 +1,247 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListExtensions;
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link BatchPipeline}.
+ */
+public class BatchPipelineTest
+{
+
+	/**
+	 * Test the method {@link BatchPipeline#process(java.util.Collection)} with ordered and
+	 * unordered results
+	 */
+	@Test
+	public void testProcess()
+	{
+		final List<Integer> list = ListFactory.newRangeList(1, 1000);
+		final List<Integer> expected = ListExtensions.splitToParts(list, 64).stream()
+			.map(BatchPipelineTest::sum).collect(Collectors.toList());
+
+		final BatchPipelineResult<Integer> result = BatchPipeline
+			.<Integer, Integer> of(BatchPipelineTest::sum).batchSize(64).parallelism(4)
+			.process(list);
+		assertEquals(result.getResults(), expected);
+		assertEquals(result.getBatching().getBatches(), 16L);
+		assertEquals(result.getHandling().getElements(), 1000L);
+		assertEquals(result.getBackpressure().getBatches(), 16L);
+
+		assertEquals(BatchPipeline.<Integer, Integer> of(BatchPipelineTest::sum).batchSize(64)
+			.process(new LinkedList<>(list)).getResults(), expected);
+		assertEquals(BatchPipeline.<Integer, Integer> of(BatchPipelineTest::sum).batchSize(64)
+			.process(list.stream()).getResults(), expected);
+
+		final List<Integer> unordered = BatchPipeline.<Integer, Integer> of(BatchPipelineTest::sum)
+			.batchSize(64).parallelism(4).ordered(false).process(list).getResults();
+		assertEquals(new HashSet<>(unordered), new HashSet<>(expected));
+		assertEquals(unordered.size(), expected.size());
+	}
+
+	/**
+	 * Test that the count of the pending batches is limited
+	 */
+	@Test
+	public void testBackpressure()
+	{
+		final AtomicInteger pending = new AtomicInteger();
+		final AtomicInteger read = new AtomicInteger();
+		final Iterator<Integer> source = new Iterator<>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return read.get() < 100;
+			}
+
+			@Override
+			public Integer next()
+			{
+				pending.incrementAndGet();
+				return read.incrementAndGet();
+			}
+		};
+		final BatchPipelineResult<Integer> result = BatchPipeline.<Integer, Integer> of(batch -> {
+			// the batches in the pool and the batch in the reading are at most 3 batches
+			assertTrue(pending.get() <= 3 * 10);
+			pending.addAndGet(-batch.size());
+			return batch.size();
+		}).batchSize(10).parallelism(1).maxPendingBatches(2).process(source);
+		assertEquals(result.getResults().size(), 10);
+		assertEquals(result.getHandling().getElements(), 100L);
+	}
+
+	/**
+	 * Test that a batch is complete if the maximum batch delay is elapsed
+	 */
+	@Test
+	public void testMaxBatchDelay()
+	{
+		final Iterator<Integer> slowSource = ListFactory.newRangeList(1, 6).stream().peek(i -> {
+			try
+			{
+				Thread.sleep(30);
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}).iterator();
+		final List<Integer> sizes = BatchPipeline.<Integer, Integer> of(List::size)
+			.batchSize(100).maxBatchDelay(Duration.ofMillis(1)).process(slowSource).getResults();
+		// the next element is not waited for when the delay is elapsed
+		assertEquals(sizes, ListFactory.newArrayList(1, 1, 1, 1, 1, 1));
+	}
+
+	/**
+	 * Test that an incomplete batch is handed over when the maximum batch delay is elapsed while
+	 * the source stalls
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	@Test
+	public void testMaxBatchDelayWithStallingSource() throws InterruptedException
+	{
+		final CountDownLatch firstBatchHandled = new CountDownLatch(1);
+		final AtomicBoolean handledWhileStalled = new AtomicBoolean();
+		final Iterator<Integer> stallingSource = new Iterator<Integer>()
+		{
+			private int next = 1;
+
+			@Override
+			public boolean hasNext()
+			{
+				if (next == 4)
+				{
+					// the source stalls until the first batch is handled
+					try
+					{
+						handledWhileStalled.set(firstBatchHandled.await(5, TimeUnit.SECONDS));
+					}
+					catch (final InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+					}
+				}
+				return next <= 5;
+			}
+
+			@Override
+			public Integer next()
+			{
+				return next++;
+			}
+		};
+		final List<List<Integer>> batches = BatchPipeline.<Integer, List<Integer>> of(batch -> {
+			firstBatchHandled.countDown();
+			return batch;
+		}).batchSize(100).maxBatchDelay(Duration.ofMillis(50)).parallelism(1)
+			.process(stallingSource).getResults();
+		assertTrue(handledWhileStalled.get());
+		assertEquals(batches.get(0), ListFactory.newArrayList(1, 2, 3));
+		assertEquals(batches.get(1), ListFactory.newArrayList(4, 5));
+
+		final Iterator<Integer> failingSource = new Iterator<Integer>()
+		{
+			private int next = 1;
+
+			@Override
+			public boolean hasNext()
+			{
+				if (next == 3)
+				{
+					throw new IllegalStateException("source failed");
+				}
+				return true;
+			}
+
+			@Override
+			public Integer next()
+			{
+				return next++;
+			}
+		};
+		assertThrows(IllegalStateException.class,
+			() -> BatchPipeline.<Integer, Integer> of(List::size)
+				.maxBatchDelay(Duration.ofMillis(50)).process(failingSource));
+	}
+
+	/**
+	 * Test that an exception of the batch handler is rethrown
+	 */
+	@Test
+	public void testHandlerFails()
+	{
+		final BatchPipeline<Integer, Integer> pipeline = BatchPipeline.of(batch -> {
+			if (batch.contains(500))
+			{
+				throw new IllegalStateException("failed");
+			}
+			return batch.size();
+		});
+		assertThrows(IllegalStateException.class,
+			() -> pipeline.batchSize(10).process(ListFactory.newRangeList(1, 1000)));
+		assertThrows(IllegalArgumentException.class, () -> pipeline.batchSize(0));
+	}
+
+	/**
+	 * Computes the sum of the given values
+	 *
+	 * @param values
+	 *            the values
+	 * @return the sum
+	 */
+	private static Integer sum(final List<Integer> values)
+	{
+		int sum = 0;
+		for (final Integer value : values)
+		{
+			sum += value;
+		}
+		return sum;
+	}
+
+}
@@ -22,26 +22,40 @@
  * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
  * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
  */
-package io.github.astrapi69.collection.set;
+package io.github.astrapi69.collection;
 
-import org.openjdk.jmh.Main;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Test;
 
 /**
- * The class {@link BenchmarkRunner} have the main method that starts the benchmarking process
+ * The unit test class for the class {@link ThreadFactoryExtensions}.
  */
-public class BenchmarkRunner
+public class ThreadFactoryExtensionsTest
 {
 
 	/**
-	 * The main method starts the benchmarking process
+	 * Test for the method {@link ThreadFactoryExtensions#newWorkerThreadFactory(String)}
 	 *
-	 * @param args
-	 *            the arguments
-	 * @throws Exception
-	 *             the exception
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting for the worker thread
 	 */
-	public static void main(String[] args) throws Exception
+	@Test
+	public void testNewWorkerThreadFactory() throws InterruptedException
 	{
-		Main.main(args);
+		final ThreadFactory threadFactory = ThreadFactoryExtensions
+			.newWorkerThreadFactory("worker-");
+		final int[] result = new int[1];
+		final Thread thread = threadFactory.newThread(() -> result[0] = 42);
+		// virtual threads are always daemon threads and have no name
+		assertTrue(thread.isDaemon());
+		assertTrue(thread.getName().isEmpty() || thread.getName().equals("worker-1"));
+		thread.start();
+		thread.join();
+		assertEquals(result[0], 42);
 	}
+
 }
@@ -26,21 +26,42 @@ package io.github.astrapi69.collection.array;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.meanbean.test.BeanTester;
 
 import io.github.astrapi69.check.Argument;
@@ -966,7 +987,291 @@ public class ArrayExtensionsTest
 
 		expected = ArrayFactory.newArray("Alex", "Berta", "Brad", "Caesar", "Leonardo");
 		assertArrayEquals(actual, expected);
+		// new scenario with a smaller first array and duplicates
+		one = ArrayFactory.newArray("Leonardo", "Anton", "Alex", "Leonardo", null);
+		other = ArrayFactory.newArray("Alex", "Berta", "Brad", "Caesar", "Dora", "Emil", "Franz",
+			"Gustav", "Leonardo", null);
+		actual = ArrayExtensions.intersection(one, other);
+		expected = ArrayFactory.newArray("Leonardo", "Alex", "Leonardo", null);
+		assertArrayEquals(actual, expected);
+		// new scenario with a larger first array
+		actual = ArrayExtensions.intersection(other, one);
+		expected = ArrayFactory.newArray("Alex", "Leonardo", null);
+		assertArrayEquals(actual, expected);
+	}
+
+	/**
+	 * Test the method for {@link ArrayExtensions#intersection(Object[], Object[], Comparator)}
+	 */
+	@Test
+	public void testIntersectionWithComparator()
+	{
+		Integer[] actual;
+		Integer[] expected;
+
+		actual = ArrayExtensions.intersection(ArrayFactory.newArray(5, 1, 3, 3, 7),
+			ArrayFactory.newArray(3, 4, 5, 6), Comparator.naturalOrder());
+		expected = ArrayFactory.newArray(3, 3, 5);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.intersection(ArrayFactory.newRangeArray(0, 999),
+			ArrayFactory.newRangeArray(990, 1999), Comparator.naturalOrder());
+		expected = ArrayFactory.newRangeArray(990, 999);
+		assertArrayEquals(actual, expected);
+		assertArrayEquals(ArrayExtensions.intersection(ArrayFactory.newRangeArray(0, 999),
+			ArrayFactory.newRangeArray(990, 1999)), expected);
+	}
+
+	/**
+	 * Test the method for {@link ArrayExtensions#difference(Object[], Object[])} and
+	 * {@link ArrayExtensions#difference(Object[], Object[], Comparator)}
+	 */
+	@Test
+	public void testDifference()
+	{
+		Integer[] actual;
+		Integer[] expected;
+		final Integer[] one = ArrayFactory.newArray(5, 1, 3, 3, 7, 1);
+		final Integer[] other = ArrayFactory.newArray(3, 4, 5, 6);
+
+		actual = ArrayExtensions.difference(one, other);
+		expected = ArrayFactory.newArray(1, 7);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.difference(one, other, Comparator.naturalOrder());
+		expected = ArrayFactory.newArray(1, 7);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.difference(other, one, Comparator.reverseOrder());
+		expected = ArrayFactory.newArray(6, 4);
+		assertArrayEquals(actual, expected);
+		assertArrayEquals(ArrayExtensions.difference(one, ArrayFactory.newArray()),
+			ArrayFactory.newArray(5, 1, 3, 7));
+	}
+
+	/**
+	 * Test the method for {@link ArrayExtensions#symmetricDifference(Object[], Object[])} and
+	 * {@link ArrayExtensions#symmetricDifference(Object[], Object[], Comparator)}
+	 */
+	@Test
+	public void testSymmetricDifference()
+	{
+		Integer[] actual;
+		Integer[] expected;
+		final Integer[] one = ArrayFactory.newArray(5, 1, 3, 3, 7, 1);
+		final Integer[] other = ArrayFactory.newArray(6, 3, 4, 5, 6);
+
+		actual = ArrayExtensions.symmetricDifference(one, other);
+		expected = ArrayFactory.newArray(1, 7, 6, 4);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.symmetricDifference(one, other, Comparator.naturalOrder());
+		expected = ArrayFactory.newArray(1, 4, 6, 7);
+		assertArrayEquals(actual, expected);
+	}
+
+	/**
+	 * Test the method for {@link ArrayExtensions#union(Object[], Object[])} and
+	 * {@link ArrayExtensions#union(Object[], Object[], Comparator)}
+	 */
+	@Test
+	public void testUnion()
+	{
+		String[] actual;
+		String[] expected;
+		final String[] one = ArrayFactory.newArray("Dora", "Anton", "Dora");
+		final String[] other = ArrayFactory.newArray("Caesar", "Anton", "Berta");
+
+		actual = ArrayExtensions.union(one, other);
+		expected = ArrayFactory.newArray("Dora", "Anton", "Caesar", "Berta");
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.union(one, other, Comparator.naturalOrder());
+		expected = ArrayFactory.newArray("Anton", "Berta", "Caesar", "Dora");
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayExtensions.union(one, other, String.CASE_INSENSITIVE_ORDER);
+		assertArrayEquals(actual, expected);
+		assertArrayEquals(ArrayExtensions.union(ArrayFactory.newArray("anton"), one,
+			String.CASE_INSENSITIVE_ORDER), ArrayFactory.newArray("anton", "Dora"));
+	}
+
+	/**
+	 * Test the search methods indexOf and contains for arrays of primitive values
+	 */
+	@Test
+	public void testPrimitiveSearch()
+	{
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newIntArray(4, 2, 4), 4), 0);
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newIntArray(4, 2, 4), 3), -1);
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newLongArray(4L, 2L), 2L), 1);
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newByteArray(1, -1), (byte)-1), 1);
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newDoubleArray(0.0, Double.NaN),
+			Double.NaN), 1);
+		assertEquals(ArrayExtensions.indexOf(ArrayFactory.newDoubleArray(0.0), -0.0), -1);
+
+		assertTrue(ArrayExtensions.contains(ArrayFactory.newIntArray(1, 2, 3), 3));
+		assertFalse(ArrayExtensions.contains(new int[0], 3));
+		assertTrue(ArrayExtensions.contains(ArrayFactory.newLongArray(Long.MIN_VALUE),
+			Long.MIN_VALUE));
+		assertFalse(ArrayExtensions.contains(ArrayFactory.newByteArray(1, 2), (byte)3));
+		assertTrue(ArrayExtensions.contains(ArrayFactory.newDoubleArray(1.5, 2.5), 2.5));
+	}
+
+	/**
+	 * Test the methods iterator for arrays of int, long and double values
+	 */
+	@Test
+	public void testPrimitiveIterators()
+	{
+		final int[] ints = ArrayFactory.newIntRangeArray(1, 5);
+		final PrimitiveIterator.OfInt intIterator = ArrayExtensions.iterator(ints, 1, 4);
+		assertEquals(intIterator.nextInt(), 2);
+		assertEquals(intIterator.next(), Integer.valueOf(3));
+		assertEquals(intIterator.nextInt(), 4);
+		assertFalse(intIterator.hasNext());
+		assertThrows(NoSuchElementException.class, intIterator::nextInt);
+
+		final long[] longs = ArrayFactory.newLongRangeArray(1, 5);
+		final long[] collected = new long[5];
+		final int[] count = { 0 };
+		ArrayExtensions.iterator(longs)
+			.forEachRemaining((long value) -> collected[count[0]++] = value);
+		assertArrayEquals(collected, longs);
+
+		final double[] doubles = { 1.5, Double.NaN, -0.0 };
+		final PrimitiveIterator.OfDouble doubleIterator = ArrayExtensions.iterator(doubles, 1, 3);
+		assertTrue(Double.isNaN(doubleIterator.nextDouble()));
+		assertEquals(doubleIterator.nextDouble(), -0.0);
+		assertFalse(doubleIterator.hasNext());
+		assertFalse(ArrayExtensions.iterator(new double[0]).hasNext());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayExtensions.iterator(ints, 0, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayExtensions.iterator(longs, 3, 2));
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> ArrayExtensions.iterator(doubles, -1, 2));
+	}
+
+	/**
+	 * Test the methods count, min, max, mismatch and isEqual for arrays of primitive values
+	 */
+	@Test
+	public void testPrimitiveScans()
+	{
+		final int[] ints = ArrayFactory.newIntRangeArray(-5, 20);
+		final int[] otherInts = ints.clone();
+		otherInts[17] = 0;
+
+		assertEquals(ArrayExtensions.count(ArrayFactory.newIntArray(1, 2, 1), 1), 2);
+		assertEquals(ArrayExtensions.count(ArrayFactory.newLongArray(1L, 2L), 3L), 0);
+		assertEquals(ArrayExtensions.count(new float[] { Float.NaN, Float.NaN }, Float.NaN), 2);
+		assertEquals(ArrayExtensions.count(ArrayFactory.newDoubleArray(0.0, -0.0), 0.0), 1);
+		assertEquals(ArrayExtensions.count(ArrayFactory.newByteArray(1, 1, 1, 1, 1, 1, 1, 1, 1),
+			(byte)1), 9);
+		assertEquals(ArrayExtensions.indexOf(new float[] { 1.0f, 2.0f }, 2.0f), 1);
+		assertTrue(ArrayExtensions.contains(new float[] { Float.NaN }, Float.NaN));
+
+		assertEquals(ArrayExtensions.min(ints), -5);
+		assertEquals(ArrayExtensions.max(ints), 20);
+		assertEquals(ArrayExtensions.max(ArrayFactory.newLongRangeArray(-3L, 3L)), 3L);
+		assertEquals(ArrayExtensions.min(new float[] { 2.0f, -2.0f }), -2.0f);
+		assertEquals(ArrayExtensions.max(ArrayFactory.newDoubleArray(1.0, Double.NaN)),
+			Double.NaN);
+		assertEquals(ArrayExtensions.min(ArrayFactory.newByteArray(3, -3)), (byte)-3);
+		assertThrows(NoSuchElementException.class, () -> ArrayExtensions.max(new long[0]));
+
+		assertEquals(ArrayExtensions.mismatch(ints, otherInts), 17);
+		assertEquals(ArrayExtensions.mismatch(ints, ints.clone()), -1);
+		assertEquals(ArrayExtensions.mismatch(ArrayFactory.newLongArray(1L),
+			ArrayFactory.newLongArray(1L, 2L)), 1);
+		assertEquals(ArrayExtensions.mismatch(new float[] { Float.NaN }, new float[] { 0.0f }), 0);
+		assertEquals(ArrayExtensions.mismatch(ArrayFactory.newDoubleArray(0.0),
+			ArrayFactory.newDoubleArray(-0.0)), 0);
+		assertEquals(ArrayExtensions.mismatch(ArrayFactory.newByteArray(1, 2),
+			ArrayFactory.newByteArray(1, 2)), -1);
+
+		assertTrue(ArrayExtensions.isEqual(ints, ints.clone()));
+		assertFalse(ArrayExtensions.isEqual(ints, otherInts));
+		assertTrue(ArrayExtensions.isEqual((long[])null, null));
+		assertTrue(ArrayExtensions.isEqual(new float[] { Float.NaN }, new float[] { Float.NaN }));
+		assertFalse(ArrayExtensions.isEqual(ArrayFactory.newDoubleArray(0.0),
+			ArrayFactory.newDoubleArray(-0.0)));
+		assertFalse(ArrayExtensions.isEqual(ArrayFactory.newByteArray(1), null));
+	}
+
+	/**
+	 * Test the methods concatenate, subArray and remove for arrays of primitive values
+	 */
+	@Test
+	public void testPrimitiveReshaping()
+	{
+		final int[] ints = ArrayFactory.newIntRangeArray(0, 9);
+		final long[] longs = ArrayFactory.newLongRangeArray(0L, 9L);
+
+		assertArrayEquals(ArrayExtensions.concatenate(ArrayFactory.newIntArray(1, 2),
+			ArrayFactory.newIntArray(3)), ArrayFactory.newIntArray(1, 2, 3));
+		assertArrayEquals(ArrayExtensions.concatenate(ints, null), ints);
+		assertArrayEquals(ArrayExtensions.concatenate((long[])null, longs), longs);
+		assertArrayEquals(ArrayExtensions.concatenate(ArrayFactory.newDoubleArray(1.0),
+			ArrayFactory.newDoubleArray(2.0)), ArrayFactory.newDoubleArray(1.0, 2.0));
+		assertArrayEquals(ArrayExtensions.concatenate(ArrayFactory.newByteArray(1),
+			ArrayFactory.newByteArray(2)), ArrayFactory.newByteArray(1, 2));
+
+		assertArrayEquals(ArrayExtensions.subArray(ints, 2, 5), ArrayFactory.newIntArray(2, 3, 4));
+		assertArrayEquals(ArrayExtensions.subArray(longs, 8, 10),
+			ArrayFactory.newLongArray(8L, 9L));
+		assertArrayEquals(ArrayExtensions.subArray(ArrayFactory.newDoubleArray(1.0, 2.0), 1, 2),
+			ArrayFactory.newDoubleArray(2.0));
+		assertArrayEquals(ArrayExtensions.subArray(ArrayFactory.newByteArray(1, 2), 0, 1),
+			ArrayFactory.newByteArray(1));
+
+		assertArrayEquals(ArrayExtensions.remove(ints, 9, 0, 5, 5),
+			ArrayFactory.newIntArray(1, 2, 3, 4, 6, 7, 8));
+		assertArrayEquals(ArrayExtensions.remove(longs, 1), ArrayFactory.newLongArray(0L, 2L, 3L,
+			4L, 5L, 6L, 7L, 8L, 9L));
+		assertArrayEquals(ArrayExtensions.remove(ArrayFactory.newDoubleArray(1.0, 2.0)),
+			ArrayFactory.newDoubleArray(1.0, 2.0));
+		assertArrayEquals(ArrayExtensions.remove(ArrayFactory.newByteArray(1, 2), 0, 1),
+			new byte[0]);
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayExtensions.remove(ints, 10));
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayExtensions.remove(longs, -1));
+	}
 
+	/**
+	 * Test the set algebra for arrays of primitive values
+	 */
+	@Test
+	public void testPrimitiveSetAlgebra()
+	{
+		final int[] one = ArrayFactory.newIntArray(5, 1, 3, 3, 7, 1);
+		final int[] other = ArrayFactory.newIntArray(6, 3, 4, 5, 6);
+
+		assertArrayEquals(ArrayExtensions.intersection(one, other),
+			ArrayFactory.newIntArray(5, 3, 3));
+		assertArrayEquals(ArrayExtensions.intersection(other, one),
+			ArrayFactory.newIntArray(3, 5));
+		assertArrayEquals(ArrayExtensions.removeAll(one, other),
+			ArrayFactory.newIntArray(1, 7, 1));
+		assertArrayEquals(ArrayExtensions.union(one, other),
+			ArrayFactory.newIntArray(5, 1, 3, 7, 6, 4));
+		assertArrayEquals(ArrayExtensions.difference(one, other), ArrayFactory.newIntArray(1, 7));
+		assertArrayEquals(ArrayExtensions.symmetricDifference(one, other),
+			ArrayFactory.newIntArray(1, 7, 6, 4));
+
+		assertArrayEquals(
+			ArrayExtensions.intersection(ArrayFactory.newLongArray(Long.MAX_VALUE, 1L),
+				ArrayFactory.newLongArray(Long.MAX_VALUE)),
+			ArrayFactory.newLongArray(Long.MAX_VALUE));
+		assertArrayEquals(
+			ArrayExtensions.union(ArrayFactory.newDoubleArray(Double.NaN, 0.0),
+				ArrayFactory.newDoubleArray(-0.0, Double.NaN)),
+			ArrayFactory.newDoubleArray(Double.NaN, 0.0, -0.0));
+		assertArrayEquals(
+			ArrayExtensions.difference(ArrayFactory.newByteArray(-128, 0, 127),
+				ArrayFactory.newByteArray(0)),
+			ArrayFactory.newByteArray(-128, 127));
+		assertArrayEquals(ArrayExtensions.removeAll(ArrayFactory.newByteArray(1, 2),
+			new byte[0]), ArrayFactory.newByteArray(1, 2));
 	}
 
 	/**
@@ -1024,6 +1329,19 @@ public class ArrayExtensionsTest
 		actual = ArrayExtensions.removeAll(source, arrayToRemove);
 		expected = ArrayFactory.newArray("1");
 		assertArrayEquals(actual, expected);
+		// new scenario with more elements to remove than the linear scan threshold
+		source = ArrayFactory.newArray("9", "1", "2", "1", "9");
+		arrayToRemove = ArrayFactory.newArray("2", "3", "4", "5", "6", "7", "8", "9", "10");
+		actual = ArrayExtensions.removeAll(source, arrayToRemove);
+		expected = ArrayFactory.newArray("1", "1");
+		assertArrayEquals(actual, expected);
+		// new scenario with a comparator
+		actual = ArrayExtensions.removeAll(source, arrayToRemove, Comparator.naturalOrder());
+		assertArrayEquals(actual, expected);
+		actual = ArrayExtensions.removeAll(source, ArrayFactory.newArray("1"),
+			Comparator.naturalOrder());
+		expected = ArrayFactory.newArray("2", "9", "9");
+		assertArrayEquals(actual, expected);
 	}
 
 	/**
@@ -1125,6 +1443,16 @@ public class ArrayExtensionsTest
 		actual = ArrayExtensions.remove(source, 3, 5, 1);
 		expected = ArrayFactory.newArray("1", "3", "5");
 		assertArrayEquals(actual, expected);
+		// new scenario with a bit set
+		final BitSet indexes = new BitSet();
+		indexes.set(0);
+		indexes.set(4, 6);
+		actual = ArrayExtensions.remove(source, indexes);
+		expected = ArrayFactory.newArray("2", "3", "4");
+		assertArrayEquals(actual, expected);
+		assertArrayEquals(ArrayExtensions.remove(source, new BitSet()), source);
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> ArrayExtensions.remove(new String[] { "1" }, 1));
 	}
 
 	/**
@@ -1150,6 +1478,144 @@ public class ArrayExtensionsTest
 		assertEquals(expected, actual);
 	}
 
+	/**
+	 * Test for the methods {@link ArrayExtensions#sliceInChunks(byte[], int)} and
+	 * {@link ArrayExtensions#sliceInChunks(ByteBuffer, int)}
+	 */
+	@Test
+	public void testSliceInChunks()
+	{
+		final byte[] bytes = "Lorem ipsum dolor sit amet, consectetur adipiscing elit.".getBytes();
+		final byte[][] copies = ArrayExtensions.splitInChunks(bytes, 5);
+		final ByteBuffer[] chunks = ArrayExtensions.sliceInChunks(bytes, 5);
+
+		assertEquals(chunks.length, copies.length);
+		for (int i = 0; i < chunks.length; i++)
+		{
+			final byte[] chunk = new byte[chunks[i].remaining()];
+			chunks[i].duplicate().get(chunk);
+			assertArrayEquals(chunk, copies[i]);
+			assertTrue(chunks[i].isReadOnly());
+		}
+		// the chunks are views of the array
+		bytes[10] = '!';
+		assertEquals(chunks[2].get(0), (byte)'!');
+		assertThrows(ReadOnlyBufferException.class, () -> chunks[0].put(0, (byte)0));
+
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.position(50);
+		final ByteBuffer[] tail = ArrayExtensions.sliceInChunks(buffer, 4);
+		assertEquals(tail.length, 2);
+		assertEquals(tail[0].remaining(), 4);
+		assertEquals(tail[1].remaining(), 2);
+		assertEquals(tail[1].get(1), (byte)'.');
+		assertEquals(buffer.position(), 50);
+
+		assertEquals(ArrayExtensions.sliceInChunks(new byte[0], 5).length, 0);
+		assertThrows(IllegalArgumentException.class,
+			() -> ArrayExtensions.sliceInChunks(bytes, 0));
+	}
+
+	/**
+	 * Test for the method {@link ArrayExtensions#forEachChunk(ReadableByteChannel, ByteBufferPool,
+	 * Consumer)}
+	 */
+	@Test
+	public void testForEachChunk()
+	{
+		final byte[] bytes = new byte[10000];
+		new Random(24).nextBytes(bytes);
+		final ByteBufferPool pool = new ByteBufferPool(3000);
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final List<Integer> sizes = new ArrayList<>();
+
+		ArrayExtensions.forEachChunk(Channels.newChannel(new ByteArrayInputStream(bytes)), pool,
+			chunk -> {
+				sizes.add(chunk.remaining());
+				output.write(chunk.array(), chunk.arrayOffset(), chunk.remaining());
+			});
+		assertEquals(sizes, List.of(3000, 3000, 3000, 1000));
+		assertArrayEquals(output.toByteArray(), bytes);
+		// every chunk is read into the same buffer
+		assertEquals(pool.getCreatedBuffers(), 1);
+		assertEquals(pool.getIdleBuffers(), 1);
+	}
+
+	/**
+	 * Test for the method {@link ArrayExtensions#streamChunks(ReadableByteChannel, ByteBufferPool)}
+	 */
+	@Test
+	public void testStreamChunks()
+	{
+		final byte[] bytes = new byte[10000];
+		new Random(24).nextBytes(bytes);
+		final ByteBufferPool pool = new ByteBufferPool(3000);
+		final List<ByteBuffer> chunks;
+
+		// every chunk is a buffer of its own, so the chunks can be collected in a parallel stream
+		try (Stream<ByteBuffer> stream = ArrayExtensions
+			.streamChunks(Channels.newChannel(new ByteArrayInputStream(bytes)), pool))
+		{
+			chunks = stream.parallel().collect(Collectors.toList());
+		}
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		for (final ByteBuffer chunk : chunks)
+		{
+			output.write(chunk.array(), chunk.arrayOffset(), chunk.remaining());
+		}
+		assertArrayEquals(output.toByteArray(), bytes);
+		assertEquals(chunks.stream().map(ByteBuffer::remaining).collect(Collectors.toList()),
+			List.of(3000, 3000, 3000, 1000));
+		assertEquals(pool.getCreatedBuffers(), 4);
+		chunks.forEach(pool::release);
+		assertEquals(pool.getIdleBuffers(), 4);
+
+		// a consumer that releases every chunk needs only one buffer
+		final ByteBufferPool releasingPool = new ByteBufferPool(3000);
+		final int[] length = new int[1];
+		try (Stream<ByteBuffer> stream = ArrayExtensions
+			.streamChunks(Channels.newChannel(new ByteArrayInputStream(bytes)), releasingPool))
+		{
+			stream.forEach(chunk -> {
+				length[0] += chunk.remaining();
+				releasingPool.release(chunk);
+			});
+		}
+		assertEquals(length[0], bytes.length);
+		assertEquals(releasingPool.getCreatedBuffers(), 1);
+	}
+
+	/**
+	 * Test for the method {@link ArrayExtensions#streamMappedChunks(FileChannel, int)}
+	 *
+	 * @param directory
+	 *            the temporary directory
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStreamMappedChunks(@TempDir final Path directory) throws IOException
+	{
+		final byte[] bytes = new byte[10000];
+		new Random(24).nextBytes(bytes);
+		final Path file = Files.write(directory.resolve("payload.bin"), bytes);
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final List<Integer> sizes = new ArrayList<>();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			ArrayExtensions.streamMappedChunks(channel, 4096).forEach(chunk -> {
+				sizes.add(chunk.remaining());
+				final byte[] copy = new byte[chunk.remaining()];
+				chunk.get(copy);
+				output.write(copy, 0, copy.length);
+			});
+			assertEquals(ArrayExtensions.streamMappedChunks(channel, 10000).count(), 1L);
+		}
+		assertEquals(sizes, List.of(4096, 4096, 1808));
+		assertArrayEquals(output.toByteArray(), bytes);
+	}
+
 	/**
 	 * Test for method {@link ArrayExtensions#toList(Object[])}
 	 */
@@ -1190,7 +1656,7 @@ public class ArrayExtensionsTest
 		actual = ArrayExtensions.concatenate(null, numbers);
 		assertArrayEquals(actual, expected);
 
-		actual = ArrayExtensions.concatenate(null, null);
+		actual = ArrayExtensions.concatenate((Integer[])null, null);
 		expected = null;
 		assertArrayEquals(actual, expected);
 	}
@@ -277,6 +277,56 @@ public class ArrayFactoryTest
 		});
 	}
 
+	/**
+	 * Test method for {@link ArrayFactory#newIntRangeArray(int, int)}
+	 */
+	@Test
+	public void testNewIntRangeArray()
+	{
+		int[] actual;
+		int[] expected;
+
+		actual = ArrayFactory.newIntRangeArray(5, 9);
+		expected = ArrayFactory.newIntArray(5, 6, 7, 8, 9);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayFactory.newIntRangeArray(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+		expected = ArrayFactory.newIntArray(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+		assertArrayEquals(actual, expected);
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			ArrayFactory.newIntRangeArray(9, 8);
+		});
+		Assertions.assertThrows(ArithmeticException.class, () -> {
+			ArrayFactory.newIntRangeArray(Integer.MIN_VALUE, Integer.MAX_VALUE);
+		});
+	}
+
+	/**
+	 * Test method for {@link ArrayFactory#newLongRangeArray(long, long)}
+	 */
+	@Test
+	public void testNewLongRangeArray()
+	{
+		long[] actual;
+		long[] expected;
+
+		actual = ArrayFactory.newLongRangeArray(-2L, 2L);
+		expected = ArrayFactory.newLongArray(-2L, -1L, 0L, 1L, 2L);
+		assertArrayEquals(actual, expected);
+
+		actual = ArrayFactory.newLongRangeArray(Long.MAX_VALUE, Long.MAX_VALUE);
+		expected = ArrayFactory.newLongArray(Long.MAX_VALUE);
+		assertArrayEquals(actual, expected);
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			ArrayFactory.newLongRangeArray(9L, 8L);
+		});
+		Assertions.assertThrows(ArithmeticException.class, () -> {
+			ArrayFactory.newLongRangeArray(0L, Integer.MAX_VALUE + 1L);
+		});
+	}
+
 	/**
 	 * Test method for {@link ArrayFactory#newShortArray(short[])}.
 	 */
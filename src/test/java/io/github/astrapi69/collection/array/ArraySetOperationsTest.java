@@ -0,0 +1,159 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ArraySetOperations}.
+ */
+public class ArraySetOperationsTest
+{
+
+	/**
+	 * Test the method {@link ArraySetOperations#members(Object[], Object[])} for both sides of the
+	 * hash probe
+	 */
+	@Test
+	public void testMembers()
+	{
+		final Integer[] small = ArrayFactory.newArray(3, 42, 7, -1);
+		final Integer[] large = ArrayFactory.newRangeArray(0, 99);
+		Collection<Integer> members;
+
+		members = ArraySetOperations.members(small, large);
+		assertEquals(members.size(), 3);
+		assertTrue(members.contains(3));
+		assertTrue(members.contains(42));
+		assertTrue(members.contains(7));
+		assertFalse(members.contains(-1));
+
+		members = ArraySetOperations.members(large, small);
+		assertTrue(members instanceof List);
+		assertTrue(members.contains(-1));
+		assertFalse(members.contains(0));
+	}
+
+	/**
+	 * Test the methods {@link ArraySetOperations#isSorted(Object[], Comparator)} and
+	 * {@link ArraySetOperations#sorted(Object[], Comparator)}
+	 */
+	@Test
+	public void testSorted()
+	{
+		final Integer[] sorted = ArrayFactory.newArray(1, 2, 2, 5);
+		final Integer[] unsorted = ArrayFactory.newArray(5, 2, 1, 2);
+
+		assertTrue(ArraySetOperations.isSorted(sorted, Comparator.naturalOrder()));
+		assertFalse(ArraySetOperations.isSorted(unsorted, Comparator.naturalOrder()));
+		assertSame(ArraySetOperations.sorted(sorted, Comparator.naturalOrder()), sorted);
+		assertArrayEquals(ArraySetOperations.sorted(unsorted, Comparator.naturalOrder()), sorted);
+		assertArrayEquals(unsorted, ArrayFactory.newArray(5, 2, 1, 2));
+	}
+
+	/**
+	 * Test that the hash and the merge operations result in the same elements as the operations
+	 * of the collection framework for random arrays
+	 */
+	@Test
+	public void testRandomArrays()
+	{
+		final Random random = new Random(21);
+		for (int run = 0; run < 50; run++)
+		{
+			final Integer[] one = randomArray(random, random.nextInt(40));
+			final Integer[] other = randomArray(random, random.nextInt(40));
+			final List<Integer> oneList = Arrays.asList(one);
+			final List<Integer> otherList = Arrays.asList(other);
+			final Set<Integer> oneSet = new LinkedHashSet<>(oneList);
+			final Set<Integer> otherSet = new LinkedHashSet<>(otherList);
+
+			final List<Integer> intersection = oneList.stream().filter(otherSet::contains)
+				.collect(Collectors.toList());
+			final List<Integer> removed = oneList.stream().filter(e -> !otherSet.contains(e))
+				.collect(Collectors.toList());
+			final Set<Integer> union = new LinkedHashSet<>(oneList);
+			union.addAll(otherList);
+			final Set<Integer> difference = new LinkedHashSet<>(removed);
+			final Set<Integer> symmetricDifference = new LinkedHashSet<>(difference);
+			otherSet.stream().filter(e -> !oneSet.contains(e)).forEach(symmetricDifference::add);
+
+			assertEquals(Arrays.asList(ArraySetOperations.intersection(one, other)), intersection);
+			assertEquals(Arrays.asList(ArraySetOperations.removeAll(one, other)), removed);
+			assertEquals(Arrays.asList(ArraySetOperations.union(one, other)),
+				List.copyOf(union));
+			assertEquals(Arrays.asList(ArraySetOperations.difference(one, other)),
+				List.copyOf(difference));
+			assertEquals(Arrays.asList(ArraySetOperations.symmetricDifference(one, other)),
+				List.copyOf(symmetricDifference));
+
+			final Comparator<Integer> order = Comparator.naturalOrder();
+			assertEquals(Arrays.asList(ArraySetOperations.mergeFilter(one, other, order, true)),
+				sorted(intersection));
+			assertEquals(Arrays.asList(ArraySetOperations.mergeFilter(one, other, order, false)),
+				sorted(removed));
+			assertEquals(
+				Arrays.asList(ArraySetOperations.merge(one, other, order, true, true, true)),
+				sorted(union));
+			assertEquals(
+				Arrays.asList(ArraySetOperations.merge(one, other, order, true, false, false)),
+				sorted(difference));
+			assertEquals(
+				Arrays.asList(ArraySetOperations.merge(one, other, order, true, false, true)),
+				sorted(symmetricDifference));
+		}
+	}
+
+	private static Integer[] randomArray(final Random random, final int length)
+	{
+		final Integer[] array = new Integer[length];
+		for (int i = 0; i < length; i++)
+		{
+			array[i] = random.nextInt(30);
+		}
+		return array;
+	}
+
+	private static List<Integer> sorted(final Collection<Integer> elements)
+	{
+		return elements.stream().sorted().collect(Collectors.toList());
+	}
+
+}
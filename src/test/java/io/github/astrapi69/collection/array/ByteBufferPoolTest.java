@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ByteBufferPool}.
+ */
+public class ByteBufferPoolTest
+{
+
+	/**
+	 * Test that released buffers are reused and cleared
+	 */
+	@Test
+	public void testAcquireAndRelease()
+	{
+		final ByteBufferPool pool = new ByteBufferPool(16);
+		final ByteBuffer first = pool.acquire();
+		final ByteBuffer second = pool.acquire();
+		assertEquals(pool.getCreatedBuffers(), 2);
+		assertEquals(first.capacity(), 16);
+		assertFalse(first.isDirect());
+
+		first.put((byte)1).flip();
+		pool.release(first);
+		assertEquals(pool.getIdleBuffers(), 1);
+		final ByteBuffer reused = pool.acquire();
+		assertSame(reused, first);
+		assertEquals(reused.position(), 0);
+		assertEquals(reused.limit(), 16);
+		assertEquals(pool.getCreatedBuffers(), 2);
+
+		pool.release(second);
+		pool.release(reused);
+		assertThrows(IllegalStateException.class, () -> pool.release(ByteBuffer.allocate(16)));
+		assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(8)));
+		assertThrows(IllegalArgumentException.class,
+			() -> pool.release(ByteBuffer.allocateDirect(16)));
+		assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(0));
+		assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(16, 0, false));
+	}
+
+	/**
+	 * Test that the acquire waits until a buffer is released if all buffers are in use
+	 *
+	 * @throws Exception
+	 *             if the waiting thread fails
+	 */
+	@Test
+	public void testBoundedPool() throws Exception
+	{
+		final ByteBufferPool pool = new ByteBufferPool(16, 1, true);
+		final ByteBuffer buffer = pool.acquire();
+		assertTrue(buffer.isDirect());
+		assertTrue(pool.isDirect());
+		assertEquals(pool.getMaxBuffers(), 1);
+
+		final CompletableFuture<ByteBuffer> waiting = CompletableFuture.supplyAsync(pool::acquire);
+		Thread.sleep(50);
+		assertFalse(waiting.isDone());
+		pool.release(buffer);
+		assertSame(waiting.get(5, TimeUnit.SECONDS), buffer);
+		assertEquals(pool.getCreatedBuffers(), 1);
+	}
+
+}
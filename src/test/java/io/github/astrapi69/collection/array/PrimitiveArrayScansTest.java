@@ -0,0 +1,168 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link PrimitiveArrayScans}.
+ */
+public class PrimitiveArrayScansTest
+{
+
+	/**
+	 * Test the method {@link PrimitiveArrayScans#zeroBytes(long)}
+	 */
+	@Test
+	public void testZeroBytes()
+	{
+		assertEquals(PrimitiveArrayScans.zeroBytes(0L), 0x8080808080808080L);
+		assertEquals(PrimitiveArrayScans.zeroBytes(-1L), 0L);
+		assertEquals(PrimitiveArrayScans.zeroBytes(0x0100FF0080017F00L), 0x0080008000000080L);
+	}
+
+	/**
+	 * Test the scans of byte arrays at every position and with every value against a plain loop
+	 */
+	@Test
+	public void testByteScans()
+	{
+		final Random random = new Random(23);
+		for (int length = 0; length < 40; length++)
+		{
+			final byte[] array = new byte[length];
+			random.nextBytes(array);
+			for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++)
+			{
+				int expectedIndex = -1;
+				int expectedCount = 0;
+				for (int i = length - 1; 0 <= i; i--)
+				{
+					if (array[i] == value)
+					{
+						expectedIndex = i;
+						expectedCount++;
+					}
+				}
+				assertEquals(PrimitiveArrayScans.indexOf(array, (byte)value), expectedIndex);
+				assertEquals(PrimitiveArrayScans.count(array, (byte)value), expectedCount);
+			}
+		}
+	}
+
+	/**
+	 * Test the scans of int, long, float and double arrays at every position against a plain loop
+	 */
+	@Test
+	public void testNumberScans()
+	{
+		final Random random = new Random(23);
+		for (int length = 0; length < 40; length++)
+		{
+			final int[] ints = random.ints(length, 0, 5).toArray();
+			final long[] longs = new long[length];
+			final float[] floats = new float[length];
+			final double[] doubles = new double[length];
+			for (int i = 0; i < length; i++)
+			{
+				longs[i] = ints[i] - 2L;
+				floats[i] = ints[i] - 2.5f;
+				doubles[i] = ints[i] - 2.5;
+			}
+			for (int value = 0; value < 5; value++)
+			{
+				int expectedIndex = -1;
+				int expectedCount = 0;
+				for (int i = length - 1; 0 <= i; i--)
+				{
+					if (ints[i] == value)
+					{
+						expectedIndex = i;
+						expectedCount++;
+					}
+				}
+				assertEquals(PrimitiveArrayScans.indexOf(ints, value), expectedIndex);
+				assertEquals(PrimitiveArrayScans.count(ints, value), expectedCount);
+				assertEquals(PrimitiveArrayScans.indexOf(longs, value - 2L), expectedIndex);
+				assertEquals(PrimitiveArrayScans.count(longs, value - 2L), expectedCount);
+				assertEquals(PrimitiveArrayScans.indexOf(floats, value - 2.5f), expectedIndex);
+				assertEquals(PrimitiveArrayScans.count(floats, value - 2.5f), expectedCount);
+				assertEquals(PrimitiveArrayScans.indexOf(doubles, value - 2.5), expectedIndex);
+				assertEquals(PrimitiveArrayScans.count(doubles, value - 2.5), expectedCount);
+			}
+		}
+	}
+
+	/**
+	 * Test the scans of floating point arrays with NaN and signed zeros
+	 */
+	@Test
+	public void testFloatingPointEquality()
+	{
+		final double[] doubles = { 1.0, 0.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, -0.0, Double.NaN,
+				0.0 / 0.0 };
+		assertEquals(PrimitiveArrayScans.indexOf(doubles, Double.NaN), 10);
+		assertEquals(PrimitiveArrayScans.count(doubles, Double.NaN), 2);
+		assertEquals(PrimitiveArrayScans.indexOf(doubles, -0.0), 9);
+		assertEquals(PrimitiveArrayScans.count(doubles, -0.0), 1);
+		assertEquals(PrimitiveArrayScans.indexOf(doubles, 0.0), 1);
+		assertEquals(PrimitiveArrayScans.count(doubles, 0.0), 1);
+
+		final float[] floats = { -0.0f, 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 0.0f, Float.NaN };
+		assertEquals(PrimitiveArrayScans.indexOf(floats, Float.NaN), 9);
+		assertEquals(PrimitiveArrayScans.indexOf(floats, 0.0f), 8);
+		assertEquals(PrimitiveArrayScans.indexOf(floats, -0.0f), 0);
+		assertEquals(PrimitiveArrayScans.count(floats, 7.0f), 1);
+		assertEquals(PrimitiveArrayScans.max(floats), Float.NaN);
+		assertEquals(PrimitiveArrayScans.min(new float[] { 0.0f, -0.0f }), -0.0f);
+	}
+
+	/**
+	 * Test the methods min and max
+	 */
+	@Test
+	public void testMinMax()
+	{
+		final int[] ints = { 3, -7, 12, 0, 12, -7 };
+		assertEquals(PrimitiveArrayScans.min(ints), -7);
+		assertEquals(PrimitiveArrayScans.max(ints), 12);
+		assertEquals(PrimitiveArrayScans.min(new long[] { Long.MAX_VALUE, Long.MIN_VALUE }),
+			Long.MIN_VALUE);
+		assertEquals(PrimitiveArrayScans.max(new long[] { 5L }), 5L);
+		assertEquals(PrimitiveArrayScans.min(new double[] { 2.5, -1.5 }), -1.5);
+		assertEquals(PrimitiveArrayScans.max(new double[] { 2.5, -1.5 }), 2.5);
+		assertEquals(PrimitiveArrayScans.min(new byte[] { 1, -128, 127 }), (byte)-128);
+		assertEquals(PrimitiveArrayScans.max(new byte[] { 1, -128, 127 }), (byte)127);
+		assertThrows(NoSuchElementException.class, () -> PrimitiveArrayScans.min(new int[0]));
+		assertThrows(NoSuchElementException.class, () -> PrimitiveArrayScans.max(new byte[0]));
+	}
+
+}
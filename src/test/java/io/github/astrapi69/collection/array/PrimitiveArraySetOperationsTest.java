@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.array.PrimitiveArraySetOperations.KeyIndex;
+
+/**
+ * The unit test class for the class {@link PrimitiveArraySetOperations}.
+ */
+public class PrimitiveArraySetOperationsTest
+{
+
+	/**
+	 * Test that the set algebra of arrays of primitive values results in the same values as the
+	 * set algebra of the boxed arrays
+	 */
+	@Test
+	public void testRandomArrays()
+	{
+		final Random random = new Random(22);
+		for (int run = 0; run < 100; run++)
+		{
+			final int[] one = random.ints(random.nextInt(40), -15, 15).toArray();
+			final int[] other = random.ints(random.nextInt(40), -15, 15).toArray();
+			final Integer[] boxedOne = Arrays.stream(one).boxed().toArray(Integer[]::new);
+			final Integer[] boxedOther = Arrays.stream(other).boxed().toArray(Integer[]::new);
+
+			assertArrayEquals(box(ArrayExtensions.intersection(one, other)),
+				ArraySetOperations.intersection(boxedOne, boxedOther));
+			assertArrayEquals(box(ArrayExtensions.removeAll(one, other)),
+				ArraySetOperations.removeAll(boxedOne, boxedOther));
+			assertArrayEquals(box(ArrayExtensions.union(one, other)),
+				ArraySetOperations.union(boxedOne, boxedOther));
+			assertArrayEquals(box(ArrayExtensions.difference(one, other)),
+				ArraySetOperations.difference(boxedOne, boxedOther));
+			assertArrayEquals(box(ArrayExtensions.symmetricDifference(one, other)),
+				ArraySetOperations.symmetricDifference(boxedOne, boxedOther));
+
+			final long[] longOne = Arrays.stream(one).asLongStream().toArray();
+			final long[] longOther = Arrays.stream(other).asLongStream().toArray();
+			assertArrayEquals(ArrayExtensions.symmetricDifference(longOne, longOther),
+				Arrays.stream(ArrayExtensions.symmetricDifference(one, other)).asLongStream()
+					.toArray());
+			final double[] doubleOne = Arrays.stream(one).asDoubleStream().toArray();
+			final double[] doubleOther = Arrays.stream(other).asDoubleStream().toArray();
+			assertArrayEquals(ArrayExtensions.intersection(doubleOne, doubleOther),
+				Arrays.stream(ArrayExtensions.intersection(one, other)).asDoubleStream()
+					.toArray());
+		}
+	}
+
+	/**
+	 * Test the class {@link KeyIndex}
+	 */
+	@Test
+	public void testKeyIndex()
+	{
+		final KeyIndex index = new KeyIndex(3);
+		assertEquals(index.add(Long.MIN_VALUE), 0);
+		assertEquals(index.add(0L), 1);
+		assertEquals(index.add(Long.MIN_VALUE), 0);
+		assertEquals(index.add(-1L), 2);
+		assertEquals(index.size(), 3);
+		assertEquals(index.get(-1L), 2);
+		assertEquals(index.get(1L), -1);
+
+		final KeyIndex large = new KeyIndex(10000);
+		for (long key = 0; key < 10000; key++)
+		{
+			assertEquals(large.add(key << 32), key);
+		}
+		for (long key = 0; key < 10000; key++)
+		{
+			assertEquals(large.get(key << 32), key);
+			assertEquals(large.get(key << 32 | 1), -1);
+		}
+	}
+
+	private static Integer[] box(final int[] values)
+	{
+		return Arrays.stream(values).boxed().toArray(Integer[]::new);
+	}
+
+}
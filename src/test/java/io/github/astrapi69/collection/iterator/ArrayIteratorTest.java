@@ -24,10 +24,16 @@
  */
 package io.github.astrapi69.collection.iterator;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -257,11 +263,19 @@ public class ArrayIteratorTest
 		actual = arrayIterator.hasNext();
 		assertEquals(expected, actual);
 
-		arrayIterator.remove();
+		// a second remove without a call of next() is not allowed
+		Assertions.assertThrows(IllegalStateException.class, () -> {
+			arrayIterator.remove();
+		});
 
+		// the element after the removed one is not skipped
+		assertEquals(arrayIterator.next(), bar);
+		assertEquals(arrayIterator.next(), jack);
+		arrayIterator.remove();
 		expected = false;
 		actual = arrayIterator.hasNext();
 		assertEquals(expected, actual);
+		assertArrayEquals(arrayIterator.getArray(), new String[] { bar, null, null });
 	}
 
 	/**
@@ -279,9 +293,49 @@ public class ArrayIteratorTest
 		arrayIterator.next();
 		arrayIterator.remove();
 
-		expected = false;
+		expected = true;
 		actual = arrayIterator.hasNext();
 		assertEquals(expected, actual);
+		assertEquals(arrayIterator.next(), bar);
+	}
+
+	/**
+	 * Test method for remove all elements with the method {@link ArrayIterator#remove()} while
+	 * iterating
+	 */
+	@Test
+	public void testRemoveWhileIterating()
+	{
+		final List<String> returned = new ArrayList<>();
+		final ArrayIterator<String> arrayIterator = new ArrayIterator<>(
+			new String[] { "a", "b", "c" });
+		while (arrayIterator.hasNext())
+		{
+			returned.add(arrayIterator.next());
+			arrayIterator.remove();
+		}
+		assertEquals(returned, Arrays.asList("a", "b", "c"));
+		assertArrayEquals(arrayIterator.getArray(), new String[] { null, null, null });
+	}
+
+	/**
+	 * Test method for {@link ArrayIterator#spliterator()}
+	 */
+	@Test
+	public void testSpliterator()
+	{
+		final ArrayIterator<String> arrayIterator = new ArrayIterator<>(
+			new String[] { "a", "b", "c", "d", null, "e" });
+		arrayIterator.next();
+		final ArraySpliterator<String> spliterator = arrayIterator.spliterator();
+		assertEquals(spliterator.estimateSize(), 3L);
+		assertEquals(StreamSupport.stream(spliterator, true).collect(Collectors.toList()),
+			Arrays.asList("b", "c", "d"));
+		// the elements of the spliterator are handed over and remove is not allowed anymore
+		assertEquals(arrayIterator.hasNext(), false);
+		Assertions.assertThrows(IllegalStateException.class, () -> {
+			arrayIterator.remove();
+		});
 	}
 
 	/**
@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ArraySpliterator}.
+ */
+public class ArraySpliteratorTest
+{
+
+	/**
+	 * Test that a parallel stream over the {@link ArraySpliterator} returns all elements of the
+	 * range in the same order, also the null elements
+	 */
+	@Test
+	public void testStreams()
+	{
+		final Integer[] array = new Integer[1000];
+		Arrays.setAll(array, i -> i % 10 == 0 ? null : i);
+		assertEquals(StreamSupport.stream(new ArraySpliterator<>(array), true)
+			.collect(Collectors.toList()), Arrays.asList(array));
+		assertEquals(StreamSupport.stream(new ArraySpliterator<>(array, 100, 200), true)
+			.collect(Collectors.toList()), Arrays.asList(array).subList(100, 200));
+	}
+
+	/**
+	 * Test the method {@link ArraySpliterator#trySplit()}
+	 */
+	@Test
+	public void testTrySplit()
+	{
+		final String[] array = { "a", "b", "c", "d", "e" };
+		final ArraySpliterator<String> spliterator = new ArraySpliterator<>(array, 1, 5);
+		assertEquals(spliterator.estimateSize(), 4L);
+		assertTrue(spliterator.hasCharacteristics(
+			Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+		assertFalse(spliterator.hasCharacteristics(Spliterator.NONNULL));
+
+		final Spliterator<String> prefix = spliterator.trySplit();
+		assertEquals(prefix.estimateSize(), 2L);
+		assertEquals(spliterator.estimateSize(), 2L);
+		final List<String> elements = new ArrayList<>();
+		prefix.forEachRemaining(elements::add);
+		assertTrue(spliterator.tryAdvance(elements::add));
+		assertNull(spliterator.trySplit());
+		assertTrue(spliterator.tryAdvance(elements::add));
+		assertFalse(spliterator.tryAdvance(elements::add));
+		assertEquals(elements, Arrays.asList("b", "c", "d", "e"));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> new ArraySpliterator<>(array, 3, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> new ArraySpliterator<>(array, 3, 2));
+	}
+
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link CartesianProductIterator}.
+ */
+public class CartesianProductIteratorTest
+{
+
+	/**
+	 * Test that the {@link CartesianProductIterator} returns all tuples in lexicographic order
+	 */
+	@Test
+	public void testCartesianProduct()
+	{
+		final List<List<Object>> actual = ListFactory.newArrayList();
+		new CartesianProductIterator<Object>(
+			List.of(List.of(1, 2), new LinkedList<>(List.of("a", "b", "c")), List.of(true)))
+				.forEachRemaining(actual::add);
+		assertEquals(actual,
+			List.of(List.of(1, "a", true), List.of(1, "b", true), List.of(1, "c", true),
+				List.of(2, "a", true), List.of(2, "b", true), List.of(2, "c", true)));
+
+		final CartesianProductIterator<Integer> empty = new CartesianProductIterator<>(
+			List.of(List.of(1, 2), List.of()));
+		assertFalse(empty.hasNext());
+		assertThrows(NoSuchElementException.class, empty::next);
+
+		final CartesianProductIterator<Integer> none = new CartesianProductIterator<>(List.of());
+		assertEquals(none.next(), List.of());
+		assertFalse(none.hasNext());
+	}
+
+	/**
+	 * Test the method {@link CartesianProductIterator#nextView()}
+	 */
+	@Test
+	public void testNextView()
+	{
+		final CartesianProductIterator<Integer> iterator = new CartesianProductIterator<>(
+			List.of(List.of(1, 2), List.of(3, 4)));
+		final List<Integer> view = iterator.nextView();
+		assertEquals(view, List.of(1, 3));
+		assertTrue(iterator.nextView() == view);
+		assertEquals(view, List.of(1, 4));
+		assertThrows(UnsupportedOperationException.class, () -> view.set(0, 5));
+		final long[] count = new long[1];
+		iterator.forEachRemainingView(tuple -> count[0]++);
+		assertEquals(count[0], 2L);
+		assertEquals(view, List.of(2, 4));
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link CartesianProductSpliterator}.
+ */
+public class CartesianProductSpliteratorTest
+{
+
+	/**
+	 * Test that a sequential and a parallel stream over the {@link CartesianProductSpliterator}
+	 * returns the same tuples in the same order as the {@link CartesianProductIterator}
+	 */
+	@Test
+	public void testStreams()
+	{
+		final List<List<Integer>> lists = List.of(ListFactory.newRangeList(1, 5),
+			ListFactory.newRangeList(1, 3), ListFactory.newRangeList(1, 7));
+		final List<List<Integer>> expected = ListFactory.newArrayList();
+		new CartesianProductIterator<Integer>(lists).forEachRemaining(expected::add);
+		assertEquals(expected.size(), 105);
+		assertEquals(StreamSupport.stream(new CartesianProductSpliterator<Integer>(lists), false)
+			.collect(Collectors.toList()), expected);
+		assertEquals(StreamSupport.stream(new CartesianProductSpliterator<Integer>(lists), true)
+			.collect(Collectors.toList()), expected);
+	}
+
+	/**
+	 * Test the method {@link CartesianProductSpliterator#trySplit()}
+	 */
+	@Test
+	public void testTrySplit()
+	{
+		final CartesianProductSpliterator<Integer> spliterator = new CartesianProductSpliterator<>(
+			List.of(List.of(1, 2, 3), List.of(4, 5)));
+		assertEquals(spliterator.estimateSize(), 6L);
+		final Spliterator<List<Integer>> prefix = spliterator.trySplit();
+		assertEquals(prefix.estimateSize(), 3L);
+		spliterator.tryAdvance(tuple -> assertEquals(tuple, List.of(2, 5)));
+		prefix.tryAdvance(tuple -> assertEquals(tuple, List.of(1, 4)));
+	}
+
+}
@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.array.ByteBufferPool;
+
+/**
+ * The unit test class for the class {@link ChannelChunkIterator}.
+ */
+public class ChannelChunkIteratorTest
+{
+
+	/**
+	 * Test the iteration with auto release, every chunk is read into the same buffer
+	 */
+	@Test
+	public void testAutoRelease()
+	{
+		final byte[] bytes = newBytes(20000);
+		final ByteBufferPool pool = new ByteBufferPool(9000);
+		final ChannelChunkIterator iterator = new ChannelChunkIterator(
+			Channels.newChannel(new ByteArrayInputStream(bytes)), pool);
+		int offset = 0;
+		while (iterator.hasNext())
+		{
+			final ByteBuffer chunk = iterator.next();
+			final byte[] expected = new byte[Math.min(9000, bytes.length - offset)];
+			System.arraycopy(bytes, offset, expected, 0, expected.length);
+			final byte[] actual = new byte[chunk.remaining()];
+			chunk.get(actual);
+			assertArrayEquals(actual, expected);
+			offset += actual.length;
+		}
+		assertEquals(offset, bytes.length);
+		assertEquals(pool.getCreatedBuffers(), 1);
+		assertEquals(pool.getIdleBuffers(), 1);
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	/**
+	 * Test the iteration without auto release, the consumer holds the chunks until it releases
+	 * them
+	 */
+	@Test
+	public void testManualRelease()
+	{
+		final byte[] bytes = newBytes(100);
+		final ByteBufferPool pool = new ByteBufferPool(30);
+		final List<ByteBuffer> chunks = new ArrayList<>();
+		try (ChannelChunkIterator iterator = new ChannelChunkIterator(
+			Channels.newChannel(new ByteArrayInputStream(bytes)), pool, false))
+		{
+			iterator.forEachRemaining(chunks::add);
+		}
+		assertEquals(chunks.size(), 4);
+		assertEquals(chunks.get(3).remaining(), 10);
+		assertEquals(chunks.get(3).get(9), bytes[99]);
+		assertEquals(pool.getCreatedBuffers(), 4);
+		chunks.forEach(pool::release);
+		assertEquals(pool.getIdleBuffers(), 4);
+	}
+
+	/**
+	 * Test that the close releases the chunk that is read ahead
+	 */
+	@Test
+	public void testClose()
+	{
+		final ByteBufferPool pool = new ByteBufferPool(10);
+		final ChannelChunkIterator iterator = new ChannelChunkIterator(
+			Channels.newChannel(new ByteArrayInputStream(newBytes(25))), pool);
+		assertTrue(iterator.hasNext());
+		iterator.close();
+		assertFalse(iterator.hasNext());
+		assertEquals(pool.getIdleBuffers(), pool.getCreatedBuffers());
+
+		final ChannelChunkIterator empty = new ChannelChunkIterator(
+			Channels.newChannel(new ByteArrayInputStream(new byte[0])), pool);
+		assertFalse(empty.hasNext());
+		assertEquals(pool.getIdleBuffers(), pool.getCreatedBuffers());
+	}
+
+	/**
+	 * Test that a failing channel is reported and the buffer is released
+	 */
+	@Test
+	public void testFailingChannel()
+	{
+		final ByteBufferPool pool = new ByteBufferPool(10);
+		final ReadableByteChannel channel = new ReadableByteChannel()
+		{
+			@Override
+			public int read(final ByteBuffer destination) throws IOException
+			{
+				throw new IOException("broken");
+			}
+
+			@Override
+			public boolean isOpen()
+			{
+				return true;
+			}
+
+			@Override
+			public void close()
+			{
+			}
+		};
+		final ChannelChunkIterator iterator = new ChannelChunkIterator(channel, pool);
+		assertThrows(UncheckedIOException.class, iterator::hasNext);
+		assertEquals(pool.getIdleBuffers(), pool.getCreatedBuffers());
+	}
+
+	private static byte[] newBytes(final int length)
+	{
+		final byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListExtensions;
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link CombinationIterator}.
+ */
+public class CombinationIteratorTest
+{
+
+	/**
+	 * Test that the {@link CombinationIterator} returns the same combinations in the same order as
+	 * the method {@link ListExtensions#getAllCombinations(List, int)}
+	 */
+	@Test
+	public void testSameAsGetAllCombinations()
+	{
+		final List<Integer> values = ListFactory.newArrayList();
+		for (int size = 0; size <= 8; size++)
+		{
+			if (0 < size)
+			{
+				values.add(size);
+			}
+			for (int combinationSize = 0; combinationSize <= size + 1; combinationSize++)
+			{
+				final List<List<Integer>> actual = ListFactory.newArrayList();
+				new CombinationIterator<>(values, combinationSize).forEachRemaining(actual::add);
+				final List<List<Integer>> expected;
+				if (combinationSize == 0)
+				{
+					expected = ListFactory.newArrayList();
+					expected.add(ListFactory.newArrayList());
+				}
+				else
+				{
+					expected = ListExtensions.getAllCombinations(values, combinationSize);
+				}
+				assertEquals(actual, expected);
+			}
+		}
+	}
+
+	/**
+	 * Test the method {@link CombinationIterator#nextView()}
+	 */
+	@Test
+	public void testNextView()
+	{
+		final CombinationIterator<String> iterator = new CombinationIterator<>(
+			new LinkedList<>(ListFactory.newArrayList("a", "b", "c")), 2);
+		final List<String> view = iterator.nextView();
+		assertEquals(view, ListFactory.newArrayList("a", "b"));
+		assertTrue(iterator.nextView() == view);
+		assertEquals(view, ListFactory.newArrayList("a", "c"));
+		assertThrows(UnsupportedOperationException.class, () -> view.set(0, "d"));
+		assertEquals(iterator.next(), ListFactory.newArrayList("b", "c"));
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	/**
+	 * Test the method {@link CombinationIterator#forEachRemainingView(java.util.function.Consumer)}
+	 */
+	@Test
+	public void testForEachRemainingView()
+	{
+		final long[] count = new long[1];
+		new CombinationIterator<>(ListFactory.newRangeList(1, 40), 6)
+			.forEachRemainingView(combination -> count[0]++);
+		assertEquals(count[0], 3838380L);
+		assertThrows(IllegalArgumentException.class,
+			() -> new CombinationIterator<>(ListFactory.newArrayList(1), -1));
+	}
+
+}
@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListExtensions;
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link CombinationSpliterator}.
+ */
+public class CombinationSpliteratorTest
+{
+
+	/**
+	 * Test that a sequential and a parallel stream over the {@link CombinationSpliterator} returns
+	 * the same combinations in the same order as the method
+	 * {@link ListExtensions#getAllCombinations(List, int)}
+	 */
+	@Test
+	public void testStreams()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 12);
+		for (int combinationSize = 1; combinationSize <= 13; combinationSize++)
+		{
+			final List<List<Integer>> expected = ListExtensions.getAllCombinations(values,
+				combinationSize);
+			assertEquals(StreamSupport
+				.stream(new CombinationSpliterator<>(values, combinationSize), false)
+				.collect(Collectors.toList()), expected);
+			assertEquals(StreamSupport
+				.stream(new CombinationSpliterator<>(values, combinationSize), true)
+				.collect(Collectors.toList()), expected);
+		}
+	}
+
+	/**
+	 * Test the method {@link CombinationSpliterator#trySplit()}
+	 */
+	@Test
+	public void testTrySplit()
+	{
+		final CombinationSpliterator<Integer> spliterator = new CombinationSpliterator<>(
+			ListFactory.newRangeList(1, 10), 3);
+		assertEquals(spliterator.estimateSize(), 120L);
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+		final Spliterator<List<Integer>> prefix = spliterator.trySplit();
+		assertEquals(prefix.estimateSize(), 60L);
+		assertEquals(spliterator.estimateSize(), 60L);
+		prefix.tryAdvance(
+			combination -> assertEquals(combination, ListFactory.newArrayList(1, 2, 3)));
+		spliterator.tryAdvance(
+			combination -> assertEquals(combination, ListFactory.newArrayList(2, 7, 10)));
+		assertEquals(spliterator.estimateSize(), 59L);
+
+		final CombinationSpliterator<Integer> single = new CombinationSpliterator<>(
+			ListFactory.newRangeList(1, 3), 3);
+		assertNull(single.trySplit());
+		assertThrows(ArithmeticException.class,
+			() -> new CombinationSpliterator<>(ListFactory.newRangeList(1, 100), 50));
+	}
+
+	/**
+	 * Test the method {@link ListExtensions#streamCombinations(List, int, boolean)} with a parallel
+	 * stream
+	 */
+	@Test
+	public void testParallelStreamCombinations()
+	{
+		final long sum = ListExtensions
+			.streamCombinations(ListFactory.newRangeList(1, 30), 5, true)
+			.mapToLong(combination -> combination.get(4)).sum();
+		long expected = 0;
+		for (List<Integer> combination : ListExtensions
+			.iterateCombinations(ListFactory.newRangeList(1, 30), 5))
+		{
+			expected += combination.get(4);
+		}
+		assertEquals(sum, expected);
+		assertEquals(ListExtensions.streamCombinations(ListFactory.newRangeList(1, 100), 50)
+			.limit(3).count(), 3L);
+	}
+
+}
@@ -0,0 +1,84 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link PartitionSpliterator}.
+ */
+public class PartitionSpliteratorTest
+{
+
+	/**
+	 * Test that a parallel stream over the {@link PartitionSpliterator} returns the same parts in
+	 * the same order as the {@link PartitionIterator}
+	 */
+	@Test
+	public void testStreams()
+	{
+		final List<Integer> list = ListFactory.newRangeList(1, 1000);
+		for (final int partSize : new int[] { 1, 7, 100, 1000, 2000 })
+		{
+			final List<List<Integer>> expected = ListFactory.newArrayList();
+			new PartitionIterator<>(list.iterator(), partSize).forEachRemaining(expected::add);
+			assertEquals(StreamSupport.stream(new PartitionSpliterator<>(list, partSize), true)
+				.collect(Collectors.toList()), expected);
+		}
+	}
+
+	/**
+	 * Test the method {@link PartitionSpliterator#trySplit()}
+	 */
+	@Test
+	public void testTrySplit()
+	{
+		final PartitionSpliterator<Integer> spliterator = new PartitionSpliterator<>(
+			ListFactory.newRangeList(1, 10), 3);
+		assertEquals(spliterator.estimateSize(), 4L);
+		final Spliterator<List<Integer>> prefix = spliterator.trySplit();
+		assertEquals(prefix.estimateSize(), 2L);
+		spliterator.tryAdvance(part -> assertEquals(part, ListFactory.newArrayList(7, 8, 9)));
+		spliterator.tryAdvance(part -> assertEquals(part, ListFactory.newArrayList(10)));
+		assertNull(spliterator.trySplit());
+		assertThrows(IllegalArgumentException.class,
+			() -> new PartitionSpliterator<>(new LinkedList<>(ListFactory.newArrayList(1)), 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> new PartitionSpliterator<>(ListFactory.newArrayList(1), 0));
+	}
+
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link PermutationIterator}.
+ */
+public class PermutationIteratorTest
+{
+
+	/**
+	 * Computes the expected permutations recursively in lexicographic order
+	 *
+	 * @param values
+	 *            the possible values
+	 * @param prefix
+	 *            the current prefix
+	 * @param used
+	 *            the flags of the used values
+	 * @param permutationSize
+	 *            the size of the permutations
+	 * @param permutations
+	 *            the result list
+	 */
+	static void permute(final List<Integer> values, final List<Integer> prefix,
+		final boolean[] used, final int permutationSize, final List<List<Integer>> permutations)
+	{
+		if (prefix.size() == permutationSize)
+		{
+			permutations.add(ListFactory.newArrayList(prefix));
+			return;
+		}
+		for (int i = 0; i < values.size(); i++)
+		{
+			if (!used[i])
+			{
+				used[i] = true;
+				prefix.add(values.get(i));
+				permute(values, prefix, used, permutationSize, permutations);
+				prefix.remove(prefix.size() - 1);
+				used[i] = false;
+			}
+		}
+	}
+
+	/**
+	 * Test that the {@link PermutationIterator} returns all permutations and k-permutations in
+	 * lexicographic order
+	 */
+	@Test
+	public void testPermutations()
+	{
+		final List<Integer> values = ListFactory.newArrayList();
+		for (int size = 0; size <= 6; size++)
+		{
+			if (0 < size)
+			{
+				values.add(size);
+			}
+			for (int permutationSize = 0; permutationSize <= size + 1; permutationSize++)
+			{
+				final List<List<Integer>> expected = ListFactory.newArrayList();
+				if (permutationSize <= size)
+				{
+					permute(values, ListFactory.newArrayList(), new boolean[size], permutationSize,
+						expected);
+				}
+				final List<List<Integer>> actual = ListFactory.newArrayList();
+				new PermutationIterator<>(values, permutationSize).forEachRemaining(actual::add);
+				assertEquals(actual, expected);
+				assertEquals(PermutationIterator.count(size, permutationSize),
+					(long)expected.size());
+				for (int rank = 0; rank < expected.size(); rank += 7)
+				{
+					final List<List<Integer>> range = ListFactory.newArrayList();
+					new PermutationIterator<>(values, permutationSize, rank,
+						Math.min(rank + 5, expected.size())).forEachRemaining(range::add);
+					assertEquals(range,
+						expected.subList(rank, Math.min(rank + 5, expected.size())));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test the method {@link PermutationIterator#nextView()}
+	 */
+	@Test
+	public void testNextView()
+	{
+		final PermutationIterator<String> iterator = new PermutationIterator<>(
+			new LinkedList<>(ListFactory.newArrayList("a", "b", "c")));
+		final List<String> view = iterator.nextView();
+		assertEquals(view, ListFactory.newArrayList("a", "b", "c"));
+		assertTrue(iterator.nextView() == view);
+		assertEquals(view, ListFactory.newArrayList("a", "c", "b"));
+		assertThrows(UnsupportedOperationException.class, () -> view.set(0, "d"));
+		final long[] count = new long[1];
+		iterator.forEachRemainingView(permutation -> count[0]++);
+		assertEquals(count[0], 4L);
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+		assertThrows(IllegalArgumentException.class,
+			() -> new PermutationIterator<>(ListFactory.newArrayList(1), -1));
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.list.ListFactory;
+
+/**
+ * The unit test class for the class {@link PermutationSpliterator}.
+ */
+public class PermutationSpliteratorTest
+{
+
+	/**
+	 * Test that a sequential and a parallel stream over the {@link PermutationSpliterator} returns
+	 * the same permutations in the same order as the {@link PermutationIterator}
+	 */
+	@Test
+	public void testStreams()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 7);
+		for (int permutationSize = 0; permutationSize <= 8; permutationSize++)
+		{
+			final List<List<Integer>> expected = ListFactory.newArrayList();
+			new PermutationIterator<>(values, permutationSize).forEachRemaining(expected::add);
+			assertEquals(StreamSupport
+				.stream(new PermutationSpliterator<>(values, permutationSize), false)
+				.collect(Collectors.toList()), expected);
+			assertEquals(StreamSupport
+				.stream(new PermutationSpliterator<>(values, permutationSize), true)
+				.collect(Collectors.toList()), expected);
+		}
+	}
+
+	/**
+	 * Test the method {@link PermutationSpliterator#trySplit()}
+	 */
+	@Test
+	public void testTrySplit()
+	{
+		final PermutationSpliterator<Integer> spliterator = new PermutationSpliterator<>(
+			ListFactory.newRangeList(1, 5), 3);
+		assertEquals(spliterator.estimateSize(), 60L);
+		final Spliterator<List<Integer>> prefix = spliterator.trySplit();
+		assertEquals(prefix.estimateSize(), 30L);
+		assertEquals(spliterator.estimateSize(), 30L);
+		spliterator.tryAdvance(
+			permutation -> assertEquals(permutation, ListFactory.newArrayList(3, 4, 1)));
+		final Spliterator<List<Integer>> single = new PermutationSpliterator<>(
+			ListFactory.newArrayList(1), 1);
+		assertNull(single.trySplit());
+	}
+
+}
@@ -0,0 +1,219 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.collection.iterator.CombinationIterator;
+
+/**
+ * The unit test class for the class {@link CombinationExtensions}.
+ */
+public class CombinationExtensionsTest
+{
+
+	/**
+	 * Test method for {@link CombinationExtensions#binomial(int, int)}
+	 */
+	@Test
+	public void testBinomial()
+	{
+		assertEquals(CombinationExtensions.binomial(10, 3), 120L);
+		assertEquals(CombinationExtensions.binomial(10, 0), 1L);
+		assertEquals(CombinationExtensions.binomial(10, 10), 1L);
+		assertEquals(CombinationExtensions.binomial(3, 4), 0L);
+		assertEquals(CombinationExtensions.binomial(66, 33), 7219428434016265740L);
+		assertThrows(ArithmeticException.class, () -> CombinationExtensions.binomial(68, 34));
+	}
+
+	/**
+	 * Test that the methods {@link CombinationExtensions#rank(List, List)} and
+	 * {@link CombinationExtensions#unrank(List, int, long)} are consistent with the order of the
+	 * method {@link ListExtensions#getAllCombinations(List, int)}
+	 */
+	@Test
+	public void testRankAndUnrank()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 9);
+		for (int combinationSize = 1; combinationSize <= 9; combinationSize++)
+		{
+			final List<List<Integer>> combinations = ListExtensions.getAllCombinations(values,
+				combinationSize);
+			assertEquals(CombinationExtensions.binomial(values.size(), combinationSize),
+				combinations.size());
+			for (int rank = 0; rank < combinations.size(); rank++)
+			{
+				assertEquals(CombinationExtensions.rank(values, combinations.get(rank)), rank);
+				assertEquals(CombinationExtensions.unrank(values, combinationSize, rank),
+					combinations.get(rank));
+			}
+		}
+		assertArrayEquals(CombinationExtensions.unrank(60, 10, 3), new int[] { 1, 6, 9 });
+		assertEquals(CombinationExtensions.rank(new int[] { 1, 6, 9 }, 10), 60L);
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> CombinationExtensions.unrank(120, 10, 3));
+		assertThrows(IllegalArgumentException.class,
+			() -> CombinationExtensions.rank(new int[] { 2, 2 }, 10));
+		// large values where the enumeration of the prefix is impossible
+		final long rank = CombinationExtensions.binomial(60, 30) / 3;
+		assertEquals(CombinationExtensions.rank(CombinationExtensions.unrank(rank, 60, 30), 60),
+			rank);
+		final long last = CombinationExtensions.binomial(66, 33) - 1;
+		assertEquals(CombinationExtensions.rank(CombinationExtensions.unrank(last, 66, 33), 66),
+			last);
+		assertArrayEquals(CombinationExtensions.unrank(0, 5, 0), new int[0]);
+	}
+
+	/**
+	 * Test method for {@link CombinationExtensions#next(int[], int)}
+	 */
+	@Test
+	public void testNext()
+	{
+		for (int combinationSize = 0; combinationSize <= 6; combinationSize++)
+		{
+			final long count = CombinationExtensions.binomial(6, combinationSize);
+			final int[] combination = CombinationExtensions.unrank(0, 6, combinationSize);
+			for (long rank = 1; rank < count; rank++)
+			{
+				assertTrue(CombinationExtensions.next(combination, 6));
+				assertArrayEquals(combination,
+					CombinationExtensions.unrank(rank, 6, combinationSize));
+			}
+			assertFalse(CombinationExtensions.next(combination, 6));
+			assertArrayEquals(combination,
+				CombinationExtensions.unrank(count - 1, 6, combinationSize));
+		}
+	}
+
+	/**
+	 * Test the methods {@link CombinationExtensions#range(List, int, long, long)} and
+	 * {@link CombinationExtensions#rangeSpliterator(List, int, long, long)}
+	 */
+	@Test
+	public void testRange()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 10);
+		final List<List<Integer>> combinations = ListExtensions.getAllCombinations(values, 4);
+		final int count = combinations.size();
+		for (final int[] range : new int[][] { { 0, count }, { 0, 0 }, { 17, 93 }, { 100, count },
+				{ count, count } })
+		{
+			final List<List<Integer>> expected = combinations.subList(range[0], range[1]);
+			final List<List<Integer>> actual = new ArrayList<>();
+			CombinationExtensions.range(values, 4, range[0], range[1])
+				.forEachRemaining(actual::add);
+			assertEquals(actual, expected);
+			assertEquals(StreamSupport
+				.stream(CombinationExtensions.rangeSpliterator(values, 4, range[0], range[1]), true)
+				.collect(Collectors.toList()), expected);
+		}
+		final CombinationIterator<Integer> iterator = CombinationExtensions.range(values, 4, 5, 6);
+		assertTrue(iterator.hasNext());
+		assertEquals(iterator.next(), combinations.get(5));
+		assertFalse(iterator.hasNext());
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> CombinationExtensions.range(values, 4, 3, count + 1));
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> CombinationExtensions.range(values, 4, 3, 2));
+	}
+
+	/**
+	 * Test method for {@link CombinationExtensions#random(List, int, Random)}
+	 */
+	@Test
+	public void testRandom()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 49);
+		final Random random = new Random(42);
+		for (int i = 0; i < 100; i++)
+		{
+			final List<Integer> combination = CombinationExtensions.random(values, 6, random);
+			assertEquals(combination.size(), 6);
+			for (int j = 1; j < combination.size(); j++)
+			{
+				assertTrue(combination.get(j - 1) < combination.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Test the methods {@link CombinationExtensions#findAllCombinations(List, int, Predicate)},
+	 * {@link CombinationExtensions#findCombinations(List, int, Predicate, int)} and
+	 * {@link CombinationExtensions#findFirstCombination(List, int, Predicate)}
+	 */
+	@Test
+	public void testFindCombinations()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 12);
+		final Predicate<List<Integer>> underBudget = combination -> combination.stream()
+			.mapToInt(Integer::intValue).sum() <= 15;
+		for (int combinationSize = 1; combinationSize <= 13; combinationSize++)
+		{
+			final List<List<Integer>> expected = ListExtensions
+				.getAllCombinations(values, combinationSize).stream().filter(underBudget)
+				.collect(Collectors.toList());
+			assertEquals(
+				CombinationExtensions.findAllCombinations(values, combinationSize, underBudget),
+				expected);
+			assertEquals(
+				CombinationExtensions.findCombinations(values, combinationSize, underBudget, 3),
+				expected.subList(0, Math.min(3, expected.size())));
+		}
+		assertEquals(CombinationExtensions.findAllCombinations(values, 0, underBudget),
+			List.of(List.of()));
+		// the pruning skips the subtrees of the partial combinations that exceed the budget
+		final AtomicInteger tests = new AtomicInteger();
+		CombinationExtensions.findAllCombinations(values, 4, combination -> {
+			tests.incrementAndGet();
+			return underBudget.test(combination);
+		});
+		assertTrue(tests.get() < CombinationExtensions.binomial(12, 4));
+
+		final Optional<List<Integer>> first = CombinationExtensions.findFirstCombination(values,
+			3, combination -> combination.get(0) > 4);
+		assertEquals(first, Optional.of(ListFactory.newArrayList(5, 6, 7)));
+		assertFalse(CombinationExtensions
+			.findFirstCombination(values, 3, combination -> combination.get(0) > 10).isPresent());
+		assertThrows(IllegalArgumentException.class,
+			() -> CombinationExtensions.findCombinations(values, 3, underBudget, -1));
+	}
+
+}
@@ -0,0 +1,264 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link IndexedUniqueList}
+ */
+public class IndexedUniqueListTest
+{
+
+	/**
+	 * Test the method {@link IndexedUniqueList#add(Object)}
+	 */
+	@Test
+	public void testAdd()
+	{
+		List<String> list;
+
+		list = new IndexedUniqueList<>(6);
+		assertTrue(list.add("Leonidas"));
+		assertFalse(list.add("Leonidas"));
+		assertEquals(list.size(), 1);
+		list.add("Berta");
+		list.add("Berta");
+		assertEquals(list.size(), 2);
+		list.add(null);
+		list.add(null);
+		assertEquals(list.size(), 3);
+		assertEquals(list, ListFactory.newArrayList("Leonidas", "Berta", null));
+	}
+
+	/**
+	 * Test the method {@link IndexedUniqueList#add(int, Object)}
+	 */
+	@Test
+	public void testAddWithIndex()
+	{
+		List<String> list;
+
+		list = new IndexedUniqueList<>();
+		list.add(0, "Leonidas");
+		list.add(0, "Leonidas");
+		assertEquals(list.size(), 1);
+		list.add(0, "Berta");
+		list.add(0, "Caesar");
+		assertEquals(list, ListFactory.newArrayList("Caesar", "Berta", "Leonidas"));
+		// the existing element is moved to the given index
+		list.add(0, "Leonidas");
+		assertEquals(list, ListFactory.newArrayList("Leonidas", "Caesar", "Berta"));
+		list.add(1, "Berta");
+		assertEquals(list, ListFactory.newArrayList("Leonidas", "Berta", "Caesar"));
+		// an existing element can be moved to the end of the list
+		list.add(list.size(), "Leonidas");
+		assertEquals(list, ListFactory.newArrayList("Berta", "Caesar", "Leonidas"));
+		list.add(2, "Berta");
+		assertEquals(list, ListFactory.newArrayList("Caesar", "Leonidas", "Berta"));
+		// an invalid index does not remove the existing element
+		final List<String> unchanged = list;
+		assertThrows(IndexOutOfBoundsException.class, () -> unchanged.add(4, "Caesar"));
+		assertThrows(IndexOutOfBoundsException.class, () -> unchanged.add(-1, "Caesar"));
+		assertEquals(list, ListFactory.newArrayList("Caesar", "Leonidas", "Berta"));
+		assertTrue(list.contains("Caesar"));
+
+		list = ListFactory.newUniqueList("a", "b");
+		list.add(2, "a");
+		assertEquals(list, ListFactory.newArrayList("b", "a"));
+	}
+
+	/**
+	 * Test the method {@link IndexedUniqueList#addAll(java.util.Collection)}
+	 */
+	@Test
+	public void testAddAll()
+	{
+		List<String> list;
+		List<String> addition;
+
+		addition = ListFactory.newArrayList("", "Emil", "Anton", "Anton", "Anton", "Emil", "");
+		list = new IndexedUniqueList<>(ListFactory.newArrayList());
+		list.add("Emil");
+		list.add("Caesar");
+		assertTrue(list.addAll(addition));
+		assertEquals(list, ListFactory.newArrayList("Emil", "Caesar", "", "Anton"));
+		assertFalse(list.addAll(addition));
+
+		addition = ListFactory.newArrayList();
+		list = new IndexedUniqueList<>();
+		list.add("Emil");
+		list.add("Caesar");
+		assertFalse(list.addAll(addition));
+		assertEquals(list.size(), 2);
+	}
+
+	/**
+	 * Test the method {@link IndexedUniqueList#addAll(int, java.util.Collection)}
+	 */
+	@Test
+	public void testAddAllWithIndex()
+	{
+		List<String> list;
+		List<String> addition;
+
+		addition = ListFactory.newArrayList("", "Emil", "Anton", "Anton", "Anton", "Emil", "");
+		list = new IndexedUniqueList<>();
+		list.add("Emil");
+		list.add("Caesar");
+		list.addAll(1, addition);
+		assertEquals(list.size(), 4);
+
+		addition = ListFactory.newArrayList();
+		list = new IndexedUniqueList<>();
+		list.add("Emil");
+		list.add("Caesar");
+		list.addAll(1, addition);
+		assertEquals(list.size(), 2);
+	}
+
+	/**
+	 * Test the methods for remove elements of {@link IndexedUniqueList}
+	 */
+	@Test
+	public void testRemove()
+	{
+		List<String> list;
+
+		list = new IndexedUniqueList<>(
+			ListFactory.newArrayList("Anton", "Berta", "Caesar", "Dora", "Emil"));
+		assertTrue(list.remove("Berta"));
+		assertFalse(list.contains("Berta"));
+		assertFalse(list.remove("Berta"));
+		assertEquals(list.remove(0), "Anton");
+		assertFalse(list.contains("Anton"));
+		assertEquals(list.indexOf("Dora"), 1);
+		assertEquals(list.indexOf("Anton"), -1);
+		// removed elements can be added again
+		assertTrue(list.add("Anton"));
+		assertEquals(list, ListFactory.newArrayList("Caesar", "Dora", "Emil", "Anton"));
+
+		Iterator<String> iterator = list.iterator();
+		iterator.next();
+		iterator.remove();
+		assertFalse(list.contains("Caesar"));
+
+		list.removeAll(ListFactory.newArrayList("Dora", "Foo"));
+		assertFalse(list.contains("Dora"));
+		list.retainAll(ListFactory.newArrayList("Emil"));
+		assertEquals(list, ListFactory.newArrayList("Emil"));
+		assertFalse(list.contains("Anton"));
+
+		list.subList(0, 1).clear();
+		assertTrue(list.isEmpty());
+		assertFalse(list.contains("Emil"));
+
+		// a failing filter leaves the list and the index unchanged
+		final List<String> failing = new IndexedUniqueList<>(
+			ListFactory.newArrayList("a", "b", "c"));
+		assertThrows(IllegalStateException.class, () -> failing.removeIf(element -> {
+			if (element.equals("c"))
+			{
+				throw new IllegalStateException(element);
+			}
+			return element.equals("a");
+		}));
+		assertEquals(failing, ListFactory.newArrayList("a", "b", "c"));
+		assertTrue(failing.contains("a"));
+		assertEquals(failing.indexOf("a"), 0);
+	}
+
+	/**
+	 * Test the methods {@link IndexedUniqueList#set(int, Object)} and
+	 * {@link IndexedUniqueList#sort(Comparator)} together with the utility methods of
+	 * {@link Collections}
+	 */
+	@Test
+	public void testSetAndSort()
+	{
+		List<String> list;
+
+		list = new IndexedUniqueList<>(ListFactory.newArrayList("Caesar", "Anton", "Berta"));
+		assertEquals(list.set(0, "Dora"), "Caesar");
+		assertFalse(list.contains("Caesar"));
+		assertTrue(list.contains("Dora"));
+
+		list.sort(Comparator.naturalOrder());
+		assertEquals(list, ListFactory.newArrayList("Anton", "Berta", "Dora"));
+		Collections.reverse(list);
+		assertEquals(list, ListFactory.newArrayList("Dora", "Berta", "Anton"));
+		Collections.swap(list, 0, 2);
+		assertEquals(list, ListFactory.newArrayList("Anton", "Berta", "Dora"));
+		assertTrue(list.contains("Anton"));
+		assertTrue(list.contains("Dora"));
+		assertFalse(list.add("Berta"));
+	}
+
+	/**
+	 * Test the {@link IndexedUniqueList} against the {@link UniqueList} with random modifications
+	 */
+	@Test
+	public void testSameBehaviorAsUniqueList()
+	{
+		List<Integer> expected;
+		List<Integer> actual;
+		Random random;
+
+		expected = new UniqueList<>();
+		actual = new IndexedUniqueList<>();
+		random = new Random(7);
+		for (int i = 0; i < 5000; i++)
+		{
+			Integer value = random.nextInt(200);
+			switch (random.nextInt(4))
+			{
+				case 0 :
+					assertEquals(actual.remove(value), expected.remove(value));
+					break;
+				case 1 :
+					int index = random.nextInt(expected.size() + 1);
+					if (index < expected.size())
+					{
+						expected.add(index, value);
+						actual.add(index, value);
+					}
+					break;
+				default :
+					assertEquals(actual.add(value), expected.add(value));
+			}
+			assertEquals(actual, expected);
+			assertEquals(actual.contains(value), expected.contains(value));
+			assertEquals(actual.indexOf(value), expected.indexOf(value));
+		}
+	}
+}
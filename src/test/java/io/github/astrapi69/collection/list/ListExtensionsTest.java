@@ -29,18 +29,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -261,6 +265,89 @@ public class ListExtensionsTest
 		assertTrue(isTrue);
 	}
 
+	/**
+	 * Test the methods {@link ListExtensions#iterateCombinations(List, int)},
+	 * {@link ListExtensions#streamCombinations(List, int)} and
+	 * {@link ListExtensions#forEachCombination(List, int, java.util.function.Consumer)}
+	 */
+	@Test
+	public void testLazyCombinations()
+	{
+		final List<Integer> values = ListFactory.newRangeList(1, 7);
+		final List<List<Integer>> expected = ListExtensions.getAllCombinations(values, 3);
+
+		final List<List<Integer>> iterated = ListFactory.newArrayList();
+		for (List<Integer> combination : ListExtensions.iterateCombinations(values, 3))
+		{
+			iterated.add(combination);
+		}
+		assertEquals(iterated, expected);
+
+		assertEquals(ListExtensions.streamCombinations(values, 3).collect(Collectors.toList()),
+			expected);
+
+		final List<List<Integer>> visited = ListFactory.newArrayList();
+		ListExtensions.forEachCombination(values, 3,
+			combination -> visited.add(ListFactory.newArrayList(combination)));
+		assertEquals(visited, expected);
+	}
+
+	/**
+	 * Test the methods {@link ListExtensions#iteratePermutations(List, int)},
+	 * {@link ListExtensions#streamPermutations(List, int, boolean)} and
+	 * {@link ListExtensions#forEachPermutation(List, int, java.util.function.Consumer)}
+	 */
+	@Test
+	public void testLazyPermutations()
+	{
+		final List<Integer> values = ListFactory.newArrayList(1, 2, 3);
+		final List<List<Integer>> expected = List.of(List.of(1, 2), List.of(1, 3), List.of(2, 1),
+			List.of(2, 3), List.of(3, 1), List.of(3, 2));
+
+		final List<List<Integer>> iterated = ListFactory.newArrayList();
+		for (List<Integer> permutation : ListExtensions.iteratePermutations(values, 2))
+		{
+			iterated.add(permutation);
+		}
+		assertEquals(iterated, expected);
+		assertEquals(
+			ListExtensions.streamPermutations(values, 2, true).collect(Collectors.toList()),
+			expected);
+		final List<List<Integer>> visited = ListFactory.newArrayList();
+		ListExtensions.forEachPermutation(values, 2,
+			permutation -> visited.add(ListFactory.newArrayList(permutation)));
+		assertEquals(visited, expected);
+		// the count of the permutations of 21 values overflows a long value
+		assertEquals(ListExtensions.streamPermutations(ListFactory.newRangeList(1, 21), 21, false)
+			.limit(2).collect(Collectors.toList()).get(1).get(19), Integer.valueOf(21));
+	}
+
+	/**
+	 * Test the methods {@link ListExtensions#iterateCartesianProduct(List)},
+	 * {@link ListExtensions#streamCartesianProduct(List, boolean)} and
+	 * {@link ListExtensions#forEachCartesianProduct(List, java.util.function.Consumer)}
+	 */
+	@Test
+	public void testLazyCartesianProduct()
+	{
+		final List<List<String>> lists = List.of(List.of("a", "b"), List.of("c", "d"));
+		final List<List<String>> expected = List.of(List.of("a", "c"), List.of("a", "d"),
+			List.of("b", "c"), List.of("b", "d"));
+
+		final List<List<String>> iterated = ListFactory.newArrayList();
+		for (List<String> tuple : ListExtensions.<String> iterateCartesianProduct(lists))
+		{
+			iterated.add(tuple);
+		}
+		assertEquals(iterated, expected);
+		assertEquals(ListExtensions.<String> streamCartesianProduct(lists, true)
+			.collect(Collectors.toList()), expected);
+		final List<List<String>> visited = ListFactory.newArrayList();
+		ListExtensions.<String> forEachCartesianProduct(lists,
+			tuple -> visited.add(ListFactory.newArrayList(tuple)));
+		assertEquals(visited, expected);
+	}
+
 	/**
 	 * Test the method {@link ListExtensions#getAllCombinations(List, int)}
 	 */
@@ -1157,7 +1244,54 @@ public class ListExtensionsTest
 		// shuffle the elements back
 		final int[] newSelectedElements = { 0, 1 };
 		ListExtensions.shuffle(source, destination, newSelectedElements);
+		// the selected elements are added in descending order of their indexes
+		assertEquals(destination, ListFactory.newArrayList(caesar, berta, "Dora", "Anton"));
+		assertEquals(source, ListFactory.newArrayList("Emil", "Franz"));
+		// unsorted indexes are removed one after another
+		ListExtensions.shuffle(destination, source, new int[] { 2, 0 });
+		assertEquals(source, ListFactory.newArrayList("Emil", "Franz", caesar, "Anton"));
+		assertEquals(destination, ListFactory.newArrayList(berta, "Dora"));
+	}
 
+	/**
+	 * Test the methods {@link ListExtensions#transfer(List, List, int...)} and
+	 * {@link ListExtensions#transfer(List, List, BitSet)}
+	 */
+	@Test
+	public void testTransfer()
+	{
+		final List<Integer> expectedSource = ListFactory.newArrayList();
+		final List<Integer> expectedDestination = ListFactory.newArrayList(-1);
+		final BitSet indexes = new BitSet();
+		for (int i = 0; i < 100; i++)
+		{
+			if (i % 3 == 0 || i == 99)
+			{
+				indexes.set(i);
+				expectedDestination.add(i);
+			}
+			else
+			{
+				expectedSource.add(i);
+			}
+		}
+		final List<Integer> source = new ArrayList<>(ListFactory.newRangeList(0, 99));
+		final List<Integer> destination = ListFactory.newArrayList(-1);
+		ListExtensions.transfer(source, destination, indexes);
+		assertEquals(source, expectedSource);
+		assertEquals(destination, expectedDestination);
+
+		final List<Integer> linkedSource = new LinkedList<>(ListFactory.newRangeList(0, 99));
+		final List<Integer> linkedDestination = new LinkedList<>(ListFactory.newArrayList(-1));
+		ListExtensions.transfer(linkedSource, linkedDestination,
+			indexes.stream().toArray());
+		assertEquals(linkedSource, expectedSource);
+		assertEquals(linkedDestination, expectedDestination);
+
+		ListExtensions.transfer(source, destination, 0, 0);
+		assertEquals(destination.get(destination.size() - 1), Integer.valueOf(1));
+		assertThrows(IndexOutOfBoundsException.class,
+			() -> ListExtensions.transfer(source, destination, source.size()));
 	}
 
 	/**
@@ -1243,15 +1377,38 @@ public class ListExtensionsTest
 		{
 			if (i == al.size() - 1)
 			{
-				final List lastPart = (ArrayList)al.get(i);
+				final List lastPart = (List)al.get(i);
 				assertEquals(49, lastPart.size());
 			}
 			else
 			{
-				final List aPart = (ArrayList)al.get(i);
+				final List aPart = (List)al.get(i);
 				assertEquals(50, aPart.size());
 			}
 		}
+		// the parts of a list with random access are views of the list
+		final List<List<Integer>> parts = ListExtensions.splitToParts(list, 50);
+		parts.get(1).set(0, -1);
+		assertEquals(list.get(50), Integer.valueOf(-1));
+		assertEquals(ListExtensions.splitToParts(new LinkedList<>(list), 50), parts);
+		assertEquals(ListExtensions.splitToParts(ListFactory.newArrayList(), 50).size(), 0);
+		assertThrows(IllegalArgumentException.class, () -> ListExtensions.splitToParts(list, 0));
+	}
+
+	/**
+	 * Test the method {@link ListExtensions#streamParts(Iterable, int, boolean)}
+	 */
+	@Test
+	public void testStreamParts()
+	{
+		final List<Integer> list = ListFactory.newRangeList(0, 998);
+		final List<List<Integer>> expected = ListExtensions.splitToParts(list, 50);
+		assertEquals(ListExtensions.streamParts(list, 50, true).collect(Collectors.toList()),
+			expected);
+		assertEquals(ListExtensions.streamParts(new LinkedList<>(list), 50, true)
+			.collect(Collectors.toList()), expected);
+		assertEquals(ListExtensions.streamParts(list, 50, true)
+			.mapToInt(part -> part.stream().mapToInt(Integer::intValue).sum()).sum(), 498501);
 	}
 
 	/**
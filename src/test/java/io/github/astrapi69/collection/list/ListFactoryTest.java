@@ -24,6 +24,7 @@
  */
 package io.github.astrapi69.collection.list;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -222,6 +223,23 @@ public class ListFactoryTest
 		assertTrue(strings.get(2).equals("foo"));
 	}
 
+	/**
+	 * Test the method {@link ListFactory#newTreeSortedUniqueList(Collection, Comparator, Object...)}
+	 */
+	@Test
+	public void testNewTreeSortedUniqueListCollectionComparatorObjects()
+	{
+		List<String> actual;
+
+		actual = ListFactory.newTreeSortedUniqueList(ListFactory.newArrayList("foo", "bar"),
+			Comparator.reverseOrder(), "baz", "foo");
+		assertTrue(actual instanceof TreeSortedUniqueList);
+		assertEquals(actual, ListFactory.newArrayList("foo", "baz", "bar"));
+
+		actual = ListFactory.newTreeSortedUniqueList("foo", "bar", "baz", "foo");
+		assertEquals(actual, ListFactory.newArrayList("bar", "baz", "foo"));
+	}
+
 	/**
 	 * Test the method {@link ListFactory#newSortedList(Collection, Comparator, Object...)} with an
 	 * empty array
@@ -444,6 +462,7 @@ public class ListFactoryTest
 		actual = ListFactory.newUniqueList();
 		assertNotNull(actual);
 		assertTrue(actual.size() == 0);
+		assertTrue(actual instanceof IndexedUniqueList);
 	}
 
 	/**
@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link PositionIndexedList}.
+ */
+public class PositionIndexedListTest
+{
+
+	/**
+	 * Test that the methods indexOf and contains of the {@link PositionIndexedList} returns the
+	 * same results as an {@link ArrayList} after random modifications
+	 */
+	@Test
+	public void testIndexOfAfterModifications()
+	{
+		final Random random = new Random(7);
+		final List<Integer> expected = new ArrayList<>();
+		final List<Integer> actual = new PositionIndexedList<>();
+		for (int i = 0; i < 2000; i++)
+		{
+			final int operation = random.nextInt(6);
+			final Integer value = random.nextInt(50);
+			if (operation < 2 || expected.isEmpty())
+			{
+				expected.add(value);
+				actual.add(value);
+			}
+			else if (operation == 2)
+			{
+				final int index = random.nextInt(expected.size() + 1);
+				expected.add(index, value);
+				actual.add(index, value);
+			}
+			else if (operation == 3)
+			{
+				final int index = random.nextInt(expected.size());
+				assertEquals(actual.set(index, value), expected.set(index, value));
+			}
+			else if (operation == 4)
+			{
+				final int index = random.nextInt(expected.size());
+				assertEquals(actual.remove(index), expected.remove(index));
+			}
+			else
+			{
+				assertEquals(actual.remove(expected.size() - 1),
+					expected.remove(expected.size() - 1));
+			}
+			final Integer probe = random.nextInt(55);
+			assertEquals(actual.indexOf(probe), expected.indexOf(probe));
+			assertEquals(actual.contains(probe), expected.contains(probe));
+		}
+		assertEquals(actual, expected);
+		actual.subList(5, 10).clear();
+		expected.subList(5, 10).clear();
+		for (int probe = 0; probe < 55; probe++)
+		{
+			assertEquals(actual.indexOf(probe), expected.indexOf(probe));
+			assertEquals(actual.lastIndexOf(probe), expected.lastIndexOf(probe));
+		}
+	}
+
+	/**
+	 * Test the navigation methods of {@link ListExtensions} with a {@link PositionIndexedList}
+	 */
+	@Test
+	public void testNavigation()
+	{
+		final List<String> list = new PositionIndexedList<>(
+			new LinkedList<>(ListFactory.newArrayList("a", "b", "c", "d")));
+		assertEquals(ListExtensions.getNextElement(list, "b"), Optional.of("c"));
+		assertEquals(ListExtensions.getNextElement(list, "d"), Optional.empty());
+		assertEquals(ListExtensions.getPreviousElement(list, "b"), Optional.of("a"));
+		assertTrue(ListExtensions.hasNext(list, "c"));
+		assertFalse(ListExtensions.hasPrevious(list, "a"));
+		assertTrue(ListExtensions.isBefore(list, "c", "a"));
+		assertTrue(ListExtensions.isAfter(list, "a", "c"));
+		assertFalse(ListExtensions.isAfter(list, "a", "x"));
+		list.remove("a");
+		assertTrue(ListExtensions.isFirst(list, "b"));
+		assertFalse(ListExtensions.isBefore(list, "c", "a"));
+	}
+
+	/**
+	 * Test the serialization of the {@link PositionIndexedList}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             if the class of the serialized object is not found
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerialization() throws IOException, ClassNotFoundException
+	{
+		final List<String> list = new PositionIndexedList<>(ListFactory.newArrayList("a", "b"));
+		assertEquals(list.indexOf("b"), 1);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(list);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			final List<String> copy = (List<String>)in.readObject();
+			assertEquals(copy, list);
+			assertEquals(copy.indexOf("b"), 1);
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link RelocatableList}.
+ */
+public class RelocatableListTest
+{
+
+	/**
+	 * Test that the {@link RelocatableList} behaves like an {@link ArrayList} with the method
+	 * {@link ListExtensions#relocate(List, Object, int)} for random modifications
+	 */
+	@Test
+	public void testRandomModifications()
+	{
+		final Random random = new Random(11);
+		final List<Integer> expected = new ArrayList<>();
+		final RelocatableList<Integer> actual = new RelocatableList<>();
+		int next = 0;
+		for (int i = 0; i < 3000; i++)
+		{
+			final int operation = random.nextInt(5);
+			if (operation == 0 || expected.isEmpty())
+			{
+				final int index = random.nextInt(expected.size() + 1);
+				expected.add(index, next);
+				actual.add(index, next);
+				next++;
+			}
+			else if (operation == 1)
+			{
+				final int index = random.nextInt(expected.size());
+				assertEquals(actual.remove(index), expected.remove(index));
+			}
+			else
+			{
+				final Integer element = expected.get(random.nextInt(expected.size()));
+				final int newIndex = random.nextInt(expected.size() + 2);
+				ListExtensions.relocate(expected, element, newIndex);
+				ListExtensions.relocate(actual, element, newIndex);
+			}
+			if (!expected.isEmpty())
+			{
+				final Integer probe = expected.get(random.nextInt(expected.size()));
+				assertEquals(actual.indexOf(probe), expected.indexOf(probe));
+			}
+			assertEquals(actual.size(), expected.size());
+		}
+		assertEquals(actual, expected);
+	}
+
+	/**
+	 * Test the unique behavior of the {@link RelocatableList}
+	 */
+	@Test
+	public void testUnique()
+	{
+		final RelocatableList<String> list = new RelocatableList<>(
+			ListFactory.newArrayList("a", "b", "c", "a"));
+		assertEquals(list, ListFactory.newArrayList("a", "b", "c"));
+		assertFalse(list.add("b"));
+		list.add(0, "c");
+		assertEquals(list, ListFactory.newArrayList("c", "a", "b"));
+		assertEquals(list.set(1, "d"), "a");
+		assertFalse(list.contains("a"));
+		assertEquals(list.indexOf("d"), 1);
+		assertThrows(IllegalArgumentException.class, () -> list.set(0, "b"));
+		assertTrue(list.remove("d"));
+		assertEquals(list, ListFactory.newArrayList("c", "b"));
+		assertFalse(list.relocate("x", 0));
+	}
+
+	/**
+	 * Test the methods {@link RelocatableList#relocateAll(Map)} and
+	 * {@link ListExtensions#relocateAll(List, Map)}
+	 */
+	@Test
+	public void testRelocateAll()
+	{
+		final List<Integer> values = ListFactory.newRangeList(0, 9);
+		final Map<Integer, Integer> targets = new LinkedHashMap<>();
+		targets.put(9, 0);
+		targets.put(0, 5);
+		targets.put(4, 9);
+		final List<Integer> expected = ListFactory.newArrayList(9, 1, 2, 3, 5, 0, 6, 7, 8, 4);
+
+		final RelocatableList<Integer> relocatableList = new RelocatableList<>(values);
+		ListExtensions.relocateAll(relocatableList, targets);
+		assertEquals(relocatableList, expected);
+		assertEquals(relocatableList.indexOf(0), 5);
+
+		final List<Integer> arrayList = ListFactory.newArrayList(values);
+		ListExtensions.relocateAll(arrayList, targets);
+		assertEquals(arrayList, expected);
+
+		targets.put(42, 1);
+		assertThrows(IllegalArgumentException.class,
+			() -> ListExtensions.relocateAll(arrayList, targets));
+		targets.remove(42);
+		targets.put(1, 0);
+		assertThrows(IllegalArgumentException.class,
+			() -> ListExtensions.relocateAll(relocatableList, targets));
+		assertEquals(relocatableList, expected);
+	}
+
+	/**
+	 * Test the serialization of the {@link RelocatableList}
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @throws ClassNotFoundException
+	 *             if the class of the serialized object is not found
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerialization() throws IOException, ClassNotFoundException
+	{
+		final RelocatableList<String> list = new RelocatableList<>(
+			ListFactory.newArrayList("a", "b", "c"));
+		list.relocate("a", 2);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(list);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			final RelocatableList<String> copy = (RelocatableList<String>)in.readObject();
+			assertEquals(copy, ListFactory.newArrayList("b", "c", "a"));
+			assertEquals(copy.indexOf("a"), 2);
+		}
+	}
+
+}
@@ -25,11 +25,14 @@
 package io.github.astrapi69.collection.list;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -209,4 +212,108 @@ public class SortedListTest
 		list.addAll(1, addition);
 		assertEquals(list.size(), 2);
 	}
+
+	/**
+	 * Test the method {@link SortedList#addAll(Collection)} with a comparator against a sorted
+	 * {@link java.util.ArrayList}
+	 */
+	@Test
+	public void testAddAllMergeWithComparator()
+	{
+		List<Integer> list;
+		List<Integer> expected;
+		List<Integer> addition;
+		Random random;
+
+		random = new Random(3);
+		list = new SortedList<>(Comparator.<Integer> naturalOrder());
+		expected = ListFactory.newArrayList();
+		for (int i = 0; i < 50; i++)
+		{
+			addition = ListFactory.newArrayList();
+			int count = random.nextInt(40);
+			for (int j = 0; j < count; j++)
+			{
+				addition.add(random.nextInt(100));
+			}
+			assertEquals(list.addAll(addition), !addition.isEmpty());
+			expected.addAll(addition);
+			expected.sort(Comparator.naturalOrder());
+			assertEquals(list, expected);
+			list.add(random.nextInt(100));
+			expected.clear();
+			expected.addAll(list);
+			expected.sort(Comparator.naturalOrder());
+			assertEquals(list, expected);
+		}
+	}
+
+	/**
+	 * Test the methods {@link SortedList#add(Object)} and {@link SortedList#addAll(Collection)}
+	 * keeps the insertion order of equal elements
+	 */
+	@Test
+	public void testAddKeepsOrderOfEqualElements()
+	{
+		List<String> list;
+
+		list = new SortedList<>(Comparator.comparingInt(String::length));
+		list.add("bb");
+		list.add("aa");
+		list.add("c");
+		list.addAll(ListFactory.newArrayList("dd", "e", "fff", "gg"));
+		assertEquals(list, ListFactory.newArrayList("c", "e", "bb", "aa", "dd", "gg", "fff"));
+	}
+
+	/**
+	 * Test the methods {@link SortedList#contains(Object)}, {@link SortedList#indexOf(Object)},
+	 * {@link SortedList#lastIndexOf(Object)} and {@link SortedList#remove(Object)} with a
+	 * comparator
+	 */
+	@Test
+	public void testSearchWithComparator()
+	{
+		List<String> list;
+
+		list = new SortedList<>(
+			ListFactory.newArrayList("bb", "aa", "c", "dd", "e", "aa", "fff", "gg"),
+			Comparator.comparingInt(String::length));
+		assertEquals(list, ListFactory.newArrayList("c", "e", "bb", "aa", "dd", "aa", "gg", "fff"));
+		assertTrue(list.contains("dd"));
+		assertFalse(list.contains("xx"));
+		assertFalse(list.contains(null));
+		assertEquals(list.indexOf("aa"), 3);
+		assertEquals(list.lastIndexOf("aa"), 5);
+		assertEquals(list.indexOf("fff"), 7);
+		assertEquals(list.indexOf("xxxx"), -1);
+		assertTrue(list.remove("aa"));
+		assertEquals(list.indexOf("aa"), 4);
+		assertFalse(list.remove("xx"));
+	}
+
+	/**
+	 * Test that <code>Collections#sort(List)</code> keeps the comparator of a {@link SortedList}
+	 */
+	@Test
+	public void testCollectionsSortKeepsComparator()
+	{
+		SortedList<Integer> list;
+		Comparator<Integer> comparator;
+
+		comparator = Comparator.naturalOrder();
+		list = new SortedList<>(comparator);
+		list.add(3);
+		list.add(1);
+		Collections.sort(list);
+		list.add(0);
+		list.add(2);
+		assertEquals(list, ListFactory.newArrayList(0, 1, 2, 3));
+		assertEquals(list.getComparator(), comparator);
+
+		list.sort(null);
+		list.add(-1);
+		assertEquals(list, ListFactory.newArrayList(-1, 0, 1, 2, 3));
+		assertEquals(list.getComparator(), comparator);
+	}
+
 }
@@ -0,0 +1,171 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for {@link TreeSortedUniqueList}
+ */
+public class TreeSortedUniqueListTest
+{
+
+	/**
+	 * Test the method {@link TreeSortedUniqueList#add(Object)}
+	 */
+	@Test
+	public void testAdd()
+	{
+		List<String> list = new TreeSortedUniqueList<>();
+		assertTrue(list.add("Leonidas"));
+		assertFalse(list.add("Leonidas"));
+		assertTrue(list.add("Berta"));
+		assertTrue(list.add("Caesar"));
+		assertFalse(list.add("Berta"));
+		list.add(0, "Anton");
+		assertEquals(list.size(), 4);
+		assertEquals(list, ListFactory.newArrayList("Anton", "Berta", "Caesar", "Leonidas"));
+	}
+
+	/**
+	 * Test the methods {@link TreeSortedUniqueList#get(int)},
+	 * {@link TreeSortedUniqueList#indexOf(Object)} and
+	 * {@link TreeSortedUniqueList#contains(Object)}
+	 */
+	@Test
+	public void testGetAndIndexOf()
+	{
+		List<String> list = new TreeSortedUniqueList<>(Comparator.reverseOrder());
+		list.addAll(ListFactory.newArrayList("Anton", "Emil", "Dora", "Emil", "Berta"));
+		assertEquals(list.get(0), "Emil");
+		assertEquals(list.get(3), "Anton");
+		assertEquals(list.indexOf("Dora"), 1);
+		assertEquals(list.lastIndexOf("Dora"), 1);
+		assertEquals(list.indexOf("Caesar"), -1);
+		assertEquals(list.indexOf(Integer.valueOf(1)), -1);
+		assertTrue(list.contains("Berta"));
+		assertFalse(list.contains("Caesar"));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+	}
+
+	/**
+	 * Test the methods {@link TreeSortedUniqueList#remove(Object)} and
+	 * {@link TreeSortedUniqueList#remove(int)}
+	 */
+	@Test
+	public void testRemove()
+	{
+		List<String> list = new TreeSortedUniqueList<>(
+			ListFactory.newArrayList("Anton", "Berta", "Caesar", "Dora"));
+		assertTrue(list.remove("Berta"));
+		assertFalse(list.remove("Berta"));
+		assertEquals(list.remove(0), "Anton");
+		assertEquals(list, ListFactory.newArrayList("Caesar", "Dora"));
+		list.clear();
+		assertTrue(list.isEmpty());
+	}
+
+	/**
+	 * Test the method {@link TreeSortedUniqueList#setComparator(Comparator)}
+	 */
+	@Test
+	public void testSetComparator()
+	{
+		TreeSortedUniqueList<String> list = new TreeSortedUniqueList<>(
+			ListFactory.newArrayList("anton", "Anton", "berta"));
+		assertEquals(list, ListFactory.newArrayList("Anton", "anton", "berta"));
+		list.setComparator(String.CASE_INSENSITIVE_ORDER);
+		assertEquals(list.size(), 2);
+		list.sort(Comparator.reverseOrder());
+		assertEquals(list.get(0), "berta");
+		assertEquals(list.getComparator(), Comparator.reverseOrder());
+	}
+
+	/**
+	 * Test serialization of {@link TreeSortedUniqueList}
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerialization() throws IOException, ClassNotFoundException
+	{
+		TreeSortedUniqueList<String> list = new TreeSortedUniqueList<>(
+			ListFactory.newArrayList("Dora", "Anton", "Caesar"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(list);
+		}
+		TreeSortedUniqueList<String> clone;
+		try (ObjectInputStream in = new ObjectInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			clone = (TreeSortedUniqueList<String>)in.readObject();
+		}
+		assertEquals(clone, list);
+		clone.add("Berta");
+		assertEquals(clone.indexOf("Berta"), 1);
+	}
+
+	/**
+	 * Test {@link TreeSortedUniqueList} against a {@link TreeSet} with random operations
+	 */
+	@Test
+	public void testRandomOperations()
+	{
+		Random random = new Random(42);
+		TreeSortedUniqueList<Integer> list = new TreeSortedUniqueList<>();
+		TreeSet<Integer> expected = new TreeSet<>();
+		for (int i = 0; i < 5000; i++)
+		{
+			Integer value = random.nextInt(1000);
+			if (random.nextInt(3) == 0)
+			{
+				assertEquals(list.remove(value), expected.remove(value));
+			}
+			else
+			{
+				assertEquals(list.add(value), expected.add(value));
+			}
+			assertEquals(list.indexOf(value), new ArrayList<>(expected).indexOf(value));
+		}
+		assertEquals(list, new ArrayList<>(expected));
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.collection.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ConcurrentSortedProperties}.
+ */
+public class ConcurrentSortedPropertiesTest
+{
+
+	/**
+	 * Test for the sorted enumerations of {@link ConcurrentSortedProperties}
+	 */
+	@Test
+	public void testSortedKeys()
+	{
+		final Properties defaults = new Properties();
+		defaults.setProperty("E", "5");
+		defaults.setProperty("B", "0");
+
+		final ConcurrentSortedProperties properties = ConcurrentSortedProperties.of(defaults);
+		properties.setProperty("C", "3");
+		properties.setProperty("A", "1");
+		properties.put("D", "4");
+		properties.put("B", "2");
+
+		assertEquals(Collections.list(properties.keys()).toString(), "[A, B, C, D]");
+		assertEquals(Collections.list(properties.elements()).toString(), "[1, 2, 3, 4]");
+		assertEquals(Collections.list(properties.propertyNames()).toString(), "[A, B, C, D, E]");
+		assertEquals(properties.stringPropertyNames().toString(), "[A, B, C, D, E]");
+		assertEquals(properties.keySet().toString(), "[A, B, C, D]");
+		assertEquals(properties.getProperty("B"), "2");
+		assertEquals(properties.getProperty("E"), "5");
+		assertEquals(properties.getProperty("F", "6"), "6");
+		assertEquals(properties.size(), 4);
+
+		final ConcurrentSortedProperties reversed = ConcurrentSortedProperties.of(null,
+			Comparator.comparing(Object::toString).reversed());
+		reversed.putAll(properties);
+		assertEquals(reversed.keySet().toString(), "[D, C, B, A]");
+		assertEquals(reversed, properties);
+	}
+
+	/**
+	 * Test for the modification methods of {@link ConcurrentSortedProperties}
+	 */
+	@Test
+	public void testModifications()
+	{
+		final ConcurrentSortedProperties properties = ConcurrentSortedProperties.of();
+		properties.put("B", "2");
+		assertNull(properties.putIfAbsent("A", "1"));
+		assertEquals(properties.merge("A", "0", (o1, o2) -> o1.toString() + o2), "10");
+		assertTrue(properties.replace("B", "2", "3"));
+		assertEquals(properties.computeIfAbsent("C", key -> "4"), "4");
+		assertTrue(properties.remove("C", "4"));
+		assertEquals(properties.remove("B"), "3");
+		assertFalse(properties.containsKey("B"));
+		assertTrue(properties.contains("10"));
+		assertEquals(properties.toString(), "{A=10}");
+
+		properties.putAll(Map.of("C", "3", "B", "2", "D", "4"));
+		assertEquals(properties.toString(), "{A=10, B=2, C=3, D=4}");
+		assertTrue(properties.keySet().remove("B"));
+		properties.entrySet().removeIf(entry -> entry.getValue().equals("3"));
+		properties.values().removeIf("4"::equals);
+		assertEquals(properties.keySet().toString(), "[A]");
+		assertEquals(properties.values().toString(), "[10]");
+
+		final ConcurrentSortedProperties clone = (ConcurrentSortedProperties)properties.clone();
+		clone.clear();
+		assertTrue(clone.isEmpty());
+		assertEquals(properties.size(), 1);
+	}
+
+	/**
+	 * Test for the methods load and store of {@link ConcurrentSortedProperties}
+	 */
+	@Test
+	public void testLoadAndStore() throws IOException
+	{
+		final ConcurrentSortedProperties properties = ConcurrentSortedProperties.of();
+		properties.load(new StringReader("c=3\nb=2\na=1\n"));
+		assertEquals(properties.keySet().toString(), "[a, b, c]");
+
+		final StringWriter writer = new StringWriter();
+		properties.store(writer, null);
+		final String stored = writer.toString();
+		assertTrue(stored.indexOf("a=1") < stored.indexOf("b=2"));
+		assertTrue(stored.indexOf("b=2") < stored.indexOf("c=3"));
+	}
+
+	/**
+	 * Test for the serialization of {@link ConcurrentSortedProperties}
+	 */
+	@Test
+	public void testSerialization() throws IOException, ClassNotFoundException
+	{
+		final ConcurrentSortedProperties properties = ConcurrentSortedProperties.of();
+		properties.setProperty("B", "2");
+		properties.setProperty("A", "1");
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(properties);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			final ConcurrentSortedProperties actual = (ConcurrentSortedProperties)in.readObject();
+			assertEquals(actual, properties);
+			assertEquals(actual.keySet().toString(), "[A, B]");
+		}
+	}
+
+	/**
+	 * Test for concurrent modifications of {@link ConcurrentSortedProperties}
+	 */
+	@Test
+	public void testConcurrentAccess() throws Exception
+	{
+		final ConcurrentSortedProperties properties = ConcurrentSortedProperties.of();
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++)
+			{
+				final int offset = thread * 1000;
+				futures.add(executorService.submit(() -> {
+					for (int i = 0; i < 1000; i++)
+					{
+						properties.setProperty("key." + (offset + i), String.valueOf(i));
+						Collections.list(properties.keys());
+					}
+				}));
+			}
+			for (final Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executorService.shutdown();
+		}
+		assertEquals(properties.size(), 4000);
+	}
+
+}
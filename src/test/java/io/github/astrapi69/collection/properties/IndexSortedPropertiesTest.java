@@ -26,9 +26,13 @@ package io.github.astrapi69.collection.properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
@@ -546,4 +550,57 @@ public class IndexSortedPropertiesTest
 		assertEquals(expected, actual);
 	}
 
+
+	/**
+	 * Test for method {@link IndexSortedProperties#put(Object, Object)} with existing keys and
+	 * changed values
+	 */
+	@Test
+	public void testPutExistingKeys()
+	{
+		final IndexSortedProperties properties = new IndexSortedProperties();
+		properties.put("C", "3");
+		properties.put("A", "1");
+		properties.put("B", "1");
+		properties.put("A", "2");
+		properties.put("C", "3");
+
+		assertEquals(properties.getProperty(0), "2");
+		assertEquals(properties.getProperty(1), "1");
+		assertEquals(properties.getProperty(2), "3");
+		assertNull(properties.getProperty(3));
+		assertEquals(properties.indexOf("1"), 1);
+		assertEquals(properties.indexOf("2"), 0);
+		assertEquals(properties.indexOf("4"), -1);
+
+		properties.remove("B");
+		assertEquals(properties.indexOf("1"), -1);
+		assertEquals(properties.indexOf("3"), 1);
+		assertEquals(properties.remove(0), "2");
+		assertEquals(properties.indexOf("3"), 0);
+	}
+
+	/**
+	 * Test for the methods {@link IndexSortedProperties#putAll(java.util.Map)} and
+	 * {@link IndexSortedProperties#load(java.io.Reader)}
+	 */
+	@Test
+	public void testPutAllAndLoad() throws IOException
+	{
+		final IndexSortedProperties properties = new IndexSortedProperties();
+		properties.put("D", "4");
+		properties.putAll(Map.of("B", "2", "D", "5", "A", "1"));
+		assertEquals(properties.indexOf("5"), 2);
+
+		properties.load(new StringReader("C=3\nA=0\n"));
+		assertEquals(properties.size(), 4);
+		assertEquals(properties.indexOf("0"), 0);
+		assertEquals(properties.indexOf("3"), 2);
+		assertEquals(properties.getProperty(3), "5");
+
+		final IndexSortedProperties clone = (IndexSortedProperties)properties.clone();
+		clone.remove("A");
+		assertEquals(clone.indexOf("2"), 0);
+		assertEquals(properties.indexOf("2"), 1);
+	}
 }
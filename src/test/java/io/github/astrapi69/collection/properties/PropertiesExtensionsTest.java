@@ -30,13 +30,17 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -359,6 +363,143 @@ public class PropertiesExtensionsTest
 		assertNotNull(properties);
 	}
 
+	/**
+	 * Test for method {@link PropertiesExtensions#loadMappedProperties(File)} compared with the
+	 * method {@link Properties#load(InputStream)}.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testLoadMappedProperties() throws IOException
+	{
+		final String content = "# comment\n" + "   ! another comment \\\n" + "\n"
+			+ "simple=value\n" + "  spaced   :   value with spaces  \r\n"
+			+ "separator value\n" + "empty\n" + "escaped\\ key\\=\\:=\\t\\u0041\\\\\\x\r"
+			+ "multi = first \\\n     second \\\r\n\tthird\n" + "key.with.continuation\\\n"
+			+ "  .end = done\n" + "last=no line terminator\\";
+		final File propertiesFile = new File(".", "mapped.properties");
+		try (FileOutputStream outputStream = new FileOutputStream(propertiesFile))
+		{
+			outputStream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+		}
+		final Properties expected = new Properties();
+		try (InputStream inputStream = new FileInputStream(propertiesFile))
+		{
+			expected.load(inputStream);
+		}
+		final Properties actual = PropertiesExtensions.loadMappedProperties(propertiesFile);
+		assertEquals(actual, expected);
+		assertEquals(actual.getProperty("escaped key=:"), "\tA\\x");
+		assertEquals(actual.getProperty("multi"), "first second third");
+
+		final SortedProperties sortedProperties = PropertiesExtensions
+			.loadMappedProperties(propertiesFile, new SortedProperties());
+		assertEquals(Collections.list(sortedProperties.keys()).get(0), "empty");
+		DeleteFileExtensions.delete(propertiesFile);
+	}
+
+	/**
+	 * Test for method {@link PropertiesExtensions#loadMappedProperties(File)} with line
+	 * continuations at the start of a logical line compared with the method
+	 * {@link Properties#load(InputStream)}.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testLoadMappedPropertiesLeadingContinuation() throws IOException
+	{
+		final File propertiesFile = new File(".", "mapped-continuation.properties");
+		for (final String content : ListFactory.newArrayList("\\\n#x\n", "a=1\n\\\n!c\n",
+			"  \\\r\n  # comment\nb=2\n", "\\\n\nc=3", "\\\n  d\\\n  = 4\n", "x=1\n\\\n",
+			"\\\r", "\\\r\n", "u=\\u00\\\n  41\n"))
+		{
+			try (FileOutputStream outputStream = new FileOutputStream(propertiesFile))
+			{
+				outputStream.write(content.getBytes(StandardCharsets.ISO_8859_1));
+			}
+			final Properties expected = new Properties();
+			try (InputStream inputStream = new FileInputStream(propertiesFile))
+			{
+				expected.load(inputStream);
+			}
+			assertEquals(PropertiesExtensions.loadMappedProperties(propertiesFile), expected);
+		}
+		DeleteFileExtensions.delete(propertiesFile);
+	}
+
+	/**
+	 * Test for method {@link PropertiesExtensions#loadMappedProperties(File, Charset, Map)} with
+	 * the encoding UTF-8.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testLoadMappedPropertiesUtf8() throws IOException
+	{
+		final File propertiesFile = new File(".", "mapped-utf8.properties");
+		try (FileOutputStream outputStream = new FileOutputStream(propertiesFile))
+		{
+			outputStream.write("gr\u00fc\u00dfe=\u03ba\u03b1\u03bb\u03b7\\\u00e9\n"
+				.getBytes(StandardCharsets.UTF_8));
+		}
+		final Map<String, String> actual = PropertiesExtensions
+			.loadMappedProperties(propertiesFile, StandardCharsets.UTF_8, new HashMap<>());
+		assertEquals(actual, Map.of("gr\u00fc\u00dfe", "\u03ba\u03b1\u03bb\u03b7\u00e9"));
+		DeleteFileExtensions.delete(propertiesFile);
+
+		Assertions.assertThrows(FileNotFoundException.class, () -> {
+			PropertiesExtensions.loadMappedProperties(new File("foo.properties"));
+		});
+	}
+
+	/**
+	 * Test for method {@link PropertiesExtensions#loadAllProperties(File)} and
+	 * {@link PropertiesExtensions#loadAllProperties(List, int)}.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testLoadAllProperties() throws IOException
+	{
+		final File directory = new File(".", "bundles");
+		directory.mkdirs();
+		final List<File> files = ListFactory.newArrayList();
+		for (int i = 0; i < 20; i++)
+		{
+			final Properties properties = new Properties();
+			properties.setProperty("shared", "file." + i);
+			properties.setProperty("key." + i, "value." + i);
+			final File file = new File(directory, String.format("bundle_%02d.properties", i));
+			PropertiesExtensions.export(properties, file);
+			files.add(file);
+		}
+		new File(directory, "ignored.txt").createNewFile();
+
+		PropertiesLoadResult result = PropertiesExtensions.loadAllProperties(directory);
+		assertEquals(result.getProperties().size(), 21);
+		assertEquals(result.getProperties().getProperty("shared"), "file.19");
+		assertEquals(result.getProperties().getProperty("key.7"), "value.7");
+		assertEquals(ListFactory.newArrayList(result.getLoadTimes().keySet()), files);
+		assertNotNull(result.getTotalTime());
+
+		Collections.reverse(files);
+		result = PropertiesExtensions.loadAllProperties(files, 3);
+		assertEquals(result.getProperties().getProperty("shared"), "file.0");
+
+		files.add(new File(directory, "missing.properties"));
+		Assertions.assertThrows(FileNotFoundException.class, () -> {
+			PropertiesExtensions.loadAllProperties(files, 2);
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			PropertiesExtensions.loadAllProperties(files, 0);
+		});
+		DeleteFileExtensions.delete(directory);
+	}
+
 	/**
 	 * Test for method {@link PropertiesExtensions#loadProperties(File)} with a file that does not
 	 * exist.
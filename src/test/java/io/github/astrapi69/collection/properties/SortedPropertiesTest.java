@@ -26,8 +26,10 @@ package io.github.astrapi69.collection.properties;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -445,4 +447,84 @@ public class SortedPropertiesTest
 		}
 	}
 
+
+	/**
+	 * Test that the sorted keys of {@link SortedProperties} are maintained on modifications
+	 */
+	@Test
+	public void testSortedKeysAfterModifications()
+	{
+		final SortedProperties sortedProperties = new SortedProperties();
+		sortedProperties.put("C", "3");
+		sortedProperties.put("A", "1");
+		assertEquals(sortedProperties.keySet().toString(), "[A, C]");
+
+		sortedProperties.setProperty("B", "2");
+		sortedProperties.put("A", "0");
+		sortedProperties.putIfAbsent("E", "5");
+		sortedProperties.merge("D", "4", (o1, o2) -> o2);
+		assertEquals(sortedProperties.keySet().toString(), "[A, B, C, D, E]");
+
+		sortedProperties.remove("B");
+		sortedProperties.remove("E", "5");
+		sortedProperties.computeIfPresent("D", (key, value) -> null);
+		assertEquals(sortedProperties.keySet().toString(), "[A, C]");
+
+		sortedProperties.putAll(Map.of("F", "6", "B", "2"));
+		assertEquals(sortedProperties.keySet().toString(), "[A, B, C, F]");
+
+		sortedProperties.entrySet().removeIf(entry -> entry.getKey().equals("C"));
+		assertEquals(Collections.list(sortedProperties.keys()).toString(), "[A, B, F]");
+
+		final SortedProperties clone = (SortedProperties)sortedProperties.clone();
+		clone.remove("A");
+		assertEquals(clone.keySet().toString(), "[B, F]");
+		assertEquals(sortedProperties.keySet().toString(), "[A, B, F]");
+
+		final Set<Object> keySet = sortedProperties.keySet();
+		assertTrue(keySet.remove("A"));
+		assertEquals(sortedProperties.keySet().toString(), "[A, B, F]");
+		sortedProperties.clear();
+		assertTrue(sortedProperties.keySet().isEmpty());
+	}
+
+	/**
+	 * Test that keys of {@link SortedProperties} can be removed while the sorted keys are
+	 * enumerated
+	 */
+	@Test
+	public void testRemoveWhileEnumerating()
+	{
+		final SortedProperties sortedProperties = new SortedProperties();
+		sortedProperties.put("C", "3");
+		sortedProperties.put("A", "1");
+		sortedProperties.put("B", "2");
+
+		final Enumeration<Object> keys = sortedProperties.keys();
+		while (keys.hasMoreElements())
+		{
+			final Object key = keys.nextElement();
+			if (!key.equals("B"))
+			{
+				sortedProperties.remove(key);
+			}
+		}
+		assertEquals(sortedProperties.keySet().toString(), "[B]");
+
+		sortedProperties.put("D", "4");
+		for (final Object key : sortedProperties.keySet())
+		{
+			sortedProperties.remove(key);
+		}
+		assertTrue(sortedProperties.isEmpty());
+
+		sortedProperties.put("E", "5");
+		sortedProperties.put("F", "6");
+		final Enumeration<?> propertyNames = sortedProperties.propertyNames();
+		while (propertyNames.hasMoreElements())
+		{
+			sortedProperties.remove(propertyNames.nextElement());
+		}
+		assertTrue(sortedProperties.isEmpty());
+	}
 }
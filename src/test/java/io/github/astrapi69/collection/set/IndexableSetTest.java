@@ -26,6 +26,12 @@ package io.github.astrapi69.collection.set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -164,4 +170,98 @@ public class IndexableSetTest
 		});
 	}
 
+
+	/**
+	 * Test method for {@link IndexableSet#get(int)} and {@link IndexableSet#getIndex(Object)}
+	 * after elements was removed
+	 */
+	@Test
+	public void testGetAndGetIndexAfterRemove()
+	{
+		IndexableSet<String> set;
+		// init test data
+		set = new IndexableSet<>(Arrays.asList("value1", "value2", "value3", "value4", "value5"));
+		// new scenario..
+		set.remove("value2");
+		assertEquals(set.get(1), "value3");
+		assertEquals(set.getIndex("value5"), 3);
+		assertEquals(set.getIndex("value2"), -1);
+		// new scenario..
+		set.remove("value5");
+		set.remove("value1");
+		assertEquals(set.get(0), "value3");
+		assertEquals(set.get(1), "value4");
+		assertEquals(set.size(), 2);
+		// new scenario..
+		Iterator<String> iterator = set.iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals(set.get(0), "value4");
+		assertEquals(set.getIndex("value3"), -1);
+		// new scenario..
+		set.clear();
+		set.add("value6");
+		assertEquals(set.get(0), "value6");
+		assertEquals(set.getIndex("value6"), 0);
+	}
+
+	/**
+	 * Test method for {@link IndexableSet#clone()}
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testClone()
+	{
+		IndexableSet<String> set;
+		IndexableSet<String> clone;
+		// init test data
+		set = new IndexableSet<>(Arrays.asList("value1", "value2", "value3"));
+		clone = (IndexableSet<String>)set.clone();
+		// new scenario..
+		set.remove("value1");
+		assertEquals(set.get(0), "value2");
+		assertEquals(clone.get(0), "value1");
+		assertEquals(clone.getIndex("value3"), 2);
+	}
+
+	/**
+	 * Test method for {@link IndexableSet#get(int)} and {@link IndexableSet#getIndex(Object)}
+	 * against a list with the same modifications
+	 */
+	@Test
+	public void testGetAndGetIndexWithRandomModifications()
+	{
+		IndexableSet<Integer> set;
+		List<Integer> expected;
+		Random random;
+		// init test data
+		set = new IndexableSet<>();
+		expected = new ArrayList<>();
+		random = new Random(42);
+		// test
+		for (int i = 0; i < 5000; i++)
+		{
+			Integer value = random.nextInt(300);
+			int operation = random.nextInt(3);
+			if (operation == 0)
+			{
+				set.remove(value);
+				expected.remove(value);
+			}
+			else
+			{
+				set.add(value);
+				expected.remove(value);
+				expected.add(value);
+			}
+			if (!expected.isEmpty())
+			{
+				int index = random.nextInt(expected.size());
+				assertEquals(set.get(index), expected.get(index));
+				assertEquals(set.getIndex(value), expected.indexOf(value));
+			}
+		}
+		assertEquals(new ArrayList<>(set), expected);
+	}
+
 }